@@ -0,0 +1,84 @@
+package edu.usco.campusbookings.application.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import edu.usco.campusbookings.application.mapper.ReservaMapper;
+import edu.usco.campusbookings.application.mapper.ReservaMapperImpl;
+import edu.usco.campusbookings.benchmark.BenchmarkDatasets;
+import edu.usco.campusbookings.infrastructure.config.TimezoneConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de listas de {@link ReservaResponse} con el {@link ObjectMapper} de la aplicación
+ * ({@link TimezoneConfig}). Se escribe a un stream que descarta los bytes y los cuenta, como lo haría
+ * la respuesta HTTP, sin acumular el documento completo en memoria.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ReservaResponseJsonBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+    private List<ReservaResponse> responses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new TimezoneConfig().objectMapper();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ReservaResponse.class));
+        ReservaMapper mapper = new ReservaMapperImpl();
+        responses = BenchmarkDatasets.reservas(size).stream().map(mapper::toDto).toList();
+    }
+
+    @Benchmark
+    public long writeList() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        writer.writeValue(out, responses);
+        return out.count;
+    }
+
+    @Benchmark
+    public long writeListWithObjectMapper() throws IOException {
+        // Lo que hace el conversor HTTP: el tipo de los elementos se resuelve en tiempo de ejecución
+        CountingOutputStream out = new CountingOutputStream();
+        objectMapper.writeValue(out, responses);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
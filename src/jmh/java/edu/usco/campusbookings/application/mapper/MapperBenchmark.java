@@ -0,0 +1,65 @@
+package edu.usco.campusbookings.application.mapper;
+
+import edu.usco.campusbookings.application.dto.response.EscenarioResponse;
+import edu.usco.campusbookings.application.dto.response.ReservaResponse;
+import edu.usco.campusbookings.benchmark.BenchmarkDatasets;
+import edu.usco.campusbookings.domain.model.Escenario;
+import edu.usco.campusbookings.domain.model.Reserva;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo entidad → DTO con las implementaciones generadas por MapStruct: listas de reservas del tamaño
+ * del dataset y el catálogo de escenarios (con las URLs de variantes de imagen).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ReservaMapper reservaMapper;
+    private EscenarioMapper escenarioMapper;
+    private List<Reserva> reservas;
+    private List<Escenario> escenarios;
+
+    @Setup
+    public void setUp() {
+        reservaMapper = new ReservaMapperImpl();
+        escenarioMapper = new EscenarioMapperImpl();
+        reservas = BenchmarkDatasets.reservas(size);
+        escenarios = BenchmarkDatasets.escenarios();
+    }
+
+    @Benchmark
+    public List<ReservaResponse> reservaToDto() {
+        List<ReservaResponse> responses = new ArrayList<>(reservas.size());
+        for (Reserva reserva : reservas) {
+            responses.add(reservaMapper.toDto(reserva));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<EscenarioResponse> escenarioToDtoList() {
+        return escenarioMapper.toDtoList(escenarios);
+    }
+}
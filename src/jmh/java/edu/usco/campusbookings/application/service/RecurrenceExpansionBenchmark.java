@@ -0,0 +1,78 @@
+package edu.usco.campusbookings.application.service;
+
+import edu.usco.campusbookings.domain.model.ReservaRecurrente;
+import edu.usco.campusbookings.domain.model.ReservaRecurrente.PatronRecurrencia;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expansión de una configuración recurrente en fechas concretas ({@code calcularFechasParaGeneracion}),
+ * que evalúa {@link ReservaRecurrente#coincideConPatron} día por día hasta el horizonte pedido.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecurrenceExpansionBenchmark {
+
+    private static final LocalDate DESDE = LocalDate.of(2025, 1, 6);
+
+    @Param({"DIARIO", "SEMANAL", "MENSUAL"})
+    public PatronRecurrencia patron;
+
+    /**
+     * Días entre el inicio y la fecha límite: un mes, un semestre y un año
+     */
+    @Param({"30", "180", "365"})
+    public int horizonte;
+
+    private ReservaRecurrente config;
+    private LocalDate fechaLimite;
+
+    @Setup
+    public void setUp() {
+        config = ReservaRecurrente.builder()
+                .patron(patron)
+                .fechaInicio(DESDE)
+                .fechaFin(DESDE.plusYears(2))
+                .horaInicio(LocalTime.of(8, 0))
+                .horaFin(LocalTime.of(10, 0))
+                .diasSemana("[1,3,5]")
+                .diaMes(15)
+                .intervaloRepeticion(1)
+                .build();
+        fechaLimite = DESDE.plusDays(horizonte);
+    }
+
+    @Benchmark
+    public List<LocalDate> calcularFechasParaGeneracion() {
+        return ReservaRecurrenteService.calcularFechasParaGeneracion(config, DESDE, fechaLimite);
+    }
+
+    @Benchmark
+    public int coincideConPatron() {
+        int coincidencias = 0;
+        for (LocalDate fecha = DESDE; !fecha.isAfter(fechaLimite); fecha = fecha.plusDays(1)) {
+            if (config.coincideConPatron(fecha)) {
+                coincidencias++;
+            }
+        }
+        return coincidencias;
+    }
+}
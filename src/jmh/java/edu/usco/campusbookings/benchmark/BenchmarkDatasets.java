@@ -0,0 +1,133 @@
+package edu.usco.campusbookings.benchmark;
+
+import edu.usco.campusbookings.domain.model.Escenario;
+import edu.usco.campusbookings.domain.model.EstadoReserva;
+import edu.usco.campusbookings.domain.model.ImagenMetadata;
+import edu.usco.campusbookings.domain.model.Reserva;
+import edu.usco.campusbookings.domain.model.TipoEscenario;
+import edu.usco.campusbookings.domain.model.Ubicacion;
+import edu.usco.campusbookings.domain.model.Usuario;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Datos reproducibles para los benchmarks: la misma semilla y el mismo tamaño generan siempre las mismas
+ * reservas, así los resultados de dos commits son comparables con {@link BenchmarkResultsDiff}.
+ * <p>
+ * Las reservas se reparten entre {@value #ESCENARIOS} escenarios y {@value #USUARIOS} usuarios durante un año
+ * a partir de {@link #INICIO}, en franjas de 1 a 3 horas entre las 7:00 y las 21:00.
+ */
+public final class BenchmarkDatasets {
+
+    public static final long SEED = 20240115L;
+    public static final int ESCENARIOS = 200;
+    public static final int USUARIOS = 5_000;
+    public static final LocalDateTime INICIO = LocalDateTime.of(2025, 1, 6, 0, 0);
+
+    public static final String[] ESTADOS = {"PENDIENTE", "APROBADA", "RECHAZADA", "CANCELADA"};
+
+    private BenchmarkDatasets() {
+    }
+
+    /**
+     * Reserva sin entidades asociadas, para cargar tablas sin instanciar el grafo JPA
+     */
+    public record ReservaSeed(long id, long escenarioId, long usuarioId, int estado,
+                              LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+
+        public String estadoNombre() {
+            return ESTADOS[estado];
+        }
+    }
+
+    /**
+     * Recorre {@code size} reservas en orden de id
+     */
+    public static void forEachReserva(int size, Consumer<ReservaSeed> consumer) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long id = 1; id <= size; id++) {
+            LocalDateTime inicio = INICIO
+                    .plusDays(random.nextInt(365))
+                    .plusHours(7 + random.nextInt(12));
+            // La mitad aprobadas: es el estado que filtran las consultas de conflictos
+            int estado = random.nextInt(10) < 5 ? 1 : random.nextInt(ESTADOS.length);
+            consumer.accept(new ReservaSeed(id,
+                    1 + random.nextInt(ESCENARIOS),
+                    1 + random.nextInt(USUARIOS),
+                    estado,
+                    inicio,
+                    inicio.plusHours(1 + random.nextInt(3))));
+        }
+    }
+
+    /**
+     * Entidades {@link Reserva} completas como las devuelve la persistencia (usuario, escenario y estado
+     * cargados); las entidades asociadas se comparten entre reservas igual que en un contexto de persistencia
+     */
+    public static List<Reserva> reservas(int size) {
+        List<Escenario> escenarios = escenarios();
+        Usuario[] usuarios = new Usuario[USUARIOS];
+        EstadoReserva[] estados = new EstadoReserva[ESTADOS.length];
+        for (int i = 0; i < ESTADOS.length; i++) {
+            estados[i] = EstadoReserva.builder().id(i + 1L).nombre(ESTADOS[i]).build();
+        }
+        List<Reserva> reservas = new ArrayList<>(size);
+        forEachReserva(size, seed -> {
+            int u = (int) seed.usuarioId() - 1;
+            if (usuarios[u] == null) {
+                usuarios[u] = Usuario.builder()
+                        .id(seed.usuarioId())
+                        .nombre("Usuario " + seed.usuarioId())
+                        .apellido("Benchmark")
+                        .email("usuario" + seed.usuarioId() + "@usco.edu.co")
+                        .build();
+            }
+            Reserva reserva = Reserva.builder()
+                    .id(seed.id())
+                    .usuario(usuarios[u])
+                    .escenario(escenarios.get((int) seed.escenarioId() - 1))
+                    .estado(estados[seed.estado()])
+                    .fechaInicio(seed.fechaInicio())
+                    .fechaFin(seed.fechaFin())
+                    .observaciones(seed.id() % 3 == 0 ? "Práctica del grupo " + seed.usuarioId() : null)
+                    .build();
+            reserva.setCreatedDate(seed.fechaInicio().minusDays(3));
+            reserva.setModifiedDate(seed.fechaInicio().minusDays(1));
+            reservas.add(reserva);
+        });
+        return reservas;
+    }
+
+    public static List<Escenario> escenarios() {
+        TipoEscenario[] tipos = {
+                TipoEscenario.builder().id(1L).nombre("Auditorio").build(),
+                TipoEscenario.builder().id(2L).nombre("Laboratorio").build(),
+                TipoEscenario.builder().id(3L).nombre("Cancha").build()
+        };
+        Ubicacion[] ubicaciones = {
+                Ubicacion.builder().id(1L).nombre("Sede Central").build(),
+                Ubicacion.builder().id(2L).nombre("Sede Pitalito").build()
+        };
+        List<Escenario> escenarios = new ArrayList<>(ESCENARIOS);
+        for (long id = 1; id <= ESCENARIOS; id++) {
+            String hash = String.format("%064x", id * 0x9E3779B97F4A7C15L & Long.MAX_VALUE);
+            escenarios.add(Escenario.builder()
+                    .id(id)
+                    .nombre("Escenario " + id)
+                    .tipo(tipos[(int) (id % tipos.length)])
+                    .ubicacion(ubicaciones[(int) (id % ubicaciones.length)])
+                    .capacidad(20 + (int) (id % 200))
+                    .descripcion("Escenario de prueba " + id)
+                    .recursos("Proyector, sonido")
+                    .imagenUrl("/uploads/escenarios/" + hash.substring(0, 2) + "/" + hash + ".jpg")
+                    .imagenMetadata(ImagenMetadata.builder()
+                            .ancho(1920).alto(1280).formato("jpeg").variantes("thumb,card,full").build())
+                    .build());
+        }
+        return escenarios;
+    }
+}
@@ -0,0 +1,95 @@
+package edu.usco.campusbookings.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dos resultados JSON de JMH ({@code -rf json}) de commits distintos.
+ * <p>
+ * Cada fila es un benchmark con sus parámetros; la diferencia se marca como regresión o mejora solo si
+ * supera la suma de los errores (intervalo de confianza del 99.9%) de ambas mediciones. Con
+ * {@code maxRegresionPct} el proceso termina con código 1 si alguna regresión significativa lo supera.
+ * <pre>
+ * mvn -Pbenchmark exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=edu.usco.campusbookings.benchmark.BenchmarkResultsDiff \
+ *     -Dexec.args="base.json actual.json [maxRegresionPct]"
+ * </pre>
+ */
+public final class BenchmarkResultsDiff {
+
+    private record Resultado(String modo, double score, double error, String unidad) {
+    }
+
+    private BenchmarkResultsDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: BenchmarkResultsDiff <base.json> <actual.json> [maxRegresionPct]");
+            System.exit(2);
+        }
+        Map<String, Resultado> base = leer(new File(args[0]));
+        Map<String, Resultado> actual = leer(new File(args[1]));
+        double maxRegresion = args.length > 2 ? Double.parseDouble(args[2]) : Double.POSITIVE_INFINITY;
+
+        System.out.printf("%-90s %14s %14s %9s  %s%n", "benchmark", "base", "actual", "delta", "unidad");
+        boolean fallo = false;
+        for (Map.Entry<String, Resultado> entry : actual.entrySet()) {
+            Resultado nuevo = entry.getValue();
+            Resultado anterior = base.get(entry.getKey());
+            if (anterior == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", nuevo.score(), "nuevo", nuevo.unidad());
+                continue;
+            }
+            double delta = (nuevo.score() - anterior.score()) / anterior.score() * 100;
+            boolean significativo = Math.abs(nuevo.score() - anterior.score()) > anterior.error() + nuevo.error();
+            // En modos de tiempo (avgt, sample, ss) subir es peor; en throughput es mejor
+            boolean peor = "thrpt".equals(nuevo.modo()) ? delta < 0 : delta > 0;
+            String marca = !significativo ? "" : peor ? "  REGRESION" : "  mejora";
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n",
+                    entry.getKey(), anterior.score(), nuevo.score(), delta, nuevo.unidad(), marca);
+            if (significativo && peor && Math.abs(delta) > maxRegresion) {
+                fallo = true;
+            }
+        }
+        for (String eliminado : base.keySet()) {
+            if (!actual.containsKey(eliminado)) {
+                System.out.printf("%-90s %14.3f %14s %9s%n", eliminado, base.get(eliminado).score(), "-", "eliminado");
+            }
+        }
+        if (fallo) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Resultados indexados por {@code benchmark[param=valor,...]} en orden estable
+     */
+    private static Map<String, Resultado> leer(File archivo) throws IOException {
+        Map<String, Resultado> resultados = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(archivo)) {
+            StringBuilder clave = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            if (params.isObject() && params.size() > 0) {
+                Map<String, String> ordenados = new TreeMap<>();
+                for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> param = it.next();
+                    ordenados.put(param.getKey(), param.getValue().asText());
+                }
+                clave.append(ordenados.toString().replace('{', '[').replace('}', ']').replace(" ", ""));
+            }
+            JsonNode metrica = run.path("primaryMetric");
+            double error = metrica.path("scoreError").asDouble(0);
+            resultados.put(clave.toString(), new Resultado(run.path("mode").asText(),
+                    metrica.path("score").asDouble(), Double.isNaN(error) ? 0 : error, metrica.path("scoreUnit").asText()));
+        }
+        return resultados;
+    }
+}
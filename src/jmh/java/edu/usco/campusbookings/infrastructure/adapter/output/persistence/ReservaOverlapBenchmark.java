@@ -0,0 +1,150 @@
+package edu.usco.campusbookings.infrastructure.adapter.output.persistence;
+
+import edu.usco.campusbookings.benchmark.BenchmarkDatasets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detección de solapamientos de {@code ReservaJpaRepository.findConflictingReservations} sobre H2 en memoria
+ * (la base del perfil dev), con el mismo SQL que Hibernate genera para la consulta JPQL.
+ * <p>
+ * El esquema replica las columnas de {@code reserva} y {@code estado_reserva} sin índices adicionales, como
+ * los crea {@code ddl-auto}; cada invocación consulta una franja aleatoria de 2 horas de un escenario.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ReservaOverlapBenchmark {
+
+    static final String CONFLICT_SQL = "SELECT r.id, r.escenario_id, r.usuario_id, r.estado_id, r.fecha_inicio, r.fecha_fin"
+            + " FROM reserva r JOIN estado_reserva e ON e.id = r.estado_id"
+            + " WHERE r.escenario_id = ? AND e.nombre = 'APROBADA'"
+            + " AND r.fecha_inicio < ? AND r.fecha_fin > ?";
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Connection connection;
+    private PreparedStatement conflictos;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:overlap" + size + ";DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE estado_reserva (id BIGINT PRIMARY KEY, nombre VARCHAR(255))");
+            ddl.execute("CREATE TABLE reserva (id BIGINT PRIMARY KEY, escenario_id BIGINT NOT NULL,"
+                    + " usuario_id BIGINT NOT NULL, estado_id BIGINT NOT NULL,"
+                    + " fecha_inicio TIMESTAMP NOT NULL, fecha_fin TIMESTAMP NOT NULL)");
+        }
+        try (PreparedStatement estados = connection.prepareStatement("INSERT INTO estado_reserva VALUES (?, ?)")) {
+            for (int i = 0; i < BenchmarkDatasets.ESTADOS.length; i++) {
+                estados.setLong(1, i + 1L);
+                estados.setString(2, BenchmarkDatasets.ESTADOS[i]);
+                estados.addBatch();
+            }
+            estados.executeBatch();
+        }
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO reserva VALUES (?, ?, ?, ?, ?, ?)")) {
+            BenchmarkDatasets.forEachReserva(size, seed -> {
+                try {
+                    insert.setLong(1, seed.id());
+                    insert.setLong(2, seed.escenarioId());
+                    insert.setLong(3, seed.usuarioId());
+                    insert.setLong(4, seed.estado() + 1L);
+                    insert.setTimestamp(5, Timestamp.valueOf(seed.fechaInicio()));
+                    insert.setTimestamp(6, Timestamp.valueOf(seed.fechaFin()));
+                    insert.addBatch();
+                    if (seed.id() % 10_000 == 0) {
+                        insert.executeBatch();
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        conflictos = connection.prepareStatement(CONFLICT_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement drop = connection.createStatement()) {
+            drop.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    /**
+     * Franjas a consultar, precalculadas por hilo y recorridas en ciclo (Level.Invocation distorsiona
+     * mediciones de microsegundos)
+     */
+    @State(Scope.Thread)
+    public static class Franjas {
+
+        private static final int CANTIDAD = 1024;
+
+        final long[] escenarioIds = new long[CANTIDAD];
+        final Timestamp[] inicios = new Timestamp[CANTIDAD];
+        final Timestamp[] fines = new Timestamp[CANTIDAD];
+        int siguiente;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(BenchmarkDatasets.SEED);
+            for (int i = 0; i < CANTIDAD; i++) {
+                LocalDateTime inicio = BenchmarkDatasets.INICIO
+                        .plusDays(random.nextInt(365))
+                        .plusHours(7 + random.nextInt(12));
+                escenarioIds[i] = 1 + random.nextInt(BenchmarkDatasets.ESCENARIOS);
+                inicios[i] = Timestamp.valueOf(inicio);
+                fines[i] = Timestamp.valueOf(inicio.plusHours(2));
+            }
+        }
+    }
+
+    @Benchmark
+    public int findConflictingReservations(Franjas franjas, Blackhole blackhole) throws SQLException {
+        int i = franjas.siguiente++ & (Franjas.CANTIDAD - 1);
+        conflictos.setLong(1, franjas.escenarioIds[i]);
+        conflictos.setTimestamp(2, franjas.fines[i]);
+        conflictos.setTimestamp(3, franjas.inicios[i]);
+        int filas = 0;
+        try (ResultSet rs = conflictos.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+                blackhole.consume(rs.getTimestamp(5));
+                filas++;
+            }
+        }
+        return filas;
+    }
+}
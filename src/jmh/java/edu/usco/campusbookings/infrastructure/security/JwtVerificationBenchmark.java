@@ -0,0 +1,95 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo criptográfico de autenticar un request con JWT.
+ * <ul>
+ *     <li>{@code legacyPerRequest}: lo que hacía el filtro antes, cinco parseos completos
+ *     derivando la clave y el parser en cada uno</li>
+ *     <li>{@code singleParse}: un parseo con clave y parser precalculados (primer request de un token)</li>
+ *     <li>{@code cachedVerify}: token ya verificado, resuelto desde la caché de {@link JwtService}</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "7A2F4D6B8E9C1A3F5E7B9D0C2E4F6A8B1C3D5E7F9A0B2C4D6E8F0A1B3C5D7E9F"
+            + "2A4B6C8D0E2F4A6B8C0D2E4F6A8B0C2D4E6F8A0B1C3E5F7A9B1D3F5A7C9E1F3A5C7E9F1A3C5E7F9A1C3E5F";
+
+    private JwtService jwtService;
+    private JwtParser parser;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 1_800_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604_800_000L);
+        jwtService.init();
+
+        user = new User("usuario@usco.edu.co", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtService.generateToken(Map.of("userId", 42L, "roles", List.of("ROLE_USER")), user);
+        parser = Jwts.parserBuilder().setSigningKey(signInKey()).build();
+    }
+
+    private static Key signInKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder().setSigningKey(signInKey()).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public void legacyPerRequest(Blackhole blackhole) {
+        // extractUsername, isTokenValid (usuario + expiración), isRefreshToken y shouldRenewToken
+        blackhole.consume(legacyParse(token).getSubject());
+        blackhole.consume(legacyParse(token).getSubject());
+        blackhole.consume(legacyParse(token).getExpiration());
+        blackhole.consume(legacyParse(token).get("type"));
+        blackhole.consume(legacyParse(token).getExpiration());
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public boolean cachedVerify() {
+        VerifiedToken verified = jwtService.verify(token);
+        return verified.isValidFor(user) && !verified.isRefreshToken() && !verified.shouldRenew();
+    }
+}
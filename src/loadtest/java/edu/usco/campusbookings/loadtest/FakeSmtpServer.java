@@ -0,0 +1,99 @@
+package edu.usco.campusbookings.loadtest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor SMTP local que acepta y descarta los correos, para que las notificaciones de reserva
+ * no salgan a la red durante la prueba de carga. Implementa solo los comandos que usa JavaMail
+ * sin autenticación ni STARTTLS (perfil dev).
+ */
+public class FakeSmtpServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "fake-smtp");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong mensajes = new AtomicLong();
+
+    public FakeSmtpServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::aceptar, "fake-smtp-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public long getMensajes() {
+        return mensajes.get();
+    }
+
+    private void aceptar() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> atender(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("SMTP local: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void atender(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+            responder(out, "220 localhost ESMTP loadtest");
+            String linea;
+            while ((linea = in.readLine()) != null) {
+                String comando = linea.length() >= 4 ? linea.substring(0, 4).toUpperCase() : linea.toUpperCase();
+                switch (comando) {
+                    case "EHLO", "HELO" -> responder(out, "250 localhost");
+                    case "DATA" -> {
+                        responder(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((linea = in.readLine()) != null && !".".equals(linea)) {
+                            // El contenido se descarta
+                        }
+                        mensajes.incrementAndGet();
+                        responder(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        responder(out, "221 Bye");
+                        return;
+                    }
+                    default -> responder(out, "250 OK");
+                }
+            }
+        } catch (IOException e) {
+            // Conexión cerrada por el cliente
+        }
+    }
+
+    private static void responder(PrintWriter out, String respuesta) {
+        out.print(respuesta + "\r\n");
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+}
@@ -0,0 +1,131 @@
+package edu.usco.campusbookings.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Muestras de latencia por operación y el informe final.
+ * <p>
+ * Cada hilo de carga registra en su propio {@link Muestras} (sin contención) y se combinan al terminar.
+ * Las respuestas 4xx de negocio (conflicto de horario, validación) se cuentan como rechazadas y no como
+ * errores; son errores las 5xx, los timeouts y los fallos de transporte.
+ */
+public final class LoadReport {
+
+    /**
+     * Resultado de una operación en el informe
+     */
+    public record Resumen(long total,
+                          long rechazadas,
+                          long errores,
+                          double throughputPorSegundo,
+                          double tasaError,
+                          double p50Ms,
+                          double p90Ms,
+                          double p99Ms,
+                          double maxMs) {
+    }
+
+    /**
+     * Latencias de un hilo, en nanosegundos
+     */
+    public static final class Muestras {
+
+        private final Map<Operacion, long[]> latencias = new EnumMap<>(Operacion.class);
+        private final Map<Operacion, Integer> tamanos = new EnumMap<>(Operacion.class);
+        private final Map<Operacion, long[]> contadores = new EnumMap<>(Operacion.class);
+
+        /**
+         * @param status código HTTP, o 0 si la operación falló sin respuesta
+         */
+        public void registrar(Operacion operacion, long nanos, int status) {
+            long[] valores = latencias.computeIfAbsent(operacion, op -> new long[1024]);
+            int tamano = tamanos.getOrDefault(operacion, 0);
+            if (tamano == valores.length) {
+                valores = Arrays.copyOf(valores, tamano * 2);
+                latencias.put(operacion, valores);
+            }
+            valores[tamano] = nanos;
+            tamanos.put(operacion, tamano + 1);
+
+            long[] cuenta = contadores.computeIfAbsent(operacion, op -> new long[2]);
+            if (status == 0 || status >= 500) {
+                cuenta[1]++;
+            } else if (status >= 400) {
+                cuenta[0]++;
+            }
+        }
+    }
+
+    private LoadReport() {
+    }
+
+    public static Map<Operacion, Resumen> resumir(List<Muestras> porHilo, double segundos) {
+        Map<Operacion, Resumen> resumen = new EnumMap<>(Operacion.class);
+        for (Operacion operacion : Operacion.values()) {
+            int total = porHilo.stream().mapToInt(m -> m.tamanos.getOrDefault(operacion, 0)).sum();
+            if (total == 0) {
+                continue;
+            }
+            long[] todas = new long[total];
+            int pos = 0;
+            long rechazadas = 0;
+            long errores = 0;
+            for (Muestras muestras : porHilo) {
+                int tamano = muestras.tamanos.getOrDefault(operacion, 0);
+                if (tamano > 0) {
+                    System.arraycopy(muestras.latencias.get(operacion), 0, todas, pos, tamano);
+                    pos += tamano;
+                    rechazadas += muestras.contadores.get(operacion)[0];
+                    errores += muestras.contadores.get(operacion)[1];
+                }
+            }
+            Arrays.sort(todas);
+            resumen.put(operacion, new Resumen(total, rechazadas, errores,
+                    total / segundos,
+                    (double) errores / total,
+                    percentil(todas, 0.50),
+                    percentil(todas, 0.90),
+                    percentil(todas, 0.99),
+                    todas[total - 1] / 1_000_000.0));
+        }
+        return resumen;
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, indice)] / 1_000_000.0;
+    }
+
+    public static void imprimir(Map<Operacion, Resumen> resumen) {
+        System.out.printf("%n%-13s %9s %9s %8s %10s %8s %9s %9s %9s %9s%n",
+                "operacion", "total", "rechaz.", "errores", "ops/s", "error%", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        resumen.forEach((operacion, r) -> System.out.printf("%-13s %9d %9d %8d %10.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f%n",
+                operacion.getNombre(), r.total(), r.rechazadas(), r.errores(), r.throughputPorSegundo(),
+                r.tasaError() * 100, r.p50Ms(), r.p90Ms(), r.p99Ms(), r.maxMs()));
+    }
+
+    public static void escribir(Path archivo, LoadTestOptions options, double segundos,
+                                Map<Operacion, Resumen> resumen, Map<String, Object> extra) throws IOException {
+        Map<String, Object> informe = new LinkedHashMap<>();
+        informe.put("options", options.toString());
+        informe.put("measuredSeconds", segundos);
+        Map<String, Resumen> operaciones = new LinkedHashMap<>();
+        resumen.forEach((operacion, r) -> operaciones.put(operacion.getNombre(), r));
+        informe.put("operations", operaciones);
+        informe.putAll(extra);
+        if (archivo.getParent() != null) {
+            Files.createDirectories(archivo.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(archivo.toFile(), informe);
+    }
+}
@@ -0,0 +1,94 @@
+package edu.usco.campusbookings.loadtest;
+
+import edu.usco.campusbookings.CampusBookingsApplication;
+import edu.usco.campusbookings.loadtest.LoadTestSeeder.Dataset;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Prueba de carga de extremo a extremo: arranca la aplicación con el perfil dev (H2 en memoria) en un puerto
+ * libre, siembra los datos y reproduce la mezcla de operaciones por HTTP y WebSocket.
+ * <p>
+ * Corre sin red: el correo va a {@link FakeSmtpServer} y Google Calendar al transporte de
+ * {@link LoadTestConfig}. El rate limiting se desactiva para medir la aplicación y no el limitador.
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--users=2000 --reservations=100000 --duration=120"
+ * </pre>
+ * Imprime por operación el total, las rechazadas (4xx), los errores (5xx y fallos de transporte), el
+ * throughput y los percentiles p50/p90/p99 de latencia, y escribe el mismo informe en JSON en {@code --report}.
+ */
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        configurarZonaHoraria();
+
+        try (FakeSmtpServer smtp = new FakeSmtpServer();
+             ConfigurableApplicationContext app = arrancar(smtp, options)) {
+
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            long inicioSiembra = System.nanoTime();
+            Dataset dataset = new LoadTestSeeder(app).seed(options);
+            System.out.printf("Sembrados %d usuarios, %d escenarios y %d reservas en %.1f s%n",
+                    dataset.usuarioIds().size(), dataset.escenarioIds().size(), options.reservations(),
+                    (System.nanoTime() - inicioSiembra) / 1e9);
+
+            WorkloadRunner runner = new WorkloadRunner(URI.create("http://localhost:" + port), options, dataset);
+            List<LoadReport.Muestras> muestras = runner.run();
+
+            Map<Operacion, LoadReport.Resumen> resumen = LoadReport.resumir(muestras, options.durationSeconds());
+            LoadReport.imprimir(resumen);
+            Map<String, Object> extra = new LinkedHashMap<>();
+            extra.put("smtpMessages", smtp.getMensajes());
+            extra.put("googleRequests", LoadTestConfig.GOOGLE_REQUESTS.get());
+            extra.put("websocketNotifications", runner.getNotificacionesRecibidas());
+            LoadReport.escribir(options.report(), options, options.durationSeconds(), resumen, extra);
+            System.out.printf("%nCorreos capturados: %d, llamadas a Google: %d, notificaciones WebSocket: %d%n"
+                            + "Informe: %s%n",
+                    smtp.getMensajes(), LoadTestConfig.GOOGLE_REQUESTS.get(), runner.getNotificacionesRecibidas(),
+                    options.report().toAbsolutePath());
+        }
+    }
+
+    static void configurarZonaHoraria() {
+        System.setProperty("user.timezone", "America/Bogota");
+        TimeZone.setDefault(TimeZone.getTimeZone("America/Bogota"));
+    }
+
+    static ConfigurableApplicationContext arrancar(FakeSmtpServer smtp, LoadTestOptions options) {
+        // Como argumentos de línea de comandos: las propiedades por defecto del builder las pisa application-dev
+        String[] args = propiedades(smtp.getPort(), options).entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(CampusBookingsApplication.class, LoadTestConfig.class)
+                .profiles("dev")
+                .run(args);
+    }
+
+    private static Map<String, Object> propiedades(int smtpPort, LoadTestOptions options) {
+        Map<String, Object> propiedades = new HashMap<>();
+        propiedades.put("server.port", 0);
+        propiedades.put("spring.mail.host", "localhost");
+        propiedades.put("spring.mail.port", smtpPort);
+        propiedades.put("spring.jpa.show-sql", false);
+        propiedades.put("spring.jpa.properties.hibernate.format_sql", false);
+        propiedades.put("spring.h2.console.enabled", false);
+        propiedades.put("spring.datasource.hikari.maximum-pool-size", Math.max(10, options.concurrency() / 2));
+        propiedades.put("server.tomcat.threads.max", Math.max(200, options.concurrency() * 2));
+        propiedades.put("security.rate-limit.enabled", false);
+        propiedades.put("spring.threads.virtual.enabled", options.virtualThreads());
+        propiedades.put("logging.level.root", "WARN");
+        propiedades.put("logging.level.edu.usco.campusbookings", "WARN");
+        return propiedades;
+    }
+}
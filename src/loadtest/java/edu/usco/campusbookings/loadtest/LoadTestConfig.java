@@ -0,0 +1,45 @@
+package edu.usco.campusbookings.loadtest;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.Json;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sustituye el transporte HTTP de Google por uno en memoria: el flujo OAuth y los clientes de Calendar
+ * reciben respuestas vacías exitosas y la prueba de carga corre sin red. Al ser {@link Primary} se inyecta
+ * en lugar del transporte de {@code GoogleCalendarConfig} sin sobrescribir su definición.
+ */
+@TestConfiguration
+public class LoadTestConfig {
+
+    static final AtomicLong GOOGLE_REQUESTS = new AtomicLong();
+
+    @Bean
+    @Primary
+    public HttpTransport loadTestGoogleHttpTransport() {
+        return new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) {
+                GOOGLE_REQUESTS.incrementAndGet();
+                return new MockLowLevelHttpRequest(url) {
+                    @Override
+                    public LowLevelHttpResponse execute() {
+                        return new MockLowLevelHttpResponse()
+                                .setStatusCode(200)
+                                .setContentType(Json.MEDIA_TYPE)
+                                .setContent("{\"id\":\"loadtest-" + GOOGLE_REQUESTS.get() + "\",\"items\":[]}");
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package edu.usco.campusbookings.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parámetros de la prueba de carga, como argumentos {@code --clave=valor}:
+ * <pre>
+ * --users=2000 --scenarios=150 --reservations=100000 --concurrency=64 --duration=120 --warmup=15
+ * --ws-clients=500 --mix=login:5,search:30,availability:30,create:15,approve:8,cancel:7,websocket:5
+ * --seed=42 --report=target/loadtest-report.json --threads=platform
+ * </pre>
+ * {@code --threads=virtual} atiende las peticiones en hilos virtuales (Java 21+, ver el perfil {@code virtual}); en
+ * Java 17 Spring Boot ignora la propiedad, así que se rechaza en vez de medir hilos de plataforma con otro nombre.
+ */
+public record LoadTestOptions(int users,
+                              int scenarios,
+                              int reservations,
+                              int concurrency,
+                              int durationSeconds,
+                              int warmupSeconds,
+                              int wsClients,
+                              Map<Operacion, Integer> mix,
+                              long seed,
+                              Path report,
+                              boolean virtualThreads) {
+
+    static final String DEFAULT_MIX = "login:5,search:30,availability:30,create:15,approve:8,cancel:7,websocket:5";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Argumento no reconocido: " + arg);
+            }
+            valores.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return new LoadTestOptions(
+                entero(valores, "users", 500),
+                entero(valores, "scenarios", 100),
+                entero(valores, "reservations", 20_000),
+                entero(valores, "concurrency", 32),
+                entero(valores, "duration", 60),
+                entero(valores, "warmup", 10),
+                entero(valores, "ws-clients", 100),
+                parseMix(valores.getOrDefault("mix", DEFAULT_MIX)),
+                Long.parseLong(valores.getOrDefault("seed", "42")),
+                Path.of(valores.getOrDefault("report", "target/loadtest-report.json")),
+                hilos(valores.getOrDefault("threads", "platform")));
+    }
+
+    /**
+     * Las mismas opciones con otra concurrencia
+     */
+    public LoadTestOptions conConcurrencia(int otra) {
+        return new LoadTestOptions(users, scenarios, reservations, otra, durationSeconds, warmupSeconds,
+                wsClients, mix, seed, report, virtualThreads);
+    }
+
+    private static boolean hilos(String valor) {
+        return switch (valor) {
+            case "virtual" -> {
+                if (Runtime.version().feature() < 21) {
+                    throw new IllegalArgumentException("--threads=virtual requiere Java 21+ (actual: " + Runtime.version() + ")");
+                }
+                yield true;
+            }
+            case "platform" -> false;
+            default -> throw new IllegalArgumentException("--threads debe ser platform o virtual: " + valor);
+        };
+    }
+
+    private static int entero(Map<String, String> valores, String clave, int porDefecto) {
+        return valores.containsKey(clave) ? Integer.parseInt(valores.get(clave)) : porDefecto;
+    }
+
+    static Map<Operacion, Integer> parseMix(String mix) {
+        Map<Operacion, Integer> pesos = new EnumMap<>(Operacion.class);
+        for (String parte : mix.split(",")) {
+            String[] par = parte.trim().split(":");
+            int peso = Integer.parseInt(par[1].trim());
+            if (peso > 0) {
+                pesos.put(Operacion.desde(par[0].trim()), peso);
+            }
+        }
+        if (pesos.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla de operaciones está vacía: " + mix);
+        }
+        return pesos;
+    }
+}
@@ -0,0 +1,169 @@
+package edu.usco.campusbookings.loadtest;
+
+import edu.usco.campusbookings.domain.model.Escenario;
+import edu.usco.campusbookings.domain.model.EstadoReserva;
+import edu.usco.campusbookings.domain.model.Reserva;
+import edu.usco.campusbookings.domain.model.Rol;
+import edu.usco.campusbookings.domain.model.Usuario;
+import edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa.EstadoReservaJpaRepository;
+import edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa.SpringDataEscenarioRepository;
+import edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa.SpringDataRolRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Carga usuarios, escenarios y reservas a escala sobre los catálogos que crea {@code DataInitializer}
+ * (tipos, ubicaciones, estados, roles y escenarios USCO): los escenarios adicionales son copias numeradas
+ * de los del catálogo y conservan su tipo y ubicación.
+ * <p>
+ * Las reservas aprobadas de un escenario no se solapan: cada reserva ocupa una franja de 2 horas distinta,
+ * consecutivas desde el pasado; dos tercios de los días quedan antes de hoy (historial) y el resto después
+ * (agenda vigente). La misma semilla produce los mismos datos.
+ */
+public class LoadTestSeeder {
+
+    public static final String PASSWORD = "CargaUSCO2024!";
+    private static final int LOTE = 1_000;
+    private static final int FRANJAS_POR_DIA = 6;
+
+    /**
+     * Datos cargados que usa la mezcla de operaciones
+     */
+    public record Dataset(List<Long> usuarioIds, List<String> emails, List<Long> escenarioIds,
+                          List<String> nombresEscenario, List<Long> reservasPendientes) {
+    }
+
+    private final ApplicationContext context;
+    private final EntityManager entityManager;
+    private final TransactionTemplate tx;
+
+    public LoadTestSeeder(ApplicationContext context) {
+        this.context = context;
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        this.tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    public Dataset seed(LoadTestOptions options) {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        List<String> emails = new ArrayList<>(options.users());
+        List<Long> usuarioIds = seedUsuarios(options.users(), emails);
+        List<Escenario> escenarios = seedEscenarios(options.scenarios());
+        List<Long> pendientes = seedReservas(options.reservations(), usuarioIds, escenarios, random);
+        return new Dataset(usuarioIds, emails,
+                escenarios.stream().map(Escenario::getId).toList(),
+                escenarios.stream().map(Escenario::getNombre).toList(),
+                pendientes);
+    }
+
+    private List<Long> seedUsuarios(int cantidad, List<String> emails) {
+        Rol rolUsuario = context.getBean(SpringDataRolRepository.class).findByNombre("USER")
+                .orElseThrow(() -> new IllegalStateException("Rol USER no encontrado; DataInitializer no se ejecutó"));
+        // BCrypt(12) cuesta ~250 ms: todos los usuarios comparten el mismo hash
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<Long> ids = new ArrayList<>(cantidad);
+        for (int inicio = 0; inicio < cantidad; inicio += LOTE) {
+            int fin = Math.min(cantidad, inicio + LOTE);
+            int desde = inicio;
+            tx.executeWithoutResult(status -> {
+                for (int i = desde; i < fin; i++) {
+                    Usuario usuario = Usuario.builder()
+                            .nombre("Carga " + i)
+                            .apellido("Usuario")
+                            .email("carga" + i + "@usco.edu.co")
+                            .password(hash)
+                            .rol(entityManager.getReference(Rol.class, rolUsuario.getId()))
+                            .tokenVersion(0L)
+                            .build();
+                    entityManager.persist(usuario);
+                    ids.add(usuario.getId());
+                    emails.add(usuario.getEmail());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return ids;
+    }
+
+    private List<Escenario> seedEscenarios(int cantidad) {
+        SpringDataEscenarioRepository repository = context.getBean(SpringDataEscenarioRepository.class);
+        List<Escenario> catalogo = repository.findAll();
+        if (catalogo.isEmpty()) {
+            throw new IllegalStateException("Catálogo de escenarios vacío; DataInitializer no se ejecutó");
+        }
+        List<Escenario> nuevos = new ArrayList<>();
+        for (int i = catalogo.size(); i < cantidad; i++) {
+            Escenario base = catalogo.get(i % catalogo.size());
+            nuevos.add(Escenario.builder()
+                    .nombre(base.getNombre() + " " + (i / catalogo.size() + 1))
+                    .tipo(base.getTipo())
+                    .ubicacion(base.getUbicacion())
+                    .capacidad(base.getCapacidad())
+                    .descripcion(base.getDescripcion())
+                    .recursos(base.getRecursos())
+                    .disponible(true)
+                    .build());
+        }
+        tx.executeWithoutResult(status -> repository.saveAll(nuevos));
+        List<Escenario> todos = new ArrayList<>(catalogo);
+        todos.addAll(nuevos);
+        return todos.size() > cantidad ? todos.subList(0, cantidad) : todos;
+    }
+
+    private List<Long> seedReservas(int cantidad, List<Long> usuarioIds, List<Escenario> escenarios,
+                                    SplittableRandom random) {
+        EstadoReservaJpaRepository estados = context.getBean(EstadoReservaJpaRepository.class);
+        long pendienteId = estados.findByNombre("PENDIENTE").orElseThrow().getId();
+        long aprobadaId = estados.findByNombre("APROBADA").orElseThrow().getId();
+        long canceladaId = estados.findByNombre("CANCELADA").orElseThrow().getId();
+        int franjasPorEscenario = (cantidad + escenarios.size() - 1) / escenarios.size();
+        int dias = (franjasPorEscenario + FRANJAS_POR_DIA - 1) / FRANJAS_POR_DIA;
+        LocalDate hoy = LocalDate.now();
+        LocalDate primerDia = hoy.minusDays(dias * 2L / 3);
+        List<Long> pendientes = new ArrayList<>();
+
+        for (int inicio = 0; inicio < cantidad; inicio += LOTE) {
+            int fin = Math.min(cantidad, inicio + LOTE);
+            int desde = inicio;
+            tx.executeWithoutResult(status -> {
+                for (int k = desde; k < fin; k++) {
+                    Escenario escenario = escenarios.get(k % escenarios.size());
+                    int franja = k / escenarios.size();
+                    LocalDateTime fechaInicio = primerDia.plusDays(franja / FRANJAS_POR_DIA)
+                            .atTime(7 + (franja % FRANJAS_POR_DIA) * 2, 0);
+                    boolean futura = !fechaInicio.toLocalDate().isBefore(hoy);
+                    int tirada = random.nextInt(100);
+                    long estadoId = tirada < 10 ? canceladaId : futura && tirada < 50 ? pendienteId : aprobadaId;
+                    Reserva reserva = Reserva.builder()
+                            .usuario(entityManager.getReference(Usuario.class,
+                                    usuarioIds.get(random.nextInt(usuarioIds.size()))))
+                            .escenario(entityManager.getReference(Escenario.class, escenario.getId()))
+                            .estado(entityManager.getReference(EstadoReserva.class, estadoId))
+                            .fechaInicio(fechaInicio)
+                            .fechaFin(fechaInicio.plusHours(2))
+                            .observaciones("Carga " + k)
+                            .build();
+                    entityManager.persist(reserva);
+                    if (estadoId == pendienteId) {
+                        pendientes.add(reserva.getId());
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return pendientes;
+    }
+}
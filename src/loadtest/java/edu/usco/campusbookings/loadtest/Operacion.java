@@ -0,0 +1,33 @@
+package edu.usco.campusbookings.loadtest;
+
+/**
+ * Operaciones de la mezcla de carga, con el nombre usado en {@code --mix}
+ */
+public enum Operacion {
+    LOGIN("login"),
+    SEARCH("search"),
+    AVAILABILITY("availability"),
+    CREATE("create"),
+    APPROVE("approve"),
+    CANCEL("cancel"),
+    WEBSOCKET("websocket");
+
+    private final String nombre;
+
+    Operacion(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public static Operacion desde(String nombre) {
+        for (Operacion operacion : values()) {
+            if (operacion.nombre.equalsIgnoreCase(nombre)) {
+                return operacion;
+            }
+        }
+        throw new IllegalArgumentException("Operación desconocida: " + nombre);
+    }
+}
@@ -0,0 +1,123 @@
+package edu.usco.campusbookings.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.usco.campusbookings.loadtest.LoadTestSeeder.Dataset;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compara el throughput de la aplicación atendiendo peticiones en hilos de plataforma y en hilos virtuales,
+ * con la misma mezcla de operaciones y varios niveles de usuarios concurrentes:
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.main=edu.usco.campusbookings.loadtest.ThreadModeComparison \
+ *     -Dloadtest.args="--levels=50,500,5000 --duration=60 --warmup=30"
+ * </pre>
+ * Cada modo arranca su propia instancia (perfil dev, H2) con los mismos datos sembrados; por nivel imprime
+ * ops/s, porcentaje de errores y el peor p99 entre operaciones, y escribe la tabla en JSON en
+ * {@code --report}. El modo virtual requiere ejecutar con Java 21+: en Java 17 (el JDK del pom y de la imagen
+ * Docker) solo se mide el modo de plataforma y el informe marca el virtual como no medido.
+ * <p>
+ * La mezcla por defecto incluye inicios de sesión (BCrypt); para aislar el modelo de hilos conviene
+ * {@code --mix=search:40,availability:40,create:10,approve:5,cancel:5}.
+ */
+public final class ThreadModeComparison {
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions base = LoadTestOptions.parse(args);
+        int[] niveles = niveles(args);
+        boolean virtualDisponible = Runtime.version().feature() >= 21;
+        if (!virtualDisponible) {
+            System.out.printf("Java %s no tiene hilos virtuales: solo se mide el modo platform%n", Runtime.version());
+        }
+        LoadTestApplication.configurarZonaHoraria();
+
+        Map<String, Map<Integer, Map<String, Object>>> resultados = new LinkedHashMap<>();
+        for (boolean virtual : virtualDisponible ? new boolean[]{false, true} : new boolean[]{false}) {
+            String modo = virtual ? "virtual" : "platform";
+            LoadTestOptions options = new LoadTestOptions(base.users(), base.scenarios(), base.reservations(),
+                    base.concurrency(), base.durationSeconds(), base.warmupSeconds(), base.wsClients(),
+                    base.mix(), base.seed(), base.report(), virtual);
+            Map<Integer, Map<String, Object>> porNivel = new LinkedHashMap<>();
+            try (FakeSmtpServer smtp = new FakeSmtpServer();
+                 ConfigurableApplicationContext app = LoadTestApplication.arrancar(smtp, options)) {
+                int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                Dataset dataset = new LoadTestSeeder(app).seed(options);
+                WorkloadRunner runner = new WorkloadRunner(URI.create("http://localhost:" + port), options, dataset);
+                for (int nivel : niveles) {
+                    System.out.printf("%n== %s, %d usuarios concurrentes ==%n", modo, nivel);
+                    Map<Operacion, LoadReport.Resumen> resumen =
+                            LoadReport.resumir(runner.run(nivel), options.durationSeconds());
+                    LoadReport.imprimir(resumen);
+                    porNivel.put(nivel, totales(resumen));
+                }
+            }
+            resultados.put(modo, porNivel);
+        }
+
+        imprimir(resultados, niveles);
+        Map<String, Object> informe = new LinkedHashMap<>(resultados);
+        if (!virtualDisponible) {
+            informe.put("virtual", "no medido: requiere Java 21+ (actual: " + Runtime.version() + ")");
+        }
+        Path archivo = base.report();
+        if (archivo.getParent() != null) {
+            Files.createDirectories(archivo.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(archivo.toFile(), informe);
+        System.out.printf("Informe: %s%n", archivo.toAbsolutePath());
+    }
+
+    private static int[] niveles(String[] args) {
+        return Arrays.stream(args)
+                .filter(arg -> arg.startsWith("--levels="))
+                .findFirst()
+                .map(arg -> Arrays.stream(arg.substring("--levels=".length()).split(","))
+                        .map(String::trim)
+                        .mapToInt(Integer::parseInt)
+                        .toArray())
+                .orElse(new int[]{50, 500, 5000});
+    }
+
+    private static Map<String, Object> totales(Map<Operacion, LoadReport.Resumen> resumen) {
+        long total = 0;
+        long errores = 0;
+        double throughput = 0;
+        double peorP99 = 0;
+        for (LoadReport.Resumen r : resumen.values()) {
+            total += r.total();
+            errores += r.errores();
+            throughput += r.throughputPorSegundo();
+            peorP99 = Math.max(peorP99, r.p99Ms());
+        }
+        Map<String, Object> totales = new LinkedHashMap<>();
+        totales.put("operations", total);
+        totales.put("throughputPerSecond", throughput);
+        totales.put("errorRate", total == 0 ? 0 : 100.0 * errores / total);
+        totales.put("worstP99Ms", peorP99);
+        return totales;
+    }
+
+    private static void imprimir(Map<String, Map<Integer, Map<String, Object>>> resultados, int[] niveles) {
+        System.out.printf("%n%-10s %10s %12s %9s %12s%n", "modo", "usuarios", "ops/s", "error%", "peor p99 ms");
+        List<String> modos = new ArrayList<>(resultados.keySet());
+        for (int nivel : niveles) {
+            for (String modo : modos) {
+                Map<String, Object> t = resultados.get(modo).get(nivel);
+                System.out.printf("%-10s %10d %12.1f %8.2f%% %12.2f%n", modo, nivel,
+                        (double) t.get("throughputPerSecond"), (double) t.get("errorRate"), (double) t.get("worstP99Ms"));
+            }
+        }
+    }
+}
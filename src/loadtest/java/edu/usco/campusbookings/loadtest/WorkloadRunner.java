@@ -0,0 +1,321 @@
+package edu.usco.campusbookings.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.usco.campusbookings.loadtest.LoadTestSeeder.Dataset;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reproduce la mezcla de operaciones contra la API HTTP real con {@code concurrency} usuarios virtuales.
+ * <p>
+ * Cada usuario virtual inicia sesión con una cuenta sembrada y elige la siguiente operación según los pesos
+ * de {@code --mix}. Las aprobaciones usan la cuenta administradora de {@code DataInitializer} sobre reservas
+ * pendientes (sembradas o creadas durante la prueba); las cancelaciones, reservas propias. Las suscripciones
+ * WebSocket se mantienen abiertas hasta {@code --ws-clients} para que las notificaciones de aprobación y
+ * cancelación se entreguen durante la prueba.
+ */
+public class WorkloadRunner {
+
+    private static final String ADMIN_EMAIL = "admin@usco.edu.co";
+    private static final String ADMIN_PASSWORD = "AdminUSCO2024!";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI base;
+    private final LoadTestOptions options;
+    private final Dataset dataset;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Operacion[] ruleta;
+    private final Queue<Long> pendientes;
+    private final Deque<WebSocket> sockets = new ConcurrentLinkedDeque<>();
+    private final AtomicLong notificacionesRecibidas = new AtomicLong();
+    private final Map<Integer, String> sesiones = new ConcurrentHashMap<>();
+    private volatile String adminToken;
+
+    public WorkloadRunner(URI base, LoadTestOptions options, Dataset dataset) {
+        this.base = base;
+        this.options = options;
+        this.dataset = dataset;
+        this.http = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+        this.pendientes = new ConcurrentLinkedQueue<>(dataset.reservasPendientes());
+        List<Operacion> entradas = new ArrayList<>();
+        options.mix().forEach((operacion, peso) -> {
+            for (int i = 0; i < peso; i++) {
+                entradas.add(operacion);
+            }
+        });
+        this.ruleta = entradas.toArray(new Operacion[0]);
+    }
+
+    public long getNotificacionesRecibidas() {
+        return notificacionesRecibidas.get();
+    }
+
+    /**
+     * Ejecuta el calentamiento y la medición; devuelve las muestras de cada usuario virtual
+     */
+    public List<LoadReport.Muestras> run() throws Exception {
+        return run(options.concurrency());
+    }
+
+    /**
+     * Como {@link #run()} con otra cantidad de usuarios virtuales; las sesiones iniciadas en una corrida
+     * anterior se reutilizan, así varias corridas seguidas no repiten los inicios de sesión (BCrypt)
+     */
+    public List<LoadReport.Muestras> run(int concurrency) throws Exception {
+        if (adminToken == null) {
+            adminToken = login(ADMIN_EMAIL, ADMIN_PASSWORD);
+        }
+        long inicioMedicion = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long fin = inicioMedicion + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<LoadReport.Muestras> muestras = new ArrayList<>();
+        List<CompletableFuture<Void>> tareas = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            LoadReport.Muestras propias = new LoadReport.Muestras();
+            muestras.add(propias);
+            int usuario = i % dataset.emails().size();
+            long semilla = options.seed() + i;
+            tareas.add(CompletableFuture.runAsync(
+                    () -> new UsuarioVirtual(usuario, semilla, propias).ejecutar(inicioMedicion, fin), workers));
+        }
+        CompletableFuture.allOf(tareas.toArray(new CompletableFuture<?>[0])).join();
+        workers.shutdown();
+        cerrarSockets();
+        return muestras;
+    }
+
+    private void cerrarSockets() {
+        WebSocket socket;
+        while ((socket = sockets.poll()) != null) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "fin").exceptionally(e -> null);
+        }
+    }
+
+    private String login(String email, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = enviar(post("/api/auth/authenticate",
+                Map.of("email", email, "password", password), null));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login fallido para " + email + ": " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("token").asText();
+    }
+
+    private HttpRequest post(String path, Object body, String token) throws IOException {
+        return request(path, token)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> enviar(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Un usuario virtual: su sesión, su generador y las reservas propias que puede cancelar
+     */
+    private final class UsuarioVirtual {
+
+        private final int usuario;
+        private final SplittableRandom random;
+        private final LoadReport.Muestras muestras;
+        private final Deque<Long> propias = new ArrayDeque<>();
+        private String token;
+
+        UsuarioVirtual(int usuario, long semilla, LoadReport.Muestras muestras) {
+            this.usuario = usuario;
+            this.random = new SplittableRandom(semilla);
+            this.muestras = muestras;
+        }
+
+        void ejecutar(long inicioMedicion, long fin) {
+            token = sesiones.computeIfAbsent(usuario, u -> {
+                try {
+                    return login(dataset.emails().get(u), LoadTestSeeder.PASSWORD);
+                } catch (Exception e) {
+                    throw new IllegalStateException("No se pudo iniciar la sesión del usuario virtual", e);
+                }
+            });
+            while (System.nanoTime() < fin) {
+                Operacion operacion = ruleta[random.nextInt(ruleta.length)];
+                long inicio = System.nanoTime();
+                int status;
+                try {
+                    status = ejecutar(operacion);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    status = 0;
+                }
+                // -1: la operación no tenía sobre qué actuar (sin reservas pendientes o propias)
+                if (status >= 0 && inicio >= inicioMedicion) {
+                    muestras.registrar(operacion, System.nanoTime() - inicio, status);
+                }
+            }
+        }
+
+        private int ejecutar(Operacion operacion) throws Exception {
+            return switch (operacion) {
+                case LOGIN -> renovarSesion();
+                case SEARCH -> buscar();
+                case AVAILABILITY -> verificarDisponibilidad();
+                case CREATE -> crear();
+                case APPROVE -> aprobar();
+                case CANCEL -> cancelar();
+                case WEBSOCKET -> suscribir();
+            };
+        }
+
+        private int renovarSesion() throws Exception {
+            HttpResponse<String> response = enviar(post("/api/auth/authenticate",
+                    Map.of("email", dataset.emails().get(usuario), "password", LoadTestSeeder.PASSWORD), null));
+            if (response.statusCode() == 200) {
+                token = objectMapper.readTree(response.body()).path("token").asText();
+                sesiones.put(usuario, token);
+            }
+            return response.statusCode();
+        }
+
+        private int buscar() throws Exception {
+            String nombre = dataset.nombresEscenario().get(random.nextInt(dataset.nombresEscenario().size()));
+            String termino = nombre.substring(0, Math.min(nombre.length(), 3 + random.nextInt(6)));
+            return enviar(request("/api/escenarios/buscar?nombre=" + URLEncoder.encode(termino, StandardCharsets.UTF_8), token)
+                    .GET().build()).statusCode();
+        }
+
+        private int verificarDisponibilidad() throws Exception {
+            return enviar(post("/api/reservas/verificar-disponibilidad", franjaFutura(), token)).statusCode();
+        }
+
+        private int crear() throws Exception {
+            Map<String, Object> body = franjaFutura();
+            body.put("observaciones", "Prueba de carga");
+            HttpResponse<String> response = enviar(post("/api/reservas", body, token));
+            if (response.statusCode() == 200) {
+                long id = objectMapper.readTree(response.body()).path("id").asLong();
+                propias.push(id);
+                pendientes.add(id);
+            }
+            return response.statusCode();
+        }
+
+        private int aprobar() throws Exception {
+            Long id = pendientes.poll();
+            if (id == null) {
+                return -1;
+            }
+            return enviar(request("/api/reservas/" + id + "/aprobar", adminToken)
+                    .PUT(HttpRequest.BodyPublishers.noBody()).build()).statusCode();
+        }
+
+        private int cancelar() throws Exception {
+            Long id = propias.poll();
+            if (id == null) {
+                return -1;
+            }
+            return enviar(request("/api/reservas/" + id + "/cancelar", token)
+                    .PUT(HttpRequest.BodyPublishers.noBody()).build()).statusCode();
+        }
+
+        /**
+         * Abre una sesión WebSocket, envía CONNECT y espera la confirmación; la sesión queda abierta
+         * y, al superar {@code --ws-clients}, se cierra la más antigua
+         */
+        private int suscribir() throws Exception {
+            CompletableFuture<String> confirmacion = new CompletableFuture<>();
+            // El handshake exige el JWT (JwtHandshakeInterceptor)
+            URI uri = URI.create(base.toString().replaceFirst("^http", "ws"))
+                    .resolve("/ws/notifications?token=" + URLEncoder.encode(token, StandardCharsets.UTF_8));
+            WebSocket socket = http.newWebSocketBuilder()
+                    .connectTimeout(TIMEOUT)
+                    .buildAsync(uri, new WebSocket.Listener() {
+                        private final StringBuilder buffer = new StringBuilder();
+
+                        @Override
+                        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+                            buffer.append(data);
+                            if (last) {
+                                if (!confirmacion.complete(buffer.toString())) {
+                                    notificacionesRecibidas.incrementAndGet();
+                                }
+                                buffer.setLength(0);
+                            }
+                            webSocket.request(1);
+                            return null;
+                        }
+
+                        @Override
+                        public void onError(WebSocket webSocket, Throwable error) {
+                            confirmacion.completeExceptionally(error);
+                        }
+                    })
+                    .get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            socket.sendText(objectMapper.writeValueAsString(Map.of(
+                    "type", "CONNECT", "userId", dataset.usuarioIds().get(usuario))), true);
+            JsonNode respuesta = objectMapper.readTree(confirmacion.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+            sockets.add(socket);
+            while (sockets.size() > options.wsClients()) {
+                WebSocket antiguo = sockets.poll();
+                if (antiguo != null) {
+                    antiguo.sendClose(WebSocket.NORMAL_CLOSURE, "rotacion").exceptionally(e -> null);
+                }
+            }
+            return respuesta.path("success").asBoolean(true) ? 200 : 400;
+        }
+
+        /**
+         * Franja de 1 a 3 horas entre 2 y 29 días adelante (la API acepta hasta 30), de 7:00 a 19:00
+         */
+        private Map<String, Object> franjaFutura() {
+            LocalDateTime inicio = LocalDate.now()
+                    .plusDays(2 + random.nextInt(28))
+                    .atTime(7 + random.nextInt(10), random.nextBoolean() ? 0 : 30);
+            Map<String, Object> body = new HashMap<>();
+            body.put("escenarioId", dataset.escenarioIds().get(random.nextInt(dataset.escenarioIds().size())));
+            body.put("fechaInicio", inicio.toString());
+            body.put("fechaFin", inicio.plusHours(1 + random.nextInt(3)).toString());
+            return body;
+        }
+    }
+}
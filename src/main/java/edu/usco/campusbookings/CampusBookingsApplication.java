@@ -2,6 +2,8 @@ package edu.usco.campusbookings;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 import java.util.TimeZone;
@@ -10,11 +12,25 @@ import java.util.TimeZone;
 @EnableJpaAuditing(auditorAwareRef = "auditorAwareImpl")
 public class CampusBookingsApplication {
 
+    /**
+     * Pasos de arranque retenidos para {@code /actuator/startup}; 0 desactiva el registro
+     */
+    private static final int DEFAULT_STARTUP_TIMELINE_CAPACITY = 2048;
+
     public static void main(String[] args) {
         // Configurar zona horaria antes de iniciar la aplicación
         System.setProperty("user.timezone", "America/Bogota");
         TimeZone.setDefault(TimeZone.getTimeZone("America/Bogota"));
         
-        SpringApplication.run(CampusBookingsApplication.class, args);
+        SpringApplication application = new SpringApplication(CampusBookingsApplication.class);
+        application.setApplicationStartup(startupTimeline(System.getenv("STARTUP_TIMELINE_CAPACITY")));
+        application.run(args);
+    }
+
+    static ApplicationStartup startupTimeline(String capacity) {
+        int eventos = capacity == null || capacity.isBlank()
+                ? DEFAULT_STARTUP_TIMELINE_CAPACITY
+                : Integer.parseInt(capacity.trim());
+        return eventos > 0 ? new BufferingApplicationStartup(eventos) : ApplicationStartup.DEFAULT;
     }
 }
@@ -0,0 +1,37 @@
+package edu.usco.campusbookings.application.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Notificación ya serializada que viaja por el {@code NotificationBus} entre nodos.
+ * El payload es el JSON final que recibe el cliente, así cada nodo lo reenvía sin volver a serializar.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationEnvelope {
+
+    public static final String ADMIN_GROUP = "ADMIN";
+
+    private Target target;
+    private Long userId;   // Para target USER
+    private String group;  // Para target GROUP (ADMIN, ROLE_*, ...)
+    private String payload;
+
+    public enum Target {
+        USER,
+        GROUP
+    }
+
+    public static NotificationEnvelope toUser(Long userId, String payload) {
+        return new NotificationEnvelope(Target.USER, userId, null, payload);
+    }
+
+    public static NotificationEnvelope toGroup(String group, String payload) {
+        return new NotificationEnvelope(Target.GROUP, null, group, payload);
+    }
+}
@@ -25,6 +25,7 @@ public class ReservaNotificationDto {
     private LocalDateTime fechaFin;
     private LocalDateTime timestamp;
     private NotificationType tipo;
+    private Long secuencia; // Posición en la bandeja del usuario (cursor de reenvío); null en difusiones
     
     public enum NotificationType {
         RESERVA_APROBADA,
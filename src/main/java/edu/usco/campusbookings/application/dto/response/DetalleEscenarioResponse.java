@@ -3,6 +3,7 @@ package edu.usco.campusbookings.application.dto.response;
 import lombok.Data;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 public class DetalleEscenarioResponse {
@@ -14,5 +15,6 @@ public class DetalleEscenarioResponse {
     private String descripcion;
     private String recursos;
     private String imagenUrl;
+    private Map<String, String> imagenVariantes;
     private List<String> horariosDisponibles;
 }
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 /**
  * DTO de respuesta para consulta de disponibilidad de escenarios.
  * Usado para listar escenarios y su estado de disponibilidad general.
@@ -54,4 +56,9 @@ public class EscenarioDisponibilidadResponse {
      * URL de la imagen del escenario
      */
     private String imagenUrl;
+    
+    /**
+     * URLs de las variantes de tamaño de la imagen (thumb, card, full)
+     */
+    private Map<String, String> imagenVariantes;
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import lombok.Builder;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DTO para respuestas de escenarios.
@@ -39,6 +40,9 @@ public class EscenarioResponse {
     
     private String imagenUrl;
     
+    // URLs de las variantes de tamaño (thumb, card, full); vacío si la imagen no tiene variantes
+    private Map<String, String> imagenVariantes;
+    
     private LocalTime horarioApertura;
     
     private LocalTime horarioCierre;
@@ -0,0 +1,15 @@
+package edu.usco.campusbookings.application.exception;
+
+public class LoginBloqueadoException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginBloqueadoException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -3,6 +3,7 @@ package edu.usco.campusbookings.application.mapper;
 import edu.usco.campusbookings.application.dto.request.EscenarioRequest;
 import edu.usco.campusbookings.application.dto.response.DetalleEscenarioResponse;
 import edu.usco.campusbookings.application.dto.response.EscenarioResponse;
+import edu.usco.campusbookings.application.util.ImagenVarianteUtil;
 import edu.usco.campusbookings.domain.model.Escenario;
 import edu.usco.campusbookings.domain.model.HorarioDisponible;
 import edu.usco.campusbookings.domain.model.TipoEscenario;
@@ -12,6 +13,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Mapper interface for converting between Escenario entities and DTOs.
@@ -96,6 +98,7 @@ public interface EscenarioMapper {
     @Mapping(target = "horariosDisponibles", ignore = true)
     @Mapping(target = "reservas", ignore = true)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "imagenMetadata", ignore = true)
     Escenario toEntity(EscenarioRequest dto);
 
     /**
@@ -114,6 +117,7 @@ public interface EscenarioMapper {
     @Mapping(target = "fechaActualizacion", ignore = true)
     @Mapping(target = "creadoPor", ignore = true)
     @Mapping(target = "actualizadoPor", ignore = true)
+    @Mapping(target = "imagenVariantes", source = ".", qualifiedByName = "toImagenVariantes")
     EscenarioResponse toDto(Escenario escenario);
 
     /**
@@ -128,6 +132,7 @@ public interface EscenarioMapper {
     @Mapping(source = "capacidad", target = "capacidad")
     @Mapping(source = "descripcion", target = "descripcion")
     @Mapping(source = "imagenUrl", target = "imagenUrl")
+    @Mapping(target = "imagenVariantes", source = ".", qualifiedByName = "toImagenVariantes")
     @Mapping(source = "recursos", target = "recursos")
     @Mapping(source = "tipo.nombre", target = "tipo")
     @Mapping(source = "ubicacion.nombre", target = "ubicacion")
@@ -135,6 +140,17 @@ public interface EscenarioMapper {
     @Mapping(target = "nombre", source = "nombre")
     DetalleEscenarioResponse toDetalleResponse(Escenario escenario);
 
+    /**
+     * URLs de las variantes de tamaño de la imagen del escenario, indexadas por tamaño.
+     *
+     * @param escenario the Escenario entity
+     * @return las URLs por variante, vacío si la imagen no tiene variantes
+     */
+    @Named("toImagenVariantes")
+    default Map<String, String> toImagenVariantes(Escenario escenario) {
+        return ImagenVarianteUtil.urls(escenario);
+    }
+
     @Named("toHorariosString")
     default List<String> toHorariosString(List<HorarioDisponible> horarios) {
         return horarios.stream()
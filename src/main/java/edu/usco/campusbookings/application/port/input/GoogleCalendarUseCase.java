@@ -36,7 +36,7 @@ public interface GoogleCalendarUseCase {
     String syncReservationWithCalendar(Reserva reserva);
     
     /**
-     * Elimina un evento de Google Calendar
+     * Encola la eliminación de un evento del calendario del usuario actual
      */
     void deleteEventFromCalendar(String eventId);
     
@@ -0,0 +1,38 @@
+package edu.usco.campusbookings.application.port.input;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Casos de uso de la bandeja de notificaciones persistente.
+ */
+public interface NotificacionInboxUseCase {
+
+    /**
+     * Agrega una notificación a la bandeja del usuario en su propia transacción
+     *
+     * @param serializar recibe la secuencia asignada y devuelve el JSON final a guardar y enviar
+     * @return el JSON guardado
+     */
+    String registrar(Long usuarioId, String tipo, LongFunction<String> serializar);
+
+    /**
+     * Notificaciones (JSON ya serializado) con secuencia mayor a {@code desdeSecuencia}
+     */
+    List<String> obtenerDesde(Long usuarioId, long desdeSecuencia, int limite);
+
+    /**
+     * Número de notificaciones no leídas, sin recorrer la tabla de notificaciones
+     */
+    long contarNoLeidas(Long usuarioId);
+
+    /**
+     * Última secuencia asignada al usuario (0 si nunca recibió notificaciones)
+     */
+    long obtenerUltimaSecuencia(Long usuarioId);
+
+    /**
+     * Marca como leídas todas las notificaciones hasta la secuencia indicada
+     */
+    void marcarLeidasHasta(Long usuarioId, long hastaSecuencia);
+}
@@ -47,4 +47,12 @@ public interface EscenarioRepositoryPort {
      * @param id the id of the Escenario
      */
     void deleteById(Long id);
+
+    /**
+     * Count the escenarios that use an image (reference count of the stored image).
+     *
+     * @param imagenUrl the image URL
+     * @return the number of escenarios whose imagenUrl is the given URL
+     */
+    long countByImagenUrl(String imagenUrl);
 }
\ No newline at end of file
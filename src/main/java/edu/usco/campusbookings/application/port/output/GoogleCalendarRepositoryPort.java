@@ -2,6 +2,7 @@ package edu.usco.campusbookings.application.port.output;
 
 import edu.usco.campusbookings.domain.model.Usuario;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,4 +24,14 @@ public interface GoogleCalendarRepositoryPort {
      * Desconecta Google Calendar del usuario (limpia los tokens)
      */
     Usuario disconnectGoogleCalendar(Long userId);
+
+    /**
+     * Usuarios con Google Calendar conectado, para la sincronización incremental
+     */
+    List<Usuario> findConnectedUsers();
+
+    /**
+     * Guarda el token de sincronización incremental del usuario (null fuerza una sincronización completa)
+     */
+    void updateSyncToken(Long userId, String syncToken);
 }
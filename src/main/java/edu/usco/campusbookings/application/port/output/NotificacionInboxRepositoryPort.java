@@ -0,0 +1,37 @@
+package edu.usco.campusbookings.application.port.output;
+
+import edu.usco.campusbookings.domain.model.NotificacionCursor;
+import edu.usco.campusbookings.domain.model.NotificacionInbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de persistencia de la bandeja de notificaciones por usuario.
+ */
+public interface NotificacionInboxRepositoryPort {
+
+    /**
+     * Reserva la siguiente secuencia del usuario. Mantiene bloqueado su cursor hasta el commit.
+     *
+     * @param usuarioId ID del usuario
+     * @return la secuencia asignada
+     */
+    long siguienteSecuencia(Long usuarioId);
+
+    NotificacionInbox save(NotificacionInbox notificacion);
+
+    /**
+     * Payloads con secuencia mayor a {@code desde}, en orden ascendente
+     */
+    List<String> findPayloadsDesde(Long usuarioId, long desde, int limite);
+
+    Optional<NotificacionCursor> findCursor(Long usuarioId);
+
+    void marcarLeidasHasta(Long usuarioId, long hasta);
+
+    int deleteAnterioresA(LocalDateTime fechaLimite);
+
+    int deleteExcedentePorUsuario(long maxPorUsuario);
+}
@@ -0,0 +1,27 @@
+package edu.usco.campusbookings.application.port.output;
+
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+
+import java.util.function.Consumer;
+
+/**
+ * Bus de notificaciones entre nodos de la aplicación.
+ * Todo lo publicado llega a los suscriptores de cada nodo, y cada nodo
+ * entrega solo a las sesiones WebSocket que mantiene abiertas.
+ */
+public interface NotificationBus {
+
+    /**
+     * Publica una notificación para todos los nodos.
+     *
+     * @param envelope notificación serializada y su destino
+     */
+    void publish(NotificationEnvelope envelope);
+
+    /**
+     * Registra un suscriptor local que recibirá las notificaciones publicadas por cualquier nodo.
+     *
+     * @param subscriber consumidor invocado por cada notificación recibida
+     */
+    void subscribe(Consumer<NotificationEnvelope> subscriber);
+}
@@ -0,0 +1,18 @@
+package edu.usco.campusbookings.application.port.output;
+
+/**
+ * Invalidación de las decisiones de permisos precalculadas.
+ * Las invalidaciones dentro de una transacción se aplican al confirmarla.
+ */
+public interface PermissionCachePort {
+
+    /**
+     * Descarta los permisos compilados de todos los roles (cambio de rol o de permiso)
+     */
+    void invalidateRoles();
+
+    /**
+     * Descarta el rol y los permisos por tipo de escenario cacheados para el usuario
+     */
+    void invalidateUser(String email);
+}
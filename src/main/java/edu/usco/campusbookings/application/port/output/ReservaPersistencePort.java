@@ -4,8 +4,11 @@ import edu.usco.campusbookings.domain.model.Escenario;
 import edu.usco.campusbookings.domain.model.EstadoReserva;
 import edu.usco.campusbookings.domain.model.Reserva;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ReservaPersistencePort {
     Reserva save(Reserva reserva);
@@ -40,6 +43,18 @@ public interface ReservaPersistencePort {
             String estadoNombre
     );
     
+    /**
+     * Versión por lotes de {@link #existsByEscenarioIdAndFechaInicioBetweenAndEstadoNombre}: una sola consulta
+     * para todos los escenarios.
+     * @return IDs de los escenarios con alguna reserva en ese estado que se cruza con el rango
+     */
+    Set<Long> findEscenarioIdsConReservaEnRango(
+            Collection<Long> escenarioIds,
+            LocalDateTime fechaInicio,
+            LocalDateTime fechaFin,
+            String estadoNombre
+    );
+
     void deleteById(Long id);
     boolean existsById(Long id);
     List<Reserva> findAll();
@@ -70,4 +85,24 @@ public interface ReservaPersistencePort {
      * @return Lista de reservas en el rango especificado
      */
     List<Reserva> findByEscenarioIdAndFechaRange(Long escenarioId, LocalDateTime fechaInicio, LocalDateTime fechaFin);
+
+    /**
+     * Carga reservas por ID junto con su usuario, escenario y estado en una sola consulta.
+     * @param ids IDs de las reservas
+     * @return Reservas encontradas (las inexistentes se omiten)
+     */
+    List<Reserva> findAllByIdWithDetalles(Collection<Long> ids);
+
+    /**
+     * Actualiza el ID de evento de Google Calendar de varias reservas en un único batch JDBC.
+     * @param eventIdsPorReserva ID de reserva -> ID de evento (null lo limpia)
+     */
+    void updateGoogleCalendarEventIds(Map<Long, String> eventIdsPorReserva);
+
+    /**
+     * Carga, con usuario, escenario y estado, las reservas vinculadas a alguno de los eventos de Google Calendar.
+     * @param eventIds IDs de evento de Google Calendar
+     * @return Reservas vinculadas
+     */
+    List<Reserva> findAllByGoogleCalendarEventIdIn(Collection<String> eventIds);
 }
@@ -90,4 +90,20 @@ public interface UsuarioRepositoryPort {
 	 * @return list of usuarios with the specified role
 	 */
 	List<Usuario> findByRolId(Long roleId);
-}
\ No newline at end of file
+
+	/**
+	 * Find the current token version of a Usuario.
+	 *
+	 * @param id the id of the Usuario
+	 * @return the token version (0 if never incremented), optional empty if the Usuario does not exist
+	 */
+	Optional<Long> findTokenVersionById(Long id);
+
+	/**
+	 * Increment the token version of every Usuario with the specified role.
+	 *
+	 * @param roleId the role ID
+	 * @return number of usuarios affected
+	 */
+	int incrementTokenVersionByRolId(Long roleId);
+}
@@ -28,6 +28,7 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final LoginAttemptService loginAttemptService;
 
     public AuthenticationResponse register(RegisterRequest request) {
         // Buscar rol por defecto "USER"
@@ -61,6 +62,7 @@ public class AuthenticationService {
         extraClaims.put("nombre", usuario.getNombre());
         extraClaims.put("apellido", usuario.getApellido());
         extraClaims.put("rol", roleName);
+        extraClaims.put(JwtService.TOKEN_VERSION_CLAIM, usuario.getTokenVersion() != null ? usuario.getTokenVersion() : 0L);
         
         String jwtToken = jwtService.generateToken(extraClaims, userDetails);
 
@@ -75,16 +77,27 @@ public class AuthenticationService {
     }
 
     public AuthenticationResponse authenticate(AuthenticationRequest request) {
+        return authenticate(request, null);
+    }
+
+    /**
+     * Autentica aplicando el bloqueo por intentos fallidos del email y de la IP de origen.
+     * Un intento bloqueado se rechaza antes de consultar la BD o comparar el hash BCrypt.
+     */
+    public AuthenticationResponse authenticate(AuthenticationRequest request, String clientIp) {
         log.info("Iniciando autenticación para email: {}", request.getEmail());
-        
+
+        loginAttemptService.verificarPermitido(request.getEmail(), clientIp);
+
+        Usuario usuario;
         try {
             // Verificar si el usuario existe antes de intentar autenticar
-            var usuarioCheck = usuarioService.findByEmail(request.getEmail());
-            log.info("Usuario encontrado: {}, Rol: {}", usuarioCheck.getEmail(), 
-                    usuarioCheck.getRol() != null ? usuarioCheck.getRol().getNombre() : "null");
+            usuario = usuarioService.findByEmail(request.getEmail());
+            log.info("Usuario encontrado: {}, Rol: {}", usuario.getEmail(),
+                    usuario.getRol() != null ? usuario.getRol().getNombre() : "null");
             
             // Verificar que el usuario tiene rol asignado
-            if (usuarioCheck.getRol() == null) {
+            if (usuario.getRol() == null) {
                 log.error("Usuario {} no tiene rol asignado", request.getEmail());
                 throw new RuntimeException("Usuario sin rol asignado");
             }
@@ -98,12 +111,13 @@ public class AuthenticationService {
             
             log.info("Autenticación exitosa para: {}", request.getEmail());
         } catch (Exception e) {
+            loginAttemptService.registrarFallo(request.getEmail(), clientIp);
             log.error("Error en autenticación para {}: {}", request.getEmail(), e.getMessage(), e);
             throw e;
         }
 
-        var usuario = usuarioService.findByEmail(request.getEmail());
-        
+        loginAttemptService.registrarExito(request.getEmail());
+
         // Usar el rol real del usuario
         String roleName = usuario.getRol() != null ? usuario.getRol().getNombre() : "USER";
         String springRole = "ADMIN".equals(roleName) ? "ADMIN" : "USER";
@@ -121,6 +135,7 @@ public class AuthenticationService {
         extraClaims.put("nombre", usuario.getNombre());
         extraClaims.put("apellido", usuario.getApellido());
         extraClaims.put("rol", roleName);
+        extraClaims.put(JwtService.TOKEN_VERSION_CLAIM, usuario.getTokenVersion() != null ? usuario.getTokenVersion() : 0L);
         
         String jwtToken = jwtService.generateToken(extraClaims, userDetails);
 
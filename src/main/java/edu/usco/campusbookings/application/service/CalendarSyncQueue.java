@@ -0,0 +1,511 @@
+package edu.usco.campusbookings.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+import edu.usco.campusbookings.application.port.output.GoogleCalendarRepositoryPort;
+import edu.usco.campusbookings.application.port.output.NotificationBus;
+import edu.usco.campusbookings.application.port.output.ReservaPersistencePort;
+import edu.usco.campusbookings.application.util.GoogleCalendarEventUtil;
+import edu.usco.campusbookings.domain.model.Reserva;
+import edu.usco.campusbookings.domain.model.Usuario;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cola de sincronización con Google Calendar procesada en segundo plano.
+ * <p>
+ * Las reservas se encolan al confirmar la transacción y un worker programado las agrupa por usuario en
+ * batch requests de la API (hasta {@code google.calendar.sync.batch-size} operaciones por llamada HTTP).
+ * Los IDs de evento resultantes se escriben en un único batch JDBC. Los errores de cuota y 5xx se reintentan
+ * con backoff exponencial, y el avance se publica al usuario por WebSocket.
+ * <p>
+ * La cola vive en memoria: si el nodo se reinicia, lo pendiente se recupera con la sincronización masiva.
+ */
+@Slf4j
+@Service
+public class CalendarSyncQueue {
+
+    public static final String PROGRESS_TYPE = "CALENDAR_SYNC_PROGRESS";
+    private static final String CALENDAR_ID = "primary";
+    private static final Set<String> QUOTA_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded", "quotaExceeded");
+    private static final Set<String> ESTADOS_SIN_EVENTO = Set.of("CANCELADA", "RECHAZADA");
+
+    enum Operacion {
+        UPSERT,
+        DELETE
+    }
+
+    /**
+     * Operación pendiente; solo guarda IDs para leer el estado vigente de la reserva al procesarla
+     */
+    record CalendarSyncTask(Long usuarioId, Long reservaId, Operacion operacion, String eventId,
+                            int intentos, long disponibleEnNanos) implements Delayed {
+
+        /**
+         * Identifica el destino de la operación: un DELETE apunta a su evento (la reserva ya puede tener
+         * otro) y un UPSERT a la reserva
+         */
+        String clave() {
+            if (operacion == Operacion.DELETE && eventId != null) {
+                return "e:" + eventId;
+            }
+            return reservaId != null ? "r:" + reservaId : "e:" + eventId;
+        }
+
+        CalendarSyncTask reintento(long esperaMillis) {
+            return new CalendarSyncTask(usuarioId, reservaId, operacion, eventId, intentos + 1,
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaMillis));
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(disponibleEnNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * Avance de la sincronización de un usuario, publicado tras cada lote
+     */
+    private static final class SyncProgress {
+        private int total;
+        private int sincronizadas;
+        private int errores;
+
+        synchronized void agregar(int cantidad) {
+            total += cantidad;
+        }
+
+        synchronized void registrar(int exitos, int fallos) {
+            sincronizadas += exitos;
+            errores += fallos;
+        }
+
+        synchronized Map<String, Object> snapshot() {
+            Map<String, Object> frame = new LinkedHashMap<>();
+            frame.put("type", PROGRESS_TYPE);
+            frame.put("total", total);
+            frame.put("sincronizadas", sincronizadas);
+            frame.put("errores", errores);
+            frame.put("pendientes", pendientes());
+            frame.put("completado", pendientes() == 0);
+            return frame;
+        }
+
+        synchronized int pendientes() {
+            return total - sincronizadas - errores;
+        }
+    }
+
+    private final GoogleCalendarClientCache calendarClientCache;
+    private final ReservaPersistencePort reservaPersistencePort;
+    private final GoogleCalendarRepositoryPort googleCalendarRepositoryPort;
+    private final NotificationBus notificationBus;
+    private final ObjectMapper objectMapper;
+    private final Executor calendarExecutor;
+    private final int batchSize;
+    private final int maxIntentos;
+    private final long backoffInicialMillis;
+    private final long backoffMaximoMillis;
+    private final long drenadoTimeoutMillis;
+
+    private final DelayQueue<CalendarSyncTask> cola = new DelayQueue<>();
+    private final Map<Long, SyncProgress> progreso = new ConcurrentHashMap<>();
+    private final Set<Long> enProceso = ConcurrentHashMap.newKeySet();
+
+    public CalendarSyncQueue(GoogleCalendarClientCache calendarClientCache,
+                             ReservaPersistencePort reservaPersistencePort,
+                             GoogleCalendarRepositoryPort googleCalendarRepositoryPort,
+                             NotificationBus notificationBus,
+                             ObjectMapper objectMapper,
+                             @Qualifier("calendarExecutor") Executor calendarExecutor,
+                             @Value("${google.calendar.sync.batch-size:50}") int batchSize,
+                             @Value("${google.calendar.sync.max-retries:5}") int maxIntentos,
+                             @Value("${google.calendar.sync.backoff-initial-ms:1000}") long backoffInicialMillis,
+                             @Value("${google.calendar.sync.backoff-max-ms:60000}") long backoffMaximoMillis,
+                             @Value("${google.calendar.sync.drain-timeout-ms:120000}") long drenadoTimeoutMillis) {
+        this.calendarClientCache = calendarClientCache;
+        this.reservaPersistencePort = reservaPersistencePort;
+        this.googleCalendarRepositoryPort = googleCalendarRepositoryPort;
+        this.notificationBus = notificationBus;
+        this.objectMapper = objectMapper;
+        this.calendarExecutor = calendarExecutor;
+        // La API de Google admite hasta 50 llamadas por batch
+        this.batchSize = Math.max(1, Math.min(50, batchSize));
+        this.maxIntentos = maxIntentos;
+        this.backoffInicialMillis = backoffInicialMillis;
+        this.backoffMaximoMillis = backoffMaximoMillis;
+        this.drenadoTimeoutMillis = drenadoTimeoutMillis;
+    }
+
+    /**
+     * Encola la creación o actualización del evento de la reserva si su usuario tiene Google Calendar conectado
+     */
+    public void encolarSincronizacion(Reserva reserva) {
+        if (!conectado(reserva.getUsuario())) {
+            return;
+        }
+        encolar(List.of(new CalendarSyncTask(reserva.getUsuario().getId(), reserva.getId(),
+                Operacion.UPSERT, null, 0, 0)));
+    }
+
+    /**
+     * Encola la eliminación del evento actual de la reserva; el llamador limpia el ID en la reserva
+     */
+    public void encolarEliminacion(Reserva reserva) {
+        if (reserva.getGoogleCalendarEventId() == null || !conectado(reserva.getUsuario())) {
+            return;
+        }
+        encolar(List.of(new CalendarSyncTask(reserva.getUsuario().getId(), reserva.getId(),
+                Operacion.DELETE, reserva.getGoogleCalendarEventId(), 0, 0)));
+    }
+
+    /**
+     * Encola la eliminación de un evento del calendario del usuario sin reserva asociada
+     */
+    public void encolarEliminacionEvento(Long usuarioId, String eventId) {
+        encolar(List.of(new CalendarSyncTask(usuarioId, null, Operacion.DELETE, eventId, 0, 0)));
+    }
+
+    /**
+     * Encola la sincronización de varias reservas de un usuario
+     *
+     * @return cantidad de operaciones encoladas
+     */
+    public int encolarSincronizacionMasiva(Long usuarioId, List<Long> reservaIds) {
+        encolar(reservaIds.stream()
+                .map(reservaId -> new CalendarSyncTask(usuarioId, reservaId, Operacion.UPSERT, null, 0, 0))
+                .toList());
+        return reservaIds.size();
+    }
+
+    /**
+     * Operaciones aún no procesadas (incluye las que esperan un reintento)
+     */
+    public int pendientes() {
+        return cola.size();
+    }
+
+    private static boolean conectado(Usuario usuario) {
+        return usuario != null && Boolean.TRUE.equals(usuario.getGoogleCalendarConnected());
+    }
+
+    /**
+     * Encola al confirmar la transacción para que el worker lea la reserva ya persistida
+     */
+    private void encolar(List<CalendarSyncTask> tareas) {
+        if (tareas.isEmpty()) {
+            return;
+        }
+        Runnable action = () -> {
+            tareas.forEach(tarea -> progreso.computeIfAbsent(tarea.usuarioId(), id -> new SyncProgress()).agregar(1));
+            cola.addAll(tareas);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Vacía las operaciones disponibles, agrupadas por usuario y en lotes del tamaño de un batch de la API.
+     * Los usuarios se procesan en paralelo en el pool de calendario y el siguiente drenado espera a que
+     * terminen, como mucho {@code google.calendar.sync.drain-timeout-ms}. Las operaciones de un usuario que
+     * sigue en proceso vuelven a la cola, así nunca se procesan dos veces a la vez.
+     */
+    @Scheduled(fixedDelayString = "${google.calendar.sync.drain-interval-ms:1000}")
+    public void procesarPendientes() {
+        List<CalendarSyncTask> disponibles = new ArrayList<>();
+        cola.drainTo(disponibles);
+        if (disponibles.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<CalendarSyncTask>> porUsuario = disponibles.stream()
+                .collect(Collectors.groupingBy(CalendarSyncTask::usuarioId, LinkedHashMap::new, Collectors.toList()));
+        List<CompletableFuture<Void>> usuarios = new ArrayList<>();
+        porUsuario.forEach((usuarioId, pendientes) -> {
+            if (!enProceso.add(usuarioId)) {
+                cola.addAll(pendientes);
+                return;
+            }
+            usuarios.add(CompletableFuture.runAsync(() -> {
+                try {
+                    procesarUsuarioCoalescido(usuarioId, pendientes);
+                } finally {
+                    enProceso.remove(usuarioId);
+                }
+            }, calendarExecutor));
+        });
+        esperar(usuarios);
+    }
+
+    private void procesarUsuarioCoalescido(Long usuarioId, List<CalendarSyncTask> pendientes) {
+        SyncProgress progress = progreso.computeIfAbsent(usuarioId, id -> new SyncProgress());
+        List<CalendarSyncTask> tareas = coalescer(pendientes);
+        // Las operaciones sustituidas por una posterior de la misma reserva cuentan como resueltas;
+        // si el usuario falla, solo se reintentan las que quedaron tras coalescer
+        progress.registrar(pendientes.size() - tareas.size(), 0);
+        try {
+            procesarUsuario(usuarioId, tareas, progress);
+        } catch (Exception e) {
+            log.error("Error procesando la sincronización de Google Calendar del usuario {}", usuarioId, e);
+            reintentarOFallar(usuarioId, tareas, calcularEspera(tareas.get(0).intentos(), null));
+        }
+    }
+
+    private void esperar(List<CompletableFuture<Void>> usuarios) {
+        try {
+            CompletableFuture.allOf(usuarios.toArray(new CompletableFuture<?>[0]))
+                    .get(drenadoTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("La sincronización de Google Calendar superó {} ms; los usuarios aún en proceso se retoman al terminar",
+                    drenadoTimeoutMillis);
+        } catch (ExecutionException e) {
+            log.error("Error inesperado en el drenado de la cola de Google Calendar", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Si un destino tiene varias operaciones en cola, solo importa la última. El DELETE del evento anterior
+     * de una reserva y un UPSERT posterior tienen destinos distintos, así el evento viejo no queda huérfano
+     */
+    private static List<CalendarSyncTask> coalescer(List<CalendarSyncTask> tareas) {
+        Map<String, CalendarSyncTask> ultima = new LinkedHashMap<>();
+        for (CalendarSyncTask tarea : tareas) {
+            ultima.remove(tarea.clave());
+            ultima.put(tarea.clave(), tarea);
+        }
+        return new ArrayList<>(ultima.values());
+    }
+
+    private void procesarUsuario(Long usuarioId, List<CalendarSyncTask> tareas, SyncProgress progress) {
+        Usuario usuario = googleCalendarRepositoryPort.findById(usuarioId).orElse(null);
+        if (!conectado(usuario)) {
+            log.debug("Usuario {} ya no tiene Google Calendar conectado; se descartan {} operaciones", usuarioId, tareas.size());
+            progress.registrar(0, tareas.size());
+            publicarProgreso(usuarioId, progress);
+            return;
+        }
+
+        Calendar calendar = calendarClientCache.getClient(usuario);
+        for (int desde = 0; desde < tareas.size(); desde += batchSize) {
+            List<CalendarSyncTask> lote = tareas.subList(desde, Math.min(desde + batchSize, tareas.size()));
+            ResultadoLote resultado = procesarLote(calendar, lote);
+
+            reservaPersistencePort.updateGoogleCalendarEventIds(resultado.eventIds);
+            progress.registrar(resultado.exitos, resultado.fallos);
+            if (!resultado.reintentos.isEmpty()) {
+                reintentarOFallar(usuarioId, resultado.reintentos, resultado.esperaMillis);
+            }
+
+            if (resultado.cuotaExcedida && desde + batchSize < tareas.size()) {
+                // Sin cuota, los lotes restantes del usuario esperan lo mismo que los reintentos
+                reintentarOFallar(usuarioId, tareas.subList(desde + batchSize, tareas.size()), resultado.esperaMillis);
+                break;
+            }
+        }
+        publicarProgreso(usuarioId, progress);
+    }
+
+    /**
+     * Resultado de un batch request: IDs a escribir y operaciones a reintentar
+     */
+    private static final class ResultadoLote {
+        private final Map<Long, String> eventIds = new HashMap<>();
+        private final List<CalendarSyncTask> reintentos = new ArrayList<>();
+        private final Set<String> respondidas = new HashSet<>();
+        private int exitos;
+        private int fallos;
+        private boolean cuotaExcedida;
+        private long esperaMillis;
+    }
+
+    private ResultadoLote procesarLote(Calendar calendar, List<CalendarSyncTask> lote) {
+        ResultadoLote resultado = new ResultadoLote();
+        List<Long> ids = lote.stream()
+                .filter(tarea -> tarea.operacion() == Operacion.UPSERT)
+                .map(CalendarSyncTask::reservaId)
+                .toList();
+        Map<Long, Reserva> reservas = reservaPersistencePort.findAllByIdWithDetalles(ids).stream()
+                .collect(Collectors.toMap(Reserva::getId, Function.identity()));
+
+        BatchRequest batch = calendar.batch();
+        try {
+            for (CalendarSyncTask tarea : lote) {
+                if (tarea.operacion() == Operacion.DELETE) {
+                    calendar.events().delete(CALENDAR_ID, tarea.eventId())
+                            .setSendNotifications(true)
+                            .queue(batch, callback(tarea, resultado, null));
+                    continue;
+                }
+                Reserva reserva = reservas.get(tarea.reservaId());
+                if (reserva == null || ESTADOS_SIN_EVENTO.contains(reserva.getEstado().getNombre())) {
+                    // Eliminada o cancelada mientras esperaba en la cola: no hay evento que crear
+                    resultado.respondidas.add(tarea.clave());
+                    resultado.exitos++;
+                    continue;
+                }
+                Event event = GoogleCalendarEventUtil.crearEvento(reserva);
+                if (reserva.getGoogleCalendarEventId() != null && !reserva.getGoogleCalendarEventId().isBlank()) {
+                    calendar.events().update(CALENDAR_ID, reserva.getGoogleCalendarEventId(), event)
+                            .queue(batch, callback(tarea, resultado, reserva.getGoogleCalendarEventId()));
+                } else {
+                    calendar.events().insert(CALENDAR_ID, event)
+                            .setSendNotifications(true)
+                            .queue(batch, callback(tarea, resultado, null));
+                }
+            }
+            if (batch.size() > 0) {
+                batch.execute();
+            }
+        } catch (IOException e) {
+            log.warn("Batch de Google Calendar fallido ({} operaciones): {}", lote.size(), e.getMessage());
+            // Se reintenta todo lo que no alcanzó a recibir respuesta
+            lote.stream()
+                    .filter(tarea -> !resultado.respondidas.contains(tarea.clave()))
+                    .forEach(resultado.reintentos::add);
+            resultado.esperaMillis = Math.max(resultado.esperaMillis, calcularEspera(lote.get(0).intentos(), null));
+        }
+        return resultado;
+    }
+
+    private <T> JsonBatchCallback<T> callback(CalendarSyncTask tarea, ResultadoLote resultado, String eventIdActual) {
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(T respuesta, HttpHeaders responseHeaders) {
+                resultado.respondidas.add(tarea.clave());
+                resultado.exitos++;
+                if (respuesta instanceof Event event && !event.getId().equals(eventIdActual)) {
+                    resultado.eventIds.put(tarea.reservaId(), event.getId());
+                }
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                resultado.respondidas.add(tarea.clave());
+                int codigo = error.getCode();
+                if (codigo == 404 || codigo == 410) {
+                    if (tarea.operacion() == Operacion.DELETE) {
+                        resultado.exitos++;
+                    } else {
+                        // El evento se borró en Google: se limpia el ID y se vuelve a crear
+                        resultado.eventIds.put(tarea.reservaId(), null);
+                        resultado.reintentos.add(tarea);
+                    }
+                    return;
+                }
+                boolean cuota = esErrorDeCuota(error);
+                if (cuota || codigo >= 500) {
+                    resultado.cuotaExcedida |= cuota;
+                    resultado.reintentos.add(tarea);
+                    resultado.esperaMillis = Math.max(resultado.esperaMillis, calcularEspera(tarea.intentos(), responseHeaders));
+                    return;
+                }
+                resultado.fallos++;
+                log.warn("Google Calendar rechazó la operación {} de la reserva {}: {} {}",
+                        tarea.operacion(), tarea.reservaId(), codigo, error.getMessage());
+            }
+        };
+    }
+
+    private static boolean esErrorDeCuota(GoogleJsonError error) {
+        if (error.getCode() == 429) {
+            return true;
+        }
+        return error.getCode() == 403 && error.getErrors() != null && error.getErrors().stream()
+                .anyMatch(detalle -> QUOTA_REASONS.contains(detalle.getReason()));
+    }
+
+    /**
+     * Backoff exponencial con jitter; respeta Retry-After si Google lo envía
+     */
+    private long calcularEspera(int intentos, HttpHeaders headers) {
+        if (headers != null) {
+            String retryAfter = headers.getFirstHeaderStringValue("Retry-After");
+            if (retryAfter != null) {
+                try {
+                    return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+                } catch (NumberFormatException ignored) {
+                    // Formato de fecha HTTP: se usa el backoff calculado
+                }
+            }
+        }
+        long exponencial = backoffInicialMillis << Math.min(intentos, 20);
+        long jitter = ThreadLocalRandom.current().nextLong(backoffInicialMillis + 1);
+        return Math.min(backoffMaximoMillis, exponencial + jitter);
+    }
+
+    private void reintentarOFallar(Long usuarioId, List<CalendarSyncTask> tareas, long esperaMillis) {
+        int descartadas = 0;
+        for (CalendarSyncTask tarea : tareas) {
+            if (tarea.intentos() + 1 >= maxIntentos) {
+                descartadas++;
+                log.error("Se agotaron los reintentos de la operación {} de la reserva {}", tarea.operacion(), tarea.reservaId());
+            } else {
+                cola.add(tarea.reintento(esperaMillis));
+            }
+        }
+        if (descartadas > 0) {
+            progreso.computeIfAbsent(usuarioId, id -> new SyncProgress()).registrar(0, descartadas);
+        }
+    }
+
+    private void publicarProgreso(Long usuarioId, SyncProgress progress) {
+        Map<String, Object> frame = progress.snapshot();
+        if (progress.pendientes() <= 0) {
+            progreso.remove(usuarioId, progress);
+        }
+        try {
+            notificationBus.publish(NotificationEnvelope.toUser(usuarioId, objectMapper.writeValueAsString(frame)));
+        } catch (JsonProcessingException e) {
+            log.warn("No se pudo serializar el progreso de sincronización del usuario {}", usuarioId);
+        } catch (Exception e) {
+            log.warn("No se pudo publicar el progreso de sincronización del usuario {}: {}", usuarioId, e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package edu.usco.campusbookings.application.service;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,6 +11,7 @@ import edu.usco.campusbookings.application.dto.response.EscenarioDisponibilidadR
 import edu.usco.campusbookings.application.port.input.DisponibilidadUseCase;
 import edu.usco.campusbookings.application.port.output.EscenarioRepositoryPort;
 import edu.usco.campusbookings.application.port.output.ReservaPersistencePort;
+import edu.usco.campusbookings.application.util.ImagenVarianteUtil;
 import edu.usco.campusbookings.domain.model.Escenario;
 import edu.usco.campusbookings.application.exception.DisponibilidadValidationException;
 import lombok.RequiredArgsConstructor;
@@ -34,10 +36,16 @@ public class DisponibilidadService implements DisponibilidadUseCase {
             return List.of();
         }
 
-        // Verificar disponibilidad de cada escenario (solo considerar reservas APROBADAS)
+        // Escenarios ocupados en el rango (solo reservas APROBADAS), en una sola consulta
+        Set<Long> ocupados = reservaPersistencePort.findEscenarioIdsConReservaEnRango(
+                escenarios.stream().map(Escenario::getId).toList(),
+                request.getFechaInicio(),
+                request.getFechaFin(),
+                "APROBADA"
+        );
         return escenarios.stream()
                 .map(escenario -> {
-                    boolean disponible = verificarDisponibilidadEscenario(escenario.getId(), request);
+                    boolean disponible = !ocupados.contains(escenario.getId());
                     
                     return EscenarioDisponibilidadResponse.builder()
                             .id(escenario.getId())
@@ -47,6 +55,7 @@ public class DisponibilidadService implements DisponibilidadUseCase {
                             .capacidad(escenario.getCapacidad())
                             .descripcion(escenario.getDescripcion())
                             .imagenUrl(escenario.getImagenUrl())
+                            .imagenVariantes(ImagenVarianteUtil.urls(escenario))
                             .disponible(disponible)
                             .build();
                 })
@@ -105,14 +114,4 @@ public class DisponibilidadService implements DisponibilidadUseCase {
         
         return true;
     }
-
-    private boolean verificarDisponibilidadEscenario(Long escenarioId, DisponibilidadRequest request) {
-        // Verificar si hay reservas aprobadas en el rango de fechas
-        return !reservaPersistencePort.existsByEscenarioIdAndFechaInicioBetweenAndEstadoNombre(
-                escenarioId,
-                request.getFechaInicio(),
-                request.getFechaFin(),
-                "APROBADA"
-        );
-    }
 }
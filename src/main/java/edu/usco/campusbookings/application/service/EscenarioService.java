@@ -20,6 +20,7 @@ import edu.usco.campusbookings.domain.model.Ubicacion;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +34,7 @@ public class EscenarioService implements EscenarioUseCase {
     private final TipoEscenarioRepositoryPort tipoEscenarioRepositoryPort;
     private final UbicacionRepositoryPort ubicacionRepositoryPort;
     private final EscenarioMapper escenarioMapper;
+    private final ImageStorageService imageStorageService;
 
     /**
      * Creates a new escenario.
@@ -68,6 +70,7 @@ public class EscenarioService implements EscenarioUseCase {
         Escenario escenario = escenarioMapper.toEntity(escenarioRequest);
         escenario.setTipo(tipo);
         escenario.setUbicacion(ubicacion);
+        escenario.setImagenMetadata(imageStorageService.describeImage(escenario.getImagenUrl()));
         
         // Save the escenario
         Escenario savedEscenario = escenarioRepositoryPort.save(escenario);
@@ -93,6 +96,8 @@ public class EscenarioService implements EscenarioUseCase {
         List<Escenario> escenarios = escenarioRequests.stream()
                 .map(escenarioMapper::toEntity)
                 .toList();
+        escenarios.forEach(escenario ->
+                escenario.setImagenMetadata(imageStorageService.describeImage(escenario.getImagenUrl())));
 
         escenarios = escenarioRepositoryPort.saveAll(escenarios);
 
@@ -165,6 +170,13 @@ public class EscenarioService implements EscenarioUseCase {
         escenario.setCapacidad(request.getCapacidad());
         escenario.setDisponible(request.getDisponible());
         escenario.setRecursos(request.getRecursos());
+        // Las variantes solo se leen del disco si la imagen cambió o aún no tiene metadatos
+        String imagenAnterior = escenario.getImagenUrl();
+        boolean imagenCambio = !Objects.equals(imagenAnterior, request.getImagenUrl());
+        if (escenario.getImagenMetadata() == null || imagenCambio) {
+            escenario.setImagenMetadata(imageStorageService.describeImage(request.getImagenUrl()));
+        }
+        // La imagen anterior, si queda sin referencias, la elimina el barrido de ImageStorageService
         escenario.setImagenUrl(request.getImagenUrl());
 
         Escenario saved = escenarioRepositoryPort.save(escenario);
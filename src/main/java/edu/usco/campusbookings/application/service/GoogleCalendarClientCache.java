@@ -0,0 +1,120 @@
+package edu.usco.campusbookings.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.auth.oauth2.CredentialRefreshListener;
+import com.google.api.client.auth.oauth2.TokenErrorResponse;
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
+import com.google.api.services.calendar.Calendar;
+import edu.usco.campusbookings.application.port.output.GoogleCalendarRepositoryPort;
+import edu.usco.campusbookings.domain.model.Usuario;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Clientes de Google Calendar cacheados por usuario.
+ * <p>
+ * Cada cliente conserva su {@link Credential}, así que el access token vigente se reutiliza entre
+ * sincronizaciones y solo se lee de la BD al crear el cliente. Cuando Google renueva el token, el
+ * nuevo valor se persiste de forma asíncrona. Todos los clientes comparten el transporte HTTP del flujo OAuth.
+ */
+@Slf4j
+@Service
+public class GoogleCalendarClientCache {
+
+    private final GoogleAuthorizationCodeFlow authFlow;
+    private final GoogleCalendarRepositoryPort googleCalendarRepositoryPort;
+    private final Executor tokenPersistExecutor;
+    private final String applicationName;
+    private final Cache<Long, Calendar> clients;
+
+    public GoogleCalendarClientCache(GoogleAuthorizationCodeFlow authFlow,
+                                     GoogleCalendarRepositoryPort googleCalendarRepositoryPort,
+                                     @Qualifier("googleTokenPersistExecutor") Executor tokenPersistExecutor,
+                                     @Value("${google.calendar.application-name:CampusBookings}") String applicationName,
+                                     @Value("${google.calendar.client-cache.max-size:1000}") long maxSize,
+                                     @Value("${google.calendar.client-cache.expire-after-access-minutes:30}") long expireAfterAccessMinutes) {
+        this.authFlow = authFlow;
+        this.googleCalendarRepositoryPort = googleCalendarRepositoryPort;
+        this.tokenPersistExecutor = tokenPersistExecutor;
+        this.applicationName = applicationName;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+    }
+
+    /**
+     * Cliente del usuario; se crea con los tokens guardados la primera vez o tras invalidarse
+     */
+    public Calendar getClient(Usuario usuario) {
+        return clients.get(usuario.getId(), id -> buildClient(id, usuario));
+    }
+
+    /**
+     * Descarta el cliente del usuario (tokens nuevos, desconexión o refresh token revocado)
+     */
+    public void invalidate(Long usuarioId) {
+        clients.invalidate(usuarioId);
+    }
+
+    private Calendar buildClient(Long usuarioId, Usuario usuario) {
+        Credential credential = new Credential.Builder(authFlow.getMethod())
+                .setTransport(authFlow.getTransport())
+                .setJsonFactory(authFlow.getJsonFactory())
+                .setTokenServerEncodedUrl(authFlow.getTokenServerEncodedUrl())
+                .setClientAuthentication(authFlow.getClientAuthentication())
+                .setRequestInitializer(authFlow.getRequestInitializer())
+                .setClock(authFlow.getClock())
+                .addRefreshListener(new PersistingRefreshListener(usuarioId))
+                .build()
+                .setAccessToken(usuario.getGoogleAccessToken())
+                .setRefreshToken(usuario.getGoogleRefreshToken());
+
+        log.debug("Cliente de Google Calendar creado para usuario ID: {}", usuarioId);
+        return new Calendar.Builder(authFlow.getTransport(), authFlow.getJsonFactory(), credential)
+                .setApplicationName(applicationName)
+                .build();
+    }
+
+    /**
+     * Guarda los tokens renovados sin bloquear la llamada a la API que provocó la renovación
+     */
+    private final class PersistingRefreshListener implements CredentialRefreshListener {
+
+        private final Long usuarioId;
+
+        private PersistingRefreshListener(Long usuarioId) {
+            this.usuarioId = usuarioId;
+        }
+
+        @Override
+        public void onTokenResponse(Credential credential, TokenResponse tokenResponse) {
+            // El credential ya incorpora la respuesta; conserva el refresh token anterior si Google no envía uno nuevo
+            String accessToken = credential.getAccessToken();
+            String refreshToken = credential.getRefreshToken();
+            tokenPersistExecutor.execute(() -> {
+                try {
+                    googleCalendarRepositoryPort.updateGoogleCalendarTokens(usuarioId, accessToken, refreshToken, true);
+                } catch (Exception e) {
+                    log.warn("No se pudo persistir el token renovado de Google Calendar para usuario ID {}: {}",
+                            usuarioId, e.getMessage());
+                }
+            });
+        }
+
+        @Override
+        public void onTokenErrorResponse(Credential credential, TokenErrorResponse tokenErrorResponse) {
+            log.warn("Google rechazó la renovación del token para usuario ID {}: {}", usuarioId,
+                    tokenErrorResponse != null ? tokenErrorResponse.getError() : "sin respuesta");
+            invalidate(usuarioId);
+        }
+    }
+}
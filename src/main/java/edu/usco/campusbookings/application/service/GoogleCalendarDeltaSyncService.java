@@ -0,0 +1,213 @@
+package edu.usco.campusbookings.application.service;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Events;
+import edu.usco.campusbookings.application.port.output.GoogleCalendarRepositoryPort;
+import edu.usco.campusbookings.application.port.output.ReservaPersistencePort;
+import edu.usco.campusbookings.application.util.GoogleCalendarEventUtil;
+import edu.usco.campusbookings.domain.model.Reserva;
+import edu.usco.campusbookings.domain.model.Usuario;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Sincronización incremental en ambos sentidos con Google Calendar.
+ * <p>
+ * Cada pasada pide a Google solo los eventos que cambiaron desde el último {@code nextSyncToken} guardado
+ * para el usuario, así que el costo escala con los cambios y no con el total de reservas. Los cambios se
+ * reconcilian con las reservas vinculadas: un evento borrado en Google se desvincula, uno movido se
+ * restaura al horario de la reserva y un evento sin vincular (escritura perdida) se vincula de nuevo.
+ * Las correcciones hacia Google pasan por {@link CalendarSyncQueue}.
+ */
+@Slf4j
+@Service
+public class GoogleCalendarDeltaSyncService {
+
+    private static final String CALENDAR_ID = "primary";
+    private static final String CANCELLED = "cancelled";
+    private static final Set<String> ESTADOS_SIN_EVENTO = Set.of("CANCELADA", "RECHAZADA");
+    // Solo los campos necesarios para reconciliar
+    private static final String FIELDS = "items(id,status,start,end,extendedProperties),nextPageToken,nextSyncToken";
+
+    /**
+     * Resumen de una pasada incremental de un usuario
+     */
+    public record ResultadoDelta(int eventos, int vinculados, int desvinculados, int restaurados,
+                                 int eliminados, boolean reiniciada) {
+        static final ResultadoDelta REINICIADA = new ResultadoDelta(0, 0, 0, 0, 0, true);
+    }
+
+    private final GoogleCalendarClientCache calendarClientCache;
+    private final GoogleCalendarRepositoryPort googleCalendarRepositoryPort;
+    private final ReservaPersistencePort reservaPersistencePort;
+    private final CalendarSyncQueue calendarSyncQueue;
+    private final int pageSize;
+
+    public GoogleCalendarDeltaSyncService(GoogleCalendarClientCache calendarClientCache,
+                                          GoogleCalendarRepositoryPort googleCalendarRepositoryPort,
+                                          ReservaPersistencePort reservaPersistencePort,
+                                          CalendarSyncQueue calendarSyncQueue,
+                                          @Value("${google.calendar.delta.page-size:250}") int pageSize) {
+        this.calendarClientCache = calendarClientCache;
+        this.googleCalendarRepositoryPort = googleCalendarRepositoryPort;
+        this.reservaPersistencePort = reservaPersistencePort;
+        this.calendarSyncQueue = calendarSyncQueue;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Pasada programada sobre todos los usuarios conectados
+     */
+    @Scheduled(fixedDelayString = "${google.calendar.delta.interval-ms:900000}",
+               initialDelayString = "${google.calendar.delta.initial-delay-ms:60000}")
+    public void sincronizarCambios() {
+        List<Usuario> usuarios = googleCalendarRepositoryPort.findConnectedUsers();
+        int conCambios = 0;
+        for (Usuario usuario : usuarios) {
+            try {
+                if (sincronizarUsuario(usuario).eventos() > 0) {
+                    conCambios++;
+                }
+            } catch (Exception e) {
+                log.warn("Error en la sincronización incremental de Google Calendar del usuario {}: {}",
+                        usuario.getId(), e.getMessage());
+            }
+        }
+        log.debug("Sincronización incremental de Google Calendar: {} usuarios, {} con cambios", usuarios.size(), conCambios);
+    }
+
+    /**
+     * Trae y reconcilia los cambios del calendario del usuario desde su último token.
+     * Sin token (primera vez o token expirado) recorre el calendario completo una vez para obtener uno.
+     */
+    public ResultadoDelta sincronizarUsuario(Usuario usuario) throws IOException {
+        Calendar calendar = calendarClientCache.getClient(usuario);
+        String syncToken = usuario.getGoogleCalendarSyncToken();
+        ResultadoDelta total = new ResultadoDelta(0, 0, 0, 0, 0, false);
+        String pageToken = null;
+        String nextSyncToken = null;
+
+        try {
+            do {
+                Calendar.Events.List request = calendar.events().list(CALENDAR_ID)
+                        .setMaxResults(pageSize)
+                        .setFields(FIELDS)
+                        .setPageToken(pageToken);
+                if (syncToken != null) {
+                    request.setSyncToken(syncToken);
+                }
+                Events pagina = request.execute();
+                if (pagina.getItems() != null && !pagina.getItems().isEmpty()) {
+                    total = sumar(total, reconciliar(usuario.getId(), pagina.getItems()));
+                }
+                pageToken = pagina.getNextPageToken();
+                nextSyncToken = pagina.getNextSyncToken();
+            } while (pageToken != null);
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() == 410) {
+                // Google invalidó el token: la próxima pasada hace una sincronización completa
+                log.info("Token de sincronización de Google Calendar expirado para usuario {}", usuario.getId());
+                googleCalendarRepositoryPort.updateSyncToken(usuario.getId(), null);
+                return ResultadoDelta.REINICIADA;
+            }
+            throw e;
+        }
+
+        if (nextSyncToken != null && !nextSyncToken.equals(syncToken)) {
+            googleCalendarRepositoryPort.updateSyncToken(usuario.getId(), nextSyncToken);
+        }
+        if (total.eventos() > 0) {
+            log.info("Google Calendar usuario {}: {} eventos cambiados, {} vinculados, {} desvinculados, {} restaurados, {} eliminados",
+                    usuario.getId(), total.eventos(), total.vinculados(), total.desvinculados(), total.restaurados(), total.eliminados());
+        }
+        return total;
+    }
+
+    private ResultadoDelta reconciliar(Long usuarioId, List<Event> eventos) {
+        // Los eventos borrados solo traen id y status, así que se buscan también por ID de evento
+        Set<String> eventIds = eventos.stream().map(Event::getId).collect(Collectors.toSet());
+        Set<Long> reservaIds = eventos.stream()
+                .map(GoogleCalendarEventUtil::reservaIdDe)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<Reserva> reservas = Stream.concat(
+                        reservaPersistencePort.findAllByGoogleCalendarEventIdIn(eventIds).stream(),
+                        reservaPersistencePort.findAllByIdWithDetalles(reservaIds).stream())
+                .filter(reserva -> usuarioId.equals(reserva.getUsuario().getId()))
+                .toList();
+        Map<String, Reserva> porEvento = new HashMap<>();
+        Map<Long, Reserva> porId = new HashMap<>();
+        for (Reserva reserva : reservas) {
+            porId.putIfAbsent(reserva.getId(), reserva);
+            if (reserva.getGoogleCalendarEventId() != null) {
+                porEvento.putIfAbsent(reserva.getGoogleCalendarEventId(), reserva);
+            }
+        }
+
+        Map<Long, String> vinculos = new HashMap<>();
+        int vinculados = 0;
+        int desvinculados = 0;
+        int restaurados = 0;
+        int eliminados = 0;
+        for (Event event : eventos) {
+            Reserva reserva = porEvento.get(event.getId());
+            if (reserva == null) {
+                Long reservaId = GoogleCalendarEventUtil.reservaIdDe(event);
+                reserva = reservaId != null ? porId.get(reservaId) : null;
+            }
+            if (reserva == null) {
+                // Evento propio del usuario, ajeno a CampusBookings
+                continue;
+            }
+            boolean vinculado = event.getId().equals(reserva.getGoogleCalendarEventId());
+
+            if (CANCELLED.equals(event.getStatus())) {
+                if (vinculado) {
+                    // Borrado en Google: se desvincula sin tocar la reserva
+                    vinculos.put(reserva.getId(), null);
+                    desvinculados++;
+                }
+            } else if (ESTADOS_SIN_EVENTO.contains(reserva.getEstado().getNombre())) {
+                // La eliminación no llegó a Google
+                calendarSyncQueue.encolarEliminacionEvento(usuarioId, event.getId());
+                eliminados++;
+            } else if (!vinculado) {
+                if (reserva.getGoogleCalendarEventId() == null) {
+                    // El evento se creó pero su ID no se guardó
+                    vinculos.put(reserva.getId(), event.getId());
+                    vinculados++;
+                } else {
+                    // Duplicado: la reserva ya tiene otro evento
+                    calendarSyncQueue.encolarEliminacionEvento(usuarioId, event.getId());
+                    eliminados++;
+                }
+            } else if (!GoogleCalendarEventUtil.coincideHorario(event, reserva)) {
+                // Movido en Google: el horario de la reserva manda
+                calendarSyncQueue.encolarSincronizacion(reserva);
+                restaurados++;
+            }
+        }
+
+        reservaPersistencePort.updateGoogleCalendarEventIds(vinculos);
+        return new ResultadoDelta(eventos.size(), vinculados, desvinculados, restaurados, eliminados, false);
+    }
+
+    private static ResultadoDelta sumar(ResultadoDelta a, ResultadoDelta b) {
+        return new ResultadoDelta(a.eventos() + b.eventos(), a.vinculados() + b.vinculados(),
+                a.desvinculados() + b.desvinculados(), a.restaurados() + b.restaurados(),
+                a.eliminados() + b.eliminados(), false);
+    }
+}
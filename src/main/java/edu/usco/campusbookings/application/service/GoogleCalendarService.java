@@ -1,11 +1,9 @@
 package edu.usco.campusbookings.application.service;
 
-import com.google.api.client.auth.oauth2.Credential;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
-import com.google.api.services.calendar.model.EventDateTime;
 import edu.usco.campusbookings.application.dto.request.GoogleCalendarAuthRequest;
 import edu.usco.campusbookings.application.dto.response.GoogleCalendarStatusResponse;
 import edu.usco.campusbookings.application.dto.response.GoogleCalendarSyncResponse;
@@ -13,6 +11,7 @@ import edu.usco.campusbookings.application.exception.GoogleCalendarException;
 import edu.usco.campusbookings.application.port.input.GoogleCalendarUseCase;
 import edu.usco.campusbookings.application.port.output.GoogleCalendarRepositoryPort;
 import edu.usco.campusbookings.application.port.output.ReservaPersistencePort;
+import edu.usco.campusbookings.application.util.GoogleCalendarEventUtil;
 import edu.usco.campusbookings.domain.model.Reserva;
 import edu.usco.campusbookings.domain.model.Usuario;
 import lombok.RequiredArgsConstructor;
@@ -23,10 +22,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.Date;
 
 /**
  * Servicio para manejar la integración con Google Calendar
@@ -37,7 +34,8 @@ import java.util.Date;
 public class GoogleCalendarService implements GoogleCalendarUseCase {
 
     private final GoogleAuthorizationCodeFlow authFlow;
-    private final Calendar.Builder calendarBuilder;
+    private final GoogleCalendarClientCache calendarClientCache;
+    private final CalendarSyncQueue calendarSyncQueue;
     private final GoogleCalendarRepositoryPort googleCalendarRepositoryPort;
     private final UsuarioService usuarioService;
     private final ReservaPersistencePort reservaPersistencePort;
@@ -90,6 +88,9 @@ public class GoogleCalendarService implements GoogleCalendarUseCase {
                     tokenResponse.getRefreshToken(),
                     true
             );
+            calendarClientCache.invalidate(currentUser.getId());
+            // La cuenta conectada puede ser otra: la próxima pasada incremental parte de cero
+            googleCalendarRepositoryPort.updateSyncToken(currentUser.getId(), null);
 
             log.info("Usuario {} conectado exitosamente a Google Calendar", currentUser.getEmail());
 
@@ -111,6 +112,7 @@ public class GoogleCalendarService implements GoogleCalendarUseCase {
             Usuario currentUser = getCurrentUser();
             
             googleCalendarRepositoryPort.disconnectGoogleCalendar(currentUser.getId());
+            calendarClientCache.invalidate(currentUser.getId());
             
             log.info("Usuario {} desconectado de Google Calendar", currentUser.getEmail());
 
@@ -146,8 +148,8 @@ public class GoogleCalendarService implements GoogleCalendarUseCase {
                 return null;
             }
 
-            Calendar service = getCalendarService(usuario);
-            Event event = createEventFromReservation(reserva);
+            Calendar service = calendarClientCache.getClient(usuario);
+            Event event = GoogleCalendarEventUtil.crearEvento(reserva);
 
             Event createdEvent;
             if (reserva.getGoogleCalendarEventId() != null) {
@@ -172,33 +174,16 @@ public class GoogleCalendarService implements GoogleCalendarUseCase {
 
     @Override
     public void deleteEventFromCalendar(String eventId) {
-        try {
-            Usuario currentUser = getCurrentUser();
-            
-            if (currentUser.getGoogleCalendarConnected() == null || !currentUser.getGoogleCalendarConnected()) {
-                log.debug("Usuario {} no tiene Google Calendar conectado, saltando eliminación", currentUser.getEmail());
-                return;
-            }
-
-            Calendar service = getCalendarService(currentUser);
-            service.events().delete("primary", eventId)
-                    .setSendNotifications(true) // Notificar a invitados sobre la cancelación
-                    .execute();
-            
-            log.info("Evento eliminado de Google Calendar: {}", eventId);
+        Usuario currentUser = getCurrentUser();
 
-        } catch (com.google.api.client.googleapis.json.GoogleJsonResponseException e) {
-            if (e.getStatusCode() == 404) {
-                log.warn("Evento {} ya fue eliminado o no existe en Google Calendar", eventId);
-                // No lanzar excepción si el evento ya no existe
-                return;
-            }
-            log.error("Error de Google API eliminando evento: {}", e.getMessage());
-            throw new GoogleCalendarException("Error de Google Calendar: " + e.getMessage());
-        } catch (Exception e) {
-            log.error("Error eliminando evento de Google Calendar", e);
-            throw new GoogleCalendarException("Error al eliminar evento de Google Calendar: " + e.getMessage());
+        if (currentUser.getGoogleCalendarConnected() == null || !currentUser.getGoogleCalendarConnected()) {
+            log.debug("Usuario {} no tiene Google Calendar conectado, saltando eliminación", currentUser.getEmail());
+            return;
         }
+
+        // Misma cola que el resto de operaciones: batch, reintentos y 404 tratado como ya eliminado
+        calendarSyncQueue.encolarEliminacionEvento(currentUser.getId(), eventId);
+        log.info("Eliminación del evento {} de Google Calendar encolada", eventId);
     }
 
     @Override
@@ -240,47 +225,19 @@ public class GoogleCalendarService implements GoogleCalendarUseCase {
                         .build();
             }
 
-            log.info("Sincronizando {} reservas con Google Calendar para usuario: {}", 
-                    reservasParaSincronizar.size(), currentUser.getEmail());
-
-            int sincronizadas = 0;
-            int errores = 0;
-
-            // Sincronizar cada reserva individualmente
-            for (Reserva reserva : reservasParaSincronizar) {
-                try {
-                    String eventId = syncReservationWithCalendar(reserva);
-                    if (eventId != null) {
-                        reserva.setGoogleCalendarEventId(eventId);
-                        reservaPersistencePort.save(reserva);
-                        sincronizadas++;
-                        log.debug("Reserva ID {} sincronizada exitosamente con evento ID: {}", 
-                                reserva.getId(), eventId);
-                    }
-                } catch (Exception e) {
-                    errores++;
-                    log.error("Error sincronizando reserva ID {} con Google Calendar: {}", 
-                            reserva.getId(), e.getMessage());
-                    // Continuar con la siguiente reserva en caso de error
-                }
-            }
-
-            log.info("Sincronización masiva completada para usuario {}: {} reservas sincronizadas, {} errores", 
-                    currentUser.getEmail(), sincronizadas, errores);
+            // La cola agrupa las reservas en batch requests y reporta el avance por WebSocket
+            int encoladas = calendarSyncQueue.encolarSincronizacionMasiva(currentUser.getId(),
+                    reservasParaSincronizar.stream().map(Reserva::getId).toList());
+            log.info("Encoladas {} reservas para sincronizar con Google Calendar para usuario: {}",
+                    encoladas, currentUser.getEmail());
 
-            if (errores > 0) {
-                log.warn("Se produjeron {} errores durante la sincronización masiva", errores);
-            }
-
-            // Crear respuesta con estadísticas
             return GoogleCalendarSyncResponse.builder()
                     .success(true)
                     .connected(true)
-                    .message(String.format("Sincronización completada: %d reservas sincronizadas, %d errores", 
-                            sincronizadas, errores))
-                    .totalReservas(reservasParaSincronizar.size())
-                    .reservasSincronizadas(sincronizadas)
-                    .errores(errores)
+                    .message(String.format("Sincronización en curso: %d reservas en cola", encoladas))
+                    .totalReservas(encoladas)
+                    .reservasSincronizadas(0)
+                    .errores(0)
                     .build();
 
         } catch (GoogleCalendarException e) {
@@ -292,92 +249,6 @@ public class GoogleCalendarService implements GoogleCalendarUseCase {
         }
     }
 
-    private Calendar getCalendarService(Usuario usuario) throws Exception {
-        Credential credential = authFlow.loadCredential(usuario.getId().toString());
-        
-        if (credential == null) {
-            // Recrear credential desde los tokens guardados
-            credential = authFlow.createAndStoreCredential(
-                    new GoogleTokenResponse()
-                            .setAccessToken(usuario.getGoogleAccessToken())
-                            .setRefreshToken(usuario.getGoogleRefreshToken()),
-                    usuario.getId().toString()
-            );
-        }
-
-        return calendarBuilder.setHttpRequestInitializer(credential).build();
-    }
-
-    private Event createEventFromReservation(Reserva reserva) {
-        Event event = new Event();
-        
-        // Título del evento (resumen)
-        String summary = String.format("📅 %s - %s", 
-                reserva.getEscenario().getNombre(),
-                reserva.getEstado().getNombre());
-        event.setSummary(summary);
-        
-        // Descripción detallada
-        String description = String.format(
-                "🏛️ Reserva de Escenario - USCO\n\n" +
-                "👤 Reservado por: %s %s\n" +
-                "📍 Escenario: %s\n" +
-                "📊 Estado: %s\n" +
-                "🆔 ID Reserva: %d\n" +
-                "%s\n\n" +
-                "Generado por CampusBookings - Universidad Surcolombiana",
-                reserva.getUsuario().getNombre(),
-                reserva.getUsuario().getApellido(),
-                reserva.getEscenario().getNombre(),
-                reserva.getEstado().getNombre(),
-                reserva.getId(),
-                reserva.getObservaciones() != null ? "📝 Observaciones: " + reserva.getObservaciones() : ""
-        );
-        event.setDescription(description);
-
-        // Ubicación (si el escenario tiene ubicación)
-        // Nota: Asumo que ubicacion es un String. Si es un objeto, ajustar según el modelo
-        event.setLocation("Universidad Surcolombiana - " + reserva.getEscenario().getNombre());
-
-        // Zona horaria de Colombia (Bogotá)
-        String timeZone = "America/Bogota";
-        
-        // Fecha y hora de inicio
-        EventDateTime startDateTime = new EventDateTime()
-                .setDateTime(new com.google.api.client.util.DateTime(
-                        Date.from(reserva.getFechaInicio().atZone(ZoneId.of(timeZone)).toInstant())))
-                .setTimeZone(timeZone);
-        event.setStart(startDateTime);
-
-        // Fecha y hora de fin
-        EventDateTime endDateTime = new EventDateTime()
-                .setDateTime(new com.google.api.client.util.DateTime(
-                        Date.from(reserva.getFechaFin().atZone(ZoneId.of(timeZone)).toInstant())))
-                .setTimeZone(timeZone);
-        event.setEnd(endDateTime);
-
-        // Configurar como evento ocupado
-        event.setTransparency("opaque");
-        
-        // Configurar visibilidad
-        event.setVisibility("default");
-
-        // Agregar recordatorios (15 minutos antes)
-        Event.Reminders reminders = new Event.Reminders()
-                .setUseDefault(false)
-                .setOverrides(java.util.Arrays.asList(
-                        new com.google.api.services.calendar.model.EventReminder()
-                                .setMethod("email")
-                                .setMinutes(15),
-                        new com.google.api.services.calendar.model.EventReminder()
-                                .setMethod("popup")
-                                .setMinutes(15)
-                ));
-        event.setReminders(reminders);
-
-        return event;
-    }
-
     private Usuario getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         Usuario usuario = usuarioService.findByEmail(authentication.getName());
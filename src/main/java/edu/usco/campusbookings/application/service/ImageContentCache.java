@@ -0,0 +1,158 @@
+package edu.usco.campusbookings.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caché de las imágenes subidas para servirlas sin tocar el disco en vistas repetidas.
+ * <p>
+ * Los archivos tienen nombre UUID y no se modifican, así que sus metadatos (tamaño y ETag por hash del
+ * contenido) se calculan una sola vez. Las imágenes pequeñas (miniaturas, tarjetas) se guardan además en
+ * un conjunto acotado por bytes; Caffeine admite y conserva las más solicitadas. Las grandes se sirven
+ * siempre desde el archivo.
+ */
+@Service
+public class ImageContentCache {
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    // 128 bits del SHA-256 bastan para distinguir versiones de un archivo
+    private static final int ETAG_BYTES = 16;
+
+    /**
+     * Metadatos de una imagen servida; {@code contenido} es nulo si la imagen no está en memoria
+     */
+    public record ImagenServida(Path path, long size, long lastModified, String etag, byte[] contenido) {
+    }
+
+    private record Metadatos(long size, long lastModified, String etag) {
+    }
+
+    private final long maxEntryBytes;
+    private final Cache<Path, Metadatos> metadatos;
+    private final Cache<Path, byte[]> contenidos;
+
+    public ImageContentCache(@Value("${app.images.cache.max-bytes:33554432}") long maxBytes,
+                             @Value("${app.images.cache.max-entry-bytes:524288}") long maxEntryBytes,
+                             @Value("${app.images.cache.max-entries:10000}") long maxEntries) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.metadatos = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+        this.contenidos = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Path path, byte[] bytes) -> bytes.length)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Imagen lista para servir. Una imagen pequeña se lee completa una vez y queda en memoria;
+     * de una grande solo se lee el contenido para calcular el ETag la primera vez.
+     *
+     * @param path archivo de la imagen (debe existir)
+     * @throws IOException si el archivo no existe o no se puede leer
+     */
+    public ImagenServida obtener(Path path) throws IOException {
+        Path key = path.toAbsolutePath().normalize();
+        Metadatos meta = metadatos.getIfPresent(key);
+        byte[] contenido = contenidos.getIfPresent(key);
+        if (meta != null && (contenido != null || meta.size() > maxEntryBytes)) {
+            return new ImagenServida(key, meta.size(), meta.lastModified(), meta.etag(), contenido);
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        if (attributes.size() <= maxEntryBytes) {
+            // Se lee una sola vez: los mismos bytes dan el ETag y quedan en memoria
+            contenido = Files.readAllBytes(key);
+            if (meta == null) {
+                meta = new Metadatos(contenido.length, lastModified, etag(digest(contenido)));
+                metadatos.put(key, meta);
+            }
+            contenidos.put(key, contenido);
+            return new ImagenServida(key, meta.size(), meta.lastModified(), meta.etag(), contenido);
+        }
+
+        if (meta == null) {
+            try {
+                meta = metadatos.get(key, p -> new Metadatos(attributes.size(), lastModified, etag(digest(p))));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return new ImagenServida(key, meta.size(), meta.lastModified(), meta.etag(), null);
+    }
+
+    /**
+     * Descarta la imagen (archivo eliminado)
+     */
+    public void invalidar(Path path) {
+        Path key = path.toAbsolutePath().normalize();
+        metadatos.invalidate(key);
+        contenidos.invalidate(key);
+    }
+
+    /**
+     * Métricas del conjunto en memoria
+     */
+    public Map<String, Object> getEstadisticas() {
+        var stats = contenidos.stats();
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("cachedImages", contenidos.estimatedSize());
+        estadisticas.put("cachedBytes", contenidos.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L));
+        estadisticas.put("knownImages", metadatos.estimatedSize());
+        estadisticas.put("hitRate", stats.hitRate());
+        estadisticas.put("evictions", stats.evictionCount());
+        return estadisticas;
+    }
+
+    private static byte[] digest(byte[] contenido) {
+        return sha256().digest(contenido);
+    }
+
+    private static byte[] digest(Path path) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return digest.digest();
+    }
+
+    private static String etag(byte[] digest) {
+        return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, ETAG_BYTES)) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
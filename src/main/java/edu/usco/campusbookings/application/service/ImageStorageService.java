@@ -1,32 +1,120 @@
 package edu.usco.campusbookings.application.service;
 
+import edu.usco.campusbookings.application.port.output.EscenarioRepositoryPort;
+import edu.usco.campusbookings.domain.model.ImagenMetadata;
+import edu.usco.campusbookings.domain.model.ImagenVariante;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for handling image storage operations.
  * Manages upload, retrieval, and deletion of scenario images.
+ * <p>
+ * Uploads are decoded once and re-encoded as progressive JPEG in three size variants
+ * (thumb, card and full), generated in parallel on the bounded {@code imageProcessingExecutor}.
+ * Formats the JDK cannot decode (e.g. WebP) are stored as uploaded, without variants.
+ * <p>
+ * Files are content-addressed ({@code <hash-prefix>/<sha256>}), so identical uploads share files and cache
+ * entries. Escenarios referencing an image are its reference count: unreferenced files are removed by a
+ * scheduled sweep, and only once they are older than {@code app.images.orphan-min-age-hours}, because an
+ * upload is referenced only later, when the escenario form is saved.
  */
 @Service
 @Slf4j
 public class ImageStorageService {
-    
-    @Value("${app.upload.dir:uploads/escenarios/}")
-    private String uploadDir;
+
+    private static final String VARIANT_FORMAT = "jpeg";
+    private static final String VARIANT_EXTENSION = "jpg";
+    private static final int HASH_PREFIX_LENGTH = 2;
+    private static final Pattern HASH_PREFIX = Pattern.compile("[0-9a-f]{" + HASH_PREFIX_LENGTH + "}");
+
+    private final String uploadDir;
+    private final Executor imageProcessingExecutor;
+    private final Executor imageUploadExecutor;
+    private final ImageContentCache imageContentCache;
+    private final EscenarioRepositoryPort escenarioRepositoryPort;
+    private final Map<ImagenVariante, Integer> maxDimensions;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final Duration orphanMinAge;
+
+    public ImageStorageService(@Value("${app.upload.dir:uploads/escenarios/}") String uploadDir,
+                               @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor,
+                               @Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+                               ImageContentCache imageContentCache,
+                               EscenarioRepositoryPort escenarioRepositoryPort,
+                               @Value("${app.images.variants.thumb:320}") int thumbSize,
+                               @Value("${app.images.variants.card:800}") int cardSize,
+                               @Value("${app.images.variants.full:1920}") int fullSize,
+                               @Value("${app.images.jpeg-quality:0.82}") float jpegQuality,
+                               @Value("${app.images.max-pixels:40000000}") long maxPixels,
+                               @Value("${app.images.orphan-min-age-hours:24}") long orphanMinAgeHours) {
+        this.uploadDir = uploadDir;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.imageContentCache = imageContentCache;
+        this.escenarioRepositoryPort = escenarioRepositoryPort;
+        this.maxDimensions = new EnumMap<>(ImagenVariante.class);
+        this.maxDimensions.put(ImagenVariante.THUMB, thumbSize);
+        this.maxDimensions.put(ImagenVariante.CARD, cardSize);
+        this.maxDimensions.put(ImagenVariante.FULL, fullSize);
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.orphanMinAge = Duration.ofHours(orphanMinAgeHours);
+    }
 
     /**
-     * Stores an uploaded image file.
-     * 
+     * Stores an uploaded image file in the content-addressed store, generating its size variants
+     * when the format can be decoded.
+     * <p>
+     * The upload is streamed once to a temporary file while its SHA-256 is computed, and stored as
+     * {@code <hash-prefix>/<hash>}. Re-uploading an identical image returns the existing URL without
+     * decoding or writing anything.
+     *
      * @param file the multipart file to store
-     * @return the URL path to the stored image
+     * @return the URL path to the stored image (the full variant)
      * @throws IOException if there's an error storing the file
      */
     public String storeImage(MultipartFile file) throws IOException {
@@ -35,10 +123,6 @@ public class ImageStorageService {
             return null;
         }
 
-        // Generate unique filename
-        String extension = getExtension(file.getOriginalFilename());
-        String filename = UUID.randomUUID() + (extension != null ? "." + extension : "");
-        
         // Ensure upload directory exists
         Path dirPath = Paths.get(uploadDir);
         if (!Files.exists(dirPath)) {
@@ -46,20 +130,123 @@ public class ImageStorageService {
             log.info("Created upload directory: {}", dirPath.toAbsolutePath());
         }
 
-        // Store the file
-        Path filePath = dirPath.resolve(filename);
-        file.transferTo(filePath);
-        
-        String imageUrl = "/" + uploadDir + filename;
-        log.info("Image stored successfully: {} -> {}", file.getOriginalFilename(), imageUrl);
-        
-        return imageUrl;
+        Path tmp = Files.createTempFile(dirPath, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String prefix = hash.substring(0, HASH_PREFIX_LENGTH);
+            Path prefixDir = Files.createDirectories(dirPath.resolve(prefix));
+
+            String variantsName = prefix + "/" + hash + "." + VARIANT_EXTENSION;
+            if (hasAllVariants(variantsName)) {
+                log.info("Image already stored, reusing: {} -> {}", file.getOriginalFilename(), variantsName);
+                touch(variantsName);
+                return "/" + uploadDir + variantsName;
+            }
+            String extension = getExtension(file.getOriginalFilename());
+            String rawName = prefix + "/" + hash + (extension != null ? "." + extension : "");
+            if (!rawName.equals(variantsName) && Files.exists(dirPath.resolve(rawName))) {
+                log.info("Image already stored, reusing: {} -> {}", file.getOriginalFilename(), rawName);
+                touch(rawName);
+                return "/" + uploadDir + rawName;
+            }
+
+            BufferedImage source = decode(tmp);
+            if (source == null) {
+                // Format not supported by ImageIO: keep the original bytes
+                Files.move(tmp, dirPath.resolve(rawName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                String imageUrl = "/" + uploadDir + rawName;
+                log.info("Image stored without variants (unsupported format): {} -> {}", file.getOriginalFilename(), imageUrl);
+                return imageUrl;
+            }
+
+            long start = System.nanoTime();
+            storeVariants(source, prefixDir, hash);
+            String imageUrl = "/" + uploadDir + variantsName;
+            log.info("Image stored successfully: {} ({}x{}) -> {} with {} variants in {} ms",
+                    file.getOriginalFilename(), source.getWidth(), source.getHeight(), imageUrl,
+                    maxDimensions.size(), (System.nanoTime() - start) / 1_000_000);
+            return imageUrl;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Stores an image on the bounded {@code imageUploadExecutor}, so multi-file uploads are processed in parallel.
+     * The multipart file must stay readable until the returned future completes (i.e. within the request).
+     *
+     * @param file the multipart file to store
+     * @return the URL path to the stored image
+     */
+    public CompletableFuture<String> storeImageAsync(MultipartFile file) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return storeImage(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, imageUploadExecutor);
+    }
+
+    /**
+     * Describes a stored image: dimensions of the full variant (read from its header, without decoding)
+     * and the variants present on disk.
+     *
+     * @param imageUrl the image URL as returned by {@link #storeImage}
+     * @return the metadata, or null if the image is external, missing or has no variants
+     */
+    public ImagenMetadata describeImage(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith("/" + uploadDir)) {
+            return null;
+        }
+        String filename = imageUrl.substring(uploadDir.length() + 1);
+        if (!VARIANT_EXTENSION.equals(getExtension(filename))) {
+            return null;
+        }
+
+        List<String> variants = new ArrayList<>();
+        for (ImagenVariante variante : ImagenVariante.values()) {
+            if (Files.exists(getImagePath(filename, variante))) {
+                variants.add(variante.getParametro());
+            }
+        }
+        if (variants.size() <= 1) {
+            return null;
+        }
+
+        Path fullPath = getImagePath(filename, ImagenVariante.FULL);
+        try (ImageInputStream in = ImageIO.createImageInputStream(fullPath.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return ImagenMetadata.builder()
+                        .ancho(reader.getWidth(0))
+                        .alto(reader.getHeight(0))
+                        .formato(VARIANT_FORMAT)
+                        .variantes(String.join(",", variants))
+                        .build();
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.warn("Could not read image metadata for {}: {}", imageUrl, e.getMessage());
+            return null;
+        }
     }
 
     /**
-     * Deletes an image file by filename.
-     * 
-     * @param filename the name of the file to delete (without path)
+     * Deletes an image file by filename, together with its size variants.
+     * Callers must check {@link #isReferenced} first: identical uploads share the same files.
+     *
+     * @param filename the name of the file to delete, relative to the upload directory
      * @return true if the file was deleted, false if it didn't exist
      * @throws IOException if there's an error deleting the file
      */
@@ -69,12 +256,17 @@ public class ImageStorageService {
             return false;
         }
 
-        // Clean the filename (remove any path components for security)
-        String cleanFilename = Paths.get(filename).getFileName().toString();
-        Path filePath = Paths.get(uploadDir, cleanFilename);
+        // getImagePath drops any path components other than the hash prefix
+        Path filePath = getImagePath(filename);
 
         if (Files.exists(filePath)) {
             Files.delete(filePath);
+            imageContentCache.invalidar(filePath);
+            for (ImagenVariante variante : ImagenVariante.values()) {
+                Path variantPath = getImagePath(filename, variante);
+                Files.deleteIfExists(variantPath);
+                imageContentCache.invalidar(variantPath);
+            }
             log.info("Image deleted successfully: {}", filePath.toAbsolutePath());
             return true;
         } else {
@@ -85,7 +277,7 @@ public class ImageStorageService {
 
     /**
      * Checks if an image file exists.
-     * 
+     *
      * @param filename the name of the file to check
      * @return true if the file exists, false otherwise
      */
@@ -94,15 +286,71 @@ public class ImageStorageService {
             return false;
         }
 
-        String cleanFilename = Paths.get(filename).getFileName().toString();
-        Path filePath = Paths.get(uploadDir, cleanFilename);
-        return Files.exists(filePath);
+        return Files.exists(getImagePath(filename));
+    }
+
+    /**
+     * Checks if any scenario uses the image. The reference count is the number of escenarios whose
+     * {@code imagenUrl} points to it, so it cannot drift from the data.
+     *
+     * @param filename the image filename, relative to the upload directory
+     * @return true if at least one escenario references the image
+     */
+    public boolean isReferenced(String filename) {
+        Path path = getImagePath(filename);
+        if (path == null) {
+            return false;
+        }
+        String relative = Paths.get(uploadDir).relativize(path).toString().replace('\\', '/');
+        return escenarioRepositoryPort.countByImagenUrl("/" + uploadDir + relative) > 0;
+    }
+
+    /**
+     * Deletes stored images no escenario references, together with temporary files left by interrupted
+     * uploads. Only files older than the minimum age are considered: a new upload is not referenced until
+     * its escenario is saved, and re-uploading an existing image refreshes its modification time.
+     *
+     * @return the number of images deleted
+     */
+    @Scheduled(cron = "${app.images.orphan-sweep-cron:0 15 4 * * *}")
+    public int sweepOrphans() {
+        Path dirPath = Paths.get(uploadDir);
+        if (!Files.isDirectory(dirPath)) {
+            return 0;
+        }
+        Instant cutoff = Instant.now().minus(orphanMinAge);
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(dirPath, 2)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        } catch (IOException e) {
+            log.warn("Could not list images for the orphan sweep: {}", e.getMessage());
+            return 0;
+        }
+
+        int deleted = 0;
+        for (Path file : files) {
+            String filename = dirPath.relativize(file).toString().replace('\\', '/');
+            try {
+                if (!Files.exists(file) || !isOlderThan(file, cutoff)) {
+                    continue;
+                }
+                if (filename.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (!isVariant(filename) && !isReferenced(filename) && deleteImage(filename)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("Could not sweep image {}: {}", filename, e.getMessage());
+            }
+        }
+        log.info("Image orphan sweep: {} unreferenced images deleted", deleted);
+        return deleted;
     }
 
     /**
      * Gets the file path for an image.
-     * 
-     * @param filename the image filename
+     *
+     * @param filename the image filename, optionally with its hash prefix directory ({@code ab/abcd...jpg})
      * @return the full file path
      */
     public Path getImagePath(String filename) {
@@ -110,13 +358,222 @@ public class ImageStorageService {
             return null;
         }
 
-        String cleanFilename = Paths.get(filename).getFileName().toString();
+        // Clean the filename: only the file name and a hash prefix directory are kept
+        String normalized = filename.replace('\\', '/');
+        int slash = normalized.lastIndexOf('/');
+        String cleanFilename = Paths.get(normalized.substring(slash + 1)).getFileName().toString();
+        if (slash > 0) {
+            String parent = normalized.substring(0, slash);
+            String prefix = parent.substring(parent.lastIndexOf('/') + 1);
+            if (HASH_PREFIX.matcher(prefix).matches()) {
+                return Paths.get(uploadDir, prefix, cleanFilename);
+            }
+        }
         return Paths.get(uploadDir, cleanFilename);
     }
 
+    /**
+     * Gets the file path for a size variant of an image.
+     *
+     * @param filename the image filename (as stored in the image URL)
+     * @param variante the requested size
+     * @return the variant file path (it may not exist for images stored without variants)
+     */
+    public Path getImagePath(String filename, ImagenVariante variante) {
+        Path original = getImagePath(filename);
+        if (original == null || variante == ImagenVariante.FULL) {
+            return original;
+        }
+        String name = original.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String variantName = dot > 0
+                ? name.substring(0, dot) + variante.getSufijo() + name.substring(dot)
+                : name + variante.getSufijo();
+        return original.resolveSibling(variantName);
+    }
+
+    /**
+     * Resolves the file to serve for a size variant, falling back to the uploaded file
+     * for images stored without variants (legacy uploads, WebP).
+     *
+     * @param filename the image filename (as stored in the image URL)
+     * @param variante the requested size
+     * @return the existing file path, or null if the image doesn't exist
+     */
+    public Path resolveImage(String filename, ImagenVariante variante) {
+        Path path = getImagePath(filename, variante);
+        if (path != null && !Files.isRegularFile(path)) {
+            path = getImagePath(filename);
+        }
+        return path != null && Files.isRegularFile(path) ? path : null;
+    }
+
+    /**
+     * Refreshes the modification time of a reused image so the orphan sweep treats it as a new upload.
+     */
+    private void touch(String filename) throws IOException {
+        FileTime now = FileTime.from(Instant.now());
+        for (ImagenVariante variante : ImagenVariante.values()) {
+            Path path = getImagePath(filename, variante);
+            if (Files.exists(path)) {
+                Files.setLastModifiedTime(path, now);
+            }
+        }
+    }
+
+    private static boolean isOlderThan(Path file, Instant cutoff) throws IOException {
+        return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+    }
+
+    private boolean isVariant(String filename) {
+        String name = filename.substring(filename.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        String baseName = dot > 0 ? name.substring(0, dot) : name;
+        for (ImagenVariante variante : ImagenVariante.values()) {
+            if (!variante.getSufijo().isEmpty() && baseName.endsWith(variante.getSufijo())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasAllVariants(String filename) {
+        for (ImagenVariante variante : maxDimensions.keySet()) {
+            if (!Files.isRegularFile(getImagePath(filename, variante))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the image once, checking its dimensions from the header before allocating pixels.
+     *
+     * @return the decoded image, or null if no ImageIO reader supports the format
+     */
+    private BufferedImage decode(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("La imagen excede el máximo de " + maxPixels + " píxeles");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void storeVariants(BufferedImage source, Path dirPath, String baseName) throws IOException {
+        Map<ImagenVariante, Path> targets = maxDimensions.keySet().stream()
+                .collect(Collectors.toMap(v -> v,
+                        v -> dirPath.resolve(baseName + v.getSufijo() + "." + VARIANT_EXTENSION),
+                        (a, b) -> a, () -> new EnumMap<>(ImagenVariante.class)));
+
+        // Each variant scales from the decoded source; the image is only read, so tasks can share it
+        CompletableFuture<?>[] tasks = targets.entrySet().stream()
+                .map(target -> CompletableFuture.runAsync(() -> {
+                    try {
+                        writeJpeg(scale(source, maxDimensions.get(target.getKey())), target.getValue(),
+                                target.getKey() != ImagenVariante.THUMB);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, imageProcessingExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            for (Path path : targets.values()) {
+                Files.deleteIfExists(path);
+            }
+            Throwable cause = e.getCause() instanceof UncheckedIOException unchecked ? unchecked.getCause() : e.getCause();
+            throw cause instanceof IOException io ? io : new IOException("Error generando variantes de la imagen", cause);
+        }
+    }
+
+    /**
+     * Scales the image to fit in a maxSize square, halving in steps (single-step bilinear
+     * loses detail on large reductions). The result is always opaque RGB, ready for JPEG.
+     */
+    static BufferedImage scale(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double factor = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * factor));
+        int targetHeight = Math.max(1, (int) Math.round(height * factor));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth > targetWidth || currentHeight > targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            // White background for transparent images (JPEG has no alpha channel)
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Encodes as JPEG into a temporary file and moves it into place, so a partial file is never served.
+     */
+    private void writeJpeg(BufferedImage image, Path target, boolean progressive) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(VARIANT_FORMAT).next();
+        // Unique temporary name: identical uploads may be encoding the same target concurrently
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            if (progressive) {
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            }
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
     /**
      * Extracts the file extension from a filename.
-     * 
+     *
      * @param filename the filename to extract extension from
      * @return the file extension without the dot, or null if no extension
      */
@@ -129,7 +586,7 @@ public class ImageStorageService {
 
     /**
      * Generates a unique filename with the given extension.
-     * 
+     *
      * @param originalFilename the original filename to preserve extension
      * @return a unique filename
      */
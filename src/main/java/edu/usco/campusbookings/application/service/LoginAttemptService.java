@@ -0,0 +1,193 @@
+package edu.usco.campusbookings.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.usco.campusbookings.application.exception.LoginBloqueadoException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Protección contra fuerza bruta en el login.
+ * <p>
+ * Registra los intentos fallidos por email y por IP en ventanas deslizantes; al superar el máximo,
+ * la clave queda bloqueada y los intentos siguientes se rechazan antes de consultar la BD o calcular BCrypt.
+ * Las claves viven en un mapa acotado que descarta las inactivas.
+ * <p>
+ * La IP debe ser la del cliente real: detrás del proxy de Railway la resuelve Tomcat desde
+ * {@code X-Forwarded-For} ({@code server.forward-headers-strategy=native}). Sin eso todos los
+ * clientes compartirían la IP del proxy y unos pocos fallos bloquearían el login para todos.
+ */
+@Slf4j
+@Service
+public class LoginAttemptService {
+
+    private static final String EMAIL_PREFIX = "email:";
+    private static final String IP_PREFIX = "ip:";
+
+    private final int maxAttempts;
+    private final int ipMaxAttempts;
+    private final long lockoutMillis;
+    private final long windowMillis;
+    private final Cache<String, AttemptLog> attempts;
+
+    private final AtomicLong failedAttempts = new AtomicLong();
+    private final AtomicLong lockouts = new AtomicLong();
+    private final AtomicLong rejectedAttempts = new AtomicLong();
+
+    public LoginAttemptService(@Value("${security.login.max-attempts:5}") int maxAttempts,
+                               @Value("${security.login.ip-max-attempts:50}") int ipMaxAttempts,
+                               @Value("${security.login.lockout-duration:300000}") long lockoutMillis,
+                               @Value("${security.login.attempt-window:900000}") long windowMillis,
+                               @Value("${security.login.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.ipMaxAttempts = Math.max(1, ipMaxAttempts);
+        this.lockoutMillis = lockoutMillis;
+        this.windowMillis = windowMillis;
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofMillis(Math.max(lockoutMillis, windowMillis)))
+                .build();
+    }
+
+    /**
+     * Intentos fallidos recientes de una clave (ring buffer de marcas de tiempo) y su bloqueo vigente
+     */
+    private static final class AttemptLog {
+        private final long[] failures;
+        private int next;
+        private int count;
+        private long lockedUntil;
+
+        private AttemptLog(int capacity) {
+            this.failures = new long[capacity];
+        }
+
+        synchronized long remainingLockMillis(long now) {
+            return Math.max(0, lockedUntil - now);
+        }
+
+        /**
+         * @return true si este fallo completó el máximo dentro de la ventana y la clave quedó bloqueada
+         */
+        synchronized boolean recordFailure(long now, long windowMillis, long lockoutMillis) {
+            failures[next] = now;
+            next = (next + 1) % failures.length;
+            count = Math.min(count + 1, failures.length);
+            // Con el buffer lleno, failures[next] es el fallo más antiguo de los últimos N
+            if (count == failures.length && now - failures[next] <= windowMillis) {
+                lockedUntil = now + lockoutMillis;
+                count = 0;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Rechaza el intento si el email o la IP están bloqueados. No toca la BD.
+     *
+     * @throws LoginBloqueadoException si hay un bloqueo vigente
+     */
+    public void verificarPermitido(String email, String ip) {
+        long now = System.currentTimeMillis();
+        long remaining = Math.max(remainingLock(emailKey(email), now), remainingLock(ipKey(ip), now));
+        if (remaining > 0) {
+            rejectedAttempts.incrementAndGet();
+            long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remaining + 999));
+            throw new LoginBloqueadoException(
+                    "Demasiados intentos fallidos. Intente de nuevo en " + retryAfterSeconds + " segundos", retryAfterSeconds);
+        }
+    }
+
+    private long remainingLock(String key, long now) {
+        if (key == null) {
+            return 0;
+        }
+        AttemptLog log = attempts.getIfPresent(key);
+        return log != null ? log.remainingLockMillis(now) : 0;
+    }
+
+    public void registrarFallo(String email, String ip) {
+        long now = System.currentTimeMillis();
+        failedAttempts.incrementAndGet();
+        recordFailure(emailKey(email), maxAttempts, now);
+        recordFailure(ipKey(ip), ipMaxAttempts, now);
+    }
+
+    private void recordFailure(String key, int capacity, long now) {
+        if (key == null) {
+            return;
+        }
+        AttemptLog attemptLog = attempts.get(key, k -> new AttemptLog(capacity));
+        if (attemptLog.recordFailure(now, windowMillis, lockoutMillis)) {
+            lockouts.incrementAndGet();
+            log.warn("Login bloqueado para {} durante {} ms", key, lockoutMillis);
+        }
+    }
+
+    /**
+     * Un login exitoso limpia los fallos del email (no los de la IP, que puede ser compartida)
+     */
+    public void registrarExito(String email) {
+        String key = emailKey(email);
+        if (key != null) {
+            attempts.invalidate(key);
+        }
+    }
+
+    public boolean desbloquearEmail(String email) {
+        return desbloquear(emailKey(email));
+    }
+
+    public boolean desbloquearIp(String ip) {
+        return desbloquear(ipKey(ip));
+    }
+
+    private boolean desbloquear(String key) {
+        if (key == null || attempts.getIfPresent(key) == null) {
+            return false;
+        }
+        attempts.invalidate(key);
+        log.info("Bloqueo de login eliminado manualmente para {}", key);
+        return true;
+    }
+
+    /**
+     * Métricas de bloqueo para administración
+     */
+    public Map<String, Object> getEstadisticas() {
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> bloqueados = attempts.asMap().entrySet().stream()
+                .filter(entry -> entry.getValue().remainingLockMillis(now) > 0)
+                .map(entry -> Map.<String, Object>of(
+                        "key", entry.getKey(),
+                        "remainingSeconds", TimeUnit.MILLISECONDS.toSeconds(entry.getValue().remainingLockMillis(now))))
+                .toList();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("failedAttempts", failedAttempts.get());
+        stats.put("lockouts", lockouts.get());
+        stats.put("rejectedWhileLocked", rejectedAttempts.get());
+        stats.put("trackedKeys", attempts.estimatedSize());
+        stats.put("currentlyLocked", bloqueados.size());
+        stats.put("locked", bloqueados);
+        return stats;
+    }
+
+    private static String emailKey(String email) {
+        return email == null || email.isBlank() ? null : EMAIL_PREFIX + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String ip) {
+        return ip == null || ip.isBlank() ? null : IP_PREFIX + ip;
+    }
+}
@@ -0,0 +1,104 @@
+package edu.usco.campusbookings.application.service;
+
+import edu.usco.campusbookings.application.port.input.NotificacionInboxUseCase;
+import edu.usco.campusbookings.application.port.output.NotificacionInboxRepositoryPort;
+import edu.usco.campusbookings.domain.model.NotificacionCursor;
+import edu.usco.campusbookings.domain.model.NotificacionInbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Bandeja persistente de notificaciones: almacenamiento append-only por usuario,
+ * reenvío por cursor al reconectar, conteo de no leídas y compactación por retención.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificacionInboxService implements NotificacionInboxUseCase {
+
+    private final NotificacionInboxRepositoryPort inboxRepositoryPort;
+
+    @Value("${notifications.inbox.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${notifications.inbox.max-per-user:200}")
+    private int maxPerUser;
+
+    /**
+     * Agrega una notificación a la bandeja del usuario.
+     * Nunca se une a la transacción del llamador: el bloqueo del cursor duraría hasta que confirmara
+     * la reserva y un fallo de la bandeja la marcaría rollback-only. {@link NotificationService} la
+     * invoca tras el commit del cambio que la originó.
+     *
+     * @param usuarioId  destinatario
+     * @param tipo       tipo de notificación
+     * @param serializar recibe la secuencia asignada y devuelve el JSON final a guardar y enviar
+     * @return el JSON guardado
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String registrar(Long usuarioId, String tipo, LongFunction<String> serializar) {
+        long secuencia = inboxRepositoryPort.siguienteSecuencia(usuarioId);
+        String payload = serializar.apply(secuencia);
+
+        inboxRepositoryPort.save(NotificacionInbox.builder()
+                .usuarioId(usuarioId)
+                .secuencia(secuencia)
+                .tipo(tipo)
+                .payload(payload)
+                .fechaCreacion(LocalDateTime.now())
+                .build());
+
+        log.debug("Notification {} stored in inbox of user {}", secuencia, usuarioId);
+        return payload;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> obtenerDesde(Long usuarioId, long desdeSecuencia, int limite) {
+        return inboxRepositoryPort.findPayloadsDesde(usuarioId, desdeSecuencia, limite);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long contarNoLeidas(Long usuarioId) {
+        return inboxRepositoryPort.findCursor(usuarioId)
+                .map(NotificacionCursor::getNoLeidas)
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long obtenerUltimaSecuencia(Long usuarioId) {
+        return inboxRepositoryPort.findCursor(usuarioId)
+                .map(NotificacionCursor::getUltimaSecuencia)
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional
+    public void marcarLeidasHasta(Long usuarioId, long hastaSecuencia) {
+        inboxRepositoryPort.marcarLeidasHasta(usuarioId, hastaSecuencia);
+    }
+
+    /**
+     * Compactación diaria: elimina entradas fuera de la retención y el excedente por usuario.
+     * Los cursores no se tocan, así que las secuencias siguen creciendo.
+     */
+    @Scheduled(cron = "${notifications.inbox.compaction-cron:0 30 3 * * *}")
+    @Transactional
+    public void compactar() {
+        int porAntiguedad = inboxRepositoryPort.deleteAnterioresA(LocalDateTime.now().minusDays(retentionDays));
+        int porExcedente = inboxRepositoryPort.deleteExcedentePorUsuario(maxPerUser);
+        log.info("Compactación de bandeja de notificaciones: {} por antigüedad, {} por excedente", porAntiguedad, porExcedente);
+    }
+}
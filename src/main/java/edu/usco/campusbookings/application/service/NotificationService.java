@@ -1,24 +1,47 @@
 package edu.usco.campusbookings.application.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
 import edu.usco.campusbookings.application.dto.notification.ReservaNotificationDto;
+import edu.usco.campusbookings.application.port.input.NotificacionInboxUseCase;
+import edu.usco.campusbookings.application.port.output.NotificationBus;
 import edu.usco.campusbookings.domain.model.AlertaReserva;
 import edu.usco.campusbookings.domain.model.Reserva;
-import edu.usco.campusbookings.infrastructure.adapter.input.handler.NotificationWebSocketHandler;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.Executor;
 
 /**
- * Servicio para el manejo de notificaciones en tiempo real via WebSocket nativo
+ * Servicio para el manejo de notificaciones en tiempo real via WebSocket nativo.
+ * Las notificaciones se serializan una vez y se publican en el {@link NotificationBus};
+ * cada nodo las entrega a las sesiones que tiene conectadas. Las notificaciones privadas
+ * se guardan antes en la bandeja del usuario para reenviarlas si estaba desconectado.
+ * Ambos buses entregan al confirmar la transacción del llamador, nunca antes.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
     
-    private final NotificationWebSocketHandler webSocketHandler;
+    private final NotificationBus notificationBus;
+    private final ObjectMapper objectMapper;
+    private final NotificacionInboxUseCase notificacionInboxUseCase;
+    private final Executor notificationExecutor;
+
+    public NotificationService(NotificationBus notificationBus,
+                               ObjectMapper objectMapper,
+                               NotificacionInboxUseCase notificacionInboxUseCase,
+                               @Qualifier("notificationExecutor") Executor notificationExecutor) {
+        this.notificationBus = notificationBus;
+        this.objectMapper = objectMapper;
+        this.notificacionInboxUseCase = notificacionInboxUseCase;
+        this.notificationExecutor = notificationExecutor;
+    }
     
     /**
      * Envía notificación cuando una reserva es aprobada
@@ -141,29 +164,68 @@ public class NotificationService {
     }
     
     /**
-     * Envía notificación privada a un usuario específico
+     * Guarda la notificación en la bandeja del usuario y la envía a sus sesiones conectadas.
+     * Se hace tras el commit del llamador y en el ejecutor de notificaciones (un hilo, FIFO): la
+     * bandeja no retiene el bloqueo de su cursor durante la transacción de la reserva, un fallo
+     * suyo no revierte la aprobación o cancelación, y una reserva revertida no deja notificación.
      */
     private void enviarNotificacionPrivada(Long usuarioId, ReservaNotificationDto notification) {
+        alConfirmar(() -> notificationExecutor.execute(() -> registrarYPublicar(usuarioId, notification)));
+    }
+
+    private void registrarYPublicar(Long usuarioId, ReservaNotificationDto notification) {
         try {
-            webSocketHandler.sendNotificationToUser(usuarioId, notification);
+            String payload = notificacionInboxUseCase.registrar(usuarioId, notification.getTipo().name(), secuencia -> {
+                notification.setSecuencia(secuencia);
+                return serializarOFallar(notification);
+            });
+            notificationBus.publish(NotificationEnvelope.toUser(usuarioId, payload));
             log.info("✅ Native WebSocket notification sent to user {}", usuarioId);
         } catch (Exception e) {
             log.error("❌ Error sending private notification to user {}: {}", usuarioId, e.getMessage());
         }
     }
+
+    private static void alConfirmar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
     
     /**
      * Envía notificación a canal de administradores
      */
     private void enviarNotificacionAdmin(ReservaNotificationDto notification) {
         try {
-            webSocketHandler.sendNotificationToAllAdmins(notification);
+            notificationBus.publish(NotificationEnvelope.toGroup(NotificationEnvelope.ADMIN_GROUP, serializar(notification)));
             log.info("✅ Native WebSocket notification sent to all admins");
         } catch (Exception e) {
             log.error("❌ Error sending admin notification: {}", e.getMessage());
         }
     }
 
+    /**
+     * Serializa la notificación una sola vez; todos los nodos reenvían el mismo JSON
+     */
+    private String serializar(ReservaNotificationDto notification) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(notification);
+    }
+
+    private String serializarOFallar(ReservaNotificationDto notification) {
+        try {
+            return serializar(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la notificación", e);
+        }
+    }
+
     /**
      * Envía alerta por WebSocket
      */
@@ -6,6 +6,7 @@ import edu.usco.campusbookings.application.dto.response.PermissionResponse;
 import edu.usco.campusbookings.application.exception.PermissionNotFoundException;
 import edu.usco.campusbookings.application.mapper.PermissionMapper;
 import edu.usco.campusbookings.application.port.input.PermissionManagementUseCase;
+import edu.usco.campusbookings.application.port.output.PermissionCachePort;
 import edu.usco.campusbookings.application.port.output.PermissionRepositoryPort;
 import edu.usco.campusbookings.domain.model.Permission;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class PermissionManagementService implements PermissionManagementUseCase
 
     private final PermissionRepositoryPort permissionRepository;
     private final PermissionMapper permissionMapper;
+    private final PermissionCachePort permissionCachePort;
 
     @Override
     public PermissionResponse createPermission(CreatePermissionRequest request) {
@@ -69,6 +71,7 @@ public class PermissionManagementService implements PermissionManagementUseCase
 
         Permission updatedPermission = permissionRepository.save(permission);
         log.info("Permiso actualizado exitosamente: {}", updatedPermission.getId());
+        permissionCachePort.invalidateRoles();
         
         return permissionMapper.toResponse(updatedPermission);
     }
@@ -82,6 +85,7 @@ public class PermissionManagementService implements PermissionManagementUseCase
 
         permissionRepository.delete(permission);
         log.info("Permiso eliminado exitosamente: {}", permissionId);
+        permissionCachePort.invalidateRoles();
     }
 
     @Override
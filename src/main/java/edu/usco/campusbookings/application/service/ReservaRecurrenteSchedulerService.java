@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 /**
  * Servicio programado para la generación automática de reservas recurrentes.
  * Se ejecuta diariamente para crear las reservas pendientes según las configuraciones activas.
+ * El scheduler solo dispara las tareas; la generación corre en el pool de lotes ({@code batchExecutor}).
  */
 @Slf4j
 @Service
@@ -24,7 +25,7 @@ public class ReservaRecurrenteSchedulerService {
      * Se ejecuta todos los días a las 6:00 AM para generar las reservas recurrentes pendientes
      */
     @Scheduled(cron = "0 0 6 * * *") // Todos los días a las 6:00 AM
-    @Async
+    @Async("batchExecutor")
     public void generarReservasRecurrentesDiarias() {
         log.info("=== Iniciando generación automática de reservas recurrentes ===");
         
@@ -42,7 +43,7 @@ public class ReservaRecurrenteSchedulerService {
      * que puedan haberse perdido o necesiten generación inmediata
      */
     @Scheduled(cron = "0 0 8,10,12,14,16,18 * * MON-FRI") // Cada 2 horas de 8AM a 6PM, Lunes a Viernes
-    @Async
+    @Async("batchExecutor")
     public void verificacionHorarioLaboral() {
         log.debug("Verificando reservas recurrentes durante horario laboral");
         
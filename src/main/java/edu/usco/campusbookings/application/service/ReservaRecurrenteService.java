@@ -346,7 +346,7 @@ public class ReservaRecurrenteService implements ReservaRecurrenteUseCase {
         }
         
         List<Long> reservasGeneradas = new ArrayList<>();
-        List<LocalDate> fechasAGenerar = calcularFechasParaGeneracion(config, fechaLimite);
+        List<LocalDate> fechasAGenerar = calcularFechasParaGeneracion(config, LocalDate.now(), fechaLimite);
         
         for (LocalDate fecha : fechasAGenerar) {
             try {
@@ -465,9 +465,13 @@ public class ReservaRecurrenteService implements ReservaRecurrenteUseCase {
         return fechas;
     }
     
-    private List<LocalDate> calcularFechasParaGeneracion(ReservaRecurrente config, LocalDate fechaLimite) {
+    /**
+     * Fechas del patrón entre {@code desde} (o el inicio de la configuración) y {@code fechaLimite}.
+     * Estático y sin reloj para medirlo aislado ({@code RecurrenceExpansionBenchmark})
+     */
+    static List<LocalDate> calcularFechasParaGeneracion(ReservaRecurrente config, LocalDate desde, LocalDate fechaLimite) {
         List<LocalDate> fechas = new ArrayList<>();
-        LocalDate fechaActual = LocalDate.now();
+        LocalDate fechaActual = desde;
         
         // Si la fecha actual es anterior al inicio de la configuración, comenzar desde fechaInicio
         if (fechaActual.isBefore(config.getFechaInicio())) {
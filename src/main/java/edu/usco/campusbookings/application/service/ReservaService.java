@@ -53,7 +53,7 @@ public class ReservaService implements ReservaUseCase {
     private final EmailServicePort emailService;
     private final NotificationService notificationService;
     private final AlertaReservaUseCase alertaReservaUseCase;
-    private final GoogleCalendarService googleCalendarService;
+    private final CalendarSyncQueue calendarSyncQueue;
 
     @Override
     @Transactional
@@ -145,18 +145,8 @@ public class ReservaService implements ReservaUseCase {
                 // No lanzamos excepción para no afectar la creación de la reserva
             }
 
-            // Sincronizar con Google Calendar si el usuario está conectado
-            try {
-                String eventId = googleCalendarService.syncReservationWithCalendar(savedReserva);
-                if (eventId != null) {
-                    savedReserva.setGoogleCalendarEventId(eventId);
-                    reservaPersistencePort.save(savedReserva);
-                    log.info("Reservation synced with Google Calendar, event ID: {}", eventId);
-                }
-            } catch (Exception e) {
-                log.error("Error syncing reservation with Google Calendar for reservation ID: {}", savedReserva.getId(), e);
-                // No lanzamos excepción para no afectar la creación de la reserva
-            }
+            // Sincronizar con Google Calendar en segundo plano si el usuario está conectado
+            calendarSyncQueue.encolarSincronizacion(savedReserva);
         
         return reservaMapper.toDto(savedReserva);
     }
@@ -206,18 +196,8 @@ public class ReservaService implements ReservaUseCase {
                         // No lanzamos excepción para no afectar la aprobación
                     }
 
-                    // Sincronizar con Google Calendar al aprobar
-                    try {
-                        String eventId = googleCalendarService.syncReservationWithCalendar(updatedReserva);
-                        if (eventId != null) {
-                            updatedReserva.setGoogleCalendarEventId(eventId);
-                            reservaPersistencePort.save(updatedReserva);
-                            log.info("Approved reservation synced with Google Calendar, event ID: {}", eventId);
-                        }
-                    } catch (Exception e) {
-                        log.error("Error syncing approved reservation with Google Calendar for reservation ID: {}", updatedReserva.getId(), e);
-                        // No lanzamos excepción para no afectar la aprobación
-                    }
+                    // Sincronizar con Google Calendar al aprobar (en segundo plano)
+                    calendarSyncQueue.encolarSincronizacion(updatedReserva);
                     
                     return reservaMapper.toDto(updatedReserva);
                 })
@@ -306,17 +286,12 @@ public class ReservaService implements ReservaUseCase {
                         // No lanzamos excepción para no afectar la cancelación
                     }
 
-                    // Eliminar evento de Google Calendar si existe
-                    try {
-                        if (updatedReserva.getGoogleCalendarEventId() != null) {
-                            googleCalendarService.deleteEventFromCalendar(updatedReserva.getGoogleCalendarEventId());
-                            updatedReserva.setGoogleCalendarEventId(null);
-                            reservaPersistencePort.save(updatedReserva);
-                            log.info("Google Calendar event deleted for canceled reservation ID: {}", updatedReserva.getId());
-                        }
-                    } catch (Exception e) {
-                        log.error("Error deleting Google Calendar event for reservation ID: {}", updatedReserva.getId(), e);
-                        // No lanzamos excepción para no afectar la cancelación
+                    // Eliminar evento de Google Calendar si existe (en segundo plano, del calendario del dueño)
+                    if (updatedReserva.getGoogleCalendarEventId() != null) {
+                        calendarSyncQueue.encolarEliminacion(updatedReserva);
+                        updatedReserva.setGoogleCalendarEventId(null);
+                        reservaPersistencePort.save(updatedReserva);
+                        log.info("Google Calendar event deletion queued for canceled reservation ID: {}", updatedReserva.getId());
                     }
                     
                     return reservaMapper.toDto(updatedReserva);
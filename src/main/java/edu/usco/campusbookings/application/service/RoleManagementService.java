@@ -9,6 +9,7 @@ import edu.usco.campusbookings.application.exception.RolNotFoundException;
 import edu.usco.campusbookings.application.exception.RolValidationException;
 import edu.usco.campusbookings.application.mapper.RolMapper;
 import edu.usco.campusbookings.application.port.input.RoleManagementUseCase;
+import edu.usco.campusbookings.application.port.output.PermissionCachePort;
 import edu.usco.campusbookings.application.port.output.PermissionRepositoryPort;
 import edu.usco.campusbookings.application.port.output.RolRepositoryPort;
 import edu.usco.campusbookings.domain.model.Permission;
@@ -32,6 +33,8 @@ public class RoleManagementService implements RoleManagementUseCase {
     private final RolRepositoryPort rolRepository;
     private final PermissionRepositoryPort permissionRepository;
     private final RolMapper rolMapper;
+    private final TokenVersionService tokenVersionService;
+    private final PermissionCachePort permissionCachePort;
 
     @Override
     public RolDetailResponse createRole(CreateRolRequest request) {
@@ -51,6 +54,7 @@ public class RoleManagementService implements RoleManagementUseCase {
 
         Rol savedRol = rolRepository.save(rol);
         log.info("Rol creado exitosamente con ID: {}", savedRol.getId());
+        permissionCachePort.invalidateRoles();
         
         // Cargar el rol con permisos para la respuesta
         Rol rolWithPermissions = rolRepository.findByIdWithPermissions(savedRol.getId())
@@ -67,11 +71,13 @@ public class RoleManagementService implements RoleManagementUseCase {
                 .orElseThrow(() -> RolNotFoundException.withId(roleId));
 
         // Verificar si el nuevo nombre ya existe en otro rol
+        boolean nombreCambiado = false;
         if (request.getNombre() != null && !request.getNombre().equals(rol.getNombre())) {
             if (rolRepository.existsByNombre(request.getNombre())) {
                 throw RolValidationException.duplicateName(request.getNombre());
             }
             rol.setNombre(request.getNombre());
+            nombreCambiado = true;
         }
 
         if (request.getDescripcion() != null) {
@@ -94,6 +100,12 @@ public class RoleManagementService implements RoleManagementUseCase {
 
         Rol updatedRol = rolRepository.save(rol);
         log.info("Rol actualizado exitosamente: {}", updatedRol.getId());
+        permissionCachePort.invalidateRoles();
+
+        // El nombre del rol viaja en los tokens de sus usuarios
+        if (nombreCambiado) {
+            tokenVersionService.revocarTokensRol(updatedRol.getId());
+        }
         
         return rolMapper.toDetailResponse(updatedRol);
     }
@@ -112,6 +124,7 @@ public class RoleManagementService implements RoleManagementUseCase {
 
         rolRepository.delete(rol);
         log.info("Rol eliminado exitosamente: {}", roleId);
+        permissionCachePort.invalidateRoles();
     }
 
     @Override
@@ -180,6 +193,7 @@ public class RoleManagementService implements RoleManagementUseCase {
 
         Rol updatedRol = rolRepository.save(rol);
         log.info("Permisos asignados exitosamente al rol: {}", roleId);
+        permissionCachePort.invalidateRoles();
         
         return rolMapper.toDetailResponse(updatedRol);
     }
@@ -199,6 +213,7 @@ public class RoleManagementService implements RoleManagementUseCase {
 
         Rol updatedRol = rolRepository.save(rol);
         log.info("Permisos removidos exitosamente del rol: {}", roleId);
+        permissionCachePort.invalidateRoles();
         
         return rolMapper.toDetailResponse(updatedRol);
     }
@@ -219,6 +234,7 @@ public class RoleManagementService implements RoleManagementUseCase {
         Rol updatedRol = rolRepository.save(rol);
         
         log.info("Estado del rol cambiado a: {}", updatedRol.getActivo());
+        permissionCachePort.invalidateRoles();
         return rolMapper.toResponse(updatedRol);
     }
 
@@ -3,6 +3,7 @@ package edu.usco.campusbookings.application.service;
 import edu.usco.campusbookings.application.dto.response.ScenarioTypePermissionResponse;
 import edu.usco.campusbookings.application.mapper.ScenarioTypePermissionMapper;
 import edu.usco.campusbookings.application.port.input.ScenarioTypePermissionUseCase;
+import edu.usco.campusbookings.application.port.output.PermissionCachePort;
 import edu.usco.campusbookings.application.port.output.ScenarioTypePermissionRepositoryPort;
 import edu.usco.campusbookings.application.port.output.TipoEscenarioRepositoryPort;
 import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
@@ -25,6 +26,7 @@ public class ScenarioTypePermissionService implements ScenarioTypePermissionUseC
     private final UsuarioRepositoryPort usuarioRepositoryPort;
     private final TipoEscenarioRepositoryPort tipoEscenarioRepositoryPort;
     private final ScenarioTypePermissionMapper mapper;
+    private final PermissionCachePort permissionCachePort;
 
     @Override
     @Transactional
@@ -45,6 +47,7 @@ public class ScenarioTypePermissionService implements ScenarioTypePermissionUseC
         
         ScenarioTypePermission saved = scenarioTypePermissionRepositoryPort.save(perm);
         log.info("Permiso asignado exitosamente con ID: {}", saved.getId());
+        permissionCachePort.invalidateUser(userEmail);
         
         return mapper.toResponse(saved);
     }
@@ -71,6 +74,7 @@ public class ScenarioTypePermissionService implements ScenarioTypePermissionUseC
 
         // Eliminar el permiso
         scenarioTypePermissionRepositoryPort.delete(permiso);
+        permissionCachePort.invalidateUser(userEmail);
         
         log.info("Permiso {} para tipo {} revocado exitosamente del usuario {}", action, tipoNombre, userEmail);
     }
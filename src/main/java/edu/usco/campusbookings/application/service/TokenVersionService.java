@@ -0,0 +1,88 @@
+package edu.usco.campusbookings.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
+import edu.usco.campusbookings.domain.model.Usuario;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Versión de tokens por usuario para revocar JWT sin consultar al usuario en cada request.
+ * <p>
+ * Cada token lleva la versión vigente al emitirse; si el rol del usuario cambia la versión se incrementa
+ * y los tokens anteriores dejan de aceptarse. La versión actual se guarda en una caché de vida corta,
+ * así que la consulta a la BD ocurre como máximo una vez por usuario y TTL.
+ */
+@Slf4j
+@Service
+public class TokenVersionService {
+
+    // Usuario inexistente: ningún token es válido
+    private static final long USUARIO_INEXISTENTE = -1L;
+
+    private final UsuarioRepositoryPort usuarioRepository;
+    private final Cache<Long, Long> versiones;
+
+    public TokenVersionService(UsuarioRepositoryPort usuarioRepository,
+                               @Value("${security.auth.principal-cache-ttl-seconds:60}") long ttlSeconds,
+                               @Value("${security.auth.principal-cache-max-size:10000}") long maxSize) {
+        this.usuarioRepository = usuarioRepository;
+        this.versiones = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Indica si un token emitido con la versión dada sigue vigente para el usuario
+     */
+    public boolean isVigente(Long usuarioId, long versionToken) {
+        long actual = versiones.get(usuarioId, id -> usuarioRepository.findTokenVersionById(id)
+                .orElse(USUARIO_INEXISTENTE));
+        return actual != USUARIO_INEXISTENTE && versionToken >= actual;
+    }
+
+    /**
+     * Invalida los tokens de un usuario que el llamador ya está modificando: la versión se incrementa
+     * en la propia entidad y viaja en el mismo UPDATE, sin una sentencia masiva aparte sobre la fila
+     */
+    public void revocarTokens(Usuario usuario) {
+        long actual = usuario.getTokenVersion() != null ? usuario.getTokenVersion() : 0L;
+        usuario.setTokenVersion(actual + 1);
+        log.info("Tokens revocados para el usuario {}", usuario.getId());
+        alConfirmar(() -> versiones.invalidate(usuario.getId()));
+    }
+
+    /**
+     * Invalida los tokens de todos los usuarios con el rol indicado
+     */
+    @Transactional
+    public void revocarTokensRol(Long rolId) {
+        int afectados = usuarioRepository.incrementTokenVersionByRolId(rolId);
+        log.info("Tokens revocados para {} usuarios del rol {}", afectados, rolId);
+        alConfirmar(versiones::invalidateAll);
+    }
+
+    /**
+     * Limpiar la caché solo tras el commit; antes, otro request podría volver a cachear la versión anterior
+     */
+    private void alConfirmar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import edu.usco.campusbookings.application.exception.UsuarioNotFoundException;
 import edu.usco.campusbookings.application.exception.RolNotFoundException;
 
 import edu.usco.campusbookings.application.port.input.UserManagementUseCase;
+import edu.usco.campusbookings.application.port.output.PermissionCachePort;
 import edu.usco.campusbookings.application.port.output.RolRepositoryPort;
 import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
 import edu.usco.campusbookings.domain.model.Rol;
@@ -28,6 +29,8 @@ public class UserManagementService implements UserManagementUseCase {
     private final UsuarioRepositoryPort usuarioRepository;
     private final RolRepositoryPort rolRepository;
     private final NotificationService notificationService;
+    private final TokenVersionService tokenVersionService;
+    private final PermissionCachePort permissionCachePort;
 
     @Override
     @Transactional(readOnly = true)
@@ -75,10 +78,14 @@ public class UserManagementService implements UserManagementUseCase {
         
         String rolAnterior = usuario.getRol() != null ? usuario.getRol().getNombre() : "SIN_ROL";
         usuario.setRol(nuevoRol);
+        // Los tokens emitidos llevan el rol anterior en sus claims
+        tokenVersionService.revocarTokens(usuario);
         
         Usuario usuarioActualizado = usuarioRepository.save(usuario);
         log.info("Rol del usuario {} cambiado de {} a {}", 
                 usuario.getEmail(), rolAnterior, nuevoRol.getNombre());
+
+        permissionCachePort.invalidateUser(usuarioActualizado.getEmail());
         
         // Enviar notificación WebSocket al usuario sobre el cambio de rol
         try {
@@ -4,14 +4,17 @@ import edu.usco.campusbookings.application.dto.request.UsuarioRequest;
 import edu.usco.campusbookings.application.dto.response.UsuarioResponse;
 import edu.usco.campusbookings.application.mapper.UsuarioMapper;
 import edu.usco.campusbookings.application.port.input.UsuarioUseCase;
+import edu.usco.campusbookings.application.port.output.PermissionCachePort;
 import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
 import edu.usco.campusbookings.application.exception.UsuarioNotFoundException;
+import edu.usco.campusbookings.domain.model.Rol;
 import edu.usco.campusbookings.domain.model.Usuario;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Service implementation for managing usuarios.
@@ -22,6 +25,8 @@ public class UsuarioService implements UsuarioUseCase {
 
     private final UsuarioRepositoryPort usuarioRepository;
     private final UsuarioMapper usuarioMapper;
+    private final PermissionCachePort permissionCachePort;
+    private final TokenVersionService tokenVersionService;
 
     /**
      * Creates a new usuario.
@@ -105,13 +110,7 @@ public class UsuarioService implements UsuarioUseCase {
     @Override
     @Transactional
     public UsuarioResponse updateUsuario(Long id, UsuarioRequest request) {
-        if (!usuarioRepository.existsById(id)) {
-            throw UsuarioNotFoundException.withId(id);
-        }
-
-        Usuario usuario = usuarioMapper.toDomain(request);
-        usuario.setId(id);
-        usuario = usuarioRepository.save(usuario);
+        Usuario usuario = usuarioRepository.save(aplicarCambios(id, usuarioMapper.toDomain(request)));
         return usuarioMapper.toResponse(usuario);
     }
 
@@ -156,10 +155,39 @@ public class UsuarioService implements UsuarioUseCase {
     @Override
     @Transactional
     public Usuario update(Long id, Usuario usuario) {
-        if (!usuarioRepository.existsById(id)) {
-            throw UsuarioNotFoundException.withId(id);
+        return usuarioRepository.save(aplicarCambios(id, usuario));
+    }
+
+    /**
+     * Copia los datos editables sobre la entidad persistida. Guardar la entidad recibida tal cual
+     * dejaba {@code tokenVersion} en null y volvía a validar los tokens revocados; si cambia el rol,
+     * los tokens emitidos llevan el anterior en sus claims y se revocan.
+     * <p>
+     * Los permisos cacheados se indexan por email: si este cambia, la entrada del email anterior
+     * seguiría sirviendo el rol viejo, así que se invalidan ambos (tras el commit).
+     */
+    private Usuario aplicarCambios(Long id, Usuario cambios) {
+        Usuario usuario = usuarioRepository.findById(id)
+                .orElseThrow(() -> UsuarioNotFoundException.withId(id));
+        String emailAnterior = usuario.getEmail();
+        boolean cambiaRol = !Objects.equals(idRol(usuario.getRol()), idRol(cambios.getRol()));
+
+        usuario.setNombre(cambios.getNombre());
+        usuario.setApellido(cambios.getApellido());
+        usuario.setEmail(cambios.getEmail());
+        usuario.setPassword(cambios.getPassword());
+        usuario.setRol(cambios.getRol());
+        if (cambiaRol) {
+            tokenVersionService.revocarTokens(usuario);
         }
-        usuario.setId(id);
-        return usuarioRepository.save(usuario);
+        permissionCachePort.invalidateUser(emailAnterior);
+        if (!Objects.equals(emailAnterior, usuario.getEmail())) {
+            permissionCachePort.invalidateUser(usuario.getEmail());
+        }
+        return usuario;
+    }
+
+    private static Long idRol(Rol rol) {
+        return rol != null ? rol.getId() : null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package edu.usco.campusbookings.application.util;
+
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import edu.usco.campusbookings.domain.model.Reserva;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Utilidad para convertir reservas en eventos de Google Calendar.
+ * Compartida por la sincronización individual y la cola de sincronización por lotes.
+ */
+public class GoogleCalendarEventUtil {
+
+    /**
+     * Propiedad privada del evento con el ID de la reserva; permite reconciliar los cambios hechos en Google
+     */
+    public static final String RESERVA_ID_PROPERTY = "campusbookingsReservaId";
+
+    private static final String TIME_ZONE = "America/Bogota";
+
+    private GoogleCalendarEventUtil() {
+    }
+
+    /**
+     * Construye el evento de Google Calendar que representa una reserva.
+     *
+     * @param reserva la reserva con usuario, escenario y estado cargados
+     * @return evento listo para insertar o actualizar
+     */
+    public static Event crearEvento(Reserva reserva) {
+        Event event = new Event();
+        
+        // Título del evento (resumen)
+        String summary = String.format("📅 %s - %s", 
+                reserva.getEscenario().getNombre(),
+                reserva.getEstado().getNombre());
+        event.setSummary(summary);
+        
+        // Descripción detallada
+        String description = String.format(
+                "🏛️ Reserva de Escenario - USCO\n\n" +
+                "👤 Reservado por: %s %s\n" +
+                "📍 Escenario: %s\n" +
+                "📊 Estado: %s\n" +
+                "🆔 ID Reserva: %d\n" +
+                "%s\n\n" +
+                "Generado por CampusBookings - Universidad Surcolombiana",
+                reserva.getUsuario().getNombre(),
+                reserva.getUsuario().getApellido(),
+                reserva.getEscenario().getNombre(),
+                reserva.getEstado().getNombre(),
+                reserva.getId(),
+                reserva.getObservaciones() != null ? "📝 Observaciones: " + reserva.getObservaciones() : ""
+        );
+        event.setDescription(description);
+
+        // Ubicación (si el escenario tiene ubicación)
+        // Nota: Asumo que ubicacion es un String. Si es un objeto, ajustar según el modelo
+        event.setLocation("Universidad Surcolombiana - " + reserva.getEscenario().getNombre());
+
+        // Zona horaria de Colombia (Bogotá)
+        String timeZone = TIME_ZONE;
+        
+        // Fecha y hora de inicio
+        EventDateTime startDateTime = new EventDateTime()
+                .setDateTime(new com.google.api.client.util.DateTime(
+                        Date.from(reserva.getFechaInicio().atZone(ZoneId.of(timeZone)).toInstant())))
+                .setTimeZone(timeZone);
+        event.setStart(startDateTime);
+
+        // Fecha y hora de fin
+        EventDateTime endDateTime = new EventDateTime()
+                .setDateTime(new com.google.api.client.util.DateTime(
+                        Date.from(reserva.getFechaFin().atZone(ZoneId.of(timeZone)).toInstant())))
+                .setTimeZone(timeZone);
+        event.setEnd(endDateTime);
+
+        // Configurar como evento ocupado
+        event.setTransparency("opaque");
+        
+        // Configurar visibilidad
+        event.setVisibility("default");
+
+        // Agregar recordatorios (15 minutos antes)
+        Event.Reminders reminders = new Event.Reminders()
+                .setUseDefault(false)
+                .setOverrides(java.util.Arrays.asList(
+                        new com.google.api.services.calendar.model.EventReminder()
+                                .setMethod("email")
+                                .setMinutes(15),
+                        new com.google.api.services.calendar.model.EventReminder()
+                                .setMethod("popup")
+                                .setMinutes(15)
+                ));
+        event.setReminders(reminders);
+
+        // Vincular el evento con la reserva para la sincronización incremental
+        event.setExtendedProperties(new Event.ExtendedProperties()
+                .setPrivate(Map.of(RESERVA_ID_PROPERTY, String.valueOf(reserva.getId()))));
+
+        return event;
+    }
+
+    /**
+     * ID de la reserva guardado en el evento, o null si el evento no fue creado por CampusBookings
+     */
+    public static Long reservaIdDe(Event event) {
+        if (event.getExtendedProperties() == null || event.getExtendedProperties().getPrivate() == null) {
+            return null;
+        }
+        String valor = event.getExtendedProperties().getPrivate().get(RESERVA_ID_PROPERTY);
+        try {
+            return valor != null ? Long.valueOf(valor) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Indica si el horario del evento sigue coincidiendo con el de la reserva
+     */
+    public static boolean coincideHorario(Event event, Reserva reserva) {
+        return instante(event.getStart()) == epochMillis(reserva.getFechaInicio())
+                && instante(event.getEnd()) == epochMillis(reserva.getFechaFin());
+    }
+
+    private static long instante(EventDateTime fecha) {
+        if (fecha == null || fecha.getDateTime() == null) {
+            // Un evento de día completo nunca coincide con una reserva por horas
+            return Long.MIN_VALUE;
+        }
+        return fecha.getDateTime().getValue();
+    }
+
+    private static long epochMillis(LocalDateTime fecha) {
+        return fecha.atZone(ZoneId.of(TIME_ZONE)).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,56 @@
+package edu.usco.campusbookings.application.util;
+
+import edu.usco.campusbookings.domain.model.Escenario;
+import edu.usco.campusbookings.domain.model.ImagenMetadata;
+import edu.usco.campusbookings.domain.model.ImagenVariante;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utilidad para construir las URLs de las variantes de tamaño de la imagen de un escenario.
+ * Compartida por el mapper de escenarios y los servicios que arman respuestas a mano.
+ */
+public class ImagenVarianteUtil {
+
+    /**
+     * Endpoint que sirve las variantes ({@code EscenarioImageController})
+     */
+    public static final String IMAGES_ENDPOINT = "/api/v1/escenarios/images/";
+
+    /**
+     * Prefijo de las URLs de imágenes subidas ({@code imagenUrl})
+     */
+    public static final String UPLOADS_PREFIX = "/uploads/escenarios/";
+
+    private ImagenVarianteUtil() {
+    }
+
+    /**
+     * URLs de las variantes disponibles del escenario, indexadas por tamaño ({@code thumb}, {@code card}, {@code full}).
+     * Vacío si la imagen no tiene variantes; el frontend usa entonces {@code imagenUrl}.
+     */
+    public static Map<String, String> urls(Escenario escenario) {
+        if (escenario == null) {
+            return Collections.emptyMap();
+        }
+        return urls(escenario.getImagenUrl(), escenario.getImagenMetadata());
+    }
+
+    public static Map<String, String> urls(String imagenUrl, ImagenMetadata metadata) {
+        if (imagenUrl == null || metadata == null || metadata.getVariantes() == null) {
+            return Collections.emptyMap();
+        }
+        // Conserva el directorio del prefijo del hash de las imágenes del almacén por contenido
+        String filename = imagenUrl.startsWith(UPLOADS_PREFIX)
+                ? imagenUrl.substring(UPLOADS_PREFIX.length())
+                : imagenUrl.substring(imagenUrl.lastIndexOf('/') + 1);
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String parametro : metadata.getVariantes().split(",")) {
+            ImagenVariante.desde(parametro).ifPresent(variante ->
+                    urls.put(variante.getParametro(), IMAGES_ENDPOINT + filename + "?size=" + variante.getParametro()));
+        }
+        return urls;
+    }
+}
@@ -31,6 +31,8 @@ public class Escenario extends Auditable {
     private String descripcion;
     private String recursos;
     private String imagenUrl;
+    @Embedded
+    private ImagenMetadata imagenMetadata;
     @Builder.Default
     private Boolean disponible = true;
 
@@ -0,0 +1,35 @@
+package edu.usco.campusbookings.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Metadatos de la imagen de un escenario y de las variantes de tamaño generadas al subirla.
+ * Vive junto a {@code Escenario.imagenUrl}; es nulo para imágenes externas o subidas antes de las variantes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Embeddable
+public class ImagenMetadata {
+
+    @Column(name = "imagen_ancho")
+    private Integer ancho;
+
+    @Column(name = "imagen_alto")
+    private Integer alto;
+
+    @Column(name = "imagen_formato", length = 16)
+    private String formato;
+
+    /**
+     * Variantes disponibles separadas por coma (p. ej. {@code thumb,card,full})
+     */
+    @Column(name = "imagen_variantes", length = 64)
+    private String variantes;
+}
@@ -0,0 +1,46 @@
+package edu.usco.campusbookings.domain.model;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Tamaños en los que se guarda la imagen de un escenario.
+ * FULL conserva el nombre del archivo subido; las demás añaden un sufijo antes de la extensión.
+ */
+public enum ImagenVariante {
+    THUMB("thumb", "-thumb"),
+    CARD("card", "-card"),
+    FULL("full", "");
+
+    private final String parametro;
+    private final String sufijo;
+
+    ImagenVariante(String parametro, String sufijo) {
+        this.parametro = parametro;
+        this.sufijo = sufijo;
+    }
+
+    public String getParametro() {
+        return parametro;
+    }
+
+    public String getSufijo() {
+        return sufijo;
+    }
+
+    /**
+     * Variante por su nombre en la API ({@code thumb}, {@code card}, {@code full}), sin distinguir mayúsculas
+     */
+    public static Optional<ImagenVariante> desde(String parametro) {
+        if (parametro == null) {
+            return Optional.empty();
+        }
+        String valor = parametro.trim().toLowerCase(Locale.ROOT);
+        for (ImagenVariante variante : values()) {
+            if (variante.parametro.equals(valor)) {
+                return Optional.of(variante);
+            }
+        }
+        return Optional.empty();
+    }
+}
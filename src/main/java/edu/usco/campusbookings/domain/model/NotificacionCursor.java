@@ -0,0 +1,32 @@
+package edu.usco.campusbookings.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Contador por usuario de la bandeja de notificaciones.
+ * Asigna la siguiente secuencia (bajo bloqueo de fila) y permite conocer las
+ * no leídas sin recorrer la tabla de notificaciones: ultimaSecuencia - ultimaLeida.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "notificacion_cursor")
+public class NotificacionCursor {
+
+    @Id
+    @Column(name = "usuario_id")
+    private Long usuarioId;
+
+    @Column(name = "ultima_secuencia", nullable = false)
+    private long ultimaSecuencia;
+
+    @Column(name = "ultima_leida", nullable = false)
+    private long ultimaLeida;
+
+    public long getNoLeidas() {
+        return Math.max(0, ultimaSecuencia - ultimaLeida);
+    }
+}
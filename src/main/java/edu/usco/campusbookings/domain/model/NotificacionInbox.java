@@ -0,0 +1,42 @@
+package edu.usco.campusbookings.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entrada append-only de la bandeja de notificaciones de un usuario.
+ * Se guarda el JSON exacto que se envió por WebSocket para poder reenviarlo
+ * sin volver a serializar. La secuencia es creciente por usuario.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "notificacion_inbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_inbox_usuario_secuencia", columnNames = {"usuario_id", "secuencia"}),
+        indexes = @Index(name = "idx_inbox_fecha_creacion", columnList = "fecha_creacion"))
+public class NotificacionInbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Solo el ID: la bandeja nunca necesita cargar el usuario
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+
+    @Column(nullable = false)
+    private Long secuencia;
+
+    @Column(length = 40)
+    private String tipo;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime fechaCreacion;
+}
@@ -61,4 +61,12 @@ public class Usuario extends Auditable {
     
     @Column(name = "google_calendar_connected")
     private Boolean googleCalendarConnected = false;
+
+    // Token de sincronización incremental de Google Calendar (nextSyncToken de events.list)
+    @Column(name = "google_calendar_sync_token", length = 512)
+    private String googleCalendarSyncToken;
+
+    // Versión de los tokens emitidos; al incrementarla se invalidan los tokens anteriores
+    @Column(name = "token_version")
+    private Long tokenVersion;
 }
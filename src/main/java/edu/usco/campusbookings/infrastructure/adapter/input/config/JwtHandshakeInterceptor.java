@@ -0,0 +1,93 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.config;
+
+import edu.usco.campusbookings.application.service.TokenVersionService;
+import edu.usco.campusbookings.infrastructure.security.JwtService;
+import edu.usco.campusbookings.infrastructure.security.UserDetailsServiceImpl;
+import edu.usco.campusbookings.infrastructure.security.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Autentica el handshake de {@code /ws/**}, que queda fuera del filtro JWT.
+ * El token llega en el parámetro {@code token} (los navegadores no permiten cabeceras en
+ * WebSocket) o en {@code Authorization: Bearer}. La identidad verificada queda en los
+ * atributos de la sesión; el handler nunca confía en el {@code userId} que envía el cliente.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ID_ATTRIBUTE = "ws.userId";
+    public static final String AUTHORITIES_ATTRIBUTE = "ws.authorities";
+
+    private final JwtService jwtService;
+    private final TokenVersionService tokenVersionService;
+
+    @Override
+    public boolean beforeHandshake(@NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response,
+                                   @NonNull WebSocketHandler wsHandler, @NonNull Map<String, Object> attributes) {
+        String token = resolveToken(request);
+        if (token == null) {
+            return reject(response, "sin token");
+        }
+        try {
+            VerifiedToken verifiedToken = jwtService.verify(token);
+            if (verifiedToken.isRefreshToken() || verifiedToken.getUserId() == null) {
+                return reject(response, "token no apto para acceso");
+            }
+            if (!tokenVersionService.isVigente(verifiedToken.getUserId(), verifiedToken.getTokenVersion())) {
+                return reject(response, "token revocado");
+            }
+            attributes.put(USER_ID_ATTRIBUTE, verifiedToken.getUserId());
+            attributes.put(AUTHORITIES_ATTRIBUTE, resolveAuthorities(verifiedToken));
+            return true;
+        } catch (JwtException e) {
+            return reject(response, e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterHandshake(@NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response,
+                               @NonNull WebSocketHandler wsHandler, Exception exception) {
+        // Sin acciones posteriores al handshake
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        String token = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("token");
+        return token == null || token.isBlank() ? null : token;
+    }
+
+    /**
+     * Autoridades firmadas en el token (claim {@code roles}); los tokens sin él usan el claim {@code rol}
+     */
+    private List<String> resolveAuthorities(VerifiedToken verifiedToken) {
+        if (verifiedToken.getRoles() != null && !verifiedToken.getRoles().isEmpty()) {
+            return List.copyOf(verifiedToken.getRoles());
+        }
+        return List.of(UserDetailsServiceImpl.toAuthority(verifiedToken.getRol()));
+    }
+
+    private boolean reject(ServerHttpResponse response, String reason) {
+        log.warn("Handshake WebSocket rechazado: {}", reason);
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        return false;
+    }
+}
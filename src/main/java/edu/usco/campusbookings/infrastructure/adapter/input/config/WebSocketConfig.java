@@ -1,6 +1,8 @@
 package edu.usco.campusbookings.infrastructure.adapter.input.config;
 
+import edu.usco.campusbookings.application.port.output.NotificationBus;
 import edu.usco.campusbookings.infrastructure.adapter.input.handler.NotificationWebSocketHandler;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
@@ -15,9 +17,24 @@ public class WebSocketConfig implements WebSocketConfigurer {
     @Autowired
     private NotificationWebSocketHandler notificationWebSocketHandler;
 
+    @Autowired
+    private NotificationBus notificationBus;
+
+    @Autowired
+    private JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    /**
+     * Este nodo entrega a sus propias sesiones todo lo publicado en el bus, venga de donde venga
+     */
+    @PostConstruct
+    public void subscribeToNotificationBus() {
+        notificationBus.subscribe(notificationWebSocketHandler::deliver);
+    }
+
     @Override
     public void registerWebSocketHandlers(@NonNull WebSocketHandlerRegistry registry) {
         registry.addHandler(notificationWebSocketHandler, "/ws/notifications")
+                .addInterceptors(jwtHandshakeInterceptor)
                 .setAllowedOrigins("*");
     }
 }
@@ -0,0 +1,43 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Pool compartido que vacía los buffers de envío de las sesiones WebSocket.
+ * Separado de WebSocketConfig para evitar una dependencia circular con el handler.
+ */
+@Configuration
+public class WebSocketSendConfig {
+
+    @Bean(name = "webSocketSendExecutor")
+    public ThreadPoolTaskExecutor webSocketSendExecutor(WebSocketSendProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getSenderThreads());
+        executor.setMaxPoolSize(properties.getSenderThreads());
+        // Cada sesión encola como máximo una tarea de vaciado a la vez
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("ws-send-");
+        // Sin CallerRunsPolicy: si el pool se satura, BufferedSessionSender cierra la sesión
+        // en lugar de enviar desde el hilo (y la transacción) del productor
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Temporizador de las ventanas de agrupación; solo dispara el vaciado, no envía
+     */
+    @Bean(name = "webSocketCoalesceScheduler")
+    public ThreadPoolTaskScheduler webSocketCoalesceScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-coalesce-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
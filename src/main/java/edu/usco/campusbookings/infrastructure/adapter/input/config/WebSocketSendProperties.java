@@ -0,0 +1,63 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Límites de envío asíncrono por sesión WebSocket.
+ * Lee la configuración con prefijo {@code websocket.send} desde application.properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "websocket.send")
+public class WebSocketSendProperties {
+
+    /**
+     * Tiempo máximo (ms) que un envío puede quedar bloqueado antes de cerrar la sesión
+     */
+    private long sendTimeLimitMs = 5000;
+
+    /**
+     * Bytes máximos pendientes en el buffer de una sesión
+     */
+    private int bufferSizeLimitBytes = 512 * 1024;
+
+    /**
+     * Número máximo de mensajes pendientes en el buffer de una sesión
+     */
+    private int maxQueuedMessages = 256;
+
+    /**
+     * Política al desbordar el buffer
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    /**
+     * Hilos del pool compartido que vacía los buffers de las sesiones
+     */
+    private int senderThreads = 4;
+
+    /**
+     * Periodo (ms) con el que se revisan los envíos bloqueados más allá de {@code sendTimeLimitMs}
+     */
+    private long watchdogIntervalMs = 1000;
+
+    /**
+     * Ventana (ms) para agrupar ráfagas de notificaciones al mismo destinatario; 0 la desactiva.
+     * Un frame agrupado es un arreglo JSON: activar solo con clientes que lo entiendan
+     */
+    private long coalesceWindowMs = 0;
+
+    /**
+     * Máximo de notificaciones por frame agrupado
+     */
+    private int maxBatchSize = 50;
+
+    public enum OverflowPolicy {
+        /** Descarta los mensajes más antiguos hasta volver al límite */
+        DROP_OLDEST,
+        /** Cierra la sesión lenta; el cliente debe reconectarse */
+        CLOSE
+    }
+}
@@ -7,6 +7,7 @@ import edu.usco.campusbookings.application.service.AuthenticationService;
 import edu.usco.campusbookings.application.service.UsuarioService;
 import edu.usco.campusbookings.application.util.PasswordValidationUtil;
 import edu.usco.campusbookings.domain.model.Usuario;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -34,9 +35,11 @@ public class AuthController {
 
     @PostMapping("/authenticate")
     public ResponseEntity<AuthenticationResponse> authenticate(
-        @Valid @RequestBody AuthenticationRequest request
+        @Valid @RequestBody AuthenticationRequest request,
+        HttpServletRequest httpRequest
     ) {
-        return ResponseEntity.ok(authenticationService.authenticate(request));
+        // IP del cliente, ya resuelta desde X-Forwarded-For por server.forward-headers-strategy
+        return ResponseEntity.ok(authenticationService.authenticate(request, httpRequest.getRemoteAddr()));
     }
 
     @GetMapping("/me")
@@ -1,14 +1,20 @@
 package edu.usco.campusbookings.infrastructure.adapter.input.controller;
 
+import edu.usco.campusbookings.infrastructure.adapter.input.handler.NotificationWebSocketHandler;
+import edu.usco.campusbookings.infrastructure.metrics.SqlOffenderRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
 
@@ -17,8 +23,12 @@ import java.util.TimeZone;
  */
 @RestController
 @RequestMapping("/api/diagnostic")
+@RequiredArgsConstructor
 public class DiagnosticController {
 
+    private final NotificationWebSocketHandler notificationWebSocketHandler;
+    private final SqlOffenderRegistry sqlOffenderRegistry;
+
     @GetMapping("/timezone")
     public ResponseEntity<Map<String, Object>> getTimezoneInfo() {
         Map<String, Object> info = new HashMap<>();
@@ -82,4 +92,27 @@ public class DiagnosticController {
         
         return ResponseEntity.ok(info);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/websocket")
+    public ResponseEntity<Map<String, Object>> getWebSocketInfo() {
+        Map<String, Object> info = new HashMap<>();
+
+        info.put("connectedUsers", notificationWebSocketHandler.getConnectedUsersCount());
+        info.put("connectedAdmins", notificationWebSocketHandler.getConnectedAdminsCount());
+        info.put("openSessions", notificationWebSocketHandler.getOpenSessionsCount());
+        info.put("groups", notificationWebSocketHandler.getGroupSizes());
+        // Profundidad de las colas de envío por sesión (las más cargadas primero)
+        info.put("sendQueues", notificationWebSocketHandler.getSendQueueStats());
+
+        return ResponseEntity.ok(info);
+    }
+
+    /**
+     * Endpoints que más exceden el presupuesto SQL por petición (diagnostics.sql)
+     */
+    @GetMapping("/sql")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<Map<String, Object>>> getSqlOffenders(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(sqlOffenderRegistry.top(Math.max(1, Math.min(limit, 200))));
+    }
+}
@@ -1,9 +1,12 @@
 package edu.usco.campusbookings.infrastructure.adapter.input.controller;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,6 +22,8 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import edu.usco.campusbookings.application.service.ImageStorageService;
+import edu.usco.campusbookings.application.util.ImagenVarianteUtil;
+import edu.usco.campusbookings.domain.model.ImagenVariante;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -66,6 +71,7 @@ public class EscenarioImageController {
             
             ImageUploadResponse response = ImageUploadResponse.builder()
                 .imageUrl(imageUrl)
+                .variants(ImagenVarianteUtil.urls(imageUrl, imageStorageService.describeImage(imageUrl)))
                 .originalName(file.getOriginalFilename())
                 .size(file.getSize())
                 .contentType(file.getContentType())
@@ -105,39 +111,47 @@ public class EscenarioImageController {
         }
 
         try {
-            List<ImageUploadResponse> responses = Arrays.stream(files)
+            // Los archivos válidos se procesan en paralelo en un pool acotado; el orden de la respuesta se conserva
+            List<CompletableFuture<ImageUploadResponse>> pending = Arrays.stream(files)
                 .map(file -> {
-                    try {
-                        String validationError = validateFile(file);
-                        if (validationError != null) {
-                            return ImageUploadResponse.builder()
-                                .originalName(file.getOriginalFilename())
-                                .success(false)
-                                .message(validationError)
-                                .build();
-                        }
+                    String validationError = validateFile(file);
+                    if (validationError != null) {
+                        return CompletableFuture.completedFuture(ImageUploadResponse.builder()
+                            .originalName(file.getOriginalFilename())
+                            .success(false)
+                            .message(validationError)
+                            .build());
+                    }
 
-                        String imageUrl = imageStorageService.storeImage(file);
-                        return ImageUploadResponse.builder()
+                    return imageStorageService.storeImageAsync(file)
+                        .thenApply(imageUrl -> ImageUploadResponse.builder()
                             .imageUrl(imageUrl)
+                            .variants(ImagenVarianteUtil.urls(imageUrl, imageStorageService.describeImage(imageUrl)))
                             .originalName(file.getOriginalFilename())
                             .size(file.getSize())
                             .contentType(file.getContentType())
                             .success(true)
                             .message("Imagen subida correctamente")
-                            .build();
-
-                    } catch (IOException e) {
-                        log.error("Error uploading file {}: {}", file.getOriginalFilename(), e.getMessage());
-                        return ImageUploadResponse.builder()
-                            .originalName(file.getOriginalFilename())
-                            .success(false)
-                            .message("Error al subir la imagen: " + e.getMessage())
-                            .build();
-                    }
+                            .build())
+                        .exceptionally(e -> {
+                            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                            if (cause instanceof UncheckedIOException && cause.getCause() != null) {
+                                cause = cause.getCause();
+                            }
+                            log.error("Error uploading file {}: {}", file.getOriginalFilename(), cause.getMessage());
+                            return ImageUploadResponse.builder()
+                                .originalName(file.getOriginalFilename())
+                                .success(false)
+                                .message("Error al subir la imagen: " + cause.getMessage())
+                                .build();
+                        });
                 })
                 .toList();
 
+            List<ImageUploadResponse> responses = pending.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
             log.info("Multiple images upload completed. Success: {}, Failed: {}", 
                 responses.stream().mapToInt(r -> r.isSuccess() ? 1 : 0).sum(),
                 responses.stream().mapToInt(r -> r.isSuccess() ? 0 : 1).sum());
@@ -161,33 +175,45 @@ public class EscenarioImageController {
 
     /**
      * Delete an uploaded image.
+     * Images are shared by identical uploads, so an image still used by a scenario is not deleted.
      * 
+     * @param prefix the hash prefix directory of content-addressed images (absent for older uploads)
      * @param filename the image filename to delete
      * @return confirmation of deletion
      */
-    @DeleteMapping("/{filename}")
+    @DeleteMapping({"/{filename}", "/{prefix}/{filename}"})
     @PreAuthorize("hasRole('ROLE_ADMIN')")
-    public ResponseEntity<?> deleteImage(@PathVariable String filename) {
+    public ResponseEntity<?> deleteImage(@PathVariable(required = false) String prefix,
+                                         @PathVariable String filename) {
+        String imageName = prefix != null ? prefix + "/" + filename : filename;
         try {
-            boolean deleted = imageStorageService.deleteImage(filename);
+            if (imageStorageService.isReferenced(imageName)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of(
+                        "error", "La imagen está en uso por uno o más escenarios",
+                        "filename", imageName
+                    ));
+            }
+
+            boolean deleted = imageStorageService.deleteImage(imageName);
             
             if (deleted) {
-                log.info("Image deleted successfully: {}", filename);
+                log.info("Image deleted successfully: {}", imageName);
                 return ResponseEntity.ok(Map.of(
                     "success", true,
                     "message", "Imagen eliminada correctamente",
-                    "filename", filename
+                    "filename", imageName
                 ));
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of(
                         "error", "Imagen no encontrada",
-                        "filename", filename
+                        "filename", imageName
                     ));
             }
 
         } catch (Exception e) {
-            log.error("Error deleting image {}: {}", filename, e.getMessage(), e);
+            log.error("Error deleting image {}: {}", imageName, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of(
                     "error", "Error al eliminar la imagen",
@@ -208,7 +234,8 @@ public class EscenarioImageController {
             "maxFileSize", MAX_FILE_SIZE,
             "maxFileSizeMB", MAX_FILE_SIZE / (1024 * 1024),
             "maxFilesPerUpload", 10,
-            "allowedExtensions", Arrays.asList("jpg", "jpeg", "png", "webp")
+            "allowedExtensions", Arrays.asList("jpg", "jpeg", "png", "webp"),
+            "variants", Arrays.stream(ImagenVariante.values()).map(ImagenVariante::getParametro).toList()
         ));
     }
 
@@ -246,6 +273,8 @@ public class EscenarioImageController {
      */
     public static class ImageUploadResponse {
         private String imageUrl;
+
+        private Map<String, String> variants;
         
         private String originalName;
         
@@ -265,6 +294,9 @@ public class EscenarioImageController {
         // Getters and setters
         public String getImageUrl() { return imageUrl; }
         public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+
+        public Map<String, String> getVariants() { return variants; }
+        public void setVariants(Map<String, String> variants) { this.variants = variants; }
         
         public String getOriginalName() { return originalName; }
         public void setOriginalName(String originalName) { this.originalName = originalName; }
@@ -284,6 +316,7 @@ public class EscenarioImageController {
         // Builder class
         public static class ImageUploadResponseBuilder {
             private String imageUrl;
+            private Map<String, String> variants;
             private String originalName;
             private Long size;
             private String contentType;
@@ -295,6 +328,11 @@ public class EscenarioImageController {
                 return this;
             }
 
+            public ImageUploadResponseBuilder variants(Map<String, String> variants) {
+                this.variants = variants;
+                return this;
+            }
+
             public ImageUploadResponseBuilder originalName(String originalName) {
                 this.originalName = originalName;
                 return this;
@@ -323,6 +361,7 @@ public class EscenarioImageController {
             public ImageUploadResponse build() {
                 ImageUploadResponse response = new ImageUploadResponse();
                 response.setImageUrl(this.imageUrl);
+                response.setVariants(this.variants);
                 response.setOriginalName(this.originalName);
                 response.setSize(this.size);
                 response.setContentType(this.contentType);
@@ -0,0 +1,205 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import edu.usco.campusbookings.application.service.ImageContentCache;
+import edu.usco.campusbookings.application.service.ImageContentCache.ImagenServida;
+import edu.usco.campusbookings.application.service.ImageStorageService;
+import edu.usco.campusbookings.domain.model.ImagenVariante;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sirve las imágenes subidas de los escenarios.
+ * <p>
+ * Los nombres son UUID y el contenido de una URL nunca cambia, así que las respuestas llevan un ETag fuerte
+ * (hash del contenido) y {@code Cache-Control: immutable}; una vista repetida cuesta un 304 o una copia desde
+ * memoria ({@link ImageContentCache}). Las imágenes que no están en memoria se envían con sendfile de Tomcat
+ * cuando el conector lo soporta, o con {@link FileChannel#transferTo} en otro caso. Soporta {@code Range}.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageServingController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStorageService imageStorageService;
+    private final ImageContentCache imageContentCache;
+
+    /**
+     * Rango de bytes a enviar, con {@code end} exclusivo
+     */
+    private record Rango(long start, long end) {
+        long length() {
+            return end - start;
+        }
+    }
+
+    /**
+     * Imagen en el tamaño pedido. {@code /uploads/escenarios/} es la URL guardada en {@code imagenUrl};
+     * {@code /api/v1/escenarios/images/} la usan las URLs de variantes.
+     *
+     * @param prefix directorio del prefijo del hash (ausente en imágenes anteriores al almacén por contenido)
+     * @param filename el nombre del archivo (último segmento de la URL de la imagen)
+     * @param size la variante: thumb, card o full
+     */
+    @GetMapping({"/uploads/escenarios/{filename}", "/uploads/escenarios/{prefix}/{filename}",
+                 "/api/v1/escenarios/images/{filename}", "/api/v1/escenarios/images/{prefix}/{filename}"})
+    public void serveImage(@PathVariable(required = false) String prefix,
+                           @PathVariable String filename,
+                           @RequestParam(defaultValue = "full") String size,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        ImagenVariante variante = ImagenVariante.desde(size).orElse(null);
+        if (variante == null) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Tamaño no soportado: " + size);
+            return;
+        }
+        Path path = imageStorageService.resolveImage(prefix != null ? prefix + "/" + filename : filename, variante);
+        if (path == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        ImagenServida imagen;
+        try {
+            imagen = imageContentCache.obtener(path);
+        } catch (NoSuchFileException e) {
+            // Eliminada entre la resolución y la lectura
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, imagen.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, imagen.lastModified());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (coincideEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), imagen.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        Rango rango = new Rango(0, imagen.size());
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(imagen.etag()))) {
+            Rango pedido = parseRange(rangeHeader, imagen.size());
+            if (pedido == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + imagen.size());
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            if (pedido.length() < imagen.size()) {
+                rango = pedido;
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + rango.start() + "-" + (rango.end() - 1) + "/" + imagen.size());
+            }
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(path.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(rango.length());
+        if ("HEAD".equals(request.getMethod()) || rango.length() == 0) {
+            return;
+        }
+
+        if (imagen.contenido() != null) {
+            response.getOutputStream().write(imagen.contenido(), (int) rango.start(), (int) rango.length());
+        } else if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat envía el archivo desde el kernel al socket después de la respuesta, sin pasar por el heap
+            request.setAttribute(SENDFILE_FILENAME, path.toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START, rango.start());
+            request.setAttribute(SENDFILE_END, rango.end());
+        } else {
+            transferir(path, rango, response);
+        }
+    }
+
+    private static void transferir(Path path, Rango rango, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = rango.start();
+            long remaining = rango.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * If-None-Match usa comparación débil: se ignora el prefijo {@code W/}
+     */
+    private static boolean coincideEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if ("*".equals(valor) || etag.equals(valor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Interpreta un único rango {@code bytes=a-b}, {@code bytes=a-} o {@code bytes=-n}.
+     * Varios rangos o una sintaxis desconocida devuelven el archivo completo (permitido por RFC 9110).
+     *
+     * @return el rango acotado al tamaño, o null si no es satisfacible
+     */
+    private static Rango parseRange(String header, long size) {
+        Rango completo = new Rango(0, size);
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return completo;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return completo;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                return suffix > 0 && size > 0 ? new Rango(Math.max(0, size - suffix), size) : null;
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size : Math.min(size, Long.parseLong(last) + 1);
+            return start < size && start < end ? new Rango(start, end) : null;
+        } catch (NumberFormatException e) {
+            return completo;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.controller;
+
+import edu.usco.campusbookings.application.port.input.NotificacionInboxUseCase;
+import edu.usco.campusbookings.application.port.input.UsuarioUseCase;
+import edu.usco.campusbookings.infrastructure.security.SecurityUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Tag(name = "Bandeja de Notificaciones", description = "Notificaciones persistentes del usuario autenticado")
+@RestController
+@RequestMapping("/api/notificaciones")
+@RequiredArgsConstructor
+public class NotificacionInboxController {
+
+    private static final int MAX_LIMITE = 200;
+
+    private final NotificacionInboxUseCase notificacionInboxUseCase;
+    private final UsuarioUseCase usuarioUseCase;
+
+    @Operation(summary = "Obtener notificaciones desde un cursor",
+               description = "Devuelve, en orden, las notificaciones con secuencia mayor a 'desde'")
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> obtenerDesde(
+            @Parameter(description = "Última secuencia vista por el cliente")
+            @RequestParam(defaultValue = "0") long desde,
+            @Parameter(description = "Máximo de notificaciones a devolver")
+            @RequestParam(defaultValue = "50") int limite) {
+        List<String> payloads = notificacionInboxUseCase.obtenerDesde(
+                usuarioActualId(), desde, Math.max(1, Math.min(limite, MAX_LIMITE)));
+        // Los payloads ya están serializados: se devuelven como arreglo JSON sin volver a procesarlos
+        return ResponseEntity.ok("[" + String.join(",", payloads) + "]");
+    }
+
+    @Operation(summary = "Contar notificaciones no leídas")
+    @GetMapping("/no-leidas")
+    public ResponseEntity<Map<String, Long>> contarNoLeidas() {
+        Long usuarioId = usuarioActualId();
+        return ResponseEntity.ok(Map.of(
+                "unread", notificacionInboxUseCase.contarNoLeidas(usuarioId),
+                "lastSeq", notificacionInboxUseCase.obtenerUltimaSecuencia(usuarioId)));
+    }
+
+    @Operation(summary = "Marcar como leídas hasta una secuencia")
+    @PutMapping("/leidas")
+    public ResponseEntity<Void> marcarLeidasHasta(
+            @Parameter(description = "Secuencia hasta la que se marcan como leídas")
+            @RequestParam long hasta) {
+        notificacionInboxUseCase.marcarLeidasHasta(usuarioActualId(), hasta);
+        return ResponseEntity.noContent().build();
+    }
+
+    private Long usuarioActualId() {
+        return usuarioUseCase.findByEmail(SecurityUtils.getCurrentUserEmail()).getId();
+    }
+}
@@ -0,0 +1,60 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.controller.admin;
+
+import edu.usco.campusbookings.application.service.LoginAttemptService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/login-lockouts")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Bloqueos de Login", description = "Métricas y desbloqueo manual de la protección contra fuerza bruta")
+@PreAuthorize("hasRole('ADMIN')")
+public class LoginLockoutController {
+
+    private final LoginAttemptService loginAttemptService;
+
+    @Operation(summary = "Métricas de bloqueo", description = "Intentos fallidos, bloqueos aplicados y claves bloqueadas actualmente")
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getEstadisticas() {
+        return ResponseEntity.ok(loginAttemptService.getEstadisticas());
+    }
+
+    @Operation(summary = "Desbloquear un email", description = "Elimina los intentos fallidos y el bloqueo de un email")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Email desbloqueado"),
+        @ApiResponse(responseCode = "404", description = "El email no tenía intentos registrados")
+    })
+    @DeleteMapping("/email/{email}")
+    public ResponseEntity<Void> desbloquearEmail(
+            @Parameter(description = "Email a desbloquear") @PathVariable String email) {
+        log.info("Solicitud para desbloquear login del email: {}", email);
+        return loginAttemptService.desbloquearEmail(email)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Desbloquear una IP", description = "Elimina los intentos fallidos y el bloqueo de una IP")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "IP desbloqueada"),
+        @ApiResponse(responseCode = "404", description = "La IP no tenía intentos registrados")
+    })
+    @DeleteMapping("/ip/{ip}")
+    public ResponseEntity<Void> desbloquearIp(
+            @Parameter(description = "IP a desbloquear") @PathVariable String ip) {
+        log.info("Solicitud para desbloquear login de la IP: {}", ip);
+        return loginAttemptService.desbloquearIp(ip)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
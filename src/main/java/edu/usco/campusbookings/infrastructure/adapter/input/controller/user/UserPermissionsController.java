@@ -3,6 +3,7 @@ package edu.usco.campusbookings.infrastructure.adapter.input.controller.user;
 import edu.usco.campusbookings.application.dto.response.UserPermissionsResponse;
 import edu.usco.campusbookings.application.port.input.UserManagementUseCase;
 import edu.usco.campusbookings.infrastructure.security.JwtService;
+import edu.usco.campusbookings.infrastructure.security.VerifiedToken;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -41,8 +42,11 @@ public class UserPermissionsController {
                 return ResponseEntity.status(401).build();
             }
 
-            String token = authHeader.substring(7);
-            String userEmail = jwtService.extractUsername(token);
+            // El filtro JWT ya verificó el token en este request; solo se vuelve a verificar si falta
+            VerifiedToken verifiedToken = request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE) instanceof VerifiedToken attribute
+                    ? attribute
+                    : jwtService.verify(authHeader.substring(7));
+            String userEmail = verifiedToken.getSubject();
             
             if (userEmail == null) {
                 log.warn("No se pudo extraer el email del token");
@@ -52,7 +56,7 @@ public class UserPermissionsController {
             log.info("Solicitud para obtener permisos del usuario: {}", userEmail);
             
             // Obtener el ID del usuario desde el token
-            Long userId = jwtService.extractUserId(token);
+            Long userId = verifiedToken.getUserId();
             if (userId == null) {
                 log.warn("No se pudo extraer el ID del usuario del token");
                 return ResponseEntity.status(401).build();
@@ -0,0 +1,376 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.handler;
+
+import edu.usco.campusbookings.infrastructure.adapter.input.config.WebSocketSendProperties.OverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Envío asíncrono y acotado para una sesión WebSocket, al estilo de
+ * {@link org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator}.
+ * <p>
+ * Los productores solo encolan el mensaje y regresan; un único hilo del pool compartido
+ * vacía el buffer a la vez, de modo que {@code session.sendMessage} nunca se invoca
+ * concurrentemente ni desde la transacción que originó la notificación. Si el pool no acepta
+ * la tarea, la sesión se cierra: el cliente se reconecta y recupera lo perdido desde el inbox.
+ * <p>
+ * Un envío bloqueado queda acotado por {@code sendTimeLimitMs}: el contenedor lo aborta
+ * (timeout de envío bloqueante de Tomcat) y {@link #checkSendTimeout()} cierra la sesión.
+ * <p>
+ * Las notificaciones enviadas con {@link #sendCoalesced} se agrupan durante una ventana
+ * corta: una ráfaga para el mismo destinatario sale como un único frame con un arreglo JSON.
+ * Desactivado por defecto ({@code coalesceWindowMs = 0}): solo debe habilitarse con clientes
+ * que acepten arreglos. Cualquier {@link #send} vacía antes el lote pendiente para no adelantarlo.
+ */
+public class BufferedSessionSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(BufferedSessionSender.class);
+
+    // Propiedad de sesión con la que Tomcat acota cada envío bloqueante (ms)
+    static final String BLOCKING_SEND_TIMEOUT_PROPERTY = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    // Mensajes por turno de vaciado antes de ceder el hilo a otras sesiones
+    static final int MAX_MESSAGES_PER_TURN = 32;
+
+    private final WebSocketSession session;
+    private final Executor executor;
+    private final long sendTimeLimitMs;
+    private final int bufferSizeLimit;
+    private final int maxQueuedMessages;
+    private final OverflowPolicy overflowPolicy;
+    private final TaskScheduler coalesceScheduler;
+    private final long coalesceWindowMs;
+    private final int maxBatchSize;
+
+    private final Object batchLock = new Object();
+    private List<TextMessage> pendingBatch = new ArrayList<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    private final Queue<WebSocketMessage<?>> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger bufferedBytes = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicInteger maxObservedDepth = new AtomicInteger();
+
+    // 0 cuando no hay un envío en curso
+    private volatile long sendStartTime;
+    private volatile boolean closing;
+
+    public BufferedSessionSender(WebSocketSession session, Executor executor, long sendTimeLimitMs,
+                                 int bufferSizeLimit, int maxQueuedMessages, OverflowPolicy overflowPolicy,
+                                 TaskScheduler coalesceScheduler, long coalesceWindowMs, int maxBatchSize) {
+        this.session = session;
+        this.executor = executor;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.maxQueuedMessages = maxQueuedMessages;
+        this.overflowPolicy = overflowPolicy;
+        this.coalesceScheduler = coalesceScheduler;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.maxBatchSize = maxBatchSize;
+        applyBlockingSendTimeout();
+    }
+
+    private void applyBlockingSendTimeout() {
+        if (session instanceof NativeWebSocketSession nativeSession
+                && nativeSession.getNativeSession() instanceof jakarta.websocket.Session standardSession) {
+            standardSession.getUserProperties().put(BLOCKING_SEND_TIMEOUT_PROPERTY, sendTimeLimitMs);
+        }
+    }
+
+    /**
+     * Encola una notificación ya serializada dentro de la ventana de agrupación.
+     * El primer mensaje de la ventana programa el vaciado; si el lote se llena antes, sale de inmediato.
+     *
+     * @return false si la sesión está cerrada
+     */
+    public boolean sendCoalesced(TextMessage message) {
+        if (!isCoalescing()) {
+            return enqueue(message);
+        }
+        if (closing || !session.isOpen()) {
+            return false;
+        }
+
+        boolean scheduleFlush;
+        // Los lotes se encolan bajo batchLock para que salgan en el orden en que se cerraron
+        synchronized (batchLock) {
+            pendingBatch.add(message);
+            if (pendingBatch.size() >= maxBatchSize) {
+                return flushPendingLocked();
+            }
+            scheduleFlush = pendingBatch.size() == 1;
+        }
+
+        if (scheduleFlush) {
+            coalesceScheduler.schedule(this::flushBatch, Instant.now().plusMillis(coalesceWindowMs));
+        }
+        return true;
+    }
+
+    private boolean isCoalescing() {
+        return coalesceWindowMs > 0 && maxBatchSize > 1;
+    }
+
+    private void flushBatch() {
+        synchronized (batchLock) {
+            flushPendingLocked();
+        }
+    }
+
+    private boolean flushPendingLocked() {
+        if (pendingBatch.isEmpty()) {
+            return true;
+        }
+        List<TextMessage> batch = pendingBatch;
+        pendingBatch = new ArrayList<>();
+        return enqueue(toFrame(batch));
+    }
+
+    /**
+     * Un solo mensaje se reenvía tal cual (misma instancia compartida);
+     * varios se concatenan como arreglo JSON sin volver a serializar.
+     */
+    private TextMessage toFrame(List<TextMessage> batch) {
+        if (batch.size() == 1) {
+            return batch.get(0);
+        }
+        int length = 2 + batch.size();
+        for (TextMessage message : batch) {
+            length += message.getPayloadLength();
+        }
+        StringBuilder frame = new StringBuilder(length).append('[');
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                frame.append(',');
+            }
+            frame.append(batch.get(i).getPayload());
+        }
+        coalescedCount.addAndGet(batch.size());
+        return new TextMessage(frame.append(']').toString());
+    }
+
+    /**
+     * Encola un mensaje para envío asíncrono, después del lote agrupado que esté pendiente.
+     *
+     * @return false si la sesión está cerrada o fue cerrada por exceder los límites
+     */
+    public boolean send(WebSocketMessage<?> message) {
+        if (!isCoalescing()) {
+            return enqueue(message);
+        }
+        synchronized (batchLock) {
+            flushPendingLocked();
+            return enqueue(message);
+        }
+    }
+
+    private boolean enqueue(WebSocketMessage<?> message) {
+        if (closing || !session.isOpen()) {
+            return false;
+        }
+
+        // Un envío bloqueado demasiado tiempo indica un cliente lento o medio muerto
+        if (getTimeSinceSendStarted() > sendTimeLimitMs) {
+            closeSlowSession("límite de tiempo de envío excedido");
+            return false;
+        }
+
+        buffer.add(message);
+        int depth = queueDepth.incrementAndGet();
+        bufferedBytes.addAndGet(message.getPayloadLength());
+        maxObservedDepth.accumulateAndGet(depth, Math::max);
+
+        if (isOverflowing()) {
+            if (overflowPolicy == OverflowPolicy.CLOSE) {
+                closeSlowSession("límite de buffer excedido");
+                return false;
+            }
+            dropOldest();
+        }
+
+        scheduleDrain();
+        // El pool pudo rechazar el vaciado y cerrar la sesión
+        return !closing;
+    }
+
+    private boolean isOverflowing() {
+        return queueDepth.get() > maxQueuedMessages || bufferedBytes.get() > bufferSizeLimit;
+    }
+
+    private void dropOldest() {
+        while (isOverflowing()) {
+            WebSocketMessage<?> oldest = buffer.poll();
+            if (oldest == null) {
+                break;
+            }
+            queueDepth.decrementAndGet();
+            bufferedBytes.addAndGet(-oldest.getPayloadLength());
+            droppedCount.incrementAndGet();
+        }
+        logger.warn("⚠️ Buffer de sesión {} desbordado, mensajes descartados hasta ahora: {}",
+                session.getId(), droppedCount.get());
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            submitDrain();
+        }
+    }
+
+    /**
+     * Entrega el vaciado al pool. Nunca se ejecuta en el hilo llamador: si el pool está
+     * saturado se cierra la sesión en lugar de enviar desde la transacción del productor.
+     */
+    private void submitDrain() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            closeSlowSession("pool de envío saturado");
+        }
+    }
+
+    /**
+     * Vacía el buffer. Solo un hilo lo ejecuta a la vez gracias a {@code draining}.
+     * Tras {@link #MAX_MESSAGES_PER_TURN} mensajes cede el hilo para no acaparar el pool.
+     */
+    private void drain() {
+        int sentThisTurn = 0;
+        do {
+            WebSocketMessage<?> message;
+            while ((message = buffer.poll()) != null) {
+                queueDepth.decrementAndGet();
+                bufferedBytes.addAndGet(-message.getPayloadLength());
+                if (closing || !session.isOpen()) {
+                    continue;
+                }
+                sendStartTime = System.currentTimeMillis();
+                try {
+                    session.sendMessage(message);
+                    sentCount.incrementAndGet();
+                } catch (IOException | RuntimeException e) {
+                    logger.error("❌ Error enviando mensaje WebSocket a sesión {}: {}", session.getId(), e.getMessage());
+                } finally {
+                    sendStartTime = 0;
+                }
+                if (++sentThisTurn >= MAX_MESSAGES_PER_TURN && !buffer.isEmpty()) {
+                    // draining sigue en true: el resto lo vacía una nueva tarea al final de la cola del pool
+                    submitDrain();
+                    return;
+                }
+            }
+            draining.set(false);
+            // Un productor pudo encolar entre el último poll y el set(false)
+        } while (!buffer.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Cierra la sesión si el envío en curso lleva más de {@code sendTimeLimitMs}.
+     * Lo invoca periódicamente el handler, así un cliente atascado se detecta
+     * aunque no lleguen más mensajes para él.
+     *
+     * @return true si la sesión se cerró
+     */
+    public boolean checkSendTimeout() {
+        if (closing || getTimeSinceSendStarted() <= sendTimeLimitMs) {
+            return false;
+        }
+        closeSlowSession("límite de tiempo de envío excedido");
+        return true;
+    }
+
+    private void closeSlowSession(String reason) {
+        if (closing) {
+            return;
+        }
+        closing = true;
+        int pending = queueDepth.get();
+        buffer.clear();
+        queueDepth.set(0);
+        bufferedBytes.set(0);
+        droppedCount.addAndGet(pending);
+        logger.warn("⚠️ Cerrando sesión WebSocket {}: {} ({} mensajes pendientes descartados)",
+                session.getId(), reason, pending);
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            logger.debug("Error cerrando sesión {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Libera el buffer cuando la sesión ya fue cerrada por el contenedor
+     */
+    public void release() {
+        closing = true;
+        synchronized (batchLock) {
+            pendingBatch = new ArrayList<>();
+        }
+        buffer.clear();
+        queueDepth.set(0);
+        bufferedBytes.set(0);
+    }
+
+    public long getTimeSinceSendStarted() {
+        long start = sendStartTime;
+        return start > 0 ? System.currentTimeMillis() - start : 0;
+    }
+
+    public String getSessionId() {
+        return session.getId();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Métricas de la sesión para diagnóstico
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sessionId", session.getId());
+        stats.put("queueDepth", queueDepth.get());
+        stats.put("maxQueueDepth", maxObservedDepth.get());
+        stats.put("bufferedBytes", bufferedBytes.get());
+        stats.put("sent", sentCount.get());
+        stats.put("dropped", droppedCount.get());
+        stats.put("coalesced", coalescedCount.get());
+        stats.put("sendInProgressMs", getTimeSinceSendStarted());
+        return stats;
+    }
+}
@@ -2,50 +2,99 @@ package edu.usco.campusbookings.infrastructure.adapter.input.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+import edu.usco.campusbookings.application.port.input.NotificacionInboxUseCase;
+import edu.usco.campusbookings.infrastructure.adapter.input.config.JwtHandshakeInterceptor;
+import edu.usco.campusbookings.infrastructure.adapter.input.config.WebSocketSendProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 @Component
 public class NotificationWebSocketHandler implements WebSocketHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationWebSocketHandler.class);
-    
+
     // Inyectar el ObjectMapper configurado por Spring Boot (incluye JSR310)
     private final ObjectMapper objectMapper;
-    
-    // Mapa para mantener las sesiones activas: userId -> WebSocketSession
-    private final Map<Long, WebSocketSession> userSessions = new ConcurrentHashMap<>();
-    
-    // Mapa para mantener las sesiones de administradores
-    private final Map<Long, WebSocketSession> adminSessions = new ConcurrentHashMap<>();
+
+    // Registro de sesiones: varias sesiones por usuario, índice inverso sessionId -> usuario y grupos
+    private final WebSocketSessionRegistry registry = new WebSocketSessionRegistry();
+
+    private final WebSocketSendProperties sendProperties;
+    private final Executor sendExecutor;
+    private final TaskScheduler coalesceScheduler;
+    private final NotificacionInboxUseCase notificacionInboxUseCase;
+
+    // Máximo de notificaciones reenviadas en el frame de reconexión
+    @Value("${notifications.inbox.replay-limit:100}")
+    private int replayLimit = 100;
+
+    // Sesiones sin actividad (mensajes o pongs) durante este tiempo se cierran
+    @Value("${websocket.heartbeat.idle-timeout-ms:70000}")
+    private long idleTimeoutMs;
 
     // Constructor para inyección del ObjectMapper configurado
-    public NotificationWebSocketHandler(ObjectMapper objectMapper) {
+    public NotificationWebSocketHandler(ObjectMapper objectMapper,
+                                        WebSocketSendProperties sendProperties,
+                                        @Qualifier("webSocketSendExecutor") Executor sendExecutor,
+                                        @Qualifier("webSocketCoalesceScheduler") TaskScheduler coalesceScheduler,
+                                        NotificacionInboxUseCase notificacionInboxUseCase) {
         this.objectMapper = objectMapper;
+        this.sendProperties = sendProperties;
+        this.sendExecutor = sendExecutor;
+        this.coalesceScheduler = coalesceScheduler;
+        this.notificacionInboxUseCase = notificacionInboxUseCase;
     }
 
     @Override
     public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
         logger.info("🔌 Nueva conexión WebSocket establecida: {}", session.getId());
+        registry.open(session, createSender(session));
+    }
+
+    private BufferedSessionSender createSender(WebSocketSession session) {
+        return new BufferedSessionSender(
+                session,
+                sendExecutor,
+                sendProperties.getSendTimeLimitMs(),
+                sendProperties.getBufferSizeLimitBytes(),
+                sendProperties.getMaxQueuedMessages(),
+                sendProperties.getOverflowPolicy(),
+                coalesceScheduler,
+                sendProperties.getCoalesceWindowMs(),
+                sendProperties.getMaxBatchSize());
     }
 
     @Override
     public void handleMessage(@NonNull WebSocketSession session, @NonNull WebSocketMessage<?> message) throws Exception {
+        // Cualquier mensaje del cliente (incluidos los pongs) cuenta como latido
+        registry.touch(session.getId());
+
         if (message instanceof TextMessage textMessage) {
             try {
                 String payload = textMessage.getPayload();
-                logger.info("📩 Mensaje recibido: {}", payload);
-                
+                logger.debug("📩 Mensaje recibido: {}", payload);
+
                 JsonNode jsonNode = objectMapper.readTree(payload);
                 String type = jsonNode.get("type").asText();
-                
+
                 switch (type) {
                     case "CONNECT":
                         handleConnect(session, jsonNode);
@@ -53,10 +102,13 @@ public class NotificationWebSocketHandler implements WebSocketHandler {
                     case "DISCONNECT":
                         handleDisconnect(session, jsonNode);
                         break;
+                    case "PING":
+                        sendMessage(session, Map.of("type", "PONG"));
+                        break;
                     default:
                         logger.warn("⚠️ Tipo de mensaje desconocido: {}", type);
                 }
-                
+
             } catch (Exception e) {
                 logger.error("❌ Error procesando mensaje WebSocket: {}", e.getMessage(), e);
             }
@@ -71,9 +123,12 @@ public class NotificationWebSocketHandler implements WebSocketHandler {
     @Override
     public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus closeStatus) throws Exception {
         logger.info("🔌 Conexión WebSocket cerrada: {} - Status: {}", session.getId(), closeStatus);
-        
-        // Remover la sesión de todos los mapas
-        removeSessionFromMaps(session);
+
+        // Remover la sesión de todos los índices
+        WebSocketSessionRegistry.Entry entry = registry.remove(session.getId());
+        if (entry != null) {
+            entry.getSender().release();
+        }
     }
 
     @Override
@@ -82,35 +137,111 @@ public class NotificationWebSocketHandler implements WebSocketHandler {
     }
 
     /**
-     * Manejar conexión de cliente
+     * Manejar conexión de cliente.
+     * El usuario es el autenticado en el handshake; un {@code userId} distinto en el mensaje se rechaza
+     * sin registrar la sesión ni reenviar la bandeja. Los grupos salen de las autoridades del token;
+     * {@code isAdmin}, {@code role} y {@code groups} del mensaje se ignoran.
+     * Acepta {@code lastSeq}, la última secuencia de la bandeja que el cliente vio.
      */
     private void handleConnect(WebSocketSession session, JsonNode jsonNode) {
         try {
-            Long userId = jsonNode.get("userId").asLong();
-            boolean isAdmin = jsonNode.get("isAdmin").asBoolean();
-            
-            logger.info("👤 Usuario {} conectándose - Admin: {}", userId, isAdmin);
-            
-            // Agregar a la sesión de usuarios
-            userSessions.put(userId, session);
-            
-            // Si es admin, también agregarlo a sesiones de admin
-            if (isAdmin) {
-                adminSessions.put(userId, session);
-                logger.info("👑 Administrador {} agregado a sesiones admin", userId);
+            Long userId = authenticatedUserId(session);
+            if (userId == null) {
+                throw new IllegalStateException("Sesión WebSocket no autenticada");
             }
-            
+            JsonNode requestedUserId = jsonNode.get("userId");
+            if (requestedUserId != null && requestedUserId.asLong() != userId) {
+                logger.warn("⚠️ Sesión {} del usuario {} intentó conectarse como usuario {}",
+                        session.getId(), userId, requestedUserId.asText());
+                throw new IllegalStateException("El usuario no coincide con el token de la conexión");
+            }
+            Set<String> groups = resolveGroups(session);
+
+            logger.info("👤 Usuario {} conectándose - Grupos: {}", userId, groups);
+
+            // Cada pestaña o dispositivo mantiene su propia sesión
+            if (!registry.bind(session.getId(), userId, groups)) {
+                throw new IllegalStateException("La sesión ya no está activa");
+            }
+
             // Enviar confirmación de conexión
             sendMessage(session, createConnectionResponse(true, "Conectado exitosamente"));
-            
+
+            // Se registra antes de reenviar: una notificación concurrente puede llegar dos veces
+            // (el cliente descarta secuencias <= su cursor), pero nunca se pierde
+            JsonNode lastSeq = jsonNode.get("lastSeq");
+            if (lastSeq != null && lastSeq.canConvertToLong()) {
+                replayMissed(session, userId, lastSeq.asLong());
+            }
+
             logger.info("✅ Usuario {} conectado exitosamente", userId);
-            
+
         } catch (Exception e) {
             logger.error("❌ Error en conexión: {}", e.getMessage(), e);
             sendMessage(session, createConnectionResponse(false, "Error en conexión: " + e.getMessage()));
         }
     }
 
+    private static Long authenticatedUserId(WebSocketSession session) {
+        return session.getAttributes().get(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE) instanceof Long id ? id : null;
+    }
+
+    /**
+     * Reenviar en un solo frame las notificaciones de la bandeja posteriores al cursor del cliente
+     */
+    private void replayMissed(WebSocketSession session, Long userId, long lastSeq) {
+        List<String> missed = notificacionInboxUseCase.obtenerDesde(userId, lastSeq, replayLimit + 1);
+        boolean truncated = missed.size() > replayLimit;
+        if (truncated) {
+            missed = missed.subList(0, replayLimit);
+        }
+        long unread = notificacionInboxUseCase.contarNoLeidas(userId);
+
+        // Los payloads guardados ya son JSON: se concatenan sin volver a serializar
+        StringBuilder frame = new StringBuilder(64 + missed.stream().mapToInt(String::length).sum() + missed.size())
+                .append("{\"type\":\"NOTIFICATIONS_REPLAY\",\"unread\":").append(unread)
+                .append(",\"truncated\":").append(truncated)
+                .append(",\"notifications\":[");
+        for (int i = 0; i < missed.size(); i++) {
+            if (i > 0) {
+                frame.append(',');
+            }
+            frame.append(missed.get(i));
+        }
+        frame.append("]}");
+
+        WebSocketSessionRegistry.Entry entry = registry.get(session.getId());
+        if (entry != null) {
+            entry.getSender().send(new TextMessage(frame.toString()));
+            logger.info("🔁 {} notificaciones reenviadas al usuario {} desde la secuencia {}", missed.size(), userId, lastSeq);
+        }
+    }
+
+    /**
+     * Grupos de la sesión a partir de las autoridades verificadas en el handshake, nunca del cliente
+     */
+    private static Set<String> resolveGroups(WebSocketSession session) {
+        Set<String> groups = new HashSet<>();
+        if (session.getAttributes().get(JwtHandshakeInterceptor.AUTHORITIES_ATTRIBUTE) instanceof List<?> authorities) {
+            for (Object authority : authorities) {
+                String group = roleGroup(String.valueOf(authority));
+                groups.add(group);
+                if ("ROLE_ADMIN".equals(group)) {
+                    groups.add(WebSocketSessionRegistry.ADMIN_GROUP);
+                }
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Nombre del grupo de suscripción de un rol
+     */
+    public static String roleGroup(String roleName) {
+        String role = roleName.toUpperCase(Locale.ROOT);
+        return role.startsWith("ROLE_") ? role : "ROLE_" + role;
+    }
+
     /**
      * Manejar desconexión de cliente
      */
@@ -118,63 +249,158 @@ public class NotificationWebSocketHandler implements WebSocketHandler {
         try {
             Long userId = jsonNode.get("userId").asLong();
             logger.info("👋 Usuario {} desconectándose", userId);
-            
-            removeSessionFromMaps(session);
-            
+
+            registry.unbind(session.getId());
+
         } catch (Exception e) {
             logger.error("❌ Error en desconexión: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * Remover sesión de todos los mapas
+     * Latido periódico: cierra sesiones inactivas y envía un ping al resto
      */
-    private void removeSessionFromMaps(WebSocketSession session) {
-        userSessions.entrySet().removeIf(entry -> entry.getValue().getId().equals(session.getId()));
-        adminSessions.entrySet().removeIf(entry -> entry.getValue().getId().equals(session.getId()));
+    @Scheduled(fixedDelayString = "${websocket.heartbeat.interval-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+
+        for (WebSocketSessionRegistry.Entry entry : registry.getAllEntries()) {
+            WebSocketSession session = entry.getSession();
+            if (!session.isOpen() || now - entry.getLastSeen() > idleTimeoutMs) {
+                evict(entry);
+                evicted++;
+            } else {
+                entry.getSender().send(new PingMessage(ByteBuffer.allocate(0)));
+            }
+        }
+
+        if (evicted > 0) {
+            logger.info("💤 {} sesiones WebSocket inactivas cerradas", evicted);
+        }
+    }
+
+    /**
+     * Cierra las sesiones con un envío bloqueado más allá del límite, sin esperar
+     * a que llegue otro mensaje para ellas; libera así los hilos del pool de envío
+     */
+    @Scheduled(fixedDelayString = "${websocket.send.watchdog-interval-ms:1000}")
+    public void checkStalledSends() {
+        int closed = 0;
+        for (WebSocketSessionRegistry.Entry entry : registry.getAllEntries()) {
+            if (entry.getSender().checkSendTimeout()) {
+                closed++;
+            }
+        }
+        if (closed > 0) {
+            logger.warn("⚠️ {} sesiones WebSocket cerradas por envío bloqueado", closed);
+        }
+    }
+
+    private void evict(WebSocketSessionRegistry.Entry entry) {
+        WebSocketSession session = entry.getSession();
+        registry.remove(session.getId());
+        entry.getSender().release();
+        try {
+            session.close(CloseStatus.GOING_AWAY);
+        } catch (IOException e) {
+            logger.debug("Error cerrando sesión inactiva {}: {}", session.getId(), e.getMessage());
+        }
     }
 
     /**
-     * Enviar notificación a un usuario específico
+     * Entregar una notificación recibida por el bus a las sesiones que este nodo mantiene
+     */
+    public void deliver(NotificationEnvelope envelope) {
+        TextMessage encoded = new TextMessage(envelope.getPayload());
+        switch (envelope.getTarget()) {
+            case USER -> deliverToUser(envelope.getUserId(), encoded);
+            case GROUP -> deliverToGroup(envelope.getGroup(), encoded);
+        }
+    }
+
+    /**
+     * Enviar notificación a un usuario específico, en todas sus sesiones abiertas
      */
     public void sendNotificationToUser(Long userId, Object notification) {
-        WebSocketSession session = userSessions.get(userId);
-        if (session != null && session.isOpen()) {
-            sendMessage(session, notification);
-            logger.info("📤 Notificación enviada al usuario {}", userId);
-        } else {
-            logger.warn("⚠️ Usuario {} no está conectado o sesión cerrada", userId);
+        TextMessage encoded = encode(notification);
+        if (encoded != null) {
+            deliverToUser(userId, encoded);
         }
     }
 
     /**
-     * Enviar notificación a todos los administradores
+     * Enviar notificación a todos los administradores.
+     * El payload se serializa una sola vez y el mismo TextMessage se comparte entre sesiones.
      */
     public void sendNotificationToAllAdmins(Object notification) {
+        sendNotificationToGroup(WebSocketSessionRegistry.ADMIN_GROUP, notification);
+    }
+
+    /**
+     * Enviar notificación a todas las sesiones suscritas a un grupo (ADMIN, ROLE_*, ...)
+     */
+    public void sendNotificationToGroup(String group, Object notification) {
+        TextMessage encoded = encode(notification);
+        if (encoded != null) {
+            deliverToGroup(group, encoded);
+        }
+    }
+
+    private void deliverToUser(Long userId, TextMessage encoded) {
+        List<WebSocketSessionRegistry.Entry> entries = registry.getUserEntries(userId);
+        if (entries.isEmpty()) {
+            // En despliegues con varios nodos el usuario puede estar conectado a otro nodo
+            logger.debug("Usuario {} sin sesiones en este nodo", userId);
+            return;
+        }
+        int sentCount = enqueueAll(entries, encoded);
+        logger.info("📤 Notificación enviada al usuario {} ({} sesiones)", userId, sentCount);
+    }
+
+    private void deliverToGroup(String group, TextMessage encoded) {
+        List<WebSocketSessionRegistry.Entry> entries = registry.getGroupEntries(group);
+        if (entries.isEmpty()) {
+            logger.debug("Sin sesiones suscritas al grupo {} en este nodo", group);
+            return;
+        }
+        int sentCount = enqueueAll(entries, encoded);
+        logger.info("📤 Notificación enviada a {} sesiones del grupo {}", sentCount, group);
+    }
+
+    private int enqueueAll(List<WebSocketSessionRegistry.Entry> entries, TextMessage encoded) {
         int sentCount = 0;
-        
-        for (Map.Entry<Long, WebSocketSession> entry : adminSessions.entrySet()) {
-            WebSocketSession session = entry.getValue();
-            if (session.isOpen()) {
-                sendMessage(session, notification);
+        for (WebSocketSessionRegistry.Entry entry : entries) {
+            if (entry.getSession().isOpen() && entry.getSender().sendCoalesced(encoded)) {
                 sentCount++;
             }
         }
-        
-        logger.info("📤 Notificación enviada a {} administradores", sentCount);
+        return sentCount;
     }
 
     /**
-     * Enviar mensaje a una sesión específica
+     * Enviar mensaje de control a una sesión específica, sin agrupar
      */
     private void sendMessage(WebSocketSession session, Object message) {
+        WebSocketSessionRegistry.Entry entry = registry.get(session.getId());
+        if (entry == null || !session.isOpen()) {
+            return;
+        }
+        TextMessage encoded = encode(message);
+        if (encoded != null && !entry.getSender().send(encoded)) {
+            logger.warn("⚠️ Mensaje no encolado para sesión {} (cerrada o lenta)", session.getId());
+        }
+    }
+
+    /**
+     * Serializar una vez; el TextMessage resultante es inmutable y puede compartirse
+     */
+    private TextMessage encode(Object message) {
         try {
-            if (session.isOpen()) {
-                String jsonMessage = objectMapper.writeValueAsString(message);
-                session.sendMessage(new TextMessage(jsonMessage));
-            }
+            return new TextMessage(objectMapper.writeValueAsString(message));
         } catch (IOException e) {
-            logger.error("❌ Error enviando mensaje WebSocket: {}", e.getMessage(), e);
+            logger.error("❌ Error serializando mensaje WebSocket: {}", e.getMessage(), e);
+            return null;
         }
     }
 
@@ -191,16 +417,41 @@ public class NotificationWebSocketHandler implements WebSocketHandler {
     }
 
     /**
-     * Obtener número de usuarios conectados
+     * Obtener número de usuarios conectados (con al menos una sesión)
      */
     public int getConnectedUsersCount() {
-        return userSessions.size();
+        return registry.getUserCount();
     }
 
     /**
-     * Obtener número de administradores conectados
+     * Obtener número de sesiones de administradores conectadas
      */
     public int getConnectedAdminsCount() {
-        return adminSessions.size();
+        return registry.getGroupSessionCount(WebSocketSessionRegistry.ADMIN_GROUP);
+    }
+
+    /**
+     * Obtener número total de sesiones abiertas (todas las pestañas y dispositivos)
+     */
+    public int getOpenSessionsCount() {
+        return registry.getSessionCount();
+    }
+
+    /**
+     * Tamaño de cada grupo de suscripción
+     */
+    public Map<String, Integer> getGroupSizes() {
+        return registry.getGroupSizes();
+    }
+
+    /**
+     * Métricas de las colas de envío por sesión, ordenadas por profundidad descendente
+     */
+    public List<Map<String, Object>> getSendQueueStats() {
+        return registry.getAllEntries().stream()
+                .map(WebSocketSessionRegistry.Entry::getSender)
+                .sorted(Comparator.comparingInt(BufferedSessionSender::getQueueDepth).reversed())
+                .map(BufferedSessionSender::getStats)
+                .toList();
     }
-}
\ No newline at end of file
+}
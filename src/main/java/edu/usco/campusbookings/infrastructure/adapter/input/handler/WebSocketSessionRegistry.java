@@ -0,0 +1,224 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.handler;
+
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de sesiones WebSocket con soporte para varios dispositivos por usuario.
+ * <p>
+ * Índices mantenidos:
+ * <ul>
+ *     <li>sessionId -> {@link Entry} (índice inverso: sesión, sender, usuario y grupos)</li>
+ *     <li>userId -> sessionIds (todas las pestañas/dispositivos del usuario)</li>
+ *     <li>grupo -> sessionIds (ADMIN, ROLE_*, suscripciones)</li>
+ * </ul>
+ * Conectar y desconectar solo tocan las entradas de la propia sesión, sin recorrer
+ * a los demás usuarios conectados, así que su costo es constante.
+ */
+public class WebSocketSessionRegistry {
+
+    public static final String ADMIN_GROUP = NotificationEnvelope.ADMIN_GROUP;
+
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> userIndex = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> groupIndex = new ConcurrentHashMap<>();
+
+    /**
+     * Sesión registrada con su sender y metadatos de suscripción
+     */
+    public static final class Entry {
+        private final WebSocketSession session;
+        private final BufferedSessionSender sender;
+        private volatile Long userId;
+        private volatile Set<String> groups = Collections.emptySet();
+        private volatile long lastSeen = System.currentTimeMillis();
+
+        private Entry(WebSocketSession session, BufferedSessionSender sender) {
+            this.session = session;
+            this.sender = sender;
+        }
+
+        public WebSocketSession getSession() {
+            return session;
+        }
+
+        public BufferedSessionSender getSender() {
+            return sender;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public Set<String> getGroups() {
+            return groups;
+        }
+
+        public long getLastSeen() {
+            return lastSeen;
+        }
+    }
+
+    /**
+     * Registrar una sesión recién abierta, aún sin usuario asociado
+     */
+    public void open(WebSocketSession session, BufferedSessionSender sender) {
+        sessions.put(session.getId(), new Entry(session, sender));
+    }
+
+    /**
+     * Asociar la sesión a un usuario y a sus grupos. Reemplaza una asociación previa de la misma sesión.
+     *
+     * @return false si la sesión no está registrada
+     */
+    public boolean bind(String sessionId, Long userId, Set<String> groups) {
+        Entry entry = sessions.get(sessionId);
+        if (entry == null) {
+            return false;
+        }
+        synchronized (entry) {
+            // La sesión pudo cerrarse entre el get y el lock
+            if (sessions.get(sessionId) != entry) {
+                return false;
+            }
+            unindex(sessionId, entry);
+            entry.userId = userId;
+            entry.groups = Set.copyOf(groups);
+            // compute es atómico por clave: un unindex concurrente no puede quitar el set
+            // vacío entre su creación y el add, lo que dejaría la sesión fuera del índice
+            userIndex.compute(userId, (id, ids) -> addTo(ids, sessionId));
+            for (String group : entry.groups) {
+                groupIndex.compute(group, (g, ids) -> addTo(ids, sessionId));
+            }
+            entry.lastSeen = System.currentTimeMillis();
+        }
+        return true;
+    }
+
+    /**
+     * Quitar la asociación de usuario/grupos sin cerrar la sesión
+     */
+    public void unbind(String sessionId) {
+        Entry entry = sessions.get(sessionId);
+        if (entry != null) {
+            synchronized (entry) {
+                unindex(sessionId, entry);
+                entry.userId = null;
+                entry.groups = Collections.emptySet();
+            }
+        }
+    }
+
+    /**
+     * Eliminar la sesión de todos los índices en O(1) usando el índice inverso
+     *
+     * @return la entrada eliminada, o null si no existía
+     */
+    public Entry remove(String sessionId) {
+        Entry entry = sessions.remove(sessionId);
+        if (entry != null) {
+            synchronized (entry) {
+                unindex(sessionId, entry);
+            }
+        }
+        return entry;
+    }
+
+    private static Set<String> addTo(Set<String> ids, String sessionId) {
+        Set<String> result = ids != null ? ids : ConcurrentHashMap.newKeySet();
+        result.add(sessionId);
+        return result;
+    }
+
+    private void unindex(String sessionId, Entry entry) {
+        Long userId = entry.userId;
+        if (userId != null) {
+            userIndex.computeIfPresent(userId, (id, ids) -> {
+                ids.remove(sessionId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        for (String group : entry.groups) {
+            groupIndex.computeIfPresent(group, (g, ids) -> {
+                ids.remove(sessionId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Registrar actividad (mensaje o pong) de la sesión
+     */
+    public void touch(String sessionId) {
+        Entry entry = sessions.get(sessionId);
+        if (entry != null) {
+            entry.lastSeen = System.currentTimeMillis();
+        }
+    }
+
+    public Entry get(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * Entradas de todas las sesiones de un usuario
+     */
+    public List<Entry> getUserEntries(Long userId) {
+        return resolve(userIndex.get(userId));
+    }
+
+    /**
+     * Entradas de todas las sesiones suscritas a un grupo
+     */
+    public List<Entry> getGroupEntries(String group) {
+        return resolve(groupIndex.get(group));
+    }
+
+    private List<Entry> resolve(Set<String> sessionIds) {
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return List.of();
+        }
+        return sessionIds.stream()
+                .map(sessions::get)
+                .filter(entry -> entry != null)
+                .toList();
+    }
+
+    public Collection<Entry> getAllEntries() {
+        return sessions.values();
+    }
+
+    public boolean isUserConnected(Long userId) {
+        Set<String> ids = userIndex.get(userId);
+        return ids != null && !ids.isEmpty();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getUserCount() {
+        return userIndex.size();
+    }
+
+    public int getGroupSessionCount(String group) {
+        Set<String> ids = groupIndex.get(group);
+        return ids != null ? ids.size() : 0;
+    }
+
+    /**
+     * Tamaño de cada grupo de suscripción
+     */
+    public Map<String, Integer> getGroupSizes() {
+        Map<String, Integer> sizes = new ConcurrentHashMap<>();
+        groupIndex.forEach((group, ids) -> sizes.put(group, ids.size()));
+        return sizes;
+    }
+}
@@ -0,0 +1,66 @@
+package edu.usco.campusbookings.infrastructure.adapter.output.notification;
+
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+import edu.usco.campusbookings.application.port.output.NotificationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Bus de notificaciones en memoria: entrega directamente a los suscriptores de esta JVM.
+ * Es el modo por defecto para una sola instancia y el sustituto de varios nodos en pruebas.
+ * El reparto corre en el pool de notificaciones (un hilo, en orden de publicación) para que quien publica,
+ * normalmente una petición dentro de su transacción, no recorra los grupos de sesiones.
+ * Dentro de una transacción la entrega espera al commit, igual que {@code NOTIFY} en
+ * {@link PostgresNotificationBus}: un rollback no deja notificaciones de datos inexistentes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notifications.bus.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNotificationBus implements NotificationBus {
+
+    private final List<Consumer<NotificationEnvelope>> subscribers = new CopyOnWriteArrayList<>();
+    private final Executor notificationExecutor;
+
+    public InMemoryNotificationBus(@Qualifier("notificationExecutor") Executor notificationExecutor) {
+        this.notificationExecutor = notificationExecutor;
+    }
+
+    @Override
+    public void publish(NotificationEnvelope envelope) {
+        Runnable entrega = () -> notificationExecutor.execute(() -> dispatch(envelope));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entrega.run();
+                }
+            });
+        } else {
+            entrega.run();
+        }
+    }
+
+    private void dispatch(NotificationEnvelope envelope) {
+        for (Consumer<NotificationEnvelope> subscriber : subscribers) {
+            try {
+                subscriber.accept(envelope);
+            } catch (Exception e) {
+                log.error("❌ Error entregando notificación a suscriptor local: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationEnvelope> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
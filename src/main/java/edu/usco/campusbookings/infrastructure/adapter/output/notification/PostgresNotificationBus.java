@@ -0,0 +1,203 @@
+package edu.usco.campusbookings.infrastructure.adapter.output.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+import edu.usco.campusbookings.application.port.output.NotificationBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Bus de notificaciones entre nodos sobre PostgreSQL {@code LISTEN/NOTIFY}.
+ * <p>
+ * Publicar usa {@code pg_notify} con la conexión de la transacción en curso, de modo que
+ * PostgreSQL solo entrega la notificación cuando la transacción hace commit. Cada nodo escucha
+ * el canal en una conexión dedicada (fuera del pool Hikari) y entrega lo recibido, incluido
+ * lo que él mismo publicó, a sus suscriptores locales.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notifications.bus.type", havingValue = "postgres")
+public class PostgresNotificationBus implements NotificationBus {
+
+    // PostgreSQL rechaza payloads de NOTIFY de 8000 bytes o más
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<NotificationEnvelope>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Value("${notifications.bus.channel:campus_notifications}")
+    private String channel;
+
+    @Value("${notifications.bus.poll-timeout-ms:5000}")
+    private int pollTimeoutMs;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listenerThread;
+
+    public PostgresNotificationBus(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalStateException("Nombre de canal NOTIFY inválido: " + channel);
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "notification-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("📡 Bus de notificaciones PostgreSQL escuchando canal '{}'", channel);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        closeQuietly(listenConnection);
+    }
+
+    @Override
+    public void publish(NotificationEnvelope envelope) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(envelope);
+        } catch (JsonProcessingException e) {
+            log.error("❌ Error serializando notificación para el bus: {}", e.getMessage(), e);
+            return;
+        }
+
+        if (json.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            // No cabe en NOTIFY: al menos se entrega a las sesiones de este nodo, también solo tras el commit
+            log.warn("⚠️ Notificación de {} bytes excede el límite de NOTIFY, entrega solo local", json.length());
+            alConfirmar(() -> dispatch(envelope));
+            return;
+        }
+
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, json);
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationEnvelope> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Bucle del hilo listener: conecta, hace LISTEN y reconecta con backoff ante fallos
+     */
+    private void listenLoop() {
+        long backoffMs = 1000;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                backoffMs = 1000;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handleNotification(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.error("❌ Conexión LISTEN perdida, reintentando en {} ms: {}", backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            } finally {
+                listenConnection = null;
+            }
+        }
+        log.info("📡 Listener del bus de notificaciones detenido");
+    }
+
+    private void handleNotification(String json) {
+        try {
+            dispatch(objectMapper.readValue(json, NotificationEnvelope.class));
+        } catch (JsonProcessingException e) {
+            log.error("❌ Notificación inválida recibida por el bus: {}", e.getMessage());
+        }
+    }
+
+    private static void alConfirmar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+
+    private void dispatch(NotificationEnvelope envelope) {
+        for (Consumer<NotificationEnvelope> subscriber : subscribers) {
+            try {
+                subscriber.accept(envelope);
+            } catch (Exception e) {
+                log.error("❌ Error entregando notificación a suscriptor local: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Error cerrando conexión LISTEN: {}", e.getMessage());
+            }
+        }
+    }
+}
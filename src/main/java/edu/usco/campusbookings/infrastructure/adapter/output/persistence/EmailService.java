@@ -1,10 +1,14 @@
 package edu.usco.campusbookings.infrastructure.adapter.output.persistence;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
@@ -13,19 +17,19 @@ import edu.usco.campusbookings.domain.model.AlertaReserva;
 import edu.usco.campusbookings.domain.model.Reserva;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService implements EmailServicePort {
 
     private final JavaMailSender javaMailSender;
     private final TemplateEngine templateEngine;
+    private final Executor mailExecutor;
 
     @Value("${mail.reservas.from:namc1309@gmail.com}")
     private String fromEmail;
@@ -39,6 +43,14 @@ public class EmailService implements EmailServicePort {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd 'de' MMMM 'de' yyyy", new Locale("es", "ES"));
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm", new Locale("es", "ES"));
 
+    public EmailService(JavaMailSender javaMailSender,
+                        TemplateEngine templateEngine,
+                        @Qualifier("mailExecutor") Executor mailExecutor) {
+        this.javaMailSender = javaMailSender;
+        this.templateEngine = templateEngine;
+        this.mailExecutor = mailExecutor;
+    }
+
     @Override
     public void sendConfirmationEmail(String to, String subject, String body) {
         SimpleMailMessage message = new SimpleMailMessage();
@@ -54,6 +66,38 @@ public class EmailService implements EmailServicePort {
      * Envía un correo HTML usando Thymeleaf template
      */
     private void sendHtmlEmail(String to, String subject, String templateName, Context context) {
+        javaMailSender.send(buildHtmlEmail(to, subject, templateName, context));
+        log.info("Email enviado exitosamente a: {} con asunto: {}", to, subject);
+    }
+
+    /**
+     * Renderiza el correo en el hilo actual, mientras la reserva conserva su sesión, y lo envía en el pool
+     * de correo al confirmar la transacción: un SMTP lento no alarga la petición y no salen correos de
+     * reservas revertidas. Los fallos de envío solo se registran.
+     */
+    private void sendHtmlEmailAfterCommit(String to, String subject, String templateName, Context context) {
+        MimeMessage mimeMessage = buildHtmlEmail(to, subject, templateName, context);
+        Runnable envio = () -> mailExecutor.execute(() -> {
+            try {
+                javaMailSender.send(mimeMessage);
+                log.info("Email enviado exitosamente a: {} con asunto: {}", to, subject);
+            } catch (MailException e) {
+                log.error("Error enviando email a: {} con asunto: {}", to, subject, e);
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    envio.run();
+                }
+            });
+        } else {
+            envio.run();
+        }
+    }
+
+    private MimeMessage buildHtmlEmail(String to, String subject, String templateName, Context context) {
         try {
             MimeMessage mimeMessage = javaMailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
@@ -64,9 +108,7 @@ public class EmailService implements EmailServicePort {
             
             String htmlContent = templateEngine.process(templateName, context);
             helper.setText(htmlContent, true);
-            
-            javaMailSender.send(mimeMessage);
-            log.info("Email enviado exitosamente a: {} con asunto: {}", to, subject);
+            return mimeMessage;
             
         } catch (MessagingException e) {
             log.error("Error enviando email a: {} con asunto: {}", to, subject, e);
@@ -95,7 +137,7 @@ public class EmailService implements EmailServicePort {
         context.setVariable("reservaId", reserva.getId());
         context.setVariable("estadoReserva", reserva.getEstado().getNombre());
         
-        sendHtmlEmail(
+        sendHtmlEmailAfterCommit(
             reserva.getUsuario().getEmail(), 
             "Nueva Reserva Creada - Pendiente de Aprobación", 
             "email/reserva-creada", 
@@ -122,7 +164,7 @@ public class EmailService implements EmailServicePort {
         context.setVariable("observaciones", reserva.getObservaciones());
         context.setVariable("reservaId", reserva.getId());
         
-        sendHtmlEmail(
+        sendHtmlEmailAfterCommit(
             reserva.getUsuario().getEmail(), 
             "¡Reserva Aprobada! - Confirmación Final", 
             "email/reserva-aprobada", 
@@ -151,7 +193,7 @@ public class EmailService implements EmailServicePort {
         context.setVariable("motivoRechazo", reserva.getMotivoRechazo());
         context.setVariable("reservaId", reserva.getId());
         
-        sendHtmlEmail(
+        sendHtmlEmailAfterCommit(
             reserva.getUsuario().getEmail(), 
             "Reserva No Aprobada - Información Importante", 
             "email/reserva-rechazada", 
@@ -179,7 +221,7 @@ public class EmailService implements EmailServicePort {
         context.setVariable("observaciones", reserva.getObservaciones());
         context.setVariable("reservaId", reserva.getId());
         
-        sendHtmlEmail(
+        sendHtmlEmailAfterCommit(
             reserva.getUsuario().getEmail(), 
             "Reserva Cancelada - Confirmación", 
             "email/reserva-cancelada", 
@@ -208,7 +250,7 @@ public class EmailService implements EmailServicePort {
         context.setVariable("reservaId", reserva.getId());
         context.setVariable("fechaCreacion", reserva.getCreatedDate());
         
-        sendHtmlEmail(
+        sendHtmlEmailAfterCommit(
             adminEmail, 
             "Nueva Reserva Pendiente de Aprobación - Acción Requerida", 
             "email/admin-nueva-reserva", 
@@ -31,7 +31,7 @@ public class EscenarioRepository implements EscenarioRepositoryPort {
 
     @Override
     public List<Escenario> findAll() {
-        return springDataEscenarioRepository.findAll();
+        return springDataEscenarioRepository.findAllWithTipoAndUbicacion();
     }
 
     @Override
@@ -43,4 +43,9 @@ public class EscenarioRepository implements EscenarioRepositoryPort {
     public void deleteById(Long id) {
         springDataEscenarioRepository.deleteById(id);
     }
+
+    @Override
+    public long countByImagenUrl(String imagenUrl) {
+        return springDataEscenarioRepository.countByImagenUrl(imagenUrl);
+    }
 }
\ No newline at end of file
@@ -6,7 +6,9 @@ import edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa.Spr
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -47,10 +49,22 @@ public class GoogleCalendarRepository implements GoogleCalendarRepositoryPort {
         usuario.setGoogleAccessToken(null);
         usuario.setGoogleRefreshToken(null);
         usuario.setGoogleCalendarConnected(false);
+        usuario.setGoogleCalendarSyncToken(null);
         
         Usuario savedUsuario = usuarioRepository.save(usuario);
         log.info("Google Calendar desconectado para usuario ID: {}", userId);
         
         return savedUsuario;
     }
+
+    @Override
+    public List<Usuario> findConnectedUsers() {
+        return usuarioRepository.findByGoogleCalendarConnectedTrue();
+    }
+
+    @Override
+    @Transactional
+    public void updateSyncToken(Long userId, String syncToken) {
+        usuarioRepository.updateGoogleCalendarSyncToken(userId, syncToken);
+    }
 }
@@ -0,0 +1,64 @@
+package edu.usco.campusbookings.infrastructure.adapter.output.persistence;
+
+import edu.usco.campusbookings.application.port.output.NotificacionInboxRepositoryPort;
+import edu.usco.campusbookings.domain.model.NotificacionCursor;
+import edu.usco.campusbookings.domain.model.NotificacionInbox;
+import edu.usco.campusbookings.infrastructure.adapter.output.persistence.repository.NotificacionCursorJpaRepository;
+import edu.usco.campusbookings.infrastructure.adapter.output.persistence.repository.NotificacionInboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificacionInboxPersistenceAdapter implements NotificacionInboxRepositoryPort {
+
+    private final NotificacionInboxJpaRepository inboxJpaRepository;
+    private final NotificacionCursorJpaRepository cursorJpaRepository;
+
+    @Override
+    public long siguienteSecuencia(Long usuarioId) {
+        cursorJpaRepository.crearSiNoExiste(usuarioId);
+        NotificacionCursor cursor = cursorJpaRepository.findForUpdate(usuarioId)
+                .orElseThrow(() -> new IllegalStateException("Cursor de notificaciones no encontrado para usuario " + usuarioId));
+        cursor.setUltimaSecuencia(cursor.getUltimaSecuencia() + 1);
+        return cursor.getUltimaSecuencia();
+    }
+
+    @Override
+    public NotificacionInbox save(NotificacionInbox notificacion) {
+        return inboxJpaRepository.save(notificacion);
+    }
+
+    @Override
+    public List<String> findPayloadsDesde(Long usuarioId, long desde, int limite) {
+        log.debug("Finding inbox payloads for user {} after sequence {}", usuarioId, desde);
+        return inboxJpaRepository.findPayloadsDesde(usuarioId, desde, PageRequest.of(0, limite));
+    }
+
+    @Override
+    public Optional<NotificacionCursor> findCursor(Long usuarioId) {
+        return cursorJpaRepository.findById(usuarioId);
+    }
+
+    @Override
+    public void marcarLeidasHasta(Long usuarioId, long hasta) {
+        cursorJpaRepository.marcarLeidasHasta(usuarioId, hasta);
+    }
+
+    @Override
+    public int deleteAnterioresA(LocalDateTime fechaLimite) {
+        return inboxJpaRepository.deleteAnterioresA(fechaLimite);
+    }
+
+    @Override
+    public int deleteExcedentePorUsuario(long maxPorUsuario) {
+        return inboxJpaRepository.deleteExcedentePorUsuario(maxPorUsuario);
+    }
+}
@@ -1,9 +1,15 @@
 package edu.usco.campusbookings.infrastructure.adapter.output.persistence;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +34,7 @@ public class ReservaPersistence implements ReservaPersistencePort {
     private final ReservaJpaRepository reservaJpaRepository;
     private final EstadoReservaJpaRepository estadoReservaJpaRepository;
     private final SpringDataEscenarioRepository escenarioJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * Guarda una nueva reserva en el sistema.
@@ -157,7 +164,7 @@ public class ReservaPersistence implements ReservaPersistencePort {
     @Override
     @Transactional(readOnly = true)
     public List<Reserva> findAll() {
-        return reservaJpaRepository.findAll();
+        return reservaJpaRepository.findAllWithDetalles();
     }
     
     @Override
@@ -171,6 +178,20 @@ public class ReservaPersistence implements ReservaPersistencePort {
                 escenarioId, fechaInicio, fechaFin, estadoNombre);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findEscenarioIdsConReservaEnRango(
+            Collection<Long> escenarioIds,
+            LocalDateTime fechaInicio,
+            LocalDateTime fechaFin,
+            String estadoNombre) {
+        if (escenarioIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(reservaJpaRepository.findEscenarioIdsConReservaEnRango(
+                escenarioIds, fechaInicio, fechaFin, estadoNombre));
+    }
+
     /**
      * Elimina una reserva por su ID.
      * 
@@ -277,4 +298,50 @@ public class ReservaPersistence implements ReservaPersistencePort {
         // Buscar reservas activas (aprobadas y pendientes) que se solapen con el rango de fechas
         return reservaJpaRepository.findByEscenarioIdAndFechaRange(escenarioId, fechaInicio, fechaFin);
     }
+
+    /**
+     * Carga reservas con usuario, escenario y estado para procesarlas fuera de la petición.
+     *
+     * @param ids IDs de las reservas
+     * @return Las reservas encontradas
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Reserva> findAllByIdWithDetalles(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return reservaJpaRepository.findAllWithDetallesByIdIn(ids);
+    }
+
+    /**
+     * Escribe los IDs de evento de Google Calendar con un solo batch JDBC en lugar de un save por reserva.
+     *
+     * @param eventIdsPorReserva ID de reserva -> ID de evento (null lo limpia)
+     */
+    @Override
+    @Transactional
+    public void updateGoogleCalendarEventIds(Map<Long, String> eventIdsPorReserva) {
+        if (eventIdsPorReserva == null || eventIdsPorReserva.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(eventIdsPorReserva.size());
+        eventIdsPorReserva.forEach((reservaId, eventId) -> args.add(new Object[]{eventId, reservaId}));
+        jdbcTemplate.batchUpdate("UPDATE reserva SET google_calendar_event_id = ? WHERE id = ?", args);
+    }
+
+    /**
+     * Busca las reservas vinculadas a eventos de Google Calendar.
+     *
+     * @param eventIds IDs de evento de Google Calendar
+     * @return Las reservas vinculadas
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Reserva> findAllByGoogleCalendarEventIdIn(Collection<String> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return List.of();
+        }
+        return reservaJpaRepository.findAllWithDetallesByGoogleCalendarEventIdIn(eventIds);
+    }
 }
@@ -72,4 +72,14 @@ public class UsuarioRepositoryAdapter implements UsuarioRepositoryPort {
     public List<Usuario> findByRolId(Long roleId) {
         return usuarioRepository.findByRolId(roleId);
     }
+
+    @Override
+    public Optional<Long> findTokenVersionById(Long id) {
+        return usuarioRepository.findTokenVersionById(id);
+    }
+
+    @Override
+    public int incrementTokenVersionByRolId(Long roleId) {
+        return usuarioRepository.incrementTokenVersionByRolId(roleId);
+    }
 }
@@ -1,6 +1,7 @@
 package edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,7 +13,15 @@ import edu.usco.campusbookings.domain.model.Reserva;
 
 @Repository
 public interface ReservaJpaRepository extends JpaRepository<Reserva, Long> {
-    List<Reserva> findByUsuarioId(Long usuarioId);
+    // Los @ManyToOne son EAGER: sin JOIN FETCH cada escenario o usuario distinto cuesta una consulta aparte
+    @Query("SELECT r FROM Reserva r JOIN FETCH r.usuario JOIN FETCH r.escenario JOIN FETCH r.estado " +
+           "LEFT JOIN FETCH r.reservaRecurrente WHERE r.usuario.id = :usuarioId")
+    List<Reserva> findByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    @Query("SELECT r FROM Reserva r JOIN FETCH r.usuario JOIN FETCH r.escenario JOIN FETCH r.estado " +
+           "LEFT JOIN FETCH r.reservaRecurrente")
+    List<Reserva> findAllWithDetalles();
+
     List<Reserva> findByEscenarioId(Long escenarioId);
     List<Reserva> findByEstadoNombre(String estadoNombre);
 
@@ -72,4 +81,23 @@ public interface ReservaJpaRepository extends JpaRepository<Reserva, Long> {
             @Param("fechaInicio") LocalDateTime fechaInicio,
             @Param("fechaFin") LocalDateTime fechaFin
     );
+
+    @Query("SELECT DISTINCT r.escenario.id FROM Reserva r WHERE r.escenario.id IN :escenarioIds " +
+           "AND r.estado.nombre = :estadoNombre " +
+           "AND ((r.fechaInicio BETWEEN :fechaInicio AND :fechaFin) " +
+           "OR (r.fechaFin BETWEEN :fechaInicio AND :fechaFin) " +
+           "OR (r.fechaInicio <= :fechaInicio AND r.fechaFin >= :fechaFin))")
+    List<Long> findEscenarioIdsConReservaEnRango(
+            @Param("escenarioIds") Collection<Long> escenarioIds,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin,
+            @Param("estadoNombre") String estadoNombre
+    );
+
+    @Query("SELECT r FROM Reserva r JOIN FETCH r.usuario JOIN FETCH r.escenario JOIN FETCH r.estado WHERE r.id IN :ids")
+    List<Reserva> findAllWithDetallesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT r FROM Reserva r JOIN FETCH r.usuario JOIN FETCH r.escenario JOIN FETCH r.estado " +
+           "WHERE r.googleCalendarEventId IN :eventIds")
+    List<Reserva> findAllWithDetallesByGoogleCalendarEventIdIn(@Param("eventIds") Collection<String> eventIds);
 }
@@ -1,8 +1,19 @@
 package edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import edu.usco.campusbookings.domain.model.Escenario;
 
+import java.util.List;
+
 public interface SpringDataEscenarioRepository extends JpaRepository<Escenario, Long> {
     // Base repository methods are inherited from JpaRepository
+
+    long countByImagenUrl(String imagenUrl);
+
+    /**
+     * Tipo y ubicación son LAZY y casi todos los listados los muestran: se traen en la misma consulta
+     */
+    @Query("SELECT e FROM Escenario e JOIN FETCH e.tipo JOIN FETCH e.ubicacion")
+    List<Escenario> findAllWithTipoAndUbicacion();
 }
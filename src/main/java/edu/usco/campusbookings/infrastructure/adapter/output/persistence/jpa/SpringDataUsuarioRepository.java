@@ -2,6 +2,7 @@ package edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa;
 
 import edu.usco.campusbookings.domain.model.Usuario;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -32,4 +33,17 @@ public interface SpringDataUsuarioRepository extends JpaRepository<Usuario, Long
     List<Usuario> searchUsuarios(@Param("searchTerm") String searchTerm);
 
     List<Usuario> findByRolId(Long rolId);
+
+    @Query("SELECT COALESCE(u.tokenVersion, 0) FROM Usuario u WHERE u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Usuario u SET u.tokenVersion = COALESCE(u.tokenVersion, 0) + 1 WHERE u.rol.id = :rolId")
+    int incrementTokenVersionByRolId(@Param("rolId") Long rolId);
+
+    List<Usuario> findByGoogleCalendarConnectedTrue();
+
+    @Modifying
+    @Query("UPDATE Usuario u SET u.googleCalendarSyncToken = :syncToken WHERE u.id = :id")
+    int updateGoogleCalendarSyncToken(@Param("id") Long id, @Param("syncToken") String syncToken);
 }
@@ -0,0 +1,40 @@
+package edu.usco.campusbookings.infrastructure.adapter.output.persistence.repository;
+
+import edu.usco.campusbookings.domain.model.NotificacionCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificacionCursorJpaRepository extends JpaRepository<NotificacionCursor, Long> {
+
+    /**
+     * Crea el cursor si no existe; inserciones concurrentes no fallan (PostgreSQL y H2 en modo PostgreSQL)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notificacion_cursor (usuario_id, ultima_secuencia, ultima_leida) " +
+                   "VALUES (:usuarioId, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void crearSiNoExiste(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Bloquea la fila del cursor hasta el commit: serializa la asignación de secuencias por usuario
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM NotificacionCursor c WHERE c.usuarioId = :usuarioId")
+    Optional<NotificacionCursor> findForUpdate(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Avanza la marca de leídas sin retroceder nunca ni pasar de la última secuencia
+     */
+    @Modifying
+    @Query("UPDATE NotificacionCursor c SET c.ultimaLeida = " +
+           "CASE WHEN :hasta > c.ultimaSecuencia THEN c.ultimaSecuencia ELSE :hasta END " +
+           "WHERE c.usuarioId = :usuarioId AND c.ultimaLeida < :hasta")
+    int marcarLeidasHasta(@Param("usuarioId") Long usuarioId, @Param("hasta") long hasta);
+}
@@ -0,0 +1,40 @@
+package edu.usco.campusbookings.infrastructure.adapter.output.persistence.repository;
+
+import edu.usco.campusbookings.domain.model.NotificacionInbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificacionInboxJpaRepository extends JpaRepository<NotificacionInbox, Long> {
+
+    /**
+     * Payloads posteriores a una secuencia, en orden (usa el índice único usuario_id, secuencia)
+     */
+    @Query("SELECT n.payload FROM NotificacionInbox n " +
+           "WHERE n.usuarioId = :usuarioId AND n.secuencia > :desde ORDER BY n.secuencia ASC")
+    List<String> findPayloadsDesde(@Param("usuarioId") Long usuarioId,
+                                   @Param("desde") long desde,
+                                   Pageable pageable);
+
+    /**
+     * Elimina entradas anteriores a la fecha límite de retención
+     */
+    @Modifying
+    @Query("DELETE FROM NotificacionInbox n WHERE n.fechaCreacion < :fechaLimite")
+    int deleteAnterioresA(@Param("fechaLimite") LocalDateTime fechaLimite);
+
+    /**
+     * Conserva solo las últimas {@code maxPorUsuario} entradas de cada usuario
+     */
+    @Modifying
+    @Query("DELETE FROM NotificacionInbox n WHERE n.secuencia <= " +
+           "(SELECT c.ultimaSecuencia - :maxPorUsuario FROM NotificacionCursor c WHERE c.usuarioId = n.usuarioId)")
+    int deleteExcedentePorUsuario(@Param("maxPorUsuario") long maxPorUsuario);
+}
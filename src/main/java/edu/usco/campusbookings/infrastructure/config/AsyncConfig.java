@@ -0,0 +1,120 @@
+package edu.usco.campusbookings.infrastructure.config;
+
+import edu.usco.campusbookings.infrastructure.metrics.ExecutorMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Pools acotados por tipo de trabajo en segundo plano: correo, calendario, notificaciones y lotes.
+ * <p>
+ * Separarlos evita que un SMTP lento o una cuota agotada de Google detengan a los demás, y deja libre el
+ * scheduler de {@link SchedulingConfig} para disparar tareas. Cada pool propaga el MDC y la autenticación
+ * ({@link ContextCopyingTaskDecorator}), publica sus métricas ({@code campusbookings.executor.*}) y al cerrar
+ * la aplicación termina lo encolado dentro de {@code await-termination-seconds}.
+ * <p>
+ * {@code @Async} sin nombre de pool usa el de lotes.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+
+    private static final boolean VIRTUAL_THREADS_SUPPORTED = Runtime.version().feature() >= 21;
+
+    private final AsyncProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TaskDecorator contextDecorator = new ContextCopyingTaskDecorator();
+
+    public AsyncConfig(AsyncProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        if (properties.isVirtualThreads() && !VIRTUAL_THREADS_SUPPORTED) {
+            log.warn("app.async.virtual-threads requiere Java 21+ (JVM actual: {}); se usan pools de plataforma",
+                    Runtime.version());
+        }
+    }
+
+    @Bean(name = "mailExecutor")
+    public AsyncTaskExecutor mailExecutor() {
+        return crear("mail", properties.getMail(), true);
+    }
+
+    @Bean(name = "calendarExecutor")
+    public AsyncTaskExecutor calendarExecutor() {
+        return crear("calendar", properties.getCalendar(), true);
+    }
+
+    /**
+     * Siempre de plataforma: con un solo hilo y cola FIFO las notificaciones salen en el orden publicado
+     */
+    @Bean(name = "notificationExecutor")
+    public AsyncTaskExecutor notificationExecutor() {
+        return crear("notifications", properties.getNotifications(), false);
+    }
+
+    @Bean(name = "batchExecutor")
+    public AsyncTaskExecutor batchExecutor() {
+        return crear("batch", properties.getBatch(), true);
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return batchExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("Error en tarea asíncrona {}.{}: {}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), ex.getMessage(), ex);
+    }
+
+    private AsyncTaskExecutor crear(String nombre, AsyncProperties.Pool pool, boolean admiteVirtuales) {
+        ExecutorMetrics metrics = new ExecutorMetrics(meterRegistry, nombre);
+        TaskDecorator decorator = metrics.decorator(contextDecorator);
+
+        if (admiteVirtuales && properties.isVirtualThreads() && VIRTUAL_THREADS_SUPPORTED) {
+            // Sin cola: el límite de concurrencia hace esperar al que encola cuando el pool está lleno
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(nombre + "-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(pool.getMaxSize());
+            executor.setTaskDecorator(decorator);
+            executor.setTaskTerminationTimeout(pool.getAwaitTerminationSeconds() * 1000L);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(nombre + "-");
+        executor.setTaskDecorator(decorator);
+        executor.setRejectedExecutionHandler(metrics.counting(rechazo(pool.getRejectionPolicy())));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(pool.getAwaitTerminationSeconds());
+        executor.initialize();
+        metrics.bindQueue(executor);
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rechazo(AsyncProperties.RejectionPolicy policy) {
+        return switch (policy) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package edu.usco.campusbookings.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pools de ejecución en segundo plano por tipo de trabajo.
+ * Lee la configuración con prefijo {@code app.async} desde application.properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.async")
+public class AsyncProperties {
+
+    /**
+     * Un hilo virtual por tarea en los pools de E/S (correo, calendario y lotes) si el JDK lo soporta (21+);
+     * en JDKs anteriores se mantienen los pools de plataforma
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * Envío SMTP de los correos de reservas
+     */
+    private Pool mail = new Pool(2, 4, 500, RejectionPolicy.CALLER_RUNS, 30);
+
+    /**
+     * Sincronización con Google Calendar (usuarios de un mismo drenado en paralelo)
+     */
+    private Pool calendar = new Pool(2, 4, 100, RejectionPolicy.CALLER_RUNS, 30);
+
+    /**
+     * Reparto de notificaciones a las sesiones locales; un solo hilo conserva el orden de publicación
+     */
+    private Pool notifications = new Pool(1, 1, 10_000, RejectionPolicy.CALLER_RUNS, 5);
+
+    /**
+     * Trabajos programados pesados (generación de reservas recurrentes)
+     */
+    private Pool batch = new Pool(1, 2, 10, RejectionPolicy.ABORT, 60);
+
+    public enum RejectionPolicy {
+        /**
+         * El hilo que encola ejecuta la tarea (contrapresión, no se pierde trabajo)
+         */
+        CALLER_RUNS,
+        /**
+         * Lanza {@code TaskRejectedException} al que encola
+         */
+        ABORT,
+        /**
+         * Descarta la tarea más antigua de la cola
+         */
+        DISCARD_OLDEST,
+        /**
+         * Descarta la tarea nueva
+         */
+        DISCARD
+    }
+
+    @Data
+    public static class Pool {
+        private int coreSize;
+        private int maxSize;
+        private int queueCapacity;
+        private RejectionPolicy rejectionPolicy;
+        /**
+         * Espera al cerrar la aplicación para terminar las tareas en curso y encoladas
+         */
+        private int awaitTerminationSeconds;
+
+        public Pool() {
+        }
+
+        Pool(int coreSize, int maxSize, int queueCapacity, RejectionPolicy rejectionPolicy, int awaitTerminationSeconds) {
+            this.coreSize = coreSize;
+            this.maxSize = maxSize;
+            this.queueCapacity = queueCapacity;
+            this.rejectionPolicy = rejectionPolicy;
+            this.awaitTerminationSeconds = awaitTerminationSeconds;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package edu.usco.campusbookings.infrastructure.config;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * Lleva a la tarea el MDC y la autenticación del hilo que la encola, y deja el hilo del pool como estaba.
+ * Así los logs de segundo plano conservan la correlación de la petición y el auditor de JPA ve al usuario.
+ */
+public class ContextCopyingTaskDecorator implements TaskDecorator {
+
+    @Override
+    @NonNull
+    public Runnable decorate(@NonNull Runnable runnable) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContext previousContext = SecurityContextHolder.getContext();
+            try {
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                } else {
+                    MDC.clear();
+                }
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+                runnable.run();
+            } finally {
+                if (previousMdc != null) {
+                    MDC.setContextMap(previousMdc);
+                } else {
+                    MDC.clear();
+                }
+                if (previousContext.getAuthentication() != null) {
+                    SecurityContextHolder.setContext(previousContext);
+                } else {
+                    SecurityContextHolder.clearContext();
+                }
+            }
+        };
+    }
+}
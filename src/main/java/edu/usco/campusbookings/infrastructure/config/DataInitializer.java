@@ -14,30 +14,52 @@ import edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa.Tip
 import edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa.UbicacionJpaRepository;
 import edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa.EstadoReservaJpaRepository;
 import edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa.SpringDataEscenarioRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Inicializador de datos por defecto para roles y permisos
  * Se ejecuta al iniciar la aplicación
+ * <p>
+ * Las definiciones se reducen a una huella SHA-256 que se guarda en {@code seed_metadata}: si coincide con la
+ * aplicada, el arranque no consulta los catálogos. Si cambió, la carga corre en una sola transacción e inserta
+ * solo lo que falta por clave natural (nombre), con una lectura por tabla. Permisos, roles y estados de reserva
+ * se completan siempre; tipos, ubicaciones y escenarios solo se siembran con la tabla vacía, porque después
+ * los administra la aplicación.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class DataInitializer implements ApplicationRunner {
 
+    static final String SEED_NAME = "catalogos";
+
+    /**
+     * Subir al cambiar cómo se aplican las definiciones (no su contenido, que ya cambia la huella)
+     */
+    private static final int SEED_FORMAT = 1;
+
+    private static final String ADMIN_EMAIL = "admin@usco.edu.co";
+
     private final SpringDataRolRepository rolRepository;
     private final SpringDataPermissionRepository permissionRepository;
     private final SpringDataUsuarioRepository usuarioRepository;
@@ -49,56 +71,45 @@ public class DataInitializer implements ApplicationRunner {
     private final EstadoReservaJpaRepository estadoReservaRepository;
     private final SpringDataEscenarioRepository escenarioRepository;
 
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DataInitializer(SpringDataRolRepository rolRepository,
+                           SpringDataPermissionRepository permissionRepository,
+                           SpringDataUsuarioRepository usuarioRepository,
+                           PasswordEncoder passwordEncoder,
+                           TipoEscenarioJpaRepository tipoEscenarioRepository,
+                           UbicacionJpaRepository ubicacionRepository,
+                           EstadoReservaJpaRepository estadoReservaRepository,
+                           SpringDataEscenarioRepository escenarioRepository,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager) {
+        this.rolRepository = rolRepository;
+        this.permissionRepository = permissionRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tipoEscenarioRepository = tipoEscenarioRepository;
+        this.ubicacionRepository = ubicacionRepository;
+        this.estadoReservaRepository = estadoReservaRepository;
+        this.escenarioRepository = escenarioRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     @Override
     public void run(ApplicationArguments args) throws Exception {
+        // Solo actualizar roles existentes si está específicamente habilitado via variable de entorno
+        boolean forceUpdate = "true".equals(System.getenv("FORCE_ROLE_PERMISSION_UPDATE"));
+        String huella = huellaDefiniciones();
+        if (!forceUpdate && huella.equals(huellaAplicada())) {
+            log.info("Datos por defecto sin cambios (huella {}), se omite la carga", huella.substring(0, 12));
+            return;
+        }
+
         log.info("Iniciando carga de datos por defecto...");
-        
         try {
-            // Solo cargar datos si no existen
-            if (permissionRepository.count() == 0) {
-                createDefaultPermissions();
-                log.info("Esperando a que se complete la persistencia de permisos...");
-            }
-            
-            if (rolRepository.count() == 0) {
-                createDefaultRoles();
-            } else {
-                // En producción, evitar actualización automática de roles existentes para prevenir errores
-                long rolesCount = rolRepository.count();
-                log.info("Encontrados {} roles existentes. Saltando actualización automática para evitar errores de concurrencia.", rolesCount);
-                
-                // Solo actualizar si está específicamente habilitado via variable de entorno
-                String forceUpdate = System.getenv("FORCE_ROLE_PERMISSION_UPDATE");
-                if ("true".equals(forceUpdate)) {
-                    log.warn("FORCE_ROLE_PERMISSION_UPDATE=true detectado. Intentando actualización de roles existentes...");
-                    updateExistingRolesWithPermissions();
-                } else {
-                    log.info("Para forzar actualización de permisos en roles existentes, establecer variable de entorno FORCE_ROLE_PERMISSION_UPDATE=true");
-                }
-            }
-            
-            // Crear usuario administrador por defecto si no existe
-            long userCount = usuarioRepository.count();
-            log.info("Encontrados {} usuarios en la base de datos", userCount);
-            if (userCount == 0) {
-                createDefaultAdminUser();
-            } else {
-                log.info("Ya existen usuarios en la base de datos, saltando creación de admin por defecto");
-                // Verificar si existe usuario admin
-                try {
-                    usuarioRepository.findByEmail("admin@usco.edu.co")
-                        .ifPresentOrElse(
-                            admin -> log.info("Usuario admin existe: {}", admin.getEmail()),
-                            () -> log.warn("⚠️  No se encontró usuario admin por defecto. Considerar crearlo manualmente.")
-                        );
-                } catch (Exception e) {
-                    log.error("Error verificando usuario admin: {}", e.getMessage());
-                }
-            }
-            
-            // Inicializar datos maestros adicionales
-            initializeMasterData();
-            
+            transactionTemplate.executeWithoutResult(status -> cargarDatos(forceUpdate));
+            guardarHuella(huella);
             log.info("Carga de datos por defecto completada");
         } catch (Exception e) {
             log.error("Error durante la inicialización de datos: {}", e.getMessage(), e);
@@ -106,10 +117,137 @@ public class DataInitializer implements ApplicationRunner {
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void createDefaultPermissions() {
-        log.info("Creando permisos por defecto...");
-        
+    private void cargarDatos(boolean forceUpdate) {
+        List<Permission> permisos = new ArrayList<>(permissionRepository.findAll());
+        List<Permission> nuevosPermisos = faltantes(permisosPorDefecto(), permisos, Permission::getName);
+        permisos.addAll(permissionRepository.saveAll(nuevosPermisos));
+        log.info("Permisos: {} existentes, {} creados", permisos.size() - nuevosPermisos.size(), nuevosPermisos.size());
+
+        List<Rol> roles = rolRepository.findAll();
+        List<Rol> nuevosRoles = faltantes(rolesPorDefecto(permisos), roles, Rol::getNombre);
+        rolRepository.saveAll(nuevosRoles);
+        log.info("Roles: {} existentes, {} creados", roles.size(), nuevosRoles.size());
+
+        // ADMIN conserva el acceso completo cuando se agregan permisos
+        if (!nuevosPermisos.isEmpty()) {
+            roles.stream()
+                .filter(rol -> "ADMIN".equals(rol.getNombre()) && rol.getPermissions() != null)
+                .findFirst()
+                .ifPresent(admin -> admin.getPermissions().addAll(nuevosPermisos));
+        }
+
+        if (forceUpdate) {
+            log.warn("FORCE_ROLE_PERMISSION_UPDATE=true detectado. Intentando actualización de roles existentes...");
+            updateExistingRolesWithPermissions();
+        }
+
+        // Crear usuario administrador por defecto si no existe
+        long userCount = usuarioRepository.count();
+        log.info("Encontrados {} usuarios en la base de datos", userCount);
+        if (userCount == 0) {
+            createDefaultAdminUser();
+        } else if (usuarioRepository.findByEmail(ADMIN_EMAIL).isEmpty()) {
+            log.warn("⚠️  No se encontró usuario admin por defecto. Considerar crearlo manualmente.");
+        }
+
+        // Inicializar datos maestros adicionales
+        initializeMasterData();
+    }
+
+    /**
+     * Inicializa datos maestros (tipos, ubicaciones, estados, escenarios)
+     */
+    private void initializeMasterData() {
+        List<EstadoReserva> nuevosEstados = faltantes(estadosReserva(), estadoReservaRepository.findAll(),
+                EstadoReserva::getNombre);
+        if (!nuevosEstados.isEmpty()) {
+            estadoReservaRepository.saveAll(nuevosEstados);
+            log.info("Creados {} estados de reserva", nuevosEstados.size());
+        }
+
+        List<TipoEscenario> tipos = tipoEscenarioRepository.findAll();
+        if (tipos.isEmpty()) {
+            tipos = tipoEscenarioRepository.saveAll(tiposEscenario());
+            log.info("Creados {} tipos de escenario", tipos.size());
+        }
+
+        List<Ubicacion> ubicaciones = ubicacionRepository.findAll();
+        if (ubicaciones.isEmpty()) {
+            ubicaciones = ubicacionRepository.saveAll(ubicaciones());
+            log.info("Creadas {} ubicaciones", ubicaciones.size());
+        }
+
+        if (escenarioRepository.count() == 0) {
+            List<Escenario> escenarios = escenariosUSCO(
+                    porNombre(tipos, TipoEscenario::getNombre), porNombre(ubicaciones, Ubicacion::getNombre));
+            escenarioRepository.saveAll(escenarios);
+            log.info("Creados {} escenarios iniciales de la USCO con datos reales", escenarios.size());
+        }
+    }
+
+    /**
+     * Huella de todas las definiciones; no incluye la contraseña del administrador, que solo se usa al crearlo
+     */
+    static String huellaDefiniciones() {
+        List<Permission> permisos = permisosPorDefecto();
+        List<TipoEscenario> tipos = tiposEscenario();
+        List<Ubicacion> ubicaciones = ubicaciones();
+        Stream<String> lineas = Stream.of(
+                Stream.of("format|" + SEED_FORMAT, "admin|" + ADMIN_EMAIL),
+                permisos.stream().map(p -> String.join("|", "permission", p.getName(), p.getDescription(),
+                        p.getResource(), p.getAction())),
+                rolesPorDefecto(permisos).stream().map(r -> String.join("|", "rol", r.getNombre(),
+                        r.getDescripcion(), r.getPermissions().stream().map(Permission::getName).sorted()
+                                .collect(Collectors.joining(",")))),
+                estadosReserva().stream().map(e -> "estado|" + e.getNombre()),
+                tipos.stream().map(t -> String.join("|", "tipo", t.getNombre(), t.getDescripcion())),
+                ubicaciones.stream().map(u -> String.join("|", "ubicacion", u.getNombre(), u.getDireccion(),
+                        u.getCiudad(), u.getPais())),
+                escenariosUSCO(porNombre(tipos, TipoEscenario::getNombre), porNombre(ubicaciones, Ubicacion::getNombre))
+                        .stream().map(e -> String.join("|", "escenario", e.getNombre(), e.getTipo().getNombre(),
+                                e.getUbicacion().getNombre(), String.valueOf(e.getCapacidad()), e.getDescripcion(),
+                                e.getRecursos(), String.valueOf(e.getDisponible())))
+        ).flatMap(Function.identity());
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            lineas.forEach(linea -> digest.update((linea + "\n").getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private String huellaAplicada() {
+        List<String> huellas = jdbcTemplate.queryForList(
+                "SELECT fingerprint FROM seed_metadata WHERE seed_name = ?", String.class, SEED_NAME);
+        return huellas.isEmpty() ? null : huellas.get(0);
+    }
+
+    private void guardarHuella(String huella) {
+        int actualizadas = jdbcTemplate.update(
+                "UPDATE seed_metadata SET fingerprint = ?, applied_at = CURRENT_TIMESTAMP WHERE seed_name = ?",
+                huella, SEED_NAME);
+        if (actualizadas == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO seed_metadata (seed_name, fingerprint, applied_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                    SEED_NAME, huella);
+        }
+    }
+
+    /**
+     * Definiciones cuya clave natural no está entre las existentes
+     */
+    private static <T> List<T> faltantes(List<T> definidos, List<T> existentes, Function<T, String> clave) {
+        Set<String> claves = existentes.stream().map(clave).collect(Collectors.toSet());
+        return definidos.stream().filter(definido -> !claves.contains(clave.apply(definido))).toList();
+    }
+
+    private static <T> Map<String, T> porNombre(List<T> entidades, Function<T, String> nombre) {
+        return entidades.stream().collect(Collectors.toMap(nombre, Function.identity(), (a, b) -> a));
+    }
+
+    private static List<Permission> permisosPorDefecto() {
         List<Permission> permissions = Arrays.asList(
             // Permisos de Escenarios
             Permission.builder()
@@ -271,49 +409,11 @@ public class DataInitializer implements ApplicationRunner {
                 .action("DELETE")
                 .build()
         );
-        
-        // Guardar permisos uno por uno para evitar problemas de detached entity
-        for (Permission permission : permissions) {
-            permissionRepository.save(permission);
-        }
-        log.info("Creados {} permisos por defecto", permissions.size());
+        return permissions;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void createDefaultRoles() {
-        log.info("Creando roles por defecto...");
-        
-        // Obtener todos los permisos recién persistidos
-        List<Permission> allPermissions = permissionRepository.findAll();
-        log.info("Obtenidos {} permisos de la base de datos para asignar a roles", allPermissions.size());
-        
-        // Crear roles sin permisos primero
-        Rol adminRole = Rol.builder()
-            .nombre("ADMIN")
-            .descripcion("Administrador del sistema con acceso completo")
-            .activo(true)
-            .build();
-        
-        Rol coordinatorRole = Rol.builder()
-            .nombre("COORDINATOR")
-            .descripcion("Coordinador con permisos de gestión de escenarios y reservas")
-            .activo(true)
-            .build();
-        
-        Rol userRole = Rol.builder()
-            .nombre("USER")
-            .descripcion("Usuario básico con permisos de reserva")
-            .activo(true)
-            .build();
-        
-        // Guardar roles primero
-        adminRole = rolRepository.save(adminRole);
-        coordinatorRole = rolRepository.save(coordinatorRole);
-        userRole = rolRepository.save(userRole);
-        
-        // Ahora asignar permisos a los roles ya persistidos
+    private static List<Rol> rolesPorDefecto(List<Permission> allPermissions) {
         Set<Permission> adminPermissions = new HashSet<>(allPermissions);
-        adminRole.setPermissions(adminPermissions);
         
         Set<Permission> coordinatorPermissions = new HashSet<>();
         coordinatorPermissions.addAll(getPermissionsByActions(allPermissions, "READ"));
@@ -322,22 +422,34 @@ public class DataInitializer implements ApplicationRunner {
         coordinatorPermissions.addAll(getPermissionsByResources(allPermissions, "FEEDBACK"));
         coordinatorPermissions.addAll(getPermissionsByResources(allPermissions, "ALERTS"));
         coordinatorPermissions.addAll(getPermissionsByActions(allPermissions, "VIEW"));
-        coordinatorRole.setPermissions(coordinatorPermissions);
         
         Set<Permission> userPermissions = new HashSet<>();
         userPermissions.addAll(getPermissionsByNames(allPermissions, 
             "READ_SCENARIOS", "CREATE_RESERVATIONS", "READ_RESERVATIONS", "CANCEL_RESERVATIONS",
             "CREATE_FEEDBACK", "READ_FEEDBACK", "UPDATE_FEEDBACK", "DELETE_FEEDBACK"));
-        userRole.setPermissions(userPermissions);
-        
-        // Guardar roles con permisos
-        rolRepository.save(adminRole);
-        rolRepository.save(coordinatorRole);
-        rolRepository.save(userRole);
-        log.info("Creados 3 roles por defecto: ADMIN, COORDINATOR, USER");
+
+        return List.of(
+            Rol.builder()
+                .nombre("ADMIN")
+                .descripcion("Administrador del sistema con acceso completo")
+                .activo(true)
+                .permissions(adminPermissions)
+                .build(),
+            Rol.builder()
+                .nombre("COORDINATOR")
+                .descripcion("Coordinador con permisos de gestión de escenarios y reservas")
+                .activo(true)
+                .permissions(coordinatorPermissions)
+                .build(),
+            Rol.builder()
+                .nombre("USER")
+                .descripcion("Usuario básico con permisos de reserva")
+                .activo(true)
+                .permissions(userPermissions)
+                .build()
+        );
     }
 
-    @Transactional
     private void updateExistingRolesWithPermissions() {
         log.info("Verificando permisos de roles existentes...");
         
@@ -450,19 +562,19 @@ public class DataInitializer implements ApplicationRunner {
         }
     }
 
-    private Set<Permission> getPermissionsByActions(List<Permission> permissions, String action) {
+    private static Set<Permission> getPermissionsByActions(List<Permission> permissions, String action) {
         return new HashSet<>(permissions.stream()
             .filter(p -> action.equals(p.getAction()))
             .toList());
     }
 
-    private Set<Permission> getPermissionsByResources(List<Permission> permissions, String resource) {
+    private static Set<Permission> getPermissionsByResources(List<Permission> permissions, String resource) {
         return new HashSet<>(permissions.stream()
             .filter(p -> resource.equals(p.getResource()))
             .toList());
     }
 
-    private Set<Permission> getPermissionsByNames(List<Permission> permissions, String... names) {
+    private static Set<Permission> getPermissionsByNames(List<Permission> permissions, String... names) {
         Set<String> nameSet = new HashSet<>(Arrays.asList(names));
         return new HashSet<>(permissions.stream()
             .filter(p -> nameSet.contains(p.getName()))
@@ -516,65 +628,28 @@ public class DataInitializer implements ApplicationRunner {
         return result;
     }
     
-    @Transactional
     private void createDefaultAdminUser() {
         log.info("Creando usuario administrador por defecto...");
         
-        try {
-            // Buscar rol ADMIN
-            Rol adminRole = rolRepository.findByNombre("ADMIN")
-                .orElseThrow(() -> new IllegalStateException("Rol ADMIN no encontrado. Debe crearse primero."));
-            
-            // Crear usuario administrador por defecto
-            Usuario adminUser = Usuario.builder()
-                .nombre("Administrador")
-                .apellido("Sistema")
-                .email("admin@usco.edu.co")
-                .password(passwordEncoder.encode("AdminUSCO2024!"))
-                .rol(adminRole)
-                .build();
-            
-            usuarioRepository.save(adminUser);
-            log.info("Usuario administrador creado exitosamente - Email: admin@usco.edu.co");
-            log.warn("⚠️  IMPORTANTE: Cambiar la contraseña por defecto del administrador después del primer login");
-            
-        } catch (Exception e) {
-            log.error("Error creando usuario administrador por defecto: {}", e.getMessage(), e);
-            throw e;
-        }
-    }
-    
-    /**
-     * Inicializa datos maestros (tipos, ubicaciones, estados, escenarios)
-     */
-    private void initializeMasterData() {
-        try {
-            if (tipoEscenarioRepository.count() == 0) {
-                log.info("Creando tipos de escenario...");
-                createTipoEscenarios();
-            }
-            
-            if (ubicacionRepository.count() == 0) {
-                log.info("Creando ubicaciones...");
-                createUbicaciones();
-            }
-            
-            if (estadoReservaRepository.count() == 0) {
-                log.info("Creando estados de reserva...");
-                createEstadosReserva();
-            }
-            
-            if (escenarioRepository.count() == 0) {
-                log.info("Creando escenarios USCO...");
-                createEscenariosUSCO();
-            }
-        } catch (Exception e) {
-            log.error("Error inicializando datos maestros: {}", e.getMessage(), e);
-        }
+        // Buscar rol ADMIN
+        Rol adminRole = rolRepository.findByNombre("ADMIN")
+            .orElseThrow(() -> new IllegalStateException("Rol ADMIN no encontrado. Debe crearse primero."));
+        
+        // Crear usuario administrador por defecto
+        Usuario adminUser = Usuario.builder()
+            .nombre("Administrador")
+            .apellido("Sistema")
+            .email(ADMIN_EMAIL)
+            .password(passwordEncoder.encode("AdminUSCO2024!"))
+            .rol(adminRole)
+            .build();
+        
+        usuarioRepository.save(adminUser);
+        log.info("Usuario administrador creado exitosamente - Email: {}", ADMIN_EMAIL);
+        log.warn("⚠️  IMPORTANTE: Cambiar la contraseña por defecto del administrador después del primer login");
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void createTipoEscenarios() {
+    private static List<TipoEscenario> tiposEscenario() {
         List<TipoEscenario> tipos = Arrays.asList(
                 TipoEscenario.builder()
                         .nombre("Deportivo")
@@ -625,13 +700,10 @@ public class DataInitializer implements ApplicationRunner {
                         .descripcion("Espacios destinados a investigación y prácticas especializadas")
                         .build()
         );
-
-        tipoEscenarioRepository.saveAll(tipos);
-        log.info("Creados {} tipos de escenario", tipos.size());
+        return tipos;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void createUbicaciones() {
+    private static List<Ubicacion> ubicaciones() {
         // Sede Central
         Ubicacion sedeCentral = Ubicacion.builder()
                 .nombre("Sede Central")
@@ -680,66 +752,24 @@ public class DataInitializer implements ApplicationRunner {
                 .pais("Colombia")
                 .build();
 
-        List<Ubicacion> ubicaciones = List.of(sedeCentral, subsedeSalud, sedeNeivaCentro, sedeGarzon, sedePitalito, sedeLaPlata);
-        ubicacionRepository.saveAll(ubicaciones);
-        log.info("Creadas {} ubicaciones", ubicaciones.size());
+        return List.of(sedeCentral, subsedeSalud, sedeNeivaCentro, sedeGarzon, sedePitalito, sedeLaPlata);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void createEstadosReserva() {
-        EstadoReserva pendiente = EstadoReserva.builder()
-                .nombre("PENDIENTE")
-                .build();
-
-        EstadoReserva aprobada = EstadoReserva.builder()
-                .nombre("APROBADA")
-                .build();
-
-        EstadoReserva rechazada = EstadoReserva.builder()
-                .nombre("RECHAZADA")
-                .build();
-
-        EstadoReserva cancelada = EstadoReserva.builder()
-                .nombre("CANCELADA")
-                .build();
-
-        List<EstadoReserva> estados = List.of(pendiente, aprobada, rechazada, cancelada);
-        estadoReservaRepository.saveAll(estados);
-        log.info("Creados {} estados de reserva: PENDIENTE, APROBADA, RECHAZADA, CANCELADA", estados.size());
+    private static List<EstadoReserva> estadosReserva() {
+        return Stream.of("PENDIENTE", "APROBADA", "RECHAZADA", "CANCELADA")
+                .map(nombre -> EstadoReserva.builder().nombre(nombre).build())
+                .toList();
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void createEscenariosUSCO() {
-        // Obtener ubicaciones
-        Ubicacion sedeCentral = ubicacionRepository.findByNombre("Sede Central").orElse(null);
-        Ubicacion subsedeSalud = ubicacionRepository.findByNombre("Subsede Salud").orElse(null);
-        Ubicacion sedeNeivaCentro = ubicacionRepository.findByNombre("Sede Neiva Centro").orElse(null);
-        Ubicacion sedeGarzon = ubicacionRepository.findByNombre("Sede Garzón").orElse(null);
-        Ubicacion sedePitalito = ubicacionRepository.findByNombre("Sede Pitalito").orElse(null);
-        Ubicacion sedeLaPlata = ubicacionRepository.findByNombre("Sede La Plata").orElse(null);
-
-        // Obtener tipos de escenario
-        TipoEscenario deportivo = tipoEscenarioRepository.findByNombre("Deportivo").orElse(null);
-        TipoEscenario auditorio = tipoEscenarioRepository.findByNombre("Auditorio").orElse(null);
-        TipoEscenario laboratorioDida = tipoEscenarioRepository.findByNombre("Laboratorio/Didáctico").orElse(null);
-        TipoEscenario laboratorio = tipoEscenarioRepository.findByNombre("Laboratorio").orElse(null);
-        TipoEscenario biblioteca = tipoEscenarioRepository.findByNombre("Biblioteca").orElse(null);
-        TipoEscenario salaComputo = tipoEscenarioRepository.findByNombre("Sala de Cómputo").orElse(null);
-        TipoEscenario restaurante = tipoEscenarioRepository.findByNombre("Restaurante").orElse(null);
-        TipoEscenario cafeteria = tipoEscenarioRepository.findByNombre("Cafetería").orElse(null);
-        TipoEscenario administrativo = tipoEscenarioRepository.findByNombre("Administrativo").orElse(null);
-        TipoEscenario bloqueAcademico = tipoEscenarioRepository.findByNombre("Bloque Académico").orElse(null);
-        TipoEscenario edificioAcademico = tipoEscenarioRepository.findByNombre("Edificio Académico").orElse(null);
-        TipoEscenario investigacionPractica = tipoEscenarioRepository.findByNombre("Investigación/Práctica").orElse(null);
-
+    private static List<Escenario> escenariosUSCO(Map<String, TipoEscenario> tipos, Map<String, Ubicacion> ubicaciones) {
         List<Escenario> escenarios = Arrays.asList(
             // Escenarios basados en el CSV oficial de la USCO
 
             // Escenarios Deportivos
             Escenario.builder()
                 .nombre("Cancha de Microfútbol")
-                .tipo(deportivo)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Deportivo"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(200)
                 .descripcion("Cancha de concreto 40x20m con graderías; arcos fútbol sala; pared tenis; normativa FIFA.")
                 .recursos("Área deportiva, cancha de concreto, graderías, arcos de fútbol sala")
@@ -748,8 +778,8 @@ public class DataInitializer implements ApplicationRunner {
 
             Escenario.builder()
                 .nombre("Piscina")
-                .tipo(deportivo)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Deportivo"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(50)
                 .descripcion("Piscina semiolímpica 25x10m; profundidad 1.2-2.1m; seis poyetes; baños y vestiers.")
                 .recursos("Área deportiva, piscina semiolímpica, baños, vestiers")
@@ -758,8 +788,8 @@ public class DataInitializer implements ApplicationRunner {
 
             Escenario.builder()
                 .nombre("Coliseo César Eduardo Medina Perdomo")
-                .tipo(deportivo)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Deportivo"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(500)
                 .descripcion("Coliseo cubierto 20.7x31.7m; piso NBA Robbins; tableros vidrio; demarcación baloncesto y voleibol.")
                 .recursos("Bloque 21, coliseo cubierto, piso NBA, tableros de vidrio")
@@ -769,8 +799,8 @@ public class DataInitializer implements ApplicationRunner {
             // Auditorios
             Escenario.builder()
                 .nombre("Auditorio Olga Tony Vidales")
-                .tipo(auditorio)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Auditorio"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(300)
                 .descripcion("Auditorio renovado; sistema audiovisual moderno; nuevo techo y electricidad.")
                 .recursos("Bloque 02, sistema audiovisual, techo renovado")
@@ -779,8 +809,8 @@ public class DataInitializer implements ApplicationRunner {
 
             Escenario.builder()
                 .nombre("Auditorio Facultad Economía y Administración")
-                .tipo(auditorio)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Auditorio"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(700)
                 .descripcion("Auditorio 860m2 acústica; 260m2 aislamiento; aire 87Tn; proyector láser; sonido e iluminación profesional.")
                 .recursos("Bloque 30, acústica profesional, aire acondicionado, proyector láser")
@@ -790,8 +820,8 @@ public class DataInitializer implements ApplicationRunner {
             // Laboratorios
             Escenario.builder()
                 .nombre("Centro STEM+")
-                .tipo(laboratorioDida)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Laboratorio/Didáctico"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(31)
                 .descripcion("31 PCs diseño 3D; 20 gafas VR; pantallas táctiles; cámaras 360; IA; metaverso.")
                 .recursos("Bloque 30, 31 PCs especializados, 20 gafas VR, pantallas táctiles")
@@ -800,8 +830,8 @@ public class DataInitializer implements ApplicationRunner {
 
             Escenario.builder()
                 .nombre("Laboratorio Biología")
-                .tipo(laboratorio)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Laboratorio"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(30)
                 .descripcion("Dotación 243M COP; espectrofotómetro; purificador agua Tipo I/III.")
                 .recursos("Bloque 10, espectrofotómetro, purificador de agua")
@@ -811,8 +841,8 @@ public class DataInitializer implements ApplicationRunner {
             // Bibliotecas
             Escenario.builder()
                 .nombre("Biblioteca Central Rafael Cortés Murcia")
-                .tipo(biblioteca)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Biblioteca"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(200)
                 .descripcion("Sala general; hemeroteca; sala virtual Ecopetrol; bases de datos.")
                 .recursos("Biblioteca, sala general, hemeroteca, bases de datos")
@@ -822,8 +852,8 @@ public class DataInitializer implements ApplicationRunner {
             // Restaurantes
             Escenario.builder()
                 .nombre("Restaurante La Venada")
-                .tipo(restaurante)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Restaurante"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(600)
                 .descripcion("Servicio subvencionado: 260 desayunos; 600 almuerzos; 340 cenas diarias.")
                 .recursos("Bloque 20, cocina industrial, comedor")
@@ -833,16 +863,14 @@ public class DataInitializer implements ApplicationRunner {
             // Bloques Académicos
             Escenario.builder()
                 .nombre("Bloque 09 Aulas UNO")
-                .tipo(bloqueAcademico)
-                .ubicacion(sedeCentral)
+                .tipo(tipos.get("Bloque Académico"))
+                .ubicacion(ubicaciones.get("Sede Central"))
                 .capacidad(200)
                 .descripcion("Conjunto de aulas A-09-XXX; capacidades variables.")
                 .recursos("Bloque 09, aulas múltiples")
                 .disponible(true)
                 .build()
         );
-
-        escenarioRepository.saveAll(escenarios);
-        log.info("Creados {} escenarios iniciales de la USCO con datos reales", escenarios.size());
+        return escenarios;
     }
 }
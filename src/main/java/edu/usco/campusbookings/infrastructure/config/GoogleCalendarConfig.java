@@ -2,20 +2,22 @@ package edu.usco.campusbookings.infrastructure.config;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
 import com.google.api.client.googleapis.auth.oauth2.GoogleClientSecrets;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
-import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.CalendarScopes;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.Collections;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuración para la integración con Google Calendar API.
- * Maneja la autenticación OAuth2 y la configuración del cliente de Google Calendar.
+ * Maneja la autenticación OAuth2 y el transporte HTTP compartido por el flujo OAuth y los clientes de Calendar.
  */
 @Slf4j
 @Configuration
@@ -30,10 +32,25 @@ public class GoogleCalendarConfig {
     @Value("${google.calendar.redirect-uri}")
     private String redirectUri;
 
-    private static final String APPLICATION_NAME = "CampusBookings";
+    @Value("${google.calendar.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${google.calendar.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    /**
+     * Transporte único con pool de conexiones keep-alive hacia las APIs de Google
+     */
+    @Bean(destroyMethod = "shutdown")
+    public HttpTransport googleHttpTransport() {
+        return new ApacheHttpTransport(ApacheHttpTransport.newDefaultHttpClientBuilder()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .build());
+    }
 
     @Bean
-    public GoogleAuthorizationCodeFlow googleAuthorizationCodeFlow() {
+    public GoogleAuthorizationCodeFlow googleAuthorizationCodeFlow(HttpTransport googleHttpTransport) {
         try {
             GoogleClientSecrets clientSecrets = new GoogleClientSecrets();
             GoogleClientSecrets.Details details = new GoogleClientSecrets.Details();
@@ -42,7 +59,7 @@ public class GoogleCalendarConfig {
             clientSecrets.setInstalled(details);
 
             return new GoogleAuthorizationCodeFlow.Builder(
-                    new NetHttpTransport(),
+                    googleHttpTransport,
                     GsonFactory.getDefaultInstance(),
                     clientSecrets,
                     Collections.singletonList(CalendarScopes.CALENDAR))
@@ -55,12 +72,21 @@ public class GoogleCalendarConfig {
         }
     }
 
-    @Bean
-    public Calendar.Builder calendarBuilder() {
-        return new Calendar.Builder(
-                new NetHttpTransport(),
-                GsonFactory.getDefaultInstance(),
-                null)
-                .setApplicationName(APPLICATION_NAME);
+    /**
+     * Persiste fuera del hilo de sincronización los tokens renovados por Google
+     */
+    @Bean(name = "googleTokenPersistExecutor")
+    public ThreadPoolTaskExecutor googleTokenPersistExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("gcal-token-");
+        // Si la cola se llena, se persiste en el hilo llamador antes que perder el token
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
     }
 }
@@ -0,0 +1,61 @@
+package edu.usco.campusbookings.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Límites de peticiones por usuario e IP para la API.
+ * Lee la configuración con prefijo {@code security.rate-limit} desde application.properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Peticiones por minuto para cada usuario autenticado (o IP anónima) en rutas sin presupuesto propio
+     */
+    private int requestsPerMinute = 60;
+
+    /**
+     * Peticiones por minuto por IP para usuarios autenticados; alto porque el campus sale por NAT
+     */
+    private int ipRequestsPerMinute = 600;
+
+    /**
+     * Ráfaga máxima como fracción de un minuto de presupuesto (1.0 = el minuto completo de golpe)
+     */
+    private double burstFraction = 1.0;
+
+    /**
+     * Máximo de claves (usuario/IP/ruta) en memoria; las menos usadas se descartan
+     */
+    private long maxTrackedKeys = 100_000;
+
+    /**
+     * Minutos sin actividad tras los que se descarta el contador de una clave
+     */
+    private long idleExpirationMinutes = 10;
+
+    /**
+     * Presupuestos por ruta (patrones de PathPattern), evaluados en orden
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * Rutas cuyas lecturas (GET/HEAD) no consumen presupuesto (patrones de PathPattern)
+     */
+    private List<String> excludedPatterns = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        private String pattern;
+        private int requestsPerMinute;
+    }
+}
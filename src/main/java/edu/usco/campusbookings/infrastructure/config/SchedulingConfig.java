@@ -1,29 +1,61 @@
 package edu.usco.campusbookings.infrastructure.config;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.lang.NonNull;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 /**
  * Configuración para el sistema de tareas programadas (Scheduling)
- * Habilita el procesamiento automático de alertas de reservas
+ * Habilita el procesamiento automático de alertas de reservas.
+ * Los trabajos largos se disparan aquí pero corren en los pools de {@link AsyncConfig}.
+ * El scheduler no es un bean, así que se apaga aquí al cerrar el contexto (sus hilos no son daemon).
  */
 @Configuration
 @EnableScheduling
-public class SchedulingConfig implements SchedulingConfigurer {
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    private final Environment environment;
+    private Runnable apagarScheduler = () -> { };
+
+    public SchedulingConfig(Environment environment) {
+        this.environment = environment;
+    }
 
     @Override
     public void configureTasks(@NonNull ScheduledTaskRegistrar taskRegistrar) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // Cada ejecución en su propio hilo virtual; las de fixedDelay corren en el hilo del scheduler
+            SimpleAsyncTaskScheduler taskScheduler = new SimpleAsyncTaskScheduler();
+            taskScheduler.setVirtualThreads(true);
+            taskScheduler.setThreadNamePrefix("alerta-scheduler-");
+            taskScheduler.setTaskTerminationTimeout(30_000);
+            taskRegistrar.setTaskScheduler(taskScheduler);
+            apagarScheduler = taskScheduler::close;
+            return;
+        }
+
         ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
         taskScheduler.setPoolSize(5); // Pool de 5 hilos para tareas programadas
         taskScheduler.setThreadNamePrefix("alerta-scheduler-");
         taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        // Al cerrar terminan las ejecuciones en curso, pero no se esperan los próximos disparos (cron)
+        taskScheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
         taskScheduler.setAwaitTerminationSeconds(30);
         taskScheduler.initialize();
         
         taskRegistrar.setTaskScheduler(taskScheduler);
+        apagarScheduler = taskScheduler::shutdown;
+    }
+
+    @Override
+    public void destroy() {
+        apagarScheduler.run();
     }
 }
@@ -1,9 +1,12 @@
 package edu.usco.campusbookings.infrastructure.config;
 
 import edu.usco.campusbookings.infrastructure.security.JwtAuthenticationFilter;
+import edu.usco.campusbookings.infrastructure.security.MetricsScrapeAuthorizationManager;
+import edu.usco.campusbookings.infrastructure.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -34,6 +37,8 @@ import org.springframework.core.env.Environment;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final MetricsScrapeAuthorizationManager metricsScrapeAuthorizationManager;
     private final UserDetailsService userDetailsService;
     private final Environment environment;
 
@@ -73,6 +78,13 @@ public class SecurityConfig {
                 
                 // Static resources
                 .requestMatchers("/static/**", "/css/**", "/js/**", "/images/**", "/uploads/**").permitAll()
+                // Variantes de imágenes de escenarios (las etiquetas <img> no envían el JWT)
+                .requestMatchers(HttpMethod.GET, "/api/v1/escenarios/images/**").permitAll()
+                
+                // Actuator: salud pública, métricas para administradores o el scraper de Prometheus
+                .requestMatchers("/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/prometheus").access(metricsScrapeAuthorizationManager)
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 
                 // API protegidas por roles
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -91,6 +103,8 @@ public class SecurityConfig {
             
             .authenticationProvider(authenticationProvider())
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            // Después del filtro JWT para limitar por usuario autenticado
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
             
             // Manejo de excepciones de autenticación
             .exceptionHandling(ex -> ex
@@ -143,7 +157,8 @@ public class SecurityConfig {
             "Authorization",
             "X-Total-Count",
             "X-Page-Number",
-            "X-Page-Size"
+            "X-Page-Size",
+            "Retry-After"
         ));
         
         // Permitir credenciales
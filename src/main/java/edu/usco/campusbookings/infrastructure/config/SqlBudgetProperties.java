@@ -0,0 +1,52 @@
+package edu.usco.campusbookings.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Presupuesto de SQL por petición HTTP y detección de N+1.
+ * Lee la configuración con prefijo {@code diagnostics.sql} desde application.properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "diagnostics.sql")
+public class SqlBudgetProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Agrega {@code X-Query-Count}, {@code X-Query-Time-Ms} y {@code X-Query-Entities} a las respuestas
+     * (solo fuera de producción)
+     */
+    private boolean exposeHeaders = false;
+
+    /**
+     * Sentencias por petición en rutas sin presupuesto propio
+     */
+    private int maxStatements = 20;
+
+    /**
+     * Repeticiones de la misma sentencia en una petición a partir de las que se reporta un posible N+1
+     */
+    private int repeatedStatementThreshold = 5;
+
+    /**
+     * Endpoints con estadísticas retenidas para {@code /api/diagnostic/sql}
+     */
+    private int maxTrackedEndpoints = 500;
+
+    /**
+     * Presupuestos por ruta (patrones de PathPattern), evaluados en orden
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        private String pattern;
+        private int maxStatements;
+    }
+}
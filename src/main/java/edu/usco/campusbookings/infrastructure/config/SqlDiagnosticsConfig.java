@@ -0,0 +1,28 @@
+package edu.usco.campusbookings.infrastructure.config;
+
+import edu.usco.campusbookings.infrastructure.metrics.SqlStatsInterceptor;
+import edu.usco.campusbookings.infrastructure.metrics.SqlTimingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra en Hibernate los ganchos que alimentan el presupuesto SQL por petición
+ * ({@code diagnostics.sql.enabled=false} los quita por completo)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "diagnostics.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlDiagnosticsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatsHibernateCustomizer() {
+        SqlStatsInterceptor interceptor = new SqlStatsInterceptor();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, interceptor);
+            properties.put(AvailableSettings.INTERCEPTOR, interceptor);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+}
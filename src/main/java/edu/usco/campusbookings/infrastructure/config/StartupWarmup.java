@@ -0,0 +1,101 @@
+package edu.usco.campusbookings.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.usco.campusbookings.application.dto.request.AuthenticationRequest;
+import edu.usco.campusbookings.application.dto.request.ReservaRequest;
+import edu.usco.campusbookings.application.dto.request.VerificarDisponibilidadRequest;
+import edu.usco.campusbookings.application.dto.response.AuthenticationResponse;
+import edu.usco.campusbookings.application.dto.response.DisponibilidadResponse;
+import edu.usco.campusbookings.application.dto.response.EscenarioResponse;
+import edu.usco.campusbookings.application.dto.response.ReservaResponse;
+import edu.usco.campusbookings.application.service.ReservaService;
+import edu.usco.campusbookings.infrastructure.adapter.output.persistence.jpa.EstadoReservaJpaRepository;
+import edu.usco.campusbookings.infrastructure.security.JwtService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Inicializa antes de aceptar tráfico los beans que con {@code spring.main.lazy-initialization=true} se crearían
+ * en las primeras peticiones: el servicio de reservas, JwtService (clave y parser), los repositorios con sus
+ * consultas derivadas y los serializadores Jackson de los DTO más usados.
+ * <p>
+ * Corre como ApplicationRunner, así el estado de readiness pasa a {@code ACCEPTING_TRAFFIC} cuando termina.
+ * Un paso que falla solo se registra: el warm-up no debe impedir el arranque.
+ */
+@Slf4j
+@Component
+@Order
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.startup.warmup", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final List<Class<?>> SERIALIZED = List.of(ReservaResponse.class, EscenarioResponse.class,
+            DisponibilidadResponse.class, AuthenticationResponse.class);
+    private static final List<Class<?>> DESERIALIZED = List.of(ReservaRequest.class,
+            VerificarDisponibilidadRequest.class, AuthenticationRequest.class);
+
+    private final ApplicationContext context;
+    private final ObjectMapper objectMapper;
+
+    private long warmupMillis;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        step("servicio de reservas", () -> context.getBean(ReservaService.class));
+        step("JWT", this::warmJwt);
+        step("repositorios", this::warmRepositories);
+        step("Jackson", this::warmJackson);
+        warmupMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Warm-up completado en {} ms", warmupMillis);
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        log.info("Aplicación lista en {} ms (warm-up {} ms)", event.getTimeTaken().toMillis(), warmupMillis);
+    }
+
+    private void warmJwt() {
+        JwtService jwtService = context.getBean(JwtService.class);
+        UserDetails usuario = User.withUsername("warmup@usco.edu.co")
+                .password("")
+                .authorities("ROLE_USER")
+                .build();
+        jwtService.verify(jwtService.generateToken(usuario));
+    }
+
+    private void warmRepositories() {
+        int repositorios = context.getBeansOfType(Repository.class).size();
+        // Primera consulta: abre la conexión del pool y compila el plan de Hibernate
+        context.getBean(EstadoReservaJpaRepository.class).findAll();
+        log.debug("{} repositorios inicializados", repositorios);
+    }
+
+    private void warmJackson() {
+        SERIALIZED.forEach(objectMapper::canSerialize);
+        DESERIALIZED.forEach(type -> objectMapper.canDeserialize(objectMapper.constructType(type)));
+    }
+
+    private static void step(String nombre, Runnable paso) {
+        long start = System.nanoTime();
+        try {
+            paso.run();
+            log.debug("Warm-up de {}: {} ms", nombre, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up de {} falló: {}", nombre, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package edu.usco.campusbookings.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import edu.usco.campusbookings.infrastructure.metrics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Modo de hilos virtuales ({@code spring.threads.virtual.enabled=true} en Java 21+, perfil {@code virtual}).
+ * <p>
+ * Spring Boot atiende entonces las peticiones de Tomcat en hilos virtuales; {@link SchedulingConfig} y
+ * {@link AsyncConfig} hacen lo mismo con las tareas programadas y {@code @Async}. Sin el tope de hilos de
+ * Tomcat, el límite real pasa a ser el pool de conexiones: aquí se fija su tamaño y se acota la espera por
+ * una conexión, para que la sobrecarga falle rápido en lugar de acumular miles de peticiones esperando.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    public static BeanPostProcessor virtualThreadsHikariGuard(
+            @Value("${app.virtual-threads.db-acquire-timeout-ms:3000}") long acquireTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    // Pool fijo: las conexiones son el límite explícito de concurrencia con la base de datos
+                    dataSource.setMinimumIdle(dataSource.getMaximumPoolSize());
+                    if (dataSource.getConnectionTimeout() > acquireTimeoutMillis) {
+                        dataSource.setConnectionTimeout(acquireTimeoutMillis);
+                    }
+                    log.info("Hilos virtuales: concurrencia con la base de datos limitada a {} conexiones "
+                                    + "(espera máxima {} ms)",
+                            dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.virtual-threads.pinning-diagnostics", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.virtual-threads.pinned-threshold-ms:20}") long thresholdMillis) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMillis));
+    }
+}
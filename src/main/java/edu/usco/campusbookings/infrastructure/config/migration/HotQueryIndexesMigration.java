@@ -0,0 +1,95 @@
+package edu.usco.campusbookings.infrastructure.config.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Índices de las consultas más frecuentes, que Hibernate no declara:
+ * <ul>
+ *   <li>reserva: solapamiento por escenario y rango de fechas, historial por usuario y filtros por estado</li>
+ *   <li>alertas_reservas: cola de envío (estado + fecha_envio) y alertas por reserva</li>
+ *   <li>feedback: promedio y listados de feedback activo por escenario y por usuario</li>
+ *   <li>usuarios: filtro por rol y búsqueda {@code LIKE '%término%'} con trigramas (pg_trgm)</li>
+ * </ul>
+ * En PostgreSQL los índices de alertas y feedback son parciales (solo estados pendientes / feedback activo);
+ * en H2, que no los soporta, se crean completos. Sin pg_trgm la búsqueda de usuarios sigue sin índice.
+ * {@code HotQueryPlanTest} falla si alguna de estas consultas vuelve a un recorrido secuencial.
+ */
+@Slf4j
+@Component
+public class HotQueryIndexesMigration implements SchemaMigration {
+
+    private static final List<String> COMMON = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_reserva_escenario_fechas ON reserva (escenario_id, fecha_inicio, fecha_fin)",
+            "CREATE INDEX IF NOT EXISTS idx_reserva_usuario_fecha ON reserva (usuario_id, fecha_inicio)",
+            "CREATE INDEX IF NOT EXISTS idx_reserva_estado ON reserva (estado_id)",
+            "CREATE INDEX IF NOT EXISTS idx_alertas_reservas_reserva ON alertas_reservas (reserva_id)",
+            "CREATE INDEX IF NOT EXISTS idx_usuarios_rol ON usuarios (rol_id)");
+
+    private static final List<String> POSTGRESQL = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_alertas_reservas_pendientes ON alertas_reservas (fecha_envio) "
+                    + "WHERE estado IN ('PENDIENTE', 'PROGRAMADO')",
+            "CREATE INDEX IF NOT EXISTS idx_feedback_escenario_activo ON feedback (escenario_id, created_date) "
+                    + "WHERE activo",
+            "CREATE INDEX IF NOT EXISTS idx_feedback_usuario_activo ON feedback (usuario_id, created_date) "
+                    + "WHERE activo");
+
+    private static final List<String> TRIGRAM = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_usuarios_nombre_trgm ON usuarios USING gin (lower(nombre) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_usuarios_apellido_trgm ON usuarios USING gin (lower(apellido) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_usuarios_email_trgm ON usuarios USING gin (lower(email) gin_trgm_ops)");
+
+    private static final List<String> OTHER = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_alertas_reservas_estado_fecha ON alertas_reservas (estado, fecha_envio)",
+            "CREATE INDEX IF NOT EXISTS idx_feedback_escenario_activo ON feedback (escenario_id, activo, created_date)",
+            "CREATE INDEX IF NOT EXISTS idx_feedback_usuario_activo ON feedback (usuario_id, activo, created_date)");
+
+    @Override
+    public int version() {
+        return 20;
+    }
+
+    @Override
+    public String description() {
+        return "Índices de consultas frecuentes";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate, Database database) {
+        COMMON.forEach(jdbcTemplate::execute);
+        if (database != Database.POSTGRESQL) {
+            OTHER.forEach(jdbcTemplate::execute);
+            return;
+        }
+        POSTGRESQL.forEach(jdbcTemplate::execute);
+        if (Boolean.TRUE.equals(jdbcTemplate.execute(pgTrgm()))) {
+            TRIGRAM.forEach(jdbcTemplate::execute);
+        } else {
+            log.warn("Extensión pg_trgm no disponible: la búsqueda de usuarios queda sin índice de trigramas");
+        }
+    }
+
+    /**
+     * Crea pg_trgm dentro de un savepoint: sin permisos para extensiones, el error no aborta la migración
+     */
+    private static ConnectionCallback<Boolean> pgTrgm() {
+        return connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                connection.releaseSavepoint(savepoint);
+                return true;
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package edu.usco.campusbookings.infrastructure.config.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Campo 'active' de scenario_type_permissions: los registros anteriores a la columna quedan activos.
+ * La columna sigue siendo nullable por compatibilidad con bases existentes
+ */
+@Slf4j
+@Component
+public class ScenarioTypePermissionActiveMigration implements SchemaMigration {
+
+    @Override
+    public int version() {
+        return 18;
+    }
+
+    @Override
+    public String description() {
+        return "scenario_type_permissions.active por defecto TRUE";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate, Database database) {
+        jdbcTemplate.execute(
+                "ALTER TABLE scenario_type_permissions ADD COLUMN IF NOT EXISTS active BOOLEAN DEFAULT TRUE");
+        int updated = jdbcTemplate.update(
+                "UPDATE scenario_type_permissions SET active = TRUE WHERE active IS NULL");
+        log.info("Actualizados {} registros con active = TRUE", updated);
+    }
+}
@@ -0,0 +1,29 @@
+package edu.usco.campusbookings.infrastructure.config.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Cambio de esquema versionado que aplica {@link SchemaMigrationRunner} una sola vez por base de datos.
+ * Las migraciones son beans; se ejecutan en orden de versión después de que Hibernate crea o actualiza
+ * las tablas.
+ */
+public interface SchemaMigration {
+
+    enum Database {
+        POSTGRESQL,
+        H2,
+        OTHER
+    }
+
+    /**
+     * Versión única y creciente; una vez aplicada no se debe cambiar ni reutilizar
+     */
+    int version();
+
+    String description();
+
+    /**
+     * Corre dentro de una transacción junto con el registro de la versión
+     */
+    void migrate(JdbcTemplate jdbcTemplate, Database database);
+}
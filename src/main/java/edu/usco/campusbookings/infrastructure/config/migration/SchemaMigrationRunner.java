@@ -0,0 +1,126 @@
+package edu.usco.campusbookings.infrastructure.config.migration;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Aplica las {@link SchemaMigration} pendientes y registra cada versión en {@code schema_migrations}.
+ * <p>
+ * El esquema base lo sigue generando Hibernate ({@code ddl-auto}); estas migraciones cubren lo que Hibernate no
+ * hace (datos de columnas nuevas, índices, tablas auxiliares). Por eso el runner corre al terminar el arranque,
+ * antes de {@code DataInitializer}: en un reinicio sin cambios solo cuesta leer las versiones aplicadas.
+ * En PostgreSQL cada migración toma un advisory lock, así dos nodos que arrancan a la vez no la aplican dos veces.
+ * <p>
+ * La numeración continúa la de {@code db/migration/V017__create_alertas_reservas_table.sql}, un script MySQL
+ * histórico que este runner no ejecuta (la tabla la crea Hibernate desde {@code AlertaReserva}).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchemaMigrationRunner implements ApplicationRunner {
+
+    private static final long ADVISORY_LOCK_KEY = 0x43424D4947L; // "CBMIG"
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<SchemaMigration> migrations;
+
+    /**
+     * Recibe el EntityManagerFactory solo para correr después de que Hibernate genere el esquema,
+     * también con {@code spring.main.lazy-initialization=true}
+     */
+    public SchemaMigrationRunner(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 List<SchemaMigration> migrations,
+                                 EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.migrations = migrations.stream()
+                .sorted(Comparator.comparingInt(SchemaMigration::version))
+                .toList();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    public void migrate() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS schema_migrations (
+                    version INTEGER PRIMARY KEY,
+                    description VARCHAR(200) NOT NULL,
+                    installed_on TIMESTAMP NOT NULL,
+                    execution_ms BIGINT NOT NULL
+                )
+                """);
+        Set<Integer> aplicadas = new HashSet<>(
+                jdbcTemplate.queryForList("SELECT version FROM schema_migrations", Integer.class));
+        List<SchemaMigration> pendientes = migrations.stream()
+                .filter(migration -> !aplicadas.contains(migration.version()))
+                .toList();
+        if (pendientes.isEmpty()) {
+            log.debug("Esquema al día ({} migraciones aplicadas)", aplicadas.size());
+            return;
+        }
+
+        SchemaMigration.Database database = detectarBaseDeDatos();
+        for (SchemaMigration migration : pendientes) {
+            aplicar(migration, database);
+        }
+    }
+
+    private void aplicar(SchemaMigration migration, SchemaMigration.Database database) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (database == SchemaMigration.Database.POSTGRESQL) {
+                jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", ADVISORY_LOCK_KEY);
+                Integer yaAplicada = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM schema_migrations WHERE version = ?", Integer.class, migration.version());
+                if (yaAplicada != null && yaAplicada > 0) {
+                    return;
+                }
+            }
+            log.info("Aplicando migración {}: {}", migration.version(), migration.description());
+            long inicio = System.nanoTime();
+            migration.migrate(jdbcTemplate, database);
+            long millis = (System.nanoTime() - inicio) / 1_000_000;
+            jdbcTemplate.update("INSERT INTO schema_migrations (version, description, installed_on, execution_ms) "
+                            + "VALUES (?, ?, CURRENT_TIMESTAMP, ?)",
+                    migration.version(), migration.description(), millis);
+            log.info("Migración {} aplicada en {} ms", migration.version(), millis);
+        });
+    }
+
+    private SchemaMigration.Database detectarBaseDeDatos() {
+        try {
+            String producto = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+            String nombre = producto.toLowerCase(Locale.ROOT);
+            if (nombre.contains("postgres")) {
+                return SchemaMigration.Database.POSTGRESQL;
+            }
+            if (nombre.contains("h2")) {
+                return SchemaMigration.Database.H2;
+            }
+        } catch (Exception e) {
+            log.warn("No se pudo identificar la base de datos: {}", e.getMessage());
+        }
+        return SchemaMigration.Database.OTHER;
+    }
+}
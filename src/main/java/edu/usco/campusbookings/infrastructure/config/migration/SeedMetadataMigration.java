@@ -0,0 +1,33 @@
+package edu.usco.campusbookings.infrastructure.config.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tabla con la huella de los datos semilla aplicados; {@code DataInitializer} la compara al arrancar
+ * para no volver a revisar los catálogos cuando no cambiaron
+ */
+@Component
+public class SeedMetadataMigration implements SchemaMigration {
+
+    @Override
+    public int version() {
+        return 19;
+    }
+
+    @Override
+    public String description() {
+        return "Tabla seed_metadata";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate, Database database) {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS seed_metadata (
+                    seed_name VARCHAR(100) PRIMARY KEY,
+                    fingerprint VARCHAR(64) NOT NULL,
+                    applied_at TIMESTAMP NOT NULL
+                )
+                """);
+    }
+}
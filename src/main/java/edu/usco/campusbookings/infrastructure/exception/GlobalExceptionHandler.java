@@ -2,8 +2,11 @@ package edu.usco.campusbookings.infrastructure.exception;
 
 import edu.usco.campusbookings.application.exception.UsuarioNotFoundException;
 import edu.usco.campusbookings.application.exception.DisponibilidadValidationException;
+import edu.usco.campusbookings.application.exception.InvalidReservaException;
+import edu.usco.campusbookings.application.exception.LoginBloqueadoException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -50,6 +53,22 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Reglas de negocio de la reserva (conflicto de horario, anticipación): sin este handler el de
+     * {@link Exception} ganaba al {@code @ResponseStatus} de la excepción y respondía 500
+     */
+    @ExceptionHandler(InvalidReservaException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidReservaException(InvalidReservaException ex) {
+        logger.warn("Reserva inválida: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            ex.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         logger.warn("Error de validación: {}", ex.getMessage());
@@ -120,6 +139,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(LoginBloqueadoException.class)
+    public ResponseEntity<ErrorResponse> handleLoginBloqueadoException(LoginBloqueadoException ex) {
+        logger.warn("Login bloqueado: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too Many Requests",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
         logger.warn("Acceso denegado: {}", ex.getMessage());
@@ -0,0 +1,75 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Métricas de un pool de segundo plano, etiquetadas con {@code pool}: tareas en ejecución, encoladas,
+ * completadas y rechazadas. Las tareas en ejecución se cuentan al decorarlas, así que sirven igual para
+ * pools de plataforma y para ejecutores de hilos virtuales.
+ */
+public class ExecutorMetrics {
+
+    static final String ACTIVE = "campusbookings.executor.active";
+    static final String QUEUED = "campusbookings.executor.queued";
+    static final String COMPLETED = "campusbookings.executor.completed";
+    static final String REJECTED = "campusbookings.executor.rejected";
+
+    private final MeterRegistry registry;
+    private final String pool;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter completed;
+    private final Counter rejected;
+
+    public ExecutorMetrics(MeterRegistry registry, String pool) {
+        this.registry = registry;
+        this.pool = pool;
+        Gauge.builder(ACTIVE, active, AtomicInteger::get)
+                .tag("pool", pool)
+                .description("Tareas en ejecución")
+                .register(registry);
+        this.completed = Counter.builder(COMPLETED).tag("pool", pool).register(registry);
+        this.rejected = Counter.builder(REJECTED).tag("pool", pool).register(registry);
+    }
+
+    /**
+     * Profundidad de la cola del pool; los ejecutores de hilos virtuales no encolan
+     */
+    public void bindQueue(ThreadPoolTaskExecutor executor) {
+        Gauge.builder(QUEUED, executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("pool", pool)
+                .description("Tareas esperando un hilo")
+                .register(registry);
+    }
+
+    /**
+     * Cuenta la tarea como activa mientras se ejecuta, después de aplicar {@code delegate}
+     */
+    public TaskDecorator decorator(TaskDecorator delegate) {
+        return runnable -> {
+            Runnable decorated = delegate.decorate(runnable);
+            return () -> {
+                active.incrementAndGet();
+                try {
+                    decorated.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            };
+        };
+    }
+
+    public RejectedExecutionHandler counting(RejectedExecutionHandler delegate) {
+        return (task, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mide la primera petición a la API después del arranque, la que paga la inicialización perezosa que
+ * quede pendiente. Junto a {@code application.ready.time} de Spring Boot permite comparar despliegues
+ * con y sin warm-up, AOT o CDS.
+ * <p>
+ * Solo se registra una muestra en {@code campusbookings.startup.first.request}; después el filtro no hace nada.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstRequestLatencyFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean measured = new AtomicBoolean();
+    private final Timer firstRequest;
+
+    public FirstRequestLatencyFilter(MeterRegistry meterRegistry) {
+        this.firstRequest = Timer.builder("campusbookings.startup.first.request")
+                .description("Latencia de la primera petición a la API tras el arranque")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return measured.get() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!measured.compareAndSet(false, true)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            firstRequest.record(nanos, TimeUnit.NANOSECONDS);
+            log.info("Primera petición {} {} atendida en {} ms ({} ms desde el inicio de la JVM)",
+                    request.getMethod(), request.getRequestURI(), nanos / 1_000_000,
+                    ManagementFactory.getRuntimeMXBean().getUptime());
+        }
+    }
+}
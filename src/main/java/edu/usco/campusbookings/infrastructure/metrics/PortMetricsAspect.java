@@ -0,0 +1,153 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia, llamadas y excepciones de cada método de los puertos de entrada (casos de uso) y de salida
+ * (persistencia, correo, bus de notificaciones).
+ * <p>
+ * Cada método tiene un {@link Timer} {@value #TIMER} etiquetado con el puerto, el método, la capa y el resultado,
+ * y un contador {@value #ERRORS} por tipo de excepción. Los percentiles y los buckets del histograma se
+ * configuran con {@code management.metrics.distribution.*} y se exponen en {@code /actuator/prometheus}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class PortMetricsAspect {
+
+    static final String TIMER = "campusbookings.port.calls";
+    static final String ERRORS = "campusbookings.port.errors";
+
+    private static final String INPUT_PACKAGE = "edu.usco.campusbookings.application.port.input";
+    private static final String OUTPUT_PACKAGE = "edu.usco.campusbookings.application.port.output";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Medidores por método invocado; se resuelven una sola vez por método
+     */
+    private final Map<Method, PortMeters> meters = new ConcurrentHashMap<>();
+
+    @Around("execution(* edu.usco.campusbookings.application.port.input..*.*(..))"
+            + " || execution(* edu.usco.campusbookings.application.port.output..*.*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        PortMeters portMeters = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> crearMedidores(method, joinPoint.getTarget()));
+        long inicio = System.nanoTime();
+        Object resultado;
+        try {
+            resultado = joinPoint.proceed();
+        } catch (Throwable e) {
+            portMeters.registrarError(inicio, e);
+            throw e;
+        }
+        // Los puertos asíncronos se miden hasta que termina el resultado, no hasta que se encola
+        if (resultado instanceof CompletionStage<?> etapa) {
+            etapa.whenComplete((valor, error) -> {
+                if (error == null) {
+                    portMeters.registrarExito(inicio);
+                } else {
+                    portMeters.registrarError(inicio,
+                            error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                }
+            });
+        } else {
+            portMeters.registrarExito(inicio);
+        }
+        return resultado;
+    }
+
+    private PortMeters crearMedidores(Method method, Object target) {
+        Class<?> puerto = resolverPuerto(method, target);
+        String capa = puerto.getPackageName().startsWith(INPUT_PACKAGE) ? "input" : "output";
+        return new PortMeters(meterRegistry, puerto.getSimpleName(), method.getName(), capa);
+    }
+
+    /**
+     * Interfaz de {@code port.input}/{@code port.output} que declara el método; el nombre del puerto
+     * agrupa las métricas sin importar qué adaptador lo implemente
+     */
+    private static Class<?> resolverPuerto(Method method, Object target) {
+        if (isPuerto(method.getDeclaringClass())) {
+            return method.getDeclaringClass();
+        }
+        Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+        for (Class<?> interfaz : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (isPuerto(interfaz) && ClassUtils.hasMethod(interfaz, method.getName(), method.getParameterTypes())) {
+                return interfaz;
+            }
+        }
+        return targetClass;
+    }
+
+    private static boolean isPuerto(Class<?> type) {
+        String paquete = type.getPackageName();
+        return type.isInterface() && (paquete.startsWith(INPUT_PACKAGE) || paquete.startsWith(OUTPUT_PACKAGE));
+    }
+
+    /**
+     * Timers de éxito y error de un método; los contadores por excepción se crean al primer error
+     */
+    static final class PortMeters {
+
+        private final MeterRegistry registry;
+        private final String port;
+        private final String method;
+        private final String layer;
+        private final Timer exito;
+        private final Timer error;
+        private final Map<Class<?>, Counter> errores = new ConcurrentHashMap<>();
+
+        PortMeters(MeterRegistry registry, String port, String method, String layer) {
+            this.registry = registry;
+            this.port = port;
+            this.method = method;
+            this.layer = layer;
+            this.exito = timer("success");
+            this.error = timer("error");
+        }
+
+        void registrarExito(long inicio) {
+            exito.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+
+        void registrarError(long inicio, Throwable e) {
+            error.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            errores.computeIfAbsent(e.getClass(), type -> Counter.builder(ERRORS)
+                    .description("Excepciones lanzadas por los métodos de los puertos")
+                    .tag("port", port)
+                    .tag("method", method)
+                    .tag("layer", layer)
+                    .tag("exception", type.getSimpleName())
+                    .register(registry))
+                    .increment();
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder(TIMER)
+                    .description("Latencia de los métodos de los puertos de entrada y salida")
+                    .tag("port", port)
+                    .tag("method", method)
+                    .tag("layer", layer)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import edu.usco.campusbookings.infrastructure.config.SqlBudgetProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Cuenta las sentencias SQL de cada petición a la API y las compara con el presupuesto de su ruta.
+ * <p>
+ * Va antes de la cadena de seguridad para incluir la carga del usuario en modo {@code database}. Las
+ * peticiones que superan el presupuesto o repiten una sentencia {@code repeated-statement-threshold} veces
+ * (el patrón típico de un N+1) se registran en el log; todas alimentan a {@link SqlOffenderRegistry}.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private record RouteBudget(PathPattern pattern, int maxStatements) {
+    }
+
+    private final SqlBudgetProperties properties;
+    private final SqlOffenderRegistry registry;
+    private final List<RouteBudget> routes;
+
+    public SqlBudgetFilter(SqlBudgetProperties properties, SqlOffenderRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+        PathPatternParser parser = new PathPatternParser();
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new RouteBudget(parser.parse(route.getPattern()), route.getMaxStatements()))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlRequestStats previous = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            evaluate(request, SqlRequestStats.end(previous));
+        }
+    }
+
+    private void evaluate(HttpServletRequest request, SqlRequestStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        String endpoint = endpoint(request);
+        int budget = budgetFor(request);
+        boolean violation = stats.getStatements() > budget;
+        if (violation) {
+            log.warn("Presupuesto SQL excedido en {}: {} sentencias (máximo {}), {} entidades, {} ms JDBC",
+                    endpoint, stats.getStatements(), budget, stats.getEntitiesLoaded(), stats.getJdbcMillis());
+        }
+        SqlRequestStats.Repeated repeated = stats.mostRepeated();
+        if (repeated != null && repeated.count() >= properties.getRepeatedStatementThreshold()) {
+            log.warn("Posible N+1 en {}: sentencia repetida {} veces: {}", endpoint, repeated.count(), repeated.sql());
+        }
+        registry.record(endpoint, stats, budget, violation);
+    }
+
+    /**
+     * Método y patrón del handler ({@code GET /api/reservas/{id}}) para agrupar las peticiones por endpoint
+     * y no por URL; sin handler (404, rechazada por seguridad) se usa la URI
+     */
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private int budgetFor(HttpServletRequest request) {
+        if (!routes.isEmpty()) {
+            PathContainer path = PathContainer.parsePath(request.getRequestURI());
+            for (RouteBudget route : routes) {
+                if (route.pattern().matches(path)) {
+                    return route.maxStatements();
+                }
+            }
+        }
+        return properties.getMaxStatements();
+    }
+}
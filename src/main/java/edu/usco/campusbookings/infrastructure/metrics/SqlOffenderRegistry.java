@@ -0,0 +1,89 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.usco.campusbookings.infrastructure.config.SqlBudgetProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Peores endpoints por cantidad de SQL desde el arranque, para {@code GET /api/diagnostic/sql}.
+ * Acotado por Caffeine a {@code diagnostics.sql.max-tracked-endpoints}.
+ */
+@Component
+public class SqlOffenderRegistry {
+
+    private final Cache<String, EndpointStats> endpoints;
+
+    public SqlOffenderRegistry(SqlBudgetProperties properties) {
+        this.endpoints = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedEndpoints())
+                .build();
+    }
+
+    public void record(String endpoint, SqlRequestStats stats, int budget, boolean violation) {
+        endpoints.get(endpoint, k -> new EndpointStats()).record(stats, budget, violation);
+    }
+
+    /**
+     * Endpoints con más violaciones del presupuesto y, a igualdad, con más sentencias en una petición
+     */
+    public List<Map<String, Object>> top(int limit) {
+        return endpoints.asMap().entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.<Map<String, Object>, Long>comparing(s -> (Long) s.get("violations"))
+                        .thenComparing(s -> (Integer) s.get("maxStatements"))
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static final class EndpointStats {
+
+        private long requests;
+        private long violations;
+        private long totalStatements;
+        private int budget;
+        private int maxStatements;
+        private long maxEntitiesLoaded;
+        private long maxJdbcMillis;
+        private String repeatedSql;
+        private int repeatedCount;
+
+        synchronized void record(SqlRequestStats stats, int budget, boolean violation) {
+            this.budget = budget;
+            requests++;
+            if (violation) {
+                violations++;
+            }
+            totalStatements += stats.getStatements();
+            maxStatements = Math.max(maxStatements, stats.getStatements());
+            maxEntitiesLoaded = Math.max(maxEntitiesLoaded, stats.getEntitiesLoaded());
+            maxJdbcMillis = Math.max(maxJdbcMillis, stats.getJdbcMillis());
+            SqlRequestStats.Repeated repeated = stats.mostRepeated();
+            if (repeated != null && repeated.count() > repeatedCount) {
+                repeatedSql = repeated.sql();
+                repeatedCount = repeated.count();
+            }
+        }
+
+        synchronized Map<String, Object> snapshot(String endpoint) {
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("endpoint", endpoint);
+            snapshot.put("requests", requests);
+            snapshot.put("violations", violations);
+            snapshot.put("budget", budget);
+            snapshot.put("maxStatements", maxStatements);
+            snapshot.put("avgStatements", requests == 0 ? 0 : (double) totalStatements / requests);
+            snapshot.put("maxEntitiesLoaded", maxEntitiesLoaded);
+            snapshot.put("maxJdbcMillis", maxJdbcMillis);
+            snapshot.put("mostRepeatedSql", repeatedSql);
+            snapshot.put("mostRepeatedCount", repeatedCount);
+            return snapshot;
+        }
+    }
+}
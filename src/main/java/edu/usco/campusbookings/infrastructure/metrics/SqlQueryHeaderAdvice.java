@@ -0,0 +1,46 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import edu.usco.campusbookings.infrastructure.config.SqlBudgetProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Agrega {@code X-Query-Count}, {@code X-Query-Time-Ms} y {@code X-Query-Entities} a las respuestas cuando
+ * {@code diagnostics.sql.expose-headers} está activo (perfil dev).
+ * <p>
+ * Los headers se escriben justo antes de serializar el cuerpo, cuando la respuesta aún no está comprometida;
+ * {@link SqlBudgetFilter} evalúa el presupuesto con los totales definitivos.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SqlQueryHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlBudgetProperties properties;
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isExposeHeaders();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            response.getHeaders().set("X-Query-Count", Integer.toString(stats.getStatements()));
+            response.getHeaders().set("X-Query-Time-Ms", Long.toString(stats.getJdbcMillis()));
+            response.getHeaders().set("X-Query-Entities", Long.toString(stats.getEntitiesLoaded()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,103 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sentencias SQL, entidades cargadas y tiempo JDBC de la petición (o bloque de prueba) en curso en el hilo.
+ * <p>
+ * Lo alimentan {@link SqlStatsInterceptor} y {@link SqlTimingSessionListener}; fuera de un bloque
+ * {@link #begin()}/{@link #end} no se registra nada, así los hilos de fondo no pagan el conteo.
+ */
+public final class SqlRequestStats {
+
+    /**
+     * Sentencias distintas retenidas por petición; más allá solo se cuentan
+     */
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long entitiesLoaded;
+    private long jdbcNanos;
+    private long executionStart;
+    private final Map<String, Integer> repetitions = new HashMap<>();
+
+    /**
+     * Sentencia más repetida y sus repeticiones
+     */
+    public record Repeated(String sql, int count) {
+    }
+
+    /**
+     * Empieza a contar en el hilo actual
+     *
+     * @return las estadísticas que había antes (bloques anidados), para restaurarlas con {@link #end}
+     */
+    public static SqlRequestStats begin() {
+        SqlRequestStats previous = CURRENT.get();
+        CURRENT.set(new SqlRequestStats());
+        return previous;
+    }
+
+    /**
+     * Termina el bloque actual y restaura el anterior
+     *
+     * @return las estadísticas del bloque que termina
+     */
+    public static SqlRequestStats end(SqlRequestStats previous) {
+        SqlRequestStats finished = CURRENT.get();
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+        return finished != null ? finished : new SqlRequestStats();
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared(String sql) {
+        statements++;
+        if (repetitions.size() < MAX_DISTINCT_STATEMENTS || repetitions.containsKey(sql)) {
+            repetitions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void executionStarted() {
+        executionStart = System.nanoTime();
+    }
+
+    void executionEnded() {
+        if (executionStart != 0) {
+            jdbcNanos += System.nanoTime() - executionStart;
+            executionStart = 0;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    public Repeated mostRepeated() {
+        return repetitions.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(entry -> new Repeated(entry.getKey(), entry.getValue()))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,30 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Cuenta para {@link SqlRequestStats} cada sentencia que Hibernate prepara y cada entidad que materializa.
+ * Las sentencias llegan con parámetros {@code ?}, así que las repeticiones exactas delatan un N+1.
+ */
+public class SqlStatsInterceptor implements StatementInspector, Interceptor {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementPrepared(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.entityLoaded();
+        }
+        return false;
+    }
+}
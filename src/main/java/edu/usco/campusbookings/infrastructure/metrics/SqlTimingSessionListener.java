@@ -0,0 +1,36 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Tiempo de ejecución JDBC de las sentencias para {@link SqlRequestStats}.
+ * Hibernate lo instancia por sesión ({@code hibernate.session.events.auto}), por eso no tiene estado propio.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.executionStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.executionEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
@@ -0,0 +1,74 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta hilos virtuales que quedan fijados a su hilo portador (bloqueo dentro de {@code synchronized} o en
+ * código nativo) escuchando el evento JFR {@code jdk.VirtualThreadPinned} en la propia JVM.
+ * <p>
+ * Cada fijación más larga que el umbral suma a {@code campusbookings.virtualthreads.pinned}; la primera vez que
+ * aparece un punto de fijación se registra su pila en el log, así una ruta caliente no inunda los logs.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED = "campusbookings.virtualthreads.pinned";
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_REPORTED_SITES = 200;
+    private static final int STACK_DEPTH = 12;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry, Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder(PINNED)
+                .description("Hilos virtuales fijados a su portador más tiempo que el umbral")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Monitoreo de hilos virtuales fijados activo (umbral {} ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String stack = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(STACK_DEPTH)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n\tat "));
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(stack)) {
+            log.warn("Hilo virtual fijado {} ms en:\n\tat {}", event.getDuration().toMillis(), stack);
+        }
+    }
+}
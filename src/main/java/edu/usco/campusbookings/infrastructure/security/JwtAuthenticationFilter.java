@@ -1,5 +1,6 @@
 package edu.usco.campusbookings.infrastructure.security;
 
+import edu.usco.campusbookings.application.service.TokenVersionService;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -8,9 +9,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -18,6 +22,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -26,6 +31,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
+
+    // stateless: el principal se construye desde los claims verificados; database: se carga el usuario en cada request
+    @Value("${security.auth.mode:stateless}")
+    private String authMode;
 
     @Override
     protected void doFilterInternal(
@@ -50,19 +60,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
+            // Una sola verificación de firma por request; el resultado queda disponible para el resto de la cadena
+            final VerifiedToken verifiedToken = jwtService.verify(jwt);
+            request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verifiedToken);
+            final String userEmail = verifiedToken.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                // Verificar si no es un refresh token usado como access token (antes de consultar la BD)
+                if (verifiedToken.isRefreshToken()) {
+                    log.warn("Refresh token usado como access token para usuario: {}", userEmail);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                // Un cambio de rol incrementa la versión de tokens del usuario
+                if (verifiedToken.getUserId() != null
+                        && !tokenVersionService.isVigente(verifiedToken.getUserId(), verifiedToken.getTokenVersion())) {
+                    log.warn("Token JWT revocado para usuario: {}", userEmail);
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.setContentType("application/json");
+                    response.getWriter().write("{\"error\":\"Token revocado\",\"message\":\"El token JWT fue revocado, inicie sesión nuevamente\"}");
+                    return;
+                }
+
+                UserDetails userDetails = resolvePrincipal(verifiedToken);
                 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    // Verificar si no es un refresh token usado como access token
-                    if (jwtService.isRefreshToken(jwt)) {
-                        log.warn("Refresh token usado como access token para usuario: {}", userEmail);
-                        filterChain.doFilter(request, response);
-                        return;
-                    }
-                    
+                if (verifiedToken.isValidFor(userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -74,8 +97,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                     
                     // Renovar token si está próximo a expirar (actividad del usuario)
-                    if (jwtService.shouldRenewToken(jwt)) {
-                        String renewedToken = jwtService.renewToken(jwt);
+                    if (verifiedToken.shouldRenew()) {
+                        String renewedToken = jwtService.renewToken(verifiedToken);
                         if (renewedToken != null) {
                             // Agregar el nuevo token al header de respuesta
                             response.setHeader("X-New-Token", renewedToken);
@@ -107,6 +130,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * En modo stateless el principal sale de los claims {@code userId} y {@code rol} sin consultar la BD;
+     * los tokens que no los incluyen cargan el usuario como antes.
+     */
+    private UserDetails resolvePrincipal(VerifiedToken verifiedToken) {
+        if ("stateless".equalsIgnoreCase(authMode)
+                && verifiedToken.getUserId() != null && verifiedToken.getRol() != null) {
+            return new User(
+                verifiedToken.getSubject(),
+                "",
+                List.of(new SimpleGrantedAuthority(UserDetailsServiceImpl.toAuthority(verifiedToken.getRol())))
+            );
+        }
+        return this.userDetailsService.loadUserByUsername(verifiedToken.getSubject());
+    }
+
     private boolean isPublicEndpoint(String requestURI) {
         return requestURI.startsWith("/api/auth/login") ||
                requestURI.startsWith("/api/auth/register") ||
@@ -1,9 +1,11 @@
 package edu.usco.campusbookings.infrastructure.security;
 
-
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -11,15 +13,21 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -29,6 +37,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtService {
 
+    public static final String TOKEN_VERSION_CLAIM = "tokenVersion";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -38,14 +48,66 @@ public class JwtService {
     @Value("${jwt.refresh.expiration:604800000}") // 7 días por defecto
     private long refreshExpiration;
 
+    // Tokens verificados recientemente, indexados por SHA-256 del token
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize = 10_000;
+
+    // Clave y parser se derivan una sola vez; JwtParser es inmutable y seguro entre hilos
+    private Key signInKey;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        this.signInKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+            .setSigningKey(signInKey)
+            .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedCacheMaxSize)
+            .expireAfterWrite(Duration.ofMillis(Math.max(jwtExpiration, 1)))
+            .build();
+    }
+
+    /**
+     * Verifica la firma y parsea el token una sola vez.
+     * Un token ya verificado se toma de la caché sin repetir la verificación HMAC;
+     * si expiró, se descarta y el parser lanza {@link ExpiredJwtException} como antes.
+     *
+     * @throws JwtException si el token no es válido
+     */
+    public VerifiedToken verify(String token) {
+        String hash = sha256(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            // Comparar el token completo descarta cualquier colisión del hash
+            if (!cached.isExpired() && cached.getToken().equals(token)) {
+                return cached;
+            }
+            verifiedTokens.invalidate(hash);
+        }
+        VerifiedToken verified = new VerifiedToken(token, extractAllClaims(token));
+        verifiedTokens.put(hash, verified);
+        return verified;
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).getSubject();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         try {
-            final Claims claims = extractAllClaims(token);
-            return claimsResolver.apply(claims);
+            return verify(token).readClaims(claimsResolver);
         } catch (JwtException e) {
             log.error("Error extracting claim from JWT: {}", e.getMessage());
             throw e;
@@ -53,23 +115,11 @@ public class JwtService {
     }
 
     public List<String> extractRoles(String token) {
-        return extractClaim(token, claims -> {
-            @SuppressWarnings("unchecked")
-            List<String> roles = (List<String>) claims.get("roles");
-            return roles != null ? roles : List.of();
-        });
+        return verify(token).getRoles();
     }
 
     public Long extractUserId(String token) {
-        return extractClaim(token, claims -> {
-            Object userIdObj = claims.get("userId");
-            if (userIdObj instanceof Integer) {
-                return ((Integer) userIdObj).longValue();
-            } else if (userIdObj instanceof Long) {
-                return (Long) userIdObj;
-            }
-            return null;
-        });
+        return verify(token).getUserId();
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -100,8 +150,21 @@ public class JwtService {
      */
     public String renewToken(String token) {
         try {
-            Claims claims = extractAllClaims(token);
-            
+            return renewToken(verify(token));
+        } catch (Exception e) {
+            log.error("Error renovando token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Renovar un token ya verificado en este request, sin volver a parsearlo
+     */
+    public String renewToken(VerifiedToken verified) {
+        try {
+            // Copia: los claims del token verificado se comparten a través de la caché
+            Map<String, Object> claims = verified.readClaims(c -> new HashMap<>(c));
+
             // Crear nuevo token con los mismos claims pero fechas actualizadas
             return Jwts.builder()
                 .setClaims(claims)
@@ -122,12 +185,7 @@ public class JwtService {
      */
     public boolean shouldRenewToken(String token) {
         try {
-            Date expiration = extractExpiration(token);
-            Date now = new Date();
-            long timeUntilExpiration = expiration.getTime() - now.getTime();
-            long tenMinutesInMs = 10 * 60 * 1000; // 10 minutos
-            
-            return timeUntilExpiration <= tenMinutesInMs && timeUntilExpiration > 0;
+            return verify(token).shouldRenew();
         } catch (Exception e) {
             return false;
         }
@@ -148,8 +206,7 @@ public class JwtService {
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+            return verify(token).isValidFor(userDetails);
         } catch (ExpiredJwtException e) {
             log.warn("JWT token expired: {}", e.getMessage());
             return false;
@@ -173,27 +230,15 @@ public class JwtService {
 
     public boolean isRefreshToken(String token) {
         try {
-            String tokenType = extractClaim(token, claims -> (String) claims.get("type"));
-            return "refresh".equals(tokenType);
+            return verify(token).isRefreshToken();
         } catch (Exception e) {
             return false;
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+            return parser
                 .parseClaimsJws(token)
                 .getBody();
         } catch (ExpiredJwtException e) {
@@ -212,7 +257,6 @@ public class JwtService {
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
     }
 }       
\ No newline at end of file
@@ -0,0 +1,42 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Acceso a {@code /actuator/prometheus}: administradores autenticados o el scraper de Prometheus con el
+ * token compartido en el header {@value #TOKEN_HEADER}. El scraper no puede usar el JWT porque expira;
+ * sin token configurado solo entran los administradores.
+ */
+@Component
+public class MetricsScrapeAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String TOKEN_HEADER = "X-Metrics-Token";
+
+    private final byte[] scrapeToken;
+
+    public MetricsScrapeAuthorizationManager(@Value("${management.prometheus.scrape-token:}") String scrapeToken) {
+        this.scrapeToken = scrapeToken.isBlank() ? null : scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        String token = context.getRequest().getHeader(TOKEN_HEADER);
+        if (scrapeToken != null && token != null
+                && MessageDigest.isEqual(scrapeToken, token.getBytes(StandardCharsets.UTF_8))) {
+            return new AuthorizationDecision(true);
+        }
+        Authentication auth = authentication.get();
+        boolean admin = auth != null && auth.isAuthenticated() && auth.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return new AuthorizationDecision(admin);
+    }
+}
@@ -0,0 +1,216 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.usco.campusbookings.application.port.output.PermissionCachePort;
+import edu.usco.campusbookings.application.port.output.RolRepositoryPort;
+import edu.usco.campusbookings.application.port.output.ScenarioTypePermissionRepositoryPort;
+import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
+import edu.usco.campusbookings.domain.model.Permission;
+import edu.usco.campusbookings.domain.model.Rol;
+import edu.usco.campusbookings.domain.model.ScenarioTypePermission;
+import edu.usco.campusbookings.infrastructure.security.annotation.RequiresPermission;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Motor de decisión de permisos sin acceso a la BD en el camino caliente.
+ * <p>
+ * Cada par (recurso, acción) se interna una vez como un ordinal; los permisos de cada rol se
+ * compilan en un {@link BitSet} indexado por esos ordinales y cada {@link RequiresPermission}
+ * se resuelve a sus ordinales la primera vez que se evalúa. Una autorización queda en un par de
+ * pruebas de bits. El rol y los permisos por tipo de escenario de cada usuario se cachean con TTL;
+ * todo se invalida al editar roles, permisos o asignaciones.
+ */
+@Slf4j
+@Component
+public class PermissionDecisionEngine implements PermissionCachePort {
+
+    public static final String ADMIN_ROLE = "ADMIN";
+    private static final String MANAGE = "MANAGE";
+
+    /**
+     * Rol y permisos por tipo de escenario de un usuario
+     */
+    public record UserGrants(boolean exists, String rol, Set<String> tipoGrants) {
+        static final UserGrants NOT_FOUND = new UserGrants(false, null, Set.of());
+
+        public boolean isAdmin() {
+            return ADMIN_ROLE.equals(rol);
+        }
+
+        public boolean hasTipoGrant(String tipoNombre, String action) {
+            return tipoGrants.contains(tipoKey(tipoNombre, action));
+        }
+    }
+
+    /**
+     * Ordinales precalculados de una anotación
+     */
+    private record Requirement(int permiso, int manage) {
+    }
+
+    private final RolRepositoryPort rolRepositoryPort;
+    private final UsuarioRepositoryPort usuarioRepositoryPort;
+    private final ScenarioTypePermissionRepositoryPort scenarioTypePermissionRepositoryPort;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+    private final Map<RequiresPermission, Requirement> requirements = new ConcurrentHashMap<>();
+
+    // Nombre de rol -> permisos compilados; null hasta la primera carga o tras invalidar
+    private volatile Map<String, BitSet> roleGrants;
+    private final AtomicLong rolesGeneration = new AtomicLong();
+    private final Cache<String, UserGrants> userGrants;
+
+    public PermissionDecisionEngine(RolRepositoryPort rolRepositoryPort,
+                                    UsuarioRepositoryPort usuarioRepositoryPort,
+                                    ScenarioTypePermissionRepositoryPort scenarioTypePermissionRepositoryPort,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${security.permissions.user-cache-ttl-seconds:300}") long userCacheTtlSeconds,
+                                    @Value("${security.permissions.user-cache-max-size:10000}") long userCacheMaxSize) {
+        this.rolRepositoryPort = rolRepositoryPort;
+        this.usuarioRepositoryPort = usuarioRepositoryPort;
+        this.scenarioTypePermissionRepositoryPort = scenarioTypePermissionRepositoryPort;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.userGrants = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(userCacheTtlSeconds))
+                .maximumSize(userCacheMaxSize)
+                .build();
+    }
+
+    /**
+     * Rol y permisos por tipo del usuario, desde la caché
+     */
+    public UserGrants grantsFor(String email) {
+        return userGrants.get(email, this::loadUserGrants);
+    }
+
+    /**
+     * Indica si el rol concede el permiso, directamente o mediante MANAGE sobre el recurso
+     */
+    public boolean roleAllows(String rol, RequiresPermission requiresPermission) {
+        if (rol == null) {
+            return false;
+        }
+        BitSet grants = compiledRoles().get(rol);
+        if (grants == null) {
+            return false;
+        }
+        Requirement requirement = requirements.computeIfAbsent(requiresPermission, this::compile);
+        return grants.get(requirement.permiso()) || grants.get(requirement.manage());
+    }
+
+    private Requirement compile(RequiresPermission requiresPermission) {
+        return new Requirement(
+                ordinal(requiresPermission.resource(), requiresPermission.action()),
+                ordinal(requiresPermission.resource(), MANAGE));
+    }
+
+    private int ordinal(String resource, String action) {
+        return ordinals.computeIfAbsent(resource + ':' + action, key -> nextOrdinal.getAndIncrement());
+    }
+
+    private static String tipoKey(String tipoNombre, String action) {
+        return tipoNombre.toLowerCase(Locale.ROOT) + ':' + action;
+    }
+
+    private Map<String, BitSet> compiledRoles() {
+        Map<String, BitSet> compiled = roleGrants;
+        if (compiled != null) {
+            return compiled;
+        }
+        synchronized (this) {
+            if (roleGrants != null) {
+                return roleGrants;
+            }
+            long generation = rolesGeneration.get();
+            compiled = compileRoles();
+            // Si hubo una invalidación mientras se compilaba, no se publica el resultado
+            if (generation == rolesGeneration.get()) {
+                roleGrants = compiled;
+            }
+            return compiled;
+        }
+    }
+
+    private Map<String, BitSet> compileRoles() {
+        Map<String, BitSet> compiled = new HashMap<>();
+        for (Rol rol : rolRepositoryPort.findAllWithPermissions()) {
+            BitSet grants = new BitSet();
+            if (rol.getPermissions() != null) {
+                for (Permission permission : rol.getPermissions()) {
+                    grants.set(ordinal(permission.getResource(), permission.getAction()));
+                }
+            }
+            compiled.put(rol.getNombre(), grants);
+        }
+        log.debug("Permisos compilados para {} roles ({} pares recurso:acción)", compiled.size(), ordinals.size());
+        return Map.copyOf(compiled);
+    }
+
+    private UserGrants loadUserGrants(String email) {
+        return readOnlyTransaction.execute(status -> usuarioRepositoryPort.findByEmail(email)
+                .map(usuario -> new UserGrants(
+                        true,
+                        usuario.getRol() != null ? usuario.getRol().getNombre() : null,
+                        // Igual que la consulta existsBy... anterior, no se filtra por active
+                        scenarioTypePermissionRepositoryPort.findByUsuarioEmail(email).stream()
+                                .map(this::tipoKeyOf)
+                                .collect(Collectors.toUnmodifiableSet())))
+                .orElse(UserGrants.NOT_FOUND));
+    }
+
+    private String tipoKeyOf(ScenarioTypePermission permiso) {
+        return tipoKey(permiso.getTipoEscenario().getNombre(), permiso.getAction());
+    }
+
+    @Override
+    public void invalidateRoles() {
+        afterCommit(() -> {
+            rolesGeneration.incrementAndGet();
+            roleGrants = null;
+            // El rol cacheado por usuario puede haber cambiado de nombre
+            userGrants.invalidateAll();
+        });
+    }
+
+    @Override
+    public void invalidateUser(String email) {
+        afterCommit(() -> userGrants.invalidate(email));
+    }
+
+    /**
+     * Invalidar antes del commit permitiría recargar el estado anterior
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.usco.campusbookings.infrastructure.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Limita las peticiones a la API por usuario autenticado y por IP con token buckets sin locks.
+ * <p>
+ * Se ejecuta después de {@link JwtAuthenticationFilter} para conocer al usuario. Cada petición consulta
+ * como máximo dos buckets (usuario/ruta e IP) en un mapa acotado por Caffeine; al agotarse responde
+ * 429 con {@code Retry-After}.
+ * <p>
+ * La IP es {@code getRemoteAddr()}: detrás del proxy de Railway la reescribe Tomcat desde
+ * {@code X-Forwarded-For} ({@code server.forward-headers-strategy=native}), y solo cuando la
+ * conexión viene de un proxy de confianza, así un cliente no puede rotar la cabecera para evadir el tope.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record RouteBudget(String id, PathPattern pattern, int requestsPerMinute) {
+    }
+
+    private final RateLimitProperties properties;
+    private final List<RouteBudget> routes;
+    private final List<PathPattern> excluded;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this.properties = properties;
+        PathPatternParser parser = new PathPatternParser();
+        List<RateLimitProperties.Route> configured = properties.getRoutes();
+        this.routes = IntStream.range(0, configured.size())
+                .mapToObj(i -> new RouteBudget("r" + i + "|",
+                        parser.parse(configured.get(i).getPattern()),
+                        configured.get(i).getRequestsPerMinute()))
+                .toList();
+        this.excluded = properties.getExcludedPatterns().stream()
+                .map(parser::parse)
+                .toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(Duration.ofMinutes(properties.getIdleExpirationMinutes()))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled()
+                || "OPTIONS".equals(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/")
+                || isExcluded(request);
+    }
+
+    private boolean isExcluded(HttpServletRequest request) {
+        // Solo lecturas: subir o borrar en una ruta excluida sigue limitado
+        if (excluded.isEmpty() || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        return excluded.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        long now = System.nanoTime();
+        RouteBudget route = matchRoute(request);
+        String routePrefix = route != null ? route.id() : "";
+        int budget = route != null ? route.requestsPerMinute() : properties.getRequestsPerMinute();
+        String ip = request.getRemoteAddr();
+
+        String principal = currentPrincipal();
+        long wait;
+        if (principal != null) {
+            wait = consume(routePrefix + "u:" + principal, budget, now);
+            if (wait == 0) {
+                // Tope global por IP para que varias cuentas desde un mismo cliente no lo evadan
+                wait = consume("ip:" + ip, properties.getIpRequestsPerMinute(), now);
+            }
+        } else {
+            wait = consume(routePrefix + "ip:" + ip, budget, now);
+        }
+
+        if (wait > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            log.debug("Rate limit excedido para {} en {} (reintentar en {}s)",
+                    principal != null ? principal : ip, request.getRequestURI(), retryAfterSeconds);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Too Many Requests\",\"message\":\"Demasiadas solicitudes, intente de nuevo en "
+                    + retryAfterSeconds + " segundos\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private long consume(String key, int requestsPerMinute, long now) {
+        int burst = Math.max(1, (int) Math.round(requestsPerMinute * properties.getBurstFraction()));
+        return buckets.get(key, k -> new TokenBucket(requestsPerMinute, burst, now)).tryConsume(now);
+    }
+
+    private RouteBudget matchRoute(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (RouteBudget route : routes) {
+            if (route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
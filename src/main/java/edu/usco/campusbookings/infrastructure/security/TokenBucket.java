@@ -0,0 +1,46 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin locks, expresado como GCRA (generic cell rate algorithm).
+ * <p>
+ * En lugar de contar fichas y recargarlas, guarda en un único {@link AtomicLong} el instante
+ * teórico en que el bucket vuelve a estar lleno; consumir una ficha es un CAS que lo adelanta
+ * un intervalo de emisión. Es equivalente a un bucket de capacidad {@code burst} con recarga
+ * de {@code ratePerMinute} fichas por minuto.
+ */
+public final class TokenBucket {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int ratePerMinute, int burst, long nowNanos) {
+        this.emissionIntervalNanos = NANOS_PER_MINUTE / Math.max(1, ratePerMinute);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Intenta consumir una ficha.
+     *
+     * @return 0 si se permitió; si no, los nanosegundos hasta que haya una ficha disponible
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = Math.max(tat, nowNanos);
+            long wait = base - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
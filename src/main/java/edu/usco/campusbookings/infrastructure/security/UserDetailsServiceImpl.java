@@ -22,7 +22,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        log.info("Cargando detalles del usuario para email: {}", email);
+        log.debug("Cargando detalles del usuario para email: {}", email);
         
         try {
             Usuario usuario = usuarioService.findByEmail(email);
@@ -33,19 +33,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             }
             
             // Determinar el rol del usuario - CORREGIDO para usar roles actuales
-            String roleName = "ROLE_USER"; // Por defecto
-            if (usuario.getRol() != null) {
-                String userRol = usuario.getRol().getNombre();
-                if ("ADMIN".equals(userRol)) {
-                    roleName = "ROLE_ADMIN";
-                } else if ("USER".equals(userRol)) { 
-                    roleName = "ROLE_USER";
-                } else if ("COORDINATOR".equals(userRol)) {
-                    roleName = "ROLE_COORDINATOR";
-                }
-            }
+            String roleName = toAuthority(usuario.getRol() != null ? usuario.getRol().getNombre() : null);
             
-            log.info("Usuario cargado exitosamente: {} con rol: {}", email, roleName);
+            log.debug("Usuario cargado exitosamente: {} con rol: {}", email, roleName);
             
             return new User(
                 usuario.getEmail(),
@@ -61,4 +51,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             throw new UsernameNotFoundException("Error cargando usuario: " + email, e);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Autoridad de Spring Security para el nombre de rol del usuario (ROLE_USER por defecto)
+     */
+    public static String toAuthority(String userRol) {
+        if ("ADMIN".equals(userRol)) {
+            return "ROLE_ADMIN";
+        } else if ("COORDINATOR".equals(userRol)) {
+            return "ROLE_COORDINATOR";
+        }
+        return "ROLE_USER";
+    }
+}
@@ -0,0 +1,122 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Token JWT cuya firma ya fue verificada.
+ * Se construye una sola vez por request y se guarda como atributo del request
+ * ({@link #REQUEST_ATTRIBUTE}); los datos que el filtro consulta quedan precalculados.
+ */
+public final class VerifiedToken {
+
+    public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+    private static final long RENEW_WINDOW_MS = 10 * 60 * 1000; // 10 minutos
+
+    private final String token;
+    private final Claims claims;
+    private final String subject;
+    private final Long userId;
+    private final List<String> roles;
+    private final String rol;
+    private final long tokenVersion;
+    private final long expirationMillis;
+    private final boolean refreshToken;
+
+    VerifiedToken(String token, Claims claims) {
+        this.token = token;
+        this.claims = claims;
+        this.subject = claims.getSubject();
+        this.userId = toLong(claims.get("userId"));
+        this.roles = toRoles(claims.get("roles"));
+        this.rol = claims.get("rol") instanceof String nombre ? nombre : null;
+        // Tokens emitidos antes de versionar se consideran versión 0
+        Long version = toLong(claims.get(JwtService.TOKEN_VERSION_CLAIM));
+        this.tokenVersion = version != null ? version : 0L;
+        Date expiration = claims.getExpiration();
+        this.expirationMillis = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+        this.refreshToken = "refresh".equals(claims.get("type"));
+    }
+
+    private static Long toLong(Object value) {
+        if (value instanceof Integer integer) {
+            return integer.longValue();
+        } else if (value instanceof Long longValue) {
+            return longValue;
+        }
+        return null;
+    }
+
+    private static List<String> toRoles(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        return List.of();
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    /**
+     * Nombre del rol del usuario al emitir el token (claim {@code rol}), o null si no lo incluye
+     */
+    public String getRol() {
+        return rol;
+    }
+
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public Date getExpiration() {
+        return new Date(expirationMillis);
+    }
+
+    public boolean isRefreshToken() {
+        return refreshToken;
+    }
+
+    public boolean isExpired() {
+        return expirationMillis <= System.currentTimeMillis();
+    }
+
+    /**
+     * El token pertenece al usuario y no ha expirado
+     */
+    public boolean isValidFor(UserDetails userDetails) {
+        return subject != null && subject.equals(userDetails.getUsername()) && !isExpired();
+    }
+
+    /**
+     * Verificar si el token necesita renovación (a menos de 10 minutos de expirar)
+     */
+    public boolean shouldRenew() {
+        long timeUntilExpiration = expirationMillis - System.currentTimeMillis();
+        return timeUntilExpiration <= RENEW_WINDOW_MS && timeUntilExpiration > 0;
+    }
+
+    /**
+     * Los claims se comparten entre requests: solo se exponen para lectura
+     */
+    <T> T readClaims(Function<Claims, T> reader) {
+        return reader.apply(claims);
+    }
+}
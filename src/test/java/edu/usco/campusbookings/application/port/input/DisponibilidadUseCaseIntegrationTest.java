@@ -1,15 +1,81 @@
 package edu.usco.campusbookings.application.port.input;
 
+import edu.usco.campusbookings.application.dto.request.DisponibilidadRequest;
+import edu.usco.campusbookings.application.dto.response.EscenarioDisponibilidadResponse;
+import edu.usco.campusbookings.application.port.output.EscenarioRepositoryPort;
+import edu.usco.campusbookings.application.port.output.EstadoReservaRepositoryPort;
+import edu.usco.campusbookings.application.port.output.ReservaPersistencePort;
+import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
+import edu.usco.campusbookings.domain.model.Escenario;
+import edu.usco.campusbookings.domain.model.Reserva;
+import edu.usco.campusbookings.infrastructure.metrics.SqlBudget;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Integration tests for DisponibilidadUseCase.
  */
 @SpringBootTest
+@ActiveProfiles("dev")
 class DisponibilidadUseCaseIntegrationTest {
+
+    @Autowired
+    private DisponibilidadUseCase disponibilidadUseCase;
+    @Autowired
+    private ReservaPersistencePort reservaPersistencePort;
+    @Autowired
+    private UsuarioRepositoryPort usuarioRepositoryPort;
+    @Autowired
+    private EscenarioRepositoryPort escenarioRepositoryPort;
+    @Autowired
+    private EstadoReservaRepositoryPort estadoReservaRepositoryPort;
+
+    private Long creada;
+
+    @AfterEach
+    void tearDown() {
+        if (creada != null) {
+            reservaPersistencePort.deleteById(creada);
+        }
+    }
+
     @Test
     void contextoCargaCorrectamente() {
-        // TODO: Implementar test de integración real
+        assertNotNull(disponibilidadUseCase);
+    }
+
+    @Test
+    void consultarDisponibilidad_presupuestoSqlIndependienteDelNumeroDeEscenarios() {
+        // Given: una reserva aprobada en el primero de los escenarios sembrados
+        List<Escenario> escenarios = escenarioRepositoryPort.findAll();
+        assertTrue(escenarios.size() > 5);
+        LocalDateTime inicio = LocalDateTime.now().plusDays(7).withHour(8).withMinute(0).withSecond(0).withNano(0);
+        Reserva reserva = new Reserva();
+        reserva.setUsuario(usuarioRepositoryPort.findByEmail("admin@usco.edu.co").orElseThrow());
+        reserva.setEscenario(escenarios.get(0));
+        reserva.setEstado(estadoReservaRepositoryPort.findByNombre("APROBADA").orElseThrow());
+        reserva.setFechaInicio(inicio);
+        reserva.setFechaFin(inicio.plusHours(2));
+        creada = reservaPersistencePort.save(reserva).getId();
+
+        DisponibilidadRequest request = new DisponibilidadRequest();
+        request.setFechaInicio(inicio.minusHours(1));
+        request.setFechaFin(inicio.plusHours(1));
+
+        // When
+        List<EscenarioDisponibilidadResponse> disponibilidad = SqlBudget.assertMaxStatements(2,
+                () -> disponibilidadUseCase.consultarDisponibilidad(request));
+
+        // Then
+        assertEquals(escenarios.size(), disponibilidad.size());
+        assertEquals(1, disponibilidad.stream().filter(escenario -> !escenario.isDisponible()).count());
     }
 }
@@ -1,15 +1,114 @@
 package edu.usco.campusbookings.application.port.input;
 
+import edu.usco.campusbookings.application.dto.request.VerificarDisponibilidadRequest;
+import edu.usco.campusbookings.application.dto.response.ReservaResponse;
+import edu.usco.campusbookings.application.port.output.EscenarioRepositoryPort;
+import edu.usco.campusbookings.application.port.output.EstadoReservaRepositoryPort;
+import edu.usco.campusbookings.application.port.output.ReservaPersistencePort;
+import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
+import edu.usco.campusbookings.domain.model.Escenario;
+import edu.usco.campusbookings.domain.model.EstadoReserva;
+import edu.usco.campusbookings.domain.model.Reserva;
+import edu.usco.campusbookings.domain.model.Usuario;
+import edu.usco.campusbookings.infrastructure.metrics.SqlBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Integration tests for ReservaUseCase.
  */
 @SpringBootTest
+@ActiveProfiles("dev")
 class ReservaUseCaseIntegrationTest {
+
+    private static final String ADMIN_EMAIL = "admin@usco.edu.co";
+
+    @Autowired
+    private ReservaUseCase reservaUseCase;
+    @Autowired
+    private ReservaPersistencePort reservaPersistencePort;
+    @Autowired
+    private UsuarioRepositoryPort usuarioRepositoryPort;
+    @Autowired
+    private EscenarioRepositoryPort escenarioRepositoryPort;
+    @Autowired
+    private EstadoReservaRepositoryPort estadoReservaRepositoryPort;
+
+    private final List<Long> creadas = new ArrayList<>();
+    private Usuario admin;
+    private List<Escenario> escenarios;
+
+    @BeforeEach
+    void setUp() {
+        admin = usuarioRepositoryPort.findByEmail(ADMIN_EMAIL).orElseThrow();
+        escenarios = escenarioRepositoryPort.findAll();
+        EstadoReserva aprobada = estadoReservaRepositoryPort.findByNombre("APROBADA").orElseThrow();
+        LocalDateTime inicio = LocalDateTime.now().plusDays(7).withHour(8).withMinute(0).withSecond(0).withNano(0);
+        // Varias reservas sobre escenarios distintos para que un N+1 se note en el conteo
+        for (int i = 0; i < Math.min(10, escenarios.size()); i++) {
+            Reserva reserva = new Reserva();
+            reserva.setUsuario(admin);
+            reserva.setEscenario(escenarios.get(i));
+            reserva.setEstado(aprobada);
+            reserva.setFechaInicio(inicio.plusDays(i));
+            reserva.setFechaFin(inicio.plusDays(i).plusHours(2));
+            creadas.add(reservaPersistencePort.save(reserva).getId());
+        }
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(ADMIN_EMAIL, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        creadas.forEach(reservaPersistencePort::deleteById);
+    }
+
     @Test
     void contextoCargaCorrectamente() {
-        // TODO: Implementar test de integración real
+        assertNotNull(reservaUseCase);
+    }
+
+    @Test
+    void obtenerTodasLasReservas_presupuestoSqlIndependienteDelNumeroDeReservas() {
+        // When
+        List<ReservaResponse> reservas = SqlBudget.assertMaxStatements(3,
+                () -> reservaUseCase.obtenerTodasLasReservas());
+
+        // Then
+        assertTrue(reservas.size() >= creadas.size());
+    }
+
+    @Test
+    void obtenerReservasPorUsuario_presupuestoSqlIndependienteDelNumeroDeReservas() {
+        // When
+        List<ReservaResponse> reservas = SqlBudget.assertMaxStatements(3,
+                () -> reservaUseCase.obtenerReservasPorUsuario(admin.getId()));
+
+        // Then
+        assertTrue(reservas.size() >= creadas.size());
+    }
+
+    @Test
+    void verificarDisponibilidad_presupuestoSql() {
+        // Given: el horario de la primera reserva
+        Reserva ocupada = reservaPersistencePort.findById(creadas.get(0)).orElseThrow();
+        VerificarDisponibilidadRequest request = new VerificarDisponibilidadRequest(
+                ocupada.getEscenario().getId(), ocupada.getFechaInicio(), ocupada.getFechaFin());
+
+        // When / Then
+        assertFalse(SqlBudget.assertMaxStatements(4, () -> reservaUseCase.verificarDisponibilidad(request)).isDisponible());
     }
 }
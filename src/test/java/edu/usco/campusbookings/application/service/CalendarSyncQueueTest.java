@@ -0,0 +1,230 @@
+package edu.usco.campusbookings.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.CalendarScopes;
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+import edu.usco.campusbookings.application.port.output.GoogleCalendarRepositoryPort;
+import edu.usco.campusbookings.application.port.output.NotificationBus;
+import edu.usco.campusbookings.application.port.output.ReservaPersistencePort;
+import edu.usco.campusbookings.domain.model.Escenario;
+import edu.usco.campusbookings.domain.model.EstadoReserva;
+import edu.usco.campusbookings.domain.model.Reserva;
+import edu.usco.campusbookings.domain.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CalendarSyncQueueTest {
+
+    private static final String BOUNDARY = "batch_prueba";
+
+    private final List<String> peticiones = new CopyOnWriteArrayList<>();
+    private final List<String> cuerpos = new CopyOnWriteArrayList<>();
+    // Respuestas de cada batch: una parte por operación, en el orden en que se encolaron
+    private final Deque<List<String>> lotes = new ArrayDeque<>();
+
+    private ReservaPersistencePort reservaPersistencePort;
+    private GoogleCalendarRepositoryPort googleCalendarRepositoryPort;
+    private NotificationBus notificationBus;
+    private CalendarSyncQueue queue;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpTransport transport = new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) {
+                return new MockLowLevelHttpRequest(url) {
+                    @Override
+                    public LowLevelHttpResponse execute() throws IOException {
+                        peticiones.add(method + " " + url);
+                        cuerpos.add(getContentAsString());
+                        return batchResponse();
+                    }
+                };
+            }
+        };
+        GoogleAuthorizationCodeFlow flow = new GoogleAuthorizationCodeFlow.Builder(
+                transport, GsonFactory.getDefaultInstance(), "client-id", "client-secret",
+                List.of(CalendarScopes.CALENDAR)).build();
+        googleCalendarRepositoryPort = mock(GoogleCalendarRepositoryPort.class);
+        GoogleCalendarClientCache clientCache = new GoogleCalendarClientCache(
+                flow, googleCalendarRepositoryPort, Runnable::run, "CampusBookingsTest", 100, 30);
+
+        usuario = new Usuario();
+        usuario.setId(3L);
+        usuario.setNombre("Ana");
+        usuario.setApellido("Pérez");
+        usuario.setGoogleCalendarConnected(true);
+        usuario.setGoogleAccessToken("token-valido");
+        usuario.setGoogleRefreshToken("refresh");
+        when(googleCalendarRepositoryPort.findById(3L)).thenReturn(Optional.of(usuario));
+
+        reservaPersistencePort = mock(ReservaPersistencePort.class);
+        when(reservaPersistencePort.findAllByIdWithDetalles(anyCollection())).thenAnswer(invocation -> {
+            List<Long> ids = new ArrayList<>(invocation.getArgument(0));
+            return ids.stream().map(this::reserva).toList();
+        });
+        notificationBus = mock(NotificationBus.class);
+
+        queue = new CalendarSyncQueue(clientCache, reservaPersistencePort, googleCalendarRepositoryPort,
+                notificationBus, new ObjectMapper(), Runnable::run, 50, 5, 1000, 60000, 60000);
+    }
+
+    private Reserva reserva(Long id) {
+        Reserva reserva = new Reserva();
+        reserva.setId(id);
+        reserva.setUsuario(usuario);
+        Escenario escenario = new Escenario();
+        escenario.setNombre("Coliseo");
+        reserva.setEscenario(escenario);
+        EstadoReserva estado = new EstadoReserva();
+        estado.setNombre("APROBADA");
+        reserva.setEstado(estado);
+        reserva.setFechaInicio(LocalDateTime.of(2026, 3, 2, 8, 0));
+        reserva.setFechaFin(LocalDateTime.of(2026, 3, 2, 10, 0));
+        return reserva;
+    }
+
+    private MockLowLevelHttpResponse batchResponse() {
+        List<String> partes = lotes.poll();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < partes.size(); i++) {
+            body.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n")
+                    .append("Content-ID: <response-").append(i + 1).append(">\r\n\r\n")
+                    .append(partes.get(i)).append("\r\n");
+        }
+        body.append("--").append(BOUNDARY).append("--\r\n");
+        return new MockLowLevelHttpResponse()
+                .setStatusCode(200)
+                .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                .setContent(body.toString());
+    }
+
+    private static String parteOk(String eventId) {
+        return "HTTP/1.1 200 OK\r\nContent-Type: application/json; charset=UTF-8\r\n\r\n{\"id\":\"" + eventId + "\"}";
+    }
+
+    private static String parteSinContenido() {
+        return "HTTP/1.1 204 No Content\r\n\r\n";
+    }
+
+    private static String parteCuotaExcedida() {
+        return "HTTP/1.1 403 Forbidden\r\nContent-Type: application/json; charset=UTF-8\r\n\r\n"
+                + "{\"error\":{\"code\":403,\"message\":\"Rate Limit Exceeded\","
+                + "\"errors\":[{\"domain\":\"usageLimits\",\"reason\":\"rateLimitExceeded\",\"message\":\"Rate Limit Exceeded\"}]}}";
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void agrupaLasReservasDelUsuarioEnUnSoloBatchYEscribeLosIdsJuntos() {
+        // Given
+        lotes.add(List.of(parteOk("ev-1"), parteOk("ev-2"), parteOk("ev-3")));
+        queue.encolarSincronizacionMasiva(3L, List.of(1L, 2L, 3L));
+
+        // When
+        queue.procesarPendientes();
+
+        // Then: una sola llamada HTTP y un solo batch de escritura
+        assertEquals(1, peticiones.size());
+        assertTrue(peticiones.get(0).contains("/batch/calendar/v3"));
+        ArgumentCaptor<Map<Long, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(reservaPersistencePort, times(1)).updateGoogleCalendarEventIds(captor.capture());
+        assertEquals(Map.of(1L, "ev-1", 2L, "ev-2", 3L, "ev-3"), captor.getValue());
+        assertEquals(0, queue.pendientes());
+    }
+
+    @Test
+    void reintentaConBackoffLoQueExcedeLaCuota() {
+        // Given
+        lotes.add(List.of(parteOk("ev-1"), parteCuotaExcedida()));
+        queue.encolarSincronizacionMasiva(3L, List.of(1L, 2L));
+
+        // When
+        queue.procesarPendientes();
+
+        // Then: la reserva 2 vuelve a la cola, pero aún no está disponible
+        verify(reservaPersistencePort).updateGoogleCalendarEventIds(Map.of(1L, "ev-1"));
+        assertEquals(1, queue.pendientes());
+        peticiones.clear();
+        queue.procesarPendientes();
+        assertTrue(peticiones.isEmpty());
+    }
+
+    @Test
+    void divideEnLotesDeCincuentaYPublicaElProgreso() {
+        // Given
+        lotes.add(LongStream.rangeClosed(1, 50).mapToObj(i -> parteOk("ev-" + i)).toList());
+        lotes.add(LongStream.rangeClosed(51, 60).mapToObj(i -> parteOk("ev-" + i)).toList());
+        queue.encolarSincronizacionMasiva(3L, LongStream.rangeClosed(1, 60).boxed().toList());
+
+        // When
+        queue.procesarPendientes();
+
+        // Then
+        assertEquals(2, peticiones.size());
+        ArgumentCaptor<NotificationEnvelope> captor = ArgumentCaptor.forClass(NotificationEnvelope.class);
+        verify(notificationBus).publish(captor.capture());
+        assertEquals(3L, captor.getValue().getUserId());
+        assertTrue(captor.getValue().getPayload().contains(CalendarSyncQueue.PROGRESS_TYPE));
+        assertTrue(captor.getValue().getPayload().contains("\"completado\":true"));
+    }
+
+    @Test
+    void errorDelUsuario_reencolaSoloLasOperacionesCoalescidas() {
+        // Given: la reserva 1 llega dos veces y la carga del usuario falla
+        when(googleCalendarRepositoryPort.findById(3L)).thenThrow(new IllegalStateException("BD caída"));
+        queue.encolarSincronizacionMasiva(3L, List.of(1L, 2L, 1L));
+
+        // When
+        queue.procesarPendientes();
+
+        // Then: el duplicado ya contó como resuelto y no vuelve a la cola
+        assertEquals(2, queue.pendientes());
+        assertTrue(peticiones.isEmpty());
+    }
+
+    @Test
+    void eliminacionSeguidaDeSincronizacion_conservaElDeleteDelEventoAnterior() {
+        // Given: la reserva pierde su evento y se vuelve a sincronizar antes del siguiente drenado
+        Reserva reserva = reserva(1L);
+        reserva.setGoogleCalendarEventId("evento-viejo");
+        queue.encolarEliminacion(reserva);
+        queue.encolarSincronizacion(reserva(1L));
+        lotes.add(List.of(parteSinContenido(), parteOk("evento-nuevo")));
+
+        // When
+        queue.procesarPendientes();
+
+        // Then: un solo batch borra el evento viejo y crea el nuevo
+        assertEquals(1, peticiones.size());
+        assertTrue(cuerpos.get(0).contains("DELETE"));
+        assertTrue(cuerpos.get(0).contains("evento-viejo"));
+        assertTrue(cuerpos.get(0).contains("POST"));
+        verify(reservaPersistencePort).updateGoogleCalendarEventIds(Map.of(1L, "evento-nuevo"));
+        assertEquals(0, queue.pendientes());
+    }
+}
@@ -0,0 +1,99 @@
+package edu.usco.campusbookings.application.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
+import com.google.api.client.googleapis.auth.oauth2.GoogleOAuthConstants;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.Json;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.CalendarScopes;
+import com.google.api.services.calendar.model.Event;
+import edu.usco.campusbookings.application.port.output.GoogleCalendarRepositoryPort;
+import edu.usco.campusbookings.domain.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GoogleCalendarClientCacheTest {
+
+    private final List<String> peticiones = new CopyOnWriteArrayList<>();
+    private GoogleCalendarRepositoryPort repositoryPort;
+    private GoogleCalendarClientCache cache;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        // Google responde 401 al token viejo, entrega uno nuevo en el endpoint de tokens y acepta el nuevo
+        MockHttpTransport transport = new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) {
+                return new MockLowLevelHttpRequest(url) {
+                    @Override
+                    public LowLevelHttpResponse execute() {
+                        peticiones.add(method + " " + url);
+                        if (url.startsWith(GoogleOAuthConstants.TOKEN_SERVER_URL)) {
+                            return json(200, "{\"access_token\":\"token-nuevo\",\"token_type\":\"Bearer\",\"expires_in\":3600}");
+                        }
+                        if ("Bearer token-viejo".equals(getFirstHeaderValue("Authorization"))) {
+                            return json(401, "{}");
+                        }
+                        return json(200, "{\"id\":\"evento-1\"}");
+                    }
+                };
+            }
+        };
+
+        GoogleAuthorizationCodeFlow flow = new GoogleAuthorizationCodeFlow.Builder(
+                transport, GsonFactory.getDefaultInstance(), "client-id", "client-secret",
+                List.of(CalendarScopes.CALENDAR)).build();
+        repositoryPort = mock(GoogleCalendarRepositoryPort.class);
+        cache = new GoogleCalendarClientCache(flow, repositoryPort, Runnable::run, "CampusBookingsTest", 100, 30);
+
+        usuario = new Usuario();
+        usuario.setId(7L);
+        usuario.setGoogleAccessToken("token-viejo");
+        usuario.setGoogleRefreshToken("refresh-1");
+    }
+
+    private static MockLowLevelHttpResponse json(int status, String body) {
+        return new MockLowLevelHttpResponse()
+                .setStatusCode(status)
+                .setContentType(Json.MEDIA_TYPE)
+                .setContent(body);
+    }
+
+    @Test
+    void reutilizaElClienteDelUsuario() {
+        Calendar primero = cache.getClient(usuario);
+        Calendar segundo = cache.getClient(usuario);
+
+        assertSame(primero, segundo);
+
+        cache.invalidate(usuario.getId());
+        assertNotSame(primero, cache.getClient(usuario));
+    }
+
+    @Test
+    void renuevaElTokenUnaVezYLoPersiste() throws Exception {
+        Calendar calendar = cache.getClient(usuario);
+
+        Event creado = calendar.events().insert("primary", new Event()).execute();
+        assertEquals("evento-1", creado.getId());
+        verify(repositoryPort).updateGoogleCalendarTokens(7L, "token-nuevo", "refresh-1", true);
+
+        // Then: la siguiente sincronización es una sola llamada a la API, sin volver a renovar
+        peticiones.clear();
+        cache.getClient(usuario).events().insert("primary", new Event()).execute();
+        assertEquals(1, peticiones.size());
+        verifyNoMoreInteractions(repositoryPort);
+    }
+}
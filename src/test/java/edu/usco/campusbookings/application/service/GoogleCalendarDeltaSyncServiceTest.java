@@ -0,0 +1,165 @@
+package edu.usco.campusbookings.application.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.Json;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.CalendarScopes;
+import edu.usco.campusbookings.application.port.output.GoogleCalendarRepositoryPort;
+import edu.usco.campusbookings.application.port.output.ReservaPersistencePort;
+import edu.usco.campusbookings.domain.model.Escenario;
+import edu.usco.campusbookings.domain.model.EstadoReserva;
+import edu.usco.campusbookings.domain.model.Reserva;
+import edu.usco.campusbookings.domain.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GoogleCalendarDeltaSyncServiceTest {
+
+    private final List<String> urls = new CopyOnWriteArrayList<>();
+    private int status = 200;
+    private String body;
+
+    private GoogleCalendarRepositoryPort googleCalendarRepositoryPort;
+    private ReservaPersistencePort reservaPersistencePort;
+    private CalendarSyncQueue calendarSyncQueue;
+    private GoogleCalendarDeltaSyncService service;
+    private Usuario usuario;
+    private List<Reserva> reservas;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpTransport transport = new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) {
+                return new MockLowLevelHttpRequest(url) {
+                    @Override
+                    public LowLevelHttpResponse execute() {
+                        urls.add(url);
+                        return new MockLowLevelHttpResponse()
+                                .setStatusCode(status)
+                                .setContentType(Json.MEDIA_TYPE)
+                                .setContent(body);
+                    }
+                };
+            }
+        };
+        GoogleAuthorizationCodeFlow flow = new GoogleAuthorizationCodeFlow.Builder(
+                transport, GsonFactory.getDefaultInstance(), "client-id", "client-secret",
+                List.of(CalendarScopes.CALENDAR)).build();
+        googleCalendarRepositoryPort = mock(GoogleCalendarRepositoryPort.class);
+        GoogleCalendarClientCache clientCache = new GoogleCalendarClientCache(
+                flow, googleCalendarRepositoryPort, Runnable::run, "CampusBookingsTest", 100, 30);
+
+        usuario = new Usuario();
+        usuario.setId(5L);
+        usuario.setGoogleCalendarConnected(true);
+        usuario.setGoogleAccessToken("token-valido");
+        usuario.setGoogleCalendarSyncToken("tok-1");
+
+        reservas = List.of(reserva(1L, "ev-1"), reserva(2L, "ev-2"), reserva(3L, null));
+        reservaPersistencePort = mock(ReservaPersistencePort.class);
+        when(reservaPersistencePort.findAllByGoogleCalendarEventIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> eventIds = invocation.getArgument(0);
+            return reservas.stream().filter(r -> eventIds.contains(r.getGoogleCalendarEventId())).toList();
+        });
+        when(reservaPersistencePort.findAllByIdWithDetalles(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return reservas.stream().filter(r -> ids.contains(r.getId())).toList();
+        });
+        calendarSyncQueue = mock(CalendarSyncQueue.class);
+
+        service = new GoogleCalendarDeltaSyncService(clientCache, googleCalendarRepositoryPort,
+                reservaPersistencePort, calendarSyncQueue, 250);
+    }
+
+    private Reserva reserva(Long id, String eventId) {
+        Reserva reserva = new Reserva();
+        reserva.setId(id);
+        reserva.setUsuario(usuario);
+        reserva.setEscenario(new Escenario());
+        EstadoReserva estado = new EstadoReserva();
+        estado.setNombre("APROBADA");
+        reserva.setEstado(estado);
+        reserva.setFechaInicio(LocalDateTime.of(2026, 3, 2, 8, 0));
+        reserva.setFechaFin(LocalDateTime.of(2026, 3, 2, 10, 0));
+        reserva.setGoogleCalendarEventId(eventId);
+        return reserva;
+    }
+
+    private static String evento(String id, long reservaId, String inicio, String fin) {
+        return "{\"id\":\"" + id + "\",\"status\":\"confirmed\","
+                + "\"start\":{\"dateTime\":\"" + inicio + "\"},\"end\":{\"dateTime\":\"" + fin + "\"},"
+                + "\"extendedProperties\":{\"private\":{\"campusbookingsReservaId\":\"" + reservaId + "\"}}}";
+    }
+
+    @Test
+    void reconciliaSoloLosEventosCambiadosDesdeElToken() throws Exception {
+        // Given: ev-1 borrado en Google, ev-2 movido una hora, ev-3 creado pero sin vincular
+        body = "{\"items\":["
+                + "{\"id\":\"ev-1\",\"status\":\"cancelled\"},"
+                + evento("ev-2", 2, "2026-03-02T09:00:00-05:00", "2026-03-02T11:00:00-05:00") + ","
+                + evento("ev-3", 3, "2026-03-02T08:00:00-05:00", "2026-03-02T10:00:00-05:00")
+                + "],\"nextSyncToken\":\"tok-2\"}";
+
+        // When
+        GoogleCalendarDeltaSyncService.ResultadoDelta resultado = service.sincronizarUsuario(usuario);
+
+        // Then: una sola llamada con el token guardado
+        assertEquals(1, urls.size());
+        assertTrue(urls.get(0).contains("syncToken=tok-1"));
+        assertEquals(3, resultado.eventos());
+
+        Map<Long, String> vinculos = new HashMap<>();
+        vinculos.put(1L, null);
+        vinculos.put(3L, "ev-3");
+        verify(reservaPersistencePort).updateGoogleCalendarEventIds(vinculos);
+        verify(calendarSyncQueue).encolarSincronizacion(reservas.get(1));
+        verify(calendarSyncQueue, never()).encolarEliminacionEvento(anyLong(), anyString());
+        verify(googleCalendarRepositoryPort).updateSyncToken(5L, "tok-2");
+    }
+
+    @Test
+    void tokenExpiradoFuerzaSincronizacionCompleta() throws Exception {
+        // Given
+        status = 410;
+        body = "{\"error\":{\"code\":410,\"message\":\"Sync token is no longer valid\",\"errors\":[{\"reason\":\"fullSyncRequired\"}]}}";
+
+        // When
+        GoogleCalendarDeltaSyncService.ResultadoDelta resultado = service.sincronizarUsuario(usuario);
+
+        // Then
+        assertTrue(resultado.reiniciada());
+        verify(googleCalendarRepositoryPort).updateSyncToken(5L, null);
+        verifyNoInteractions(calendarSyncQueue);
+    }
+
+    @Test
+    void sinTokenRecorreElCalendarioSinSyncToken() throws Exception {
+        // Given
+        usuario.setGoogleCalendarSyncToken(null);
+        body = "{\"items\":[],\"nextSyncToken\":\"tok-inicial\"}";
+
+        // When
+        service.sincronizarUsuario(usuario);
+
+        // Then
+        assertFalse(urls.get(0).contains("syncToken"));
+        verify(googleCalendarRepositoryPort).updateSyncToken(5L, "tok-inicial");
+    }
+}
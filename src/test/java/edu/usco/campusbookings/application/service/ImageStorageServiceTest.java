@@ -0,0 +1,185 @@
+package edu.usco.campusbookings.application.service;
+
+import edu.usco.campusbookings.application.port.output.EscenarioRepositoryPort;
+import edu.usco.campusbookings.domain.model.ImagenMetadata;
+import edu.usco.campusbookings.domain.model.ImagenVariante;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ImageStorageServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private EscenarioRepositoryPort escenarioRepositoryPort;
+    private ImageStorageService service;
+
+    @BeforeEach
+    void setUp() {
+        escenarioRepositoryPort = mock(EscenarioRepositoryPort.class);
+        service = new ImageStorageService(uploadDir + "/", Runnable::run, Runnable::run,
+                new ImageContentCache(1_000_000, 100_000, 100), escenarioRepositoryPort,
+                320, 800, 1920, 0.82f, 40_000_000L, 24);
+    }
+
+    @Test
+    void storeImage_generaLasTresVariantesEnJpeg() throws IOException {
+        // Given
+        MockMultipartFile file = png("cancha.png", 3000, 2000);
+
+        // When
+        String imageUrl = service.storeImage(file);
+
+        // Then
+        assertTrue(imageUrl.endsWith(".jpg"));
+        String filename = relativo(imageUrl);
+        assertDimensiones(service.getImagePath(filename, ImagenVariante.THUMB), 320, 213);
+        assertDimensiones(service.getImagePath(filename, ImagenVariante.CARD), 800, 533);
+        assertDimensiones(service.getImagePath(filename, ImagenVariante.FULL), 1920, 1280);
+
+        ImagenMetadata metadata = service.describeImage(imageUrl);
+        assertNotNull(metadata);
+        assertEquals(1920, metadata.getAncho());
+        assertEquals(1280, metadata.getAlto());
+        assertEquals("thumb,card,full", metadata.getVariantes());
+    }
+
+    @Test
+    void storeImage_noAmpliaImagenesPequenas() throws IOException {
+        // Given
+        MockMultipartFile file = png("icono.png", 200, 100);
+
+        // When
+        String imageUrl = service.storeImage(file);
+
+        // Then
+        String filename = relativo(imageUrl);
+        assertDimensiones(service.getImagePath(filename, ImagenVariante.THUMB), 200, 100);
+        assertDimensiones(service.getImagePath(filename, ImagenVariante.FULL), 200, 100);
+    }
+
+    @Test
+    void storeImage_formatoNoSoportadoSeGuardaSinVariantes() throws IOException {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "foto.webp", "image/webp", new byte[]{1, 2, 3, 4});
+
+        // When
+        String imageUrl = service.storeImage(file);
+
+        // Then
+        assertTrue(imageUrl.endsWith(".webp"));
+        assertTrue(service.imageExists(relativo(imageUrl)));
+        assertNull(service.describeImage(imageUrl));
+    }
+
+    @Test
+    void deleteImage_eliminaTambienLasVariantes() throws IOException {
+        // Given
+        String filename = relativo(service.storeImage(png("aula.png", 1000, 800)));
+
+        // When
+        boolean deleted = service.deleteImage(filename);
+
+        // Then
+        assertTrue(deleted);
+        for (ImagenVariante variante : ImagenVariante.values()) {
+            assertFalse(Files.exists(service.getImagePath(filename, variante)));
+        }
+    }
+
+    @Test
+    void storeImage_reutilizaLaImagenSiElContenidoYaExiste() throws IOException {
+        // Given
+        MockMultipartFile original = png("cancha.png", 600, 400);
+        MockMultipartFile copia = new MockMultipartFile("file", "cancha-copia.png", "image/png", original.getBytes());
+
+        // When
+        String primera = service.storeImage(original);
+        String segunda = service.storeImage(copia);
+
+        // Then
+        assertEquals(primera, segunda);
+        String filename = relativo(primera);
+        assertTrue(filename.matches("[0-9a-f]{2}/[0-9a-f]{64}\\.jpg"), filename);
+        assertTrue(filename.startsWith(filename.substring(3, 5) + "/"));
+        try (var archivos = Files.list(uploadDir.resolve(filename.substring(0, 2)))) {
+            assertEquals(3, archivos.count());
+        }
+    }
+
+    @Test
+    void sweepOrphans_soloEliminaImagenesAntiguasSinReferencias() throws IOException {
+        // Given: una imagen referenciada, una huérfana antigua y una recién subida sin escenario aún
+        String referenciada = envejecer(service.storeImage(png("auditorio.png", 400, 300)));
+        String huerfana = envejecer(service.storeImage(png("cancha.png", 500, 300)));
+        String reciente = service.storeImage(png("piscina.png", 600, 300));
+        when(escenarioRepositoryPort.countByImagenUrl(referenciada)).thenReturn(1L);
+
+        // When
+        int eliminadas = service.sweepOrphans();
+
+        // Then
+        assertEquals(1, eliminadas);
+        assertTrue(service.imageExists(relativo(referenciada)));
+        assertFalse(service.imageExists(relativo(huerfana)));
+        assertFalse(Files.exists(service.getImagePath(relativo(huerfana), ImagenVariante.THUMB)));
+        assertTrue(service.imageExists(relativo(reciente)));
+    }
+
+    @Test
+    void storeImage_reutilizarUnaImagenAntigua_laProtegeDelBarrido() throws IOException {
+        // Given: una imagen huérfana antigua que se vuelve a subir antes de guardar el escenario
+        String imageUrl = envejecer(service.storeImage(png("auditorio.png", 400, 300)));
+
+        // When
+        assertEquals(imageUrl, service.storeImage(png("auditorio.png", 400, 300)));
+
+        // Then
+        assertEquals(0, service.sweepOrphans());
+        assertTrue(service.imageExists(relativo(imageUrl)));
+    }
+
+    /**
+     * Retrocede la fecha de modificación de la imagen y sus variantes más allá de la edad mínima
+     */
+    private String envejecer(String imageUrl) throws IOException {
+        FileTime antigua = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        for (ImagenVariante variante : ImagenVariante.values()) {
+            Files.setLastModifiedTime(service.getImagePath(relativo(imageUrl), variante), antigua);
+        }
+        return imageUrl;
+    }
+
+    private String relativo(String imageUrl) {
+        return imageUrl.substring(uploadDir.toString().length() + 2);
+    }
+
+    private static MockMultipartFile png(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new MockMultipartFile("file", name, "image/png", out.toByteArray());
+    }
+
+    private static void assertDimensiones(Path path, int width, int height) throws IOException {
+        BufferedImage image = ImageIO.read(path.toFile());
+        assertNotNull(image, "No se pudo leer " + path);
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+}
@@ -0,0 +1,65 @@
+package edu.usco.campusbookings.application.service;
+
+import edu.usco.campusbookings.application.exception.LoginBloqueadoException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptServiceTest {
+
+    private static final String EMAIL = "ana@usco.edu.co";
+    private static final String IP = "203.0.113.7";
+
+    @Test
+    void registrarFallo_maximoDentroDeLaVentana_bloqueaElEmail() {
+        // Given
+        LoginAttemptService service = new LoginAttemptService(3, 50, 60_000, 60_000, 1_000);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            service.verificarPermitido(EMAIL, IP);
+            service.registrarFallo(EMAIL, IP);
+        }
+
+        // Then
+        LoginBloqueadoException ex = assertThrows(LoginBloqueadoException.class,
+                () -> service.verificarPermitido(" ANA@usco.edu.co ", "198.51.100.20"));
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        assertDoesNotThrow(() -> service.verificarPermitido("otro@usco.edu.co", IP));
+    }
+
+    @Test
+    void registrarFallo_fallosFueraDeLaVentana_noCuentanParaElBloqueo() throws Exception {
+        // Given: ventana de 200 ms y dos fallos que quedarán fuera de ella
+        LoginAttemptService service = new LoginAttemptService(3, 50, 60_000, 200, 1_000);
+        service.registrarFallo(EMAIL, IP);
+        service.registrarFallo(EMAIL, IP);
+        Thread.sleep(300);
+
+        // When: el ring buffer se llena, pero el fallo más antiguo de los últimos 3 expiró
+        service.registrarFallo(EMAIL, IP);
+        service.registrarFallo(EMAIL, IP);
+
+        // Then
+        assertDoesNotThrow(() -> service.verificarPermitido(EMAIL, IP));
+        service.registrarFallo(EMAIL, IP);
+        assertThrows(LoginBloqueadoException.class, () -> service.verificarPermitido(EMAIL, IP));
+    }
+
+    @Test
+    void registrarFallo_topePorIp_soloBloqueaEsaIp() {
+        // Given: varias cuentas desde el mismo cliente
+        LoginAttemptService service = new LoginAttemptService(5, 3, 60_000, 60_000, 1_000);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            service.registrarFallo("usuario" + i + "@usco.edu.co", IP);
+        }
+
+        // Then: los demás clientes, incluso con el mismo email, siguen entrando
+        assertThrows(LoginBloqueadoException.class, () -> service.verificarPermitido(EMAIL, IP));
+        assertDoesNotThrow(() -> service.verificarPermitido(EMAIL, "198.51.100.20"));
+        assertTrue(service.desbloquearIp(IP));
+        assertDoesNotThrow(() -> service.verificarPermitido(EMAIL, IP));
+    }
+}
@@ -0,0 +1,90 @@
+package edu.usco.campusbookings.application.service;
+
+import edu.usco.campusbookings.application.dto.request.UpdateUsuarioRolRequest;
+import edu.usco.campusbookings.application.port.output.PermissionCachePort;
+import edu.usco.campusbookings.application.port.output.RolRepositoryPort;
+import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
+import edu.usco.campusbookings.domain.model.Rol;
+import edu.usco.campusbookings.domain.model.Usuario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class TokenVersionServiceTest {
+
+    private UsuarioRepositoryPort usuarioRepository;
+    private TokenVersionService tokenVersionService;
+    // Versión persistida en la BD simulada
+    private final AtomicLong versionEnBd = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = mock(UsuarioRepositoryPort.class);
+        when(usuarioRepository.findTokenVersionById(1L)).thenAnswer(inv -> Optional.of(versionEnBd.get()));
+        tokenVersionService = new TokenVersionService(usuarioRepository, 60, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void revocarTokens_limpiaLaCacheSoloTrasElCommit() {
+        // Given: versión 0 ya cacheada
+        assertTrue(tokenVersionService.isVigente(1L, 0));
+        Usuario usuario = Usuario.builder().id(1L).tokenVersion(0L).build();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        tokenVersionService.revocarTokens(usuario);
+        versionEnBd.set(usuario.getTokenVersion());
+
+        // Then: antes del commit sigue la versión cacheada; después, la nueva
+        assertEquals(1L, usuario.getTokenVersion());
+        assertTrue(tokenVersionService.isVigente(1L, 0));
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertFalse(tokenVersionService.isVigente(1L, 0));
+        assertTrue(tokenVersionService.isVigente(1L, 1));
+        verify(usuarioRepository, times(2)).findTokenVersionById(1L);
+    }
+
+    @Test
+    void updateUserRole_tokenDeVersionAnterior_quedaRechazado() {
+        // Given: el usuario tiene un token vigente de versión 0
+        Usuario usuario = Usuario.builder().id(1L).email("ana@usco.edu.co").tokenVersion(0L).build();
+        Rol coordinador = Rol.builder().id(2L).nombre("COORDINATOR").activo(true).build();
+        RolRepositoryPort rolRepository = mock(RolRepositoryPort.class);
+        when(usuarioRepository.findById(1L)).thenReturn(Optional.of(usuario));
+        when(rolRepository.findById(2L)).thenReturn(Optional.of(coordinador));
+        when(usuarioRepository.save(any())).thenAnswer(inv -> {
+            Usuario guardado = inv.getArgument(0);
+            versionEnBd.set(guardado.getTokenVersion());
+            return guardado;
+        });
+        UserManagementService service = new UserManagementService(usuarioRepository, rolRepository,
+                mock(NotificationService.class), tokenVersionService, mock(PermissionCachePort.class));
+        assertTrue(tokenVersionService.isVigente(1L, 0));
+
+        // When
+        service.updateUserRole(1L, UpdateUsuarioRolRequest.builder().rolId(2L).build());
+
+        // Then: la versión viaja en el mismo save, sin UPDATE masivo aparte
+        assertFalse(tokenVersionService.isVigente(1L, 0));
+        assertTrue(tokenVersionService.isVigente(1L, 1));
+        verify(usuarioRepository).save(usuario);
+        verify(usuarioRepository, never()).incrementTokenVersionByRolId(anyLong());
+    }
+}
@@ -0,0 +1,94 @@
+package edu.usco.campusbookings.application.service;
+
+import edu.usco.campusbookings.application.dto.request.UsuarioRequest;
+import edu.usco.campusbookings.application.mapper.UsuarioMapper;
+import edu.usco.campusbookings.application.port.output.PermissionCachePort;
+import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
+import edu.usco.campusbookings.domain.model.Rol;
+import edu.usco.campusbookings.domain.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UsuarioServiceTest {
+
+    private UsuarioRepositoryPort usuarioRepository;
+    private UsuarioMapper usuarioMapper;
+    private PermissionCachePort permissionCachePort;
+    private UsuarioService usuarioService;
+    private Usuario persistido;
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = mock(UsuarioRepositoryPort.class);
+        usuarioMapper = mock(UsuarioMapper.class);
+        permissionCachePort = mock(PermissionCachePort.class);
+        usuarioService = new UsuarioService(usuarioRepository, usuarioMapper, permissionCachePort,
+                new TokenVersionService(usuarioRepository, 60, 100));
+
+        persistido = Usuario.builder().id(1L).nombre("Ana").apellido("Gómez").email("ana@usco.edu.co")
+                .password("hash").rol(rol(2L)).tokenVersion(4L).googleCalendarConnected(true).build();
+        when(usuarioRepository.findById(1L)).thenReturn(Optional.of(persistido));
+        when(usuarioRepository.save(any(Usuario.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void updateUsuario_cambiaElRol_revocaLosTokensSobreLaVersionPersistida() {
+        // Given: el mapper produce una entidad sin tokenVersion
+        UsuarioRequest request = UsuarioRequest.builder().nombre("Ana").apellido("Gómez")
+                .email("ana@usco.edu.co").password("hash").rol(rol(1L)).build();
+        when(usuarioMapper.toDomain(request)).thenReturn(Usuario.builder().nombre("Ana").apellido("Gómez")
+                .email("ana@usco.edu.co").password("hash").rol(rol(1L)).build());
+
+        // When
+        usuarioService.updateUsuario(1L, request);
+
+        // Then: se guarda la entidad persistida con la versión incrementada
+        verify(usuarioRepository).save(same(persistido));
+        assertEquals(1L, persistido.getRol().getId());
+        assertEquals(5L, persistido.getTokenVersion());
+        assertTrue(persistido.getGoogleCalendarConnected());
+    }
+
+    @Test
+    void update_mismoRol_conservaLaVersionDeLosTokens() {
+        // Given
+        Usuario cambios = Usuario.builder().nombre("Ana María").apellido("Gómez")
+                .email("ana@usco.edu.co").password("hash").rol(rol(2L)).build();
+
+        // When
+        Usuario actualizado = usuarioService.update(1L, cambios);
+
+        // Then
+        assertSame(persistido, actualizado);
+        assertEquals("Ana María", actualizado.getNombre());
+        assertEquals(4L, actualizado.getTokenVersion());
+    }
+
+    @Test
+    void updateUsuario_cambiaElEmail_invalidaLosPermisosDeAmbosEmails() {
+        // Given
+        UsuarioRequest request = UsuarioRequest.builder().nombre("Ana").apellido("Gómez")
+                .email("ana.gomez@usco.edu.co").password("hash").rol(rol(2L)).build();
+        when(usuarioMapper.toDomain(request)).thenReturn(Usuario.builder().nombre("Ana").apellido("Gómez")
+                .email("ana.gomez@usco.edu.co").password("hash").rol(rol(2L)).build());
+
+        // When
+        usuarioService.updateUsuario(1L, request);
+
+        // Then
+        verify(permissionCachePort).invalidateUser("ana@usco.edu.co");
+        verify(permissionCachePort).invalidateUser("ana.gomez@usco.edu.co");
+    }
+
+    private static Rol rol(Long id) {
+        Rol rol = new Rol();
+        rol.setId(id);
+        return rol;
+    }
+}
@@ -0,0 +1,124 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.controller;
+
+import edu.usco.campusbookings.application.port.output.EscenarioRepositoryPort;
+import edu.usco.campusbookings.application.service.ImageContentCache;
+import edu.usco.campusbookings.application.service.ImageStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ImageServingControllerTest {
+
+    private static final String FILENAME = "b1f4c2d0-imagen.jpg";
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageServingController controller;
+    private byte[] contenido;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        contenido = new byte[1000];
+        for (int i = 0; i < contenido.length; i++) {
+            contenido[i] = (byte) i;
+        }
+        Files.write(uploadDir.resolve(FILENAME), contenido);
+
+        // Archivos de más de 100 bytes no entran en memoria: se prueba también el envío desde disco
+        ImageContentCache cache = new ImageContentCache(10_000, 100, 100);
+        ImageStorageService storage = new ImageStorageService(uploadDir + "/", Runnable::run, Runnable::run, cache,
+                mock(EscenarioRepositoryPort.class), 320, 800, 1920, 0.82f, 40_000_000L, 24);
+        controller = new ImageServingController(storage, cache);
+    }
+
+    @Test
+    void serveImage_enviaContenidoConEtagYCacheInmutable() throws IOException {
+        // When
+        MockHttpServletResponse response = servir(new MockHttpServletRequest("GET", "/uploads/escenarios/" + FILENAME));
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(contenido, response.getContentAsByteArray());
+        assertEquals("image/jpeg", response.getContentType());
+        assertNotNull(response.getHeader("ETag"));
+        assertTrue(response.getHeader("Cache-Control").contains("immutable"));
+    }
+
+    @Test
+    void serveImage_respondeNotModifiedSiElEtagCoincide() throws IOException {
+        // Given
+        String etag = servir(new MockHttpServletRequest("GET", "/uploads/escenarios/" + FILENAME)).getHeader("ETag");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/escenarios/" + FILENAME);
+        request.addHeader("If-None-Match", "W/" + etag);
+
+        // When
+        MockHttpServletResponse response = servir(request);
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void serveImage_enviaSoloElRangoPedido() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/escenarios/" + FILENAME);
+        request.addHeader("Range", "bytes=100-199");
+
+        // When
+        MockHttpServletResponse response = servir(request);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 100-199/1000", response.getHeader("Content-Range"));
+        assertEquals(100, response.getContentAsByteArray().length);
+        assertEquals((byte) 100, response.getContentAsByteArray()[0]);
+    }
+
+    @Test
+    void serveImage_usaSendfileCuandoTomcatLoSoporta() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/escenarios/" + FILENAME);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=-10");
+
+        // When
+        MockHttpServletResponse response = servir(request);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(990L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(1000L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    @Test
+    void serveImage_rangoFueraDelArchivoNoEsSatisfacible() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/escenarios/" + FILENAME);
+        request.addHeader("Range", "bytes=5000-");
+
+        // When
+        MockHttpServletResponse response = servir(request);
+
+        // Then
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */1000", response.getHeader("Content-Range"));
+    }
+
+    private MockHttpServletResponse servir(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serveImage(null, FILENAME, "full", request, response);
+        return response;
+    }
+}
@@ -0,0 +1,271 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.handler;
+
+import edu.usco.campusbookings.infrastructure.adapter.input.config.WebSocketSendProperties.OverflowPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BufferedSessionSenderTest {
+
+    private WebSocketSession session;
+    private List<String> enviados;
+    private List<Runnable> tareas;
+    private List<Runnable> ventanas;
+    private TaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("s1");
+        when(session.isOpen()).thenReturn(true);
+        enviados = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(inv -> enviados.add(inv.getArgument(0) instanceof TextMessage text ? text.getPayload() : "ping"))
+                .when(session).sendMessage(any());
+        tareas = new ArrayList<>();
+        ventanas = new ArrayList<>();
+        scheduler = mock(TaskScheduler.class);
+        when(scheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(inv -> {
+            ventanas.add(inv.getArgument(0));
+            return null;
+        });
+    }
+
+    @Test
+    void send_desbordeDropOldest_descartaLosMasAntiguos() {
+        // Given: pool detenido y cupo de 3 mensajes
+        BufferedSessionSender sender = sender(tareas::add, 5000, 3, OverflowPolicy.DROP_OLDEST);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            assertTrue(sender.send(new TextMessage("m" + i)));
+        }
+        ejecutarTareas();
+
+        // Then
+        assertEquals(2, sender.getDroppedCount());
+        assertEquals(List.of("m3", "m4", "m5"), enviados);
+        assertEquals(0, sender.getQueueDepth());
+    }
+
+    @Test
+    void send_desbordeClose_cierraLaSesionLenta() throws Exception {
+        // Given
+        BufferedSessionSender sender = sender(tareas::add, 5000, 3, OverflowPolicy.CLOSE);
+
+        // When
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(sender.send(new TextMessage("m" + i)));
+        }
+        boolean aceptado = sender.send(new TextMessage("m4"));
+        ejecutarTareas();
+
+        // Then
+        assertFalse(aceptado);
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertTrue(enviados.isEmpty());
+        assertEquals(4, sender.getDroppedCount());
+    }
+
+    @Test
+    void send_poolSaturado_cierraLaSesionSinEnviarEnElHiloLlamador() throws Exception {
+        // Given: el pool rechaza todas las tareas
+        BufferedSessionSender sender = sender(tarea -> {
+            throw new RejectedExecutionException("saturado");
+        }, 5000, 10, OverflowPolicy.DROP_OLDEST);
+
+        // When
+        boolean aceptado = sender.send(new TextMessage("m1"));
+
+        // Then
+        assertFalse(aceptado);
+        verify(session, never()).sendMessage(any());
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertFalse(sender.send(new TextMessage("m2")));
+    }
+
+    @Test
+    void checkSendTimeout_envioBloqueado_cierraLaSesionSinEsperarOtroSend() throws Exception {
+        // Given: el cliente no consume y el envío queda bloqueado
+        CountDownLatch liberar = new CountDownLatch(1);
+        doAnswer(inv -> liberar.await(5, TimeUnit.SECONDS)).when(session).sendMessage(any());
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            BufferedSessionSender sender = sender(pool, 50, 10, OverflowPolicy.DROP_OLDEST);
+            sender.send(new TextMessage("m1"));
+            assertFalse(sender.checkSendTimeout());
+
+            // When: se supera el límite de envío
+            long limite = System.currentTimeMillis() + 2000;
+            while (sender.getTimeSinceSendStarted() <= 50 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+
+            // Then
+            assertTrue(sender.checkSendTimeout());
+            verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+            assertFalse(sender.checkSendTimeout());
+        } finally {
+            liberar.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void send_variosHilosDelPool_conservaElOrden() throws Exception {
+        // Given
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            BufferedSessionSender sender = sender(pool, 5000, 1000, OverflowPolicy.DROP_OLDEST);
+
+            // When
+            for (int i = 0; i < 500; i++) {
+                sender.send(new TextMessage(String.valueOf(i)));
+            }
+            long limite = System.currentTimeMillis() + 5000;
+            while (sender.getSentCount() < 500 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+
+            // Then
+            List<String> esperado = IntStream.range(0, 500).mapToObj(String::valueOf).toList();
+            assertEquals(esperado, List.copyOf(enviados));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void drain_colaLarga_cedeElHiloTrasUnTurno() {
+        // Given
+        BufferedSessionSender sender = sender(tareas::add, 5000, 1000, OverflowPolicy.DROP_OLDEST);
+        int total = BufferedSessionSender.MAX_MESSAGES_PER_TURN + 8;
+        for (int i = 0; i < total; i++) {
+            sender.send(new TextMessage("m" + i));
+        }
+        assertEquals(1, tareas.size());
+
+        // When: primer turno de vaciado
+        tareas.remove(0).run();
+
+        // Then: envió un turno y reencoló el resto al final del pool
+        assertEquals(BufferedSessionSender.MAX_MESSAGES_PER_TURN, enviados.size());
+        assertEquals(1, tareas.size());
+        ejecutarTareas();
+        assertEquals(total, enviados.size());
+    }
+
+    @Test
+    void sendCoalesced_rafagaEnLaVentana_saleComoUnArregloJson() {
+        // Given
+        BufferedSessionSender sender = senderAgrupado(10);
+
+        // When
+        sender.sendCoalesced(new TextMessage("{\"id\":1}"));
+        sender.sendCoalesced(new TextMessage("{\"id\":2}"));
+        sender.sendCoalesced(new TextMessage("{\"id\":3}"));
+        assertEquals(1, ventanas.size());
+        ventanas.remove(0).run();
+
+        // Then
+        assertEquals(List.of("[{\"id\":1},{\"id\":2},{\"id\":3}]"), enviados);
+        assertEquals(3L, sender.getStats().get("coalesced"));
+    }
+
+    @Test
+    void sendCoalesced_unSoloMensaje_saleSinEnvolver() {
+        // Given
+        BufferedSessionSender sender = senderAgrupado(10);
+
+        // When
+        sender.sendCoalesced(new TextMessage("{\"id\":1}"));
+        ventanas.remove(0).run();
+
+        // Then
+        assertEquals(List.of("{\"id\":1}"), enviados);
+    }
+
+    @Test
+    void sendCoalesced_loteLleno_saleSinEsperarLaVentana() {
+        // Given
+        BufferedSessionSender sender = senderAgrupado(2);
+
+        // When
+        sender.sendCoalesced(new TextMessage("a"));
+        sender.sendCoalesced(new TextMessage("b"));
+        sender.sendCoalesced(new TextMessage("c"));
+
+        // Then: el lote lleno ya salió; "c" espera su propia ventana
+        assertEquals(List.of("[a,b]"), enviados);
+        ventanas.forEach(Runnable::run);
+        assertEquals(List.of("[a,b]", "c"), enviados);
+    }
+
+    @Test
+    void send_conLotePendiente_noAdelantaAlLote() {
+        // Given: dos notificaciones esperando la ventana
+        BufferedSessionSender sender = senderAgrupado(10);
+        sender.sendCoalesced(new TextMessage("a"));
+        sender.sendCoalesced(new TextMessage("b"));
+
+        // When: un mensaje de control se envía antes de que venza la ventana
+        sender.send(new TextMessage("control"));
+        sender.send(new PingMessage(ByteBuffer.allocate(0)));
+        ventanas.forEach(Runnable::run);
+
+        // Then
+        assertEquals(List.of("[a,b]", "control", "ping"), enviados);
+    }
+
+    @Test
+    void sendCoalesced_ventanaDesactivada_enviaCadaMensajeSinArreglo() {
+        // Given: configuración por defecto
+        BufferedSessionSender sender = new BufferedSessionSender(session, Runnable::run, 5000, 1024 * 1024,
+                100, OverflowPolicy.DROP_OLDEST, scheduler, 0, 50);
+
+        // When
+        sender.sendCoalesced(new TextMessage("a"));
+        sender.sendCoalesced(new TextMessage("b"));
+
+        // Then
+        assertEquals(List.of("a", "b"), enviados);
+        assertTrue(ventanas.isEmpty());
+    }
+
+    private BufferedSessionSender senderAgrupado(int maxBatchSize) {
+        return new BufferedSessionSender(session, Runnable::run, 5000, 1024 * 1024,
+                100, OverflowPolicy.DROP_OLDEST, scheduler, 50, maxBatchSize);
+    }
+
+    private BufferedSessionSender sender(Executor executor, long sendTimeLimitMs,
+                                         int maxQueuedMessages, OverflowPolicy policy) {
+        return new BufferedSessionSender(session, executor, sendTimeLimitMs, 1024 * 1024,
+                maxQueuedMessages, policy, null, 0, 1);
+    }
+
+    private void ejecutarTareas() {
+        while (!tareas.isEmpty()) {
+            tareas.remove(0).run();
+        }
+    }
+}
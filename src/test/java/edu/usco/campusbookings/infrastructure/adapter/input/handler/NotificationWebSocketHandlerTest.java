@@ -0,0 +1,131 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.usco.campusbookings.application.port.input.NotificacionInboxUseCase;
+import edu.usco.campusbookings.infrastructure.adapter.input.config.JwtHandshakeInterceptor;
+import edu.usco.campusbookings.infrastructure.adapter.input.config.WebSocketSendProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationWebSocketHandlerTest {
+
+    private NotificacionInboxUseCase inbox;
+    private NotificationWebSocketHandler handler;
+    private List<String> enviados;
+
+    @BeforeEach
+    void setUp() {
+        inbox = mock(NotificacionInboxUseCase.class);
+        when(inbox.obtenerDesde(anyLong(), anyLong(), anyInt())).thenReturn(List.of("{\"seq\":8}"));
+        handler = new NotificationWebSocketHandler(new ObjectMapper(), new WebSocketSendProperties(),
+                Runnable::run, mock(TaskScheduler.class), inbox);
+        enviados = new ArrayList<>();
+    }
+
+    @Test
+    void connect_conUserIdDeOtroUsuario_noReenviaNiRegistra() throws Exception {
+        // Given: sesión autenticada como usuario 1
+        WebSocketSession session = sesionAutenticada("s1", 1L);
+        handler.afterConnectionEstablished(session);
+
+        // When: el cliente pide la bandeja del usuario 2
+        handler.handleMessage(session, new TextMessage("{\"type\":\"CONNECT\",\"userId\":2,\"lastSeq\":0}"));
+
+        // Then
+        verify(inbox, never()).obtenerDesde(anyLong(), anyLong(), anyInt());
+        verify(inbox, never()).contarNoLeidas(anyLong());
+        assertEquals(0, handler.getConnectedUsersCount());
+        assertTrue(enviados.stream().noneMatch(m -> m.contains("NOTIFICATIONS_REPLAY")));
+        assertTrue(enviados.stream().anyMatch(m -> m.contains("\"success\":false")));
+    }
+
+    @Test
+    void connect_sinHandshakeAutenticado_noReenvia() throws Exception {
+        // Given
+        WebSocketSession session = sesion("s1", new HashMap<>());
+        handler.afterConnectionEstablished(session);
+
+        // When
+        handler.handleMessage(session, new TextMessage("{\"type\":\"CONNECT\",\"userId\":1,\"lastSeq\":0}"));
+
+        // Then
+        verify(inbox, never()).obtenerDesde(anyLong(), anyLong(), anyInt());
+        assertEquals(0, handler.getConnectedUsersCount());
+    }
+
+    @Test
+    void connect_delUsuarioAutenticado_reenviaSuBandeja() throws Exception {
+        // Given
+        WebSocketSession session = sesionAutenticada("s1", 1L);
+        handler.afterConnectionEstablished(session);
+
+        // When
+        handler.handleMessage(session, new TextMessage("{\"type\":\"CONNECT\",\"userId\":1,\"lastSeq\":7}"));
+
+        // Then
+        verify(inbox).obtenerDesde(eq(1L), eq(7L), anyInt());
+        assertEquals(1, handler.getConnectedUsersCount());
+        assertTrue(enviados.stream().anyMatch(m -> m.contains("NOTIFICATIONS_REPLAY") && m.contains("{\"seq\":8}")));
+    }
+
+    @Test
+    void connect_isAdminDelCliente_noSuscribeAlGrupoAdmin() throws Exception {
+        // Given: token de usuario normal
+        WebSocketSession session = sesionAutenticada("s1", 1L);
+        handler.afterConnectionEstablished(session);
+
+        // When: el cliente se declara administrador y pide grupos adicionales
+        handler.handleMessage(session, new TextMessage(
+                "{\"type\":\"CONNECT\",\"userId\":1,\"isAdmin\":true,\"role\":\"ADMIN\",\"groups\":[\"ROLE_COORDINATOR\"]}"));
+
+        // Then: solo el grupo de su rol firmado en el token
+        assertEquals(0, handler.getConnectedAdminsCount());
+        assertEquals(Map.of("ROLE_USER", 1), handler.getGroupSizes());
+    }
+
+    @Test
+    void connect_tokenDeAdministrador_suscribeAlGrupoAdmin() throws Exception {
+        // Given
+        WebSocketSession session = sesionAutenticada("s1", 1L, "ROLE_ADMIN");
+        handler.afterConnectionEstablished(session);
+
+        // When
+        handler.handleMessage(session, new TextMessage("{\"type\":\"CONNECT\",\"userId\":1}"));
+
+        // Then
+        assertEquals(1, handler.getConnectedAdminsCount());
+    }
+
+    private WebSocketSession sesionAutenticada(String id, Long userId) throws Exception {
+        return sesionAutenticada(id, userId, "ROLE_USER");
+    }
+
+    private WebSocketSession sesionAutenticada(String id, Long userId, String authority) throws Exception {
+        Map<String, Object> atributos = new HashMap<>();
+        atributos.put(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE, userId);
+        atributos.put(JwtHandshakeInterceptor.AUTHORITIES_ATTRIBUTE, List.of(authority));
+        return sesion(id, atributos);
+    }
+
+    private WebSocketSession sesion(String id, Map<String, Object> atributos) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(atributos);
+        doAnswer(inv -> enviados.add(((TextMessage) inv.getArgument(0)).getPayload()))
+                .when(session).sendMessage(any());
+        return session;
+    }
+}
@@ -0,0 +1,137 @@
+package edu.usco.campusbookings.infrastructure.adapter.input.handler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WebSocketSessionRegistryTest {
+
+    private final WebSocketSessionRegistry registry = new WebSocketSessionRegistry();
+
+    @Test
+    void bind_indexaUsuarioYGrupos() {
+        // Given
+        abrir("s1");
+
+        // When
+        assertTrue(registry.bind("s1", 1L, Set.of("ROLE_ADMIN", WebSocketSessionRegistry.ADMIN_GROUP)));
+
+        // Then
+        assertEquals(List.of("s1"), ids(registry.getUserEntries(1L)));
+        assertEquals(List.of("s1"), ids(registry.getGroupEntries(WebSocketSessionRegistry.ADMIN_GROUP)));
+        assertEquals(1, registry.getGroupSessionCount("ROLE_ADMIN"));
+    }
+
+    @Test
+    void bind_sesionNoRegistrada_devuelveFalse() {
+        assertFalse(registry.bind("desconocida", 1L, Set.of("ROLE_USER")));
+        assertFalse(registry.isUserConnected(1L));
+    }
+
+    @Test
+    void bind_reasociarSesion_quitaLosIndicesAnteriores() {
+        // Given
+        abrir("s1");
+        registry.bind("s1", 1L, Set.of("ROLE_ADMIN", WebSocketSessionRegistry.ADMIN_GROUP));
+
+        // When
+        registry.bind("s1", 2L, Set.of("ROLE_USER"));
+
+        // Then
+        assertFalse(registry.isUserConnected(1L));
+        assertEquals(List.of("s1"), ids(registry.getUserEntries(2L)));
+        assertEquals(Map.of("ROLE_USER", 1), registry.getGroupSizes());
+        assertEquals(1, registry.getUserCount());
+    }
+
+    @Test
+    void unbind_quitaLosIndicesPeroConservaLaSesion() {
+        // Given
+        abrir("s1");
+        registry.bind("s1", 1L, Set.of("ROLE_USER"));
+
+        // When
+        registry.unbind("s1");
+
+        // Then
+        assertFalse(registry.isUserConnected(1L));
+        assertTrue(registry.getGroupSizes().isEmpty());
+        assertNotNull(registry.get("s1"));
+        assertNull(registry.get("s1").getUserId());
+        assertEquals(1, registry.getSessionCount());
+    }
+
+    @Test
+    void remove_variosDispositivos_conservaLosDemas() {
+        // Given
+        abrir("s1");
+        abrir("s2");
+        registry.bind("s1", 1L, Set.of("ROLE_USER"));
+        registry.bind("s2", 1L, Set.of("ROLE_USER"));
+
+        // When
+        registry.remove("s1");
+
+        // Then
+        assertEquals(List.of("s2"), ids(registry.getUserEntries(1L)));
+        assertEquals(1, registry.getGroupSessionCount("ROLE_USER"));
+    }
+
+    @Test
+    void bindYCierreConcurrentes_noPierdenLaSesionNueva() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 2000; i++) {
+                // Given: la única sesión del usuario se cierra mientras abre otra pestaña
+                String vieja = "vieja-" + i;
+                String nueva = "nueva-" + i;
+                abrir(vieja);
+                registry.bind(vieja, 1L, Set.of("ROLE_USER"));
+                abrir(nueva);
+
+                // When
+                CountDownLatch salida = new CountDownLatch(1);
+                Future<?> cierre = pool.submit(() -> {
+                    salida.await();
+                    return registry.remove(vieja);
+                });
+                Future<?> conexion = pool.submit(() -> {
+                    salida.await();
+                    return registry.bind(nueva, 1L, Set.of("ROLE_USER"));
+                });
+                salida.countDown();
+                cierre.get();
+                conexion.get();
+
+                // Then
+                assertEquals(List.of(nueva), ids(registry.getUserEntries(1L)), "iteración " + i);
+                assertEquals(1, registry.getGroupSessionCount("ROLE_USER"), "iteración " + i);
+                registry.remove(nueva);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertFalse(registry.isUserConnected(1L));
+        assertEquals(0, registry.getSessionCount());
+    }
+
+    private void abrir(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        registry.open(session, null);
+    }
+
+    private static List<String> ids(List<WebSocketSessionRegistry.Entry> entries) {
+        return entries.stream().map(entry -> entry.getSession().getId()).sorted().toList();
+    }
+}
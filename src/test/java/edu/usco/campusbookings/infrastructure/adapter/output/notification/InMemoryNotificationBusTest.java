@@ -0,0 +1,71 @@
+package edu.usco.campusbookings.infrastructure.adapter.output.notification;
+
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryNotificationBusTest {
+
+    private InMemoryNotificationBus bus;
+    private List<NotificationEnvelope> entregadas;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InMemoryNotificationBus(Runnable::run);
+        entregadas = new ArrayList<>();
+        bus.subscribe(entregadas::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_sinTransaccion_entregaDeInmediato() {
+        // When
+        bus.publish(NotificationEnvelope.toUser(7L, "{}"));
+
+        // Then
+        assertEquals(1, entregadas.size());
+    }
+
+    @Test
+    void publish_dentroDeTransaccion_esperaAlCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        bus.publish(NotificationEnvelope.toUser(7L, "{}"));
+
+        // Then
+        assertTrue(entregadas.isEmpty());
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertEquals(1, entregadas.size());
+    }
+
+    @Test
+    void publish_transaccionRevertida_noEntrega() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        bus.publish(NotificationEnvelope.toUser(7L, "{}"));
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertTrue(entregadas.isEmpty());
+    }
+}
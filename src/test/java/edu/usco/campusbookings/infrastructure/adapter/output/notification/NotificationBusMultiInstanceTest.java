@@ -0,0 +1,230 @@
+package edu.usco.campusbookings.infrastructure.adapter.output.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+import edu.usco.campusbookings.application.port.input.NotificacionInboxUseCase;
+import edu.usco.campusbookings.application.service.NotificationService;
+import edu.usco.campusbookings.infrastructure.adapter.input.config.JwtHandshakeInterceptor;
+import edu.usco.campusbookings.infrastructure.adapter.input.config.WebSocketSendProperties;
+import edu.usco.campusbookings.infrastructure.adapter.input.handler.NotificationWebSocketHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Simula dos nodos de la aplicación en una sola JVM compartiendo el bus en memoria.
+ * Cada nodo tiene su propio NotificationWebSocketHandler con sus propias sesiones.
+ */
+class NotificationBusMultiInstanceTest {
+
+    private ObjectMapper objectMapper;
+    private InMemoryNotificationBus bus;
+    private NotificationWebSocketHandler nodeA;
+    private NotificationWebSocketHandler nodeB;
+    private NotificationService notificationServiceOnB;
+    private NotificacionInboxUseCase inboxUseCase;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        bus = new InMemoryNotificationBus(Runnable::run);
+        inboxUseCase = mock(NotificacionInboxUseCase.class);
+
+        // La bandeja asigna secuencias crecientes y devuelve el JSON que recibe
+        AtomicLong secuencias = new AtomicLong();
+        when(inboxUseCase.registrar(anyLong(), anyString(), any(LongFunction.class)))
+                .thenAnswer(invocation -> invocation.<LongFunction<String>>getArgument(2)
+                        .apply(secuencias.incrementAndGet()));
+
+        nodeA = newNode();
+        nodeB = newNode();
+        bus.subscribe(nodeA::deliver);
+        bus.subscribe(nodeB::deliver);
+
+        notificationServiceOnB = new NotificationService(bus, objectMapper, inboxUseCase, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void notificacionEnNodoB_llegaAUsuarioConectadoEnNodoA() throws Exception {
+        // Given: el usuario 7 está conectado solo al nodo A
+        WebSocketSession sessionA = connect(nodeA, "a-1", 7L, false);
+
+        // When: el nodo B genera una notificación para el usuario 7
+        notificationServiceOnB.notificarCambioRolUsuario(7L, "user@usco.edu.co", "USER", "COORDINATOR");
+
+        // Then
+        List<String> received = notificationsSentTo(sessionA);
+        assertEquals(1, received.size());
+        assertTrue(received.get(0).contains("USER_ROLE_UPDATED"));
+    }
+
+    @Test
+    void cadaNodoEntregaSoloASusPropiasSesiones() throws Exception {
+        // Given: usuario 7 en el nodo A, usuario 8 en el nodo B
+        WebSocketSession session7 = connect(nodeA, "a-1", 7L, false);
+        WebSocketSession session8 = connect(nodeB, "b-1", 8L, false);
+
+        // When
+        notificationServiceOnB.notificarCambioRolUsuario(7L, "user@usco.edu.co", "USER", "ADMIN");
+
+        // Then
+        assertEquals(1, notificationsSentTo(session7).size());
+        assertTrue(notificationsSentTo(session8).isEmpty());
+    }
+
+    @Test
+    void usuarioConDispositivosEnVariosNodos_recibeEnTodos() throws Exception {
+        // Given: el mismo usuario con una pestaña en cada nodo
+        WebSocketSession tabOnA = connect(nodeA, "a-1", 7L, false);
+        WebSocketSession tabOnB = connect(nodeB, "b-1", 7L, false);
+
+        // When
+        notificationServiceOnB.notificarCambioRolUsuario(7L, "user@usco.edu.co", "USER", "ADMIN");
+
+        // Then
+        assertEquals(1, notificationsSentTo(tabOnA).size());
+        assertEquals(1, notificationsSentTo(tabOnB).size());
+    }
+
+    @Test
+    void difusionAdmin_llegaAAdministradoresDeTodosLosNodos() throws Exception {
+        // Given
+        WebSocketSession adminOnA = connect(nodeA, "a-1", 1L, true);
+        WebSocketSession adminOnB = connect(nodeB, "b-1", 2L, true);
+        WebSocketSession userOnA = connect(nodeA, "a-2", 3L, false);
+
+        // When
+        bus.publish(NotificationEnvelope.toGroup(NotificationEnvelope.ADMIN_GROUP, "{\"tipo\":\"NUEVA_RESERVA_ADMIN\"}"));
+
+        // Then
+        assertEquals(List.of("{\"tipo\":\"NUEVA_RESERVA_ADMIN\"}"), notificationsSentTo(adminOnA));
+        assertEquals(List.of("{\"tipo\":\"NUEVA_RESERVA_ADMIN\"}"), notificationsSentTo(adminOnB));
+        assertTrue(notificationsSentTo(userOnA).isEmpty());
+    }
+
+    @Test
+    void reconexionConCursor_reenviaLasNotificacionesPendientesEnUnSoloFrame() throws Exception {
+        // Given: la bandeja del usuario 7 tiene dos notificaciones posteriores a la secuencia 3
+        when(inboxUseCase.obtenerDesde(eq(7L), eq(3L), anyInt()))
+                .thenReturn(List.of("{\"secuencia\":4}", "{\"secuencia\":5}"));
+        when(inboxUseCase.contarNoLeidas(7L)).thenReturn(2L);
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("a-1");
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>(Map.of(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE, 7L)));
+
+        // When: el cliente reconecta indicando la última secuencia que vio
+        nodeA.afterConnectionEstablished(session);
+        nodeA.handleMessage(session, new TextMessage("{\"type\":\"CONNECT\",\"userId\":7,\"lastSeq\":3}"));
+
+        // Then
+        assertEquals(List.of("{\"type\":\"NOTIFICATIONS_REPLAY\",\"unread\":2,\"truncated\":false,"
+                        + "\"notifications\":[{\"secuencia\":4},{\"secuencia\":5}]}"),
+                notificationsSentTo(session));
+    }
+
+    @Test
+    void notificacionPrivada_incluyeSecuenciaDeLaBandeja() throws Exception {
+        // Given
+        WebSocketSession sessionA = connect(nodeA, "a-1", 7L, false);
+
+        // When
+        notificationServiceOnB.notificarCambioRolUsuario(7L, "user@usco.edu.co", "USER", "ADMIN");
+        notificationServiceOnB.notificarCambioRolUsuario(7L, "user@usco.edu.co", "ADMIN", "USER");
+
+        // Then
+        List<String> received = notificationsSentTo(sessionA);
+        assertTrue(received.get(0).contains("\"secuencia\":1"));
+        assertTrue(received.get(1).contains("\"secuencia\":2"));
+    }
+
+    @Test
+    void notificacionPrivadaDentroDeTransaccion_seRegistraYEntregaSoloTrasElCommit() throws Exception {
+        // Given: la notificación se genera dentro de la transacción de la reserva
+        WebSocketSession sessionA = connect(nodeA, "a-1", 7L, false);
+        List<Runnable> ejecutor = new ArrayList<>();
+        NotificationService service = new NotificationService(bus, objectMapper, inboxUseCase, ejecutor::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        service.notificarCambioRolUsuario(7L, "user@usco.edu.co", "USER", "ADMIN");
+
+        // Then: la bandeja no participa de esa transacción
+        assertTrue(ejecutor.isEmpty());
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        verify(inboxUseCase, never()).registrar(anyLong(), anyString(), any());
+        ejecutor.forEach(Runnable::run);
+        verify(inboxUseCase).registrar(eq(7L), anyString(), any());
+        assertEquals(1, notificationsSentTo(sessionA).size());
+    }
+
+    @Test
+    void falloDeLaBandeja_noSePropagaAlLlamador() {
+        // Given
+        when(inboxUseCase.registrar(anyLong(), anyString(), any())).thenThrow(new IllegalStateException("bloqueo"));
+
+        // When / Then
+        assertDoesNotThrow(() -> notificationServiceOnB.notificarCambioRolUsuario(7L, "user@usco.edu.co", "USER", "ADMIN"));
+    }
+
+    private NotificationWebSocketHandler newNode() {
+        WebSocketSendProperties properties = new WebSocketSendProperties();
+        // Sin ventana de agrupación y con envío en el hilo llamador para que la prueba sea determinista
+        properties.setCoalesceWindowMs(0);
+        return new NotificationWebSocketHandler(objectMapper, properties, Runnable::run, mock(TaskScheduler.class), inboxUseCase);
+    }
+
+    private WebSocketSession connect(NotificationWebSocketHandler node, String sessionId, Long userId, boolean isAdmin)
+            throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        // Identidad que deja JwtHandshakeInterceptor tras validar el token
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE, userId);
+        attributes.put(JwtHandshakeInterceptor.AUTHORITIES_ATTRIBUTE, List.of(isAdmin ? "ROLE_ADMIN" : "ROLE_USER"));
+        when(session.getAttributes()).thenReturn(attributes);
+
+        node.afterConnectionEstablished(session);
+        node.handleMessage(session, new TextMessage(
+                String.format("{\"type\":\"CONNECT\",\"userId\":%d,\"isAdmin\":%b}", userId, isAdmin)));
+        return session;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> notificationsSentTo(WebSocketSession session) throws Exception {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass((Class) WebSocketMessage.class);
+        verify(session, atLeast(0)).sendMessage(captor.capture());
+        return captor.getAllValues().stream()
+                .map(message -> String.valueOf(message.getPayload()))
+                .filter(payload -> !payload.contains("CONNECTION_RESPONSE"))
+                .toList();
+    }
+}
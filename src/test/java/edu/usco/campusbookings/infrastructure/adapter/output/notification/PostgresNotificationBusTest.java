@@ -0,0 +1,71 @@
+package edu.usco.campusbookings.infrastructure.adapter.output.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.usco.campusbookings.application.dto.notification.NotificationEnvelope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PostgresNotificationBusTest {
+
+    // Supera el límite de payload de NOTIFY: se entrega solo a las sesiones locales
+    private static final String PAYLOAD_GRANDE = "{\"texto\":\"" + "x".repeat(8_000) + "\"}";
+
+    private JdbcTemplate jdbcTemplate;
+    private PostgresNotificationBus bus;
+    private List<NotificationEnvelope> entregadas;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        bus = new PostgresNotificationBus(jdbcTemplate, new ObjectMapper());
+        entregadas = new ArrayList<>();
+        bus.subscribe(entregadas::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_payloadExcedido_entregaLocalSoloTrasElCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        bus.publish(NotificationEnvelope.toUser(7L, PAYLOAD_GRANDE));
+
+        // Then
+        assertTrue(entregadas.isEmpty());
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertEquals(1, entregadas.size());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void publish_payloadExcedidoYTransaccionRevertida_noEntrega() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        bus.publish(NotificationEnvelope.toUser(7L, PAYLOAD_GRANDE));
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertTrue(entregadas.isEmpty());
+    }
+}
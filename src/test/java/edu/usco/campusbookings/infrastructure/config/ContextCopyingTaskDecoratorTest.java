@@ -0,0 +1,72 @@
+package edu.usco.campusbookings.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ContextCopyingTaskDecorator
+ */
+class ContextCopyingTaskDecoratorTest {
+
+    private final ContextCopyingTaskDecorator decorator = new ContextCopyingTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    void decorate_propagaAutenticacionYMdcAlHiloDelPool() throws Exception {
+        // Given
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                "admin@usco.edu.co", null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put("requestId", "abc-123");
+        AtomicReference<Authentication> vista = new AtomicReference<>();
+        AtomicReference<String> requestId = new AtomicReference<>();
+        Runnable tarea = decorator.decorate(() -> {
+            vista.set(SecurityContextHolder.getContext().getAuthentication());
+            requestId.set(MDC.get("requestId"));
+        });
+
+        // When
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            pool.submit(tarea).get();
+
+            // Then
+            assertSame(authentication, vista.get());
+            assertEquals("abc-123", requestId.get());
+            assertNull(pool.submit(() -> SecurityContextHolder.getContext().getAuthentication()).get());
+            assertNull(pool.submit(() -> MDC.get("requestId")).get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void decorate_restauraElContextoDelHiloQueEjecuta() {
+        // Given: la tarea se encola sin usuario y corre en un hilo autenticado (CallerRuns)
+        Runnable tarea = decorator.decorate(() -> assertNull(SecurityContextHolder.getContext().getAuthentication()));
+        Authentication propia = new UsernamePasswordAuthenticationToken("user@usco.edu.co", null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(propia);
+
+        // When
+        tarea.run();
+
+        // Then
+        assertSame(propia, SecurityContextHolder.getContext().getAuthentication());
+    }
+}
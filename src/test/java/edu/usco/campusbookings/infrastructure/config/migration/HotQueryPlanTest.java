@@ -0,0 +1,147 @@
+package edu.usco.campusbookings.infrastructure.config.migration;
+
+import edu.usco.campusbookings.infrastructure.config.AuditorAwareImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Planes de las consultas frecuentes sobre el esquema de Hibernate más {@link HotQueryIndexesMigration}.
+ * <p>
+ * Por defecto corre en H2 en modo PostgreSQL (perfil dev). Con {@code -Dplan.test.url=jdbc:postgresql://...}
+ * (y {@code plan.test.username} / {@code plan.test.password}) corre contra PostgreSQL con
+ * {@code enable_seqscan = off}: si aun así el plan usa "Seq Scan", ningún índice sirve a la consulta.
+ * Usar una base desechable: el perfil dev genera el esquema con {@code create-drop}.
+ */
+@DataJpaTest
+@ActiveProfiles("dev")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SchemaMigrationRunner.class, HotQueryIndexesMigration.class, HotQueryPlanTest.Auditoria.class})
+class HotQueryPlanTest {
+
+    /**
+     * {@code @EnableJpaAuditing} de la aplicación busca el bean por nombre
+     */
+    @TestConfiguration
+    static class Auditoria {
+        @Bean
+        AuditorAwareImpl auditorAwareImpl() {
+            return new AuditorAwareImpl();
+        }
+    }
+
+    private static final String POSTGRES_URL = System.getProperty("plan.test.url");
+
+    @DynamicPropertySource
+    static void baseDeDatos(DynamicPropertyRegistry registry) {
+        if (POSTGRES_URL != null) {
+            registry.add("spring.datasource.url", () -> POSTGRES_URL);
+            registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+            registry.add("spring.datasource.username", () -> System.getProperty("plan.test.username", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("plan.test.password", ""));
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SchemaMigrationRunner migrationRunner;
+
+    @BeforeEach
+    void setUp() {
+        migrationRunner.migrate();
+        if (POSTGRES_URL != null) {
+            jdbcTemplate.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @Test
+    void reservasSolapadasPorEscenario_usanIndice() {
+        assertSinRecorridoSecuencial("reserva", """
+                SELECT r.id FROM reserva r JOIN estado_reserva e ON e.id = r.estado_id
+                WHERE r.escenario_id = 1 AND e.nombre IN ('APROBADA', 'PENDIENTE')
+                AND r.fecha_inicio < TIMESTAMP '2030-01-01 10:00:00' AND r.fecha_fin > TIMESTAMP '2030-01-01 08:00:00'
+                """);
+    }
+
+    @Test
+    void historialDeReservasPorUsuario_usaIndice() {
+        assertSinRecorridoSecuencial("reserva",
+                "SELECT r.id FROM reserva r WHERE r.usuario_id = 1 ORDER BY r.fecha_inicio DESC");
+    }
+
+    @Test
+    void reservasPorEstado_usanIndice() {
+        assertSinRecorridoSecuencial("reserva", "SELECT r.id FROM reserva r WHERE r.estado_id = 1");
+    }
+
+    @Test
+    void alertasParaProcesamiento_usanIndice() {
+        assertSinRecorridoSecuencial("alertas_reservas", """
+                SELECT a.id FROM alertas_reservas a WHERE a.estado IN ('PENDIENTE', 'PROGRAMADO')
+                AND a.fecha_envio <= TIMESTAMP '2030-01-01 08:00:00' ORDER BY a.fecha_envio
+                """);
+    }
+
+    @Test
+    void alertasActivasPorReserva_usanIndice() {
+        assertSinRecorridoSecuencial("alertas_reservas",
+                "SELECT a.id FROM alertas_reservas a WHERE a.reserva_id = 1 AND a.estado <> 'CANCELADO'");
+    }
+
+    @Test
+    void calificacionPromedioPorEscenario_usaIndice() {
+        assertSinRecorridoSecuencial("feedback",
+                "SELECT AVG(f.calificacion) FROM feedback f WHERE f.escenario_id = 1 AND f.activo = true");
+    }
+
+    @Test
+    void feedbackActivoPorUsuario_usaIndice() {
+        assertSinRecorridoSecuencial("feedback", """
+                SELECT f.id FROM feedback f WHERE f.usuario_id = 1 AND f.activo = true
+                ORDER BY f.created_date DESC
+                """);
+    }
+
+    @Test
+    void usuariosPorRol_usanIndice() {
+        assertSinRecorridoSecuencial("usuarios", "SELECT u.id FROM usuarios u WHERE u.rol_id = 1");
+    }
+
+    @Test
+    void busquedaDeUsuarios_usaIndiceDeTrigramas() {
+        // H2 no tiene índices de trigramas: LIKE '%término%' solo se puede verificar en PostgreSQL
+        assumeTrue(POSTGRES_URL != null, "Requiere -Dplan.test.url de PostgreSQL");
+        assertSinRecorridoSecuencial("usuarios", """
+                SELECT u.id FROM usuarios u WHERE lower(u.nombre) LIKE lower('%' || 'ana' || '%')
+                OR lower(u.apellido) LIKE lower('%' || 'ana' || '%')
+                OR lower(u.email) LIKE lower('%' || 'ana' || '%')
+                """);
+    }
+
+    private void assertSinRecorridoSecuencial(String tabla, String sql) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        String normalizado = plan.toLowerCase(Locale.ROOT);
+        List<String> recorridos = POSTGRES_URL != null
+                ? List.of("seq scan on " + tabla + " ")
+                : List.of(tabla + ".tablescan");
+        recorridos.forEach(recorrido -> assertFalse(normalizado.contains(recorrido),
+                () -> "Recorrido secuencial de " + tabla + ":\n" + plan));
+    }
+}
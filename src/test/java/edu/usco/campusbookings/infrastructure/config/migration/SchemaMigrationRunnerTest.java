@@ -0,0 +1,86 @@
+package edu.usco.campusbookings.infrastructure.config.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para SchemaMigrationRunner sobre H2 en memoria
+ */
+class SchemaMigrationRunnerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private final List<Integer> ejecutadas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @Test
+    void migrate_aplicaEnOrdenYRegistraCadaVersionUnaSolaVez() {
+        // Given
+        List<SchemaMigration> migraciones = List.of(
+                migracion(2, "INSERT INTO prueba (id) VALUES (1)"),
+                migracion(1, "CREATE TABLE prueba (id INTEGER PRIMARY KEY)"));
+
+        // When
+        runner(migraciones).migrate();
+        runner(migraciones).migrate();
+
+        // Then
+        assertEquals(List.of(1, 2), ejecutadas);
+        assertEquals(List.of(1, 2), jdbcTemplate.queryForList(
+                "SELECT version FROM schema_migrations ORDER BY version", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM prueba", Integer.class));
+    }
+
+    @Test
+    void migrate_siFallaRevierteYNoRegistraLaVersion() {
+        // Given
+        List<SchemaMigration> migraciones = List.of(
+                migracion(1, "CREATE TABLE prueba (id INTEGER PRIMARY KEY)"),
+                migracion(2, "INSERT INTO tabla_inexistente (id) VALUES (1)"));
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> runner(migraciones).migrate());
+        assertEquals(List.of(1), jdbcTemplate.queryForList(
+                "SELECT version FROM schema_migrations ORDER BY version", Integer.class));
+    }
+
+    private SchemaMigrationRunner runner(List<SchemaMigration> migraciones) {
+        return new SchemaMigrationRunner(jdbcTemplate, transactionManager, migraciones, null);
+    }
+
+    private SchemaMigration migracion(int version, String sql) {
+        return new SchemaMigration() {
+            @Override
+            public int version() {
+                return version;
+            }
+
+            @Override
+            public String description() {
+                return "Prueba " + version;
+            }
+
+            @Override
+            public void migrate(JdbcTemplate jdbc, Database database) {
+                ejecutadas.add(version);
+                jdbc.execute(sql);
+            }
+        };
+    }
+}
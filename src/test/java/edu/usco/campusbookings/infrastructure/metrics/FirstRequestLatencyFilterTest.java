@@ -0,0 +1,34 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para FirstRequestLatencyFilter
+ */
+class FirstRequestLatencyFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FirstRequestLatencyFilter filter = new FirstRequestLatencyFilter(registry);
+
+    @Test
+    void doFilter_registraSoloLaPrimeraPeticionALaApi() throws Exception {
+        // Given
+        MockHttpServletRequest health = new MockHttpServletRequest("GET", "/actuator/health");
+        MockHttpServletRequest primera = new MockHttpServletRequest("GET", "/api/escenarios");
+        MockHttpServletRequest segunda = new MockHttpServletRequest("GET", "/api/reservas");
+
+        // When
+        filter.doFilter(health, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(primera, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(segunda, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertEquals(1, registry.get("campusbookings.startup.first.request").timer().count());
+    }
+}
@@ -0,0 +1,71 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import edu.usco.campusbookings.application.port.output.PermissionCachePort;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private PermissionCachePort port;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new PermissionCacheStub());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new PortMetricsAspect(registry));
+        port = factory.getProxy();
+    }
+
+    @Test
+    void medir_registraLlamadasPorPuertoYMetodo() {
+        // When
+        port.invalidateRoles();
+        port.invalidateRoles();
+
+        // Then
+        Timer timer = registry.get(PortMetricsAspect.TIMER)
+                .tag("port", "PermissionCachePort")
+                .tag("method", "invalidateRoles")
+                .tag("layer", "output")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void medir_cuentaExcepcionesPorTipo() {
+        // When
+        assertThrows(IllegalArgumentException.class, () -> port.invalidateUser(null));
+
+        // Then
+        assertEquals(1, registry.get(PortMetricsAspect.TIMER)
+                .tag("method", "invalidateUser")
+                .tag("outcome", "error")
+                .timer().count());
+        assertEquals(1.0, registry.get(PortMetricsAspect.ERRORS)
+                .tag("method", "invalidateUser")
+                .tag("exception", "IllegalArgumentException")
+                .counter().count());
+    }
+
+    static class PermissionCacheStub implements PermissionCachePort {
+
+        @Override
+        public void invalidateRoles() {
+        }
+
+        @Override
+        public void invalidateUser(String email) {
+            if (email == null) {
+                throw new IllegalArgumentException("email requerido");
+            }
+        }
+    }
+}
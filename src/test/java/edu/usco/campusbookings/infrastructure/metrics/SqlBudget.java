@@ -0,0 +1,58 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * Aserciones de presupuesto SQL para pruebas de integración: falla la build cuando un caso de uso
+ * ejecuta más sentencias de las previstas o repite la misma sentencia (N+1).
+ * <pre>
+ * Reserva reserva = SqlBudget.assertMaxStatements(3, () -> reservaService.findById(id));
+ * </pre>
+ * Cuenta lo que Hibernate prepara en el hilo actual, así que el bloque debe ejecutarse de forma síncrona.
+ */
+public final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    public static <T> T assertMaxStatements(int maxStatements, Supplier<T> block) {
+        SqlRequestStats previous = SqlRequestStats.begin();
+        T result;
+        SqlRequestStats stats;
+        try {
+            result = block.get();
+        } finally {
+            stats = SqlRequestStats.end(previous);
+        }
+        if (stats.getStatements() > maxStatements) {
+            throw new AssertionError("Presupuesto SQL excedido: " + stats.getStatements()
+                    + " sentencias (máximo " + maxStatements + ")" + describe(stats.mostRepeated()));
+        }
+        return result;
+    }
+
+    public static void assertMaxStatements(int maxStatements, Runnable block) {
+        assertMaxStatements(maxStatements, () -> {
+            block.run();
+            return null;
+        });
+    }
+
+    public static void assertNoRepeatedStatements(int threshold, Runnable block) {
+        SqlRequestStats previous = SqlRequestStats.begin();
+        SqlRequestStats stats;
+        try {
+            block.run();
+        } finally {
+            stats = SqlRequestStats.end(previous);
+        }
+        SqlRequestStats.Repeated repeated = stats.mostRepeated();
+        if (repeated != null && repeated.count() >= threshold) {
+            throw new AssertionError("Posible N+1" + describe(repeated));
+        }
+    }
+
+    private static String describe(SqlRequestStats.Repeated repeated) {
+        return repeated == null ? "" : "; sentencia repetida " + repeated.count() + " veces: " + repeated.sql();
+    }
+}
@@ -0,0 +1,76 @@
+package edu.usco.campusbookings.infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlRequestStatsTest {
+
+    private final SqlStatsInterceptor interceptor = new SqlStatsInterceptor();
+
+    @Test
+    void inspect_cuentaSentenciasYEntidadesDelBloque() {
+        // Given
+        SqlRequestStats previous = SqlRequestStats.begin();
+
+        // When
+        interceptor.inspect("select * from reserva where id=?");
+        interceptor.inspect("select * from escenario where id=?");
+        interceptor.onLoad(new Object(), (Object) 1L, new Object[0], new String[0], null);
+        SqlRequestStats stats = SqlRequestStats.end(previous);
+
+        // Then
+        assertEquals(2, stats.getStatements());
+        assertEquals(1, stats.getEntitiesLoaded());
+        assertNull(SqlRequestStats.current());
+    }
+
+    @Test
+    void inspect_sinBloqueActivoNoCuenta() {
+        // When
+        String sql = interceptor.inspect("select 1");
+
+        // Then
+        assertEquals("select 1", sql);
+        assertNull(SqlRequestStats.current());
+    }
+
+    @Test
+    void mostRepeated_detectaSentenciaRepetida() {
+        // Given
+        SqlRequestStats previous = SqlRequestStats.begin();
+
+        // When
+        interceptor.inspect("select * from reserva");
+        for (int i = 0; i < 6; i++) {
+            interceptor.inspect("select * from usuario where id=?");
+        }
+        SqlRequestStats stats = SqlRequestStats.end(previous);
+
+        // Then
+        assertEquals("select * from usuario where id=?", stats.mostRepeated().sql());
+        assertEquals(6, stats.mostRepeated().count());
+    }
+
+    @Test
+    void assertMaxStatements_fallaAlExcederElPresupuesto() {
+        // When
+        AssertionError error = assertThrows(AssertionError.class, () -> SqlBudget.assertMaxStatements(1, () -> {
+            interceptor.inspect("select * from usuario where id=?");
+            interceptor.inspect("select * from usuario where id=?");
+        }));
+
+        // Then
+        assertTrue(error.getMessage().contains("2 sentencias"));
+        assertNull(SqlRequestStats.current());
+    }
+
+    @Test
+    void assertNoRepeatedStatements_aceptaSentenciasDistintas() {
+        // When / Then
+        assertDoesNotThrow(() -> SqlBudget.assertNoRepeatedStatements(2, () -> {
+            interceptor.inspect("select * from reserva");
+            interceptor.inspect("select * from escenario");
+        }));
+    }
+}
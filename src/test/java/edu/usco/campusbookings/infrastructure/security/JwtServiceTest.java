@@ -0,0 +1,85 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("clave-de-prueba-de-64-bytes-para-firmar-tokens-hs512-campus-usco".getBytes(StandardCharsets.UTF_8));
+
+    private JwtService jwtService;
+    private final UserDetails usuario = new User("ana@usco.edu.co", "",
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+    }
+
+    @Test
+    void verify_tokenYaVerificado_devuelveLaEntradaDeCache() {
+        // Given
+        String token = jwtService.generateToken(usuario);
+        VerifiedToken primero = jwtService.verify(token);
+
+        // When
+        VerifiedToken segundo = jwtService.verify(token);
+
+        // Then
+        assertSame(primero, segundo);
+        assertEquals("ana@usco.edu.co", segundo.getSubject());
+    }
+
+    @Test
+    void verify_tokenEnCacheQueExpiro_lanzaExpiredJwtException() throws Exception {
+        // Given: la caché vive 60 s pero el token expira en ~1 s
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 1_000L);
+        String token = jwtService.generateToken(usuario);
+        VerifiedToken cacheado = jwtService.verify(token);
+
+        // When
+        long limite = System.currentTimeMillis() + 3_000;
+        while (!cacheado.isExpired() && System.currentTimeMillis() < limite) {
+            Thread.sleep(50);
+        }
+
+        // Then
+        assertTrue(cacheado.isExpired());
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(token));
+    }
+
+    @Test
+    void verify_tokenAlterado_noCoincideConLaCacheYSeRechaza() {
+        // Given: el token original ya está en caché
+        String token = jwtService.generateToken(usuario);
+        jwtService.verify(token);
+
+        // When: se cambia el sujeto conservando la firma original
+        String[] partes = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(partes[1]), StandardCharsets.UTF_8)
+                .replace("ana@usco.edu.co", "admin@usco.edu.co");
+        String alterado = partes[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + partes[2];
+
+        // Then
+        assertThrows(JwtException.class, () -> jwtService.verify(alterado));
+        assertEquals("ana@usco.edu.co", jwtService.verify(token).getSubject());
+    }
+}
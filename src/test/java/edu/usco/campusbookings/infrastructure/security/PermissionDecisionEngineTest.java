@@ -0,0 +1,150 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import edu.usco.campusbookings.application.port.output.RolRepositoryPort;
+import edu.usco.campusbookings.application.port.output.ScenarioTypePermissionRepositoryPort;
+import edu.usco.campusbookings.application.port.output.UsuarioRepositoryPort;
+import edu.usco.campusbookings.domain.model.Permission;
+import edu.usco.campusbookings.domain.model.Rol;
+import edu.usco.campusbookings.domain.model.ScenarioTypePermission;
+import edu.usco.campusbookings.domain.model.TipoEscenario;
+import edu.usco.campusbookings.domain.model.Usuario;
+import edu.usco.campusbookings.infrastructure.security.annotation.RequiresPermission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PermissionDecisionEngineTest {
+
+    private RolRepositoryPort rolRepository;
+    private UsuarioRepositoryPort usuarioRepository;
+    private ScenarioTypePermissionRepositoryPort tipoRepository;
+    private PermissionDecisionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        rolRepository = mock(RolRepositoryPort.class);
+        usuarioRepository = mock(UsuarioRepositoryPort.class);
+        tipoRepository = mock(ScenarioTypePermissionRepositoryPort.class);
+        when(rolRepository.findAllWithPermissions()).thenReturn(List.of(
+                rol("USER", permiso("RESERVAS", "READ")),
+                rol("COORDINATOR", permiso("ESCENARIOS", "MANAGE"))));
+        engine = new PermissionDecisionEngine(rolRepository, usuarioRepository, tipoRepository,
+                mock(PlatformTransactionManager.class), 300, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void roleAllows_permisoDirectoYManage_seDecidenConLosBits() throws Exception {
+        // Then
+        assertTrue(engine.roleAllows("USER", requisito("leerReservas")));
+        assertFalse(engine.roleAllows("USER", requisito("crearReservas")));
+        assertTrue(engine.roleAllows("COORDINATOR", requisito("borrarEscenarios")));
+        assertFalse(engine.roleAllows("COORDINATOR", requisito("leerReservas")));
+        assertFalse(engine.roleAllows("INEXISTENTE", requisito("leerReservas")));
+        assertFalse(engine.roleAllows(null, requisito("leerReservas")));
+        // Los roles se compilan una sola vez
+        verify(rolRepository, times(1)).findAllWithPermissions();
+    }
+
+    @Test
+    void invalidateRoles_recompilaSoloTrasElCommit() throws Exception {
+        // Given: USER aún no puede crear reservas
+        assertFalse(engine.roleAllows("USER", requisito("crearReservas")));
+        when(rolRepository.findAllWithPermissions()).thenReturn(List.of(
+                rol("USER", permiso("RESERVAS", "READ"), permiso("RESERVAS", "CREATE"))));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        engine.invalidateRoles();
+
+        // Then
+        assertFalse(engine.roleAllows("USER", requisito("crearReservas")));
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertTrue(engine.roleAllows("USER", requisito("crearReservas")));
+    }
+
+    @Test
+    void invalidateUser_recargaPermisosPorTipoSoloTrasElCommit() {
+        // Given
+        when(usuarioRepository.findByEmail("ana@usco.edu.co"))
+                .thenReturn(Optional.of(Usuario.builder().email("ana@usco.edu.co").rol(rol("USER")).build()));
+        when(tipoRepository.findByUsuarioEmail("ana@usco.edu.co")).thenReturn(List.of());
+        assertFalse(engine.grantsFor("ana@usco.edu.co").hasTipoGrant("Auditorio", "RESERVE"));
+        when(tipoRepository.findByUsuarioEmail("ana@usco.edu.co")).thenReturn(List.of(tipoGrant("Auditorio", "RESERVE", true)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        engine.invalidateUser("ana@usco.edu.co");
+
+        // Then
+        assertFalse(engine.grantsFor("ana@usco.edu.co").hasTipoGrant("Auditorio", "RESERVE"));
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertTrue(engine.grantsFor("ana@usco.edu.co").hasTipoGrant("auditorio", "RESERVE"));
+    }
+
+    @Test
+    void grantsFor_permisoPorTipoInactivo_seConservaComoAntes() {
+        // Given: la comprobación anterior (existsBy...) no miraba el campo active
+        when(usuarioRepository.findByEmail("ana@usco.edu.co"))
+                .thenReturn(Optional.of(Usuario.builder().email("ana@usco.edu.co").rol(rol("USER")).build()));
+        when(tipoRepository.findByUsuarioEmail("ana@usco.edu.co")).thenReturn(List.of(tipoGrant("Auditorio", "RESERVE", false)));
+
+        // Then
+        assertTrue(engine.grantsFor("ana@usco.edu.co").hasTipoGrant("Auditorio", "RESERVE"));
+    }
+
+    @Test
+    void grantsFor_usuarioInexistente_noExiste() {
+        when(usuarioRepository.findByEmail("nadie@usco.edu.co")).thenReturn(Optional.empty());
+
+        assertFalse(engine.grantsFor("nadie@usco.edu.co").exists());
+    }
+
+    @RequiresPermission(resource = "RESERVAS", action = "READ")
+    void leerReservas() {
+    }
+
+    @RequiresPermission(resource = "RESERVAS", action = "CREATE")
+    void crearReservas() {
+    }
+
+    @RequiresPermission(resource = "ESCENARIOS", action = "DELETE")
+    void borrarEscenarios() {
+    }
+
+    private static RequiresPermission requisito(String metodo) throws Exception {
+        return PermissionDecisionEngineTest.class.getDeclaredMethod(metodo).getAnnotation(RequiresPermission.class);
+    }
+
+    private static Rol rol(String nombre, Permission... permisos) {
+        return Rol.builder().nombre(nombre).activo(true).permissions(Set.of(permisos)).build();
+    }
+
+    private static Permission permiso(String resource, String action) {
+        return Permission.builder().name(resource + "_" + action).resource(resource).action(action).build();
+    }
+
+    private static ScenarioTypePermission tipoGrant(String tipo, String action, boolean active) {
+        ScenarioTypePermission permiso = new ScenarioTypePermission();
+        permiso.setTipoEscenario(TipoEscenario.builder().nombre(tipo).build());
+        permiso.setAction(action);
+        permiso.setActive(active);
+        return permiso;
+    }
+}
@@ -0,0 +1,154 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import edu.usco.campusbookings.infrastructure.config.RateLimitProperties;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final String PROXY = "10.0.0.5";
+
+    private RateLimitFilter rateLimitFilter;
+    // Equivalente como filtro de la RemoteIpValve que activa server.forward-headers-strategy=native
+    private RemoteIpFilter remoteIpFilter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRequestsPerMinute(2);
+        properties.setIpRequestsPerMinute(3);
+        rateLimitFilter = new RateLimitFilter(properties);
+        remoteIpFilter = new RemoteIpFilter();
+        remoteIpFilter.init(new MockFilterConfig());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void anonimo_agotaElPresupuesto_recibe429ConRetryAfter() throws Exception {
+        // When
+        int primera = peticion("203.0.113.7", null);
+        int segunda = peticion("203.0.113.7", null);
+        MockHttpServletResponse tercera = ejecutar(request("203.0.113.7", null));
+
+        // Then
+        assertEquals(200, primera);
+        assertEquals(200, segunda);
+        assertEquals(429, tercera.getStatus());
+        assertNotNull(tercera.getHeader("Retry-After"));
+    }
+
+    @Test
+    void detrasDelProxy_cadaClienteTieneSuPropioPresupuesto() throws Exception {
+        // Given: el primer cliente agota su presupuesto a través del proxy
+        peticion(PROXY, "203.0.113.7");
+        peticion(PROXY, "203.0.113.7");
+        assertEquals(429, peticion(PROXY, "203.0.113.7"));
+
+        // Then: otro cliente detrás del mismo proxy no queda bloqueado
+        assertEquals(200, peticion(PROXY, "198.51.100.20"));
+    }
+
+    @Test
+    void clienteDirecto_noPuedeEvadirElLimiteRotandoXForwardedFor() throws Exception {
+        // When: la conexión no viene de un proxy de confianza
+        peticion("203.0.113.7", "1.1.1.1");
+        peticion("203.0.113.7", "2.2.2.2");
+
+        // Then: la cabecera se ignora y cuenta la IP real
+        assertEquals(429, peticion("203.0.113.7", "3.3.3.3"));
+    }
+
+    @Test
+    void autenticado_topePorIpDelClienteRealCompartidoEntreCuentas() throws Exception {
+        // Given: tres cuentas desde el mismo cliente agotan el tope por IP (3)
+        for (String usuario : List.of("a@usco.edu.co", "b@usco.edu.co", "c@usco.edu.co")) {
+            autenticar(usuario);
+            assertEquals(200, peticion(PROXY, "203.0.113.7"));
+        }
+
+        // Then: una cuarta cuenta desde ese cliente se limita; otro cliente no
+        autenticar("d@usco.edu.co");
+        assertEquals(429, peticion(PROXY, "203.0.113.7"));
+        assertEquals(200, peticion(PROXY, "198.51.100.20"));
+    }
+
+    @Test
+    void rutasDeAutenticacion_tienenPresupuestoPropioPorIp() throws Exception {
+        // Given: login con presupuesto de 5 por IP, por encima del general (2)
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRequestsPerMinute(2);
+        RateLimitProperties.Route auth = new RateLimitProperties.Route();
+        auth.setPattern("/api/auth/**");
+        auth.setRequestsPerMinute(5);
+        properties.setRoutes(List.of(auth));
+        rateLimitFilter = new RateLimitFilter(properties);
+        peticion(PROXY, "203.0.113.7");
+        assertEquals(200, peticion(PROXY, "203.0.113.7"));
+        assertEquals(429, peticion(PROXY, "203.0.113.7"));
+
+        // When: cinco estudiantes detrás del mismo NAT inician sesión
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, ejecutar(login(PROXY, "203.0.113.7")).getStatus());
+        }
+
+        // Then: el sexto se limita, pero solo en esa ruta y para esa IP
+        assertEquals(429, ejecutar(login(PROXY, "203.0.113.7")).getStatus());
+        assertEquals(200, ejecutar(login(PROXY, "198.51.100.20")).getStatus());
+    }
+
+    private int peticion(String remoteAddr, String forwardedFor) throws Exception {
+        return ejecutar(request(remoteAddr, forwardedFor)).getStatus();
+    }
+
+    private MockHttpServletResponse ejecutar(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(200);
+            }
+        }, remoteIpFilter, rateLimitFilter).doFilter(request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/escenarios");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    private static MockHttpServletRequest login(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = request(remoteAddr, forwardedFor);
+        request.setMethod("POST");
+        request.setRequestURI("/api/auth/authenticate");
+        return request;
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                usuario, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
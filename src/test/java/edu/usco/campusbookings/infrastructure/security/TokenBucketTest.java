@@ -0,0 +1,52 @@
+package edu.usco.campusbookings.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void permiteLaRafagaCompletaYLuegoRechaza() {
+        // Given: 60 por minuto con ráfaga de 5
+        TokenBucket bucket = new TokenBucket(60, 5, 0);
+
+        // When / Then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryConsume(0), "petición " + i);
+        }
+        long espera = bucket.tryConsume(0);
+        assertTrue(espera > 0);
+        assertEquals(SEGUNDO, espera);
+    }
+
+    @Test
+    void recargaUnaFichaPorIntervaloDeEmision() {
+        // Given: bucket agotado
+        TokenBucket bucket = new TokenBucket(60, 1, 0);
+        assertEquals(0, bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(SEGUNDO / 2) > 0);
+
+        // Then: un segundo después hay exactamente una ficha
+        assertEquals(0, bucket.tryConsume(SEGUNDO));
+        assertTrue(bucket.tryConsume(SEGUNDO) > 0);
+    }
+
+    @Test
+    void laInactividadNoAcumulaMasQueLaRafaga() {
+        // Given
+        TokenBucket bucket = new TokenBucket(60, 2, 0);
+
+        // When: una hora sin peticiones
+        long despues = TimeUnit.HOURS.toNanos(1);
+
+        // Then
+        assertEquals(0, bucket.tryConsume(despues));
+        assertEquals(0, bucket.tryConsume(despues));
+        assertTrue(bucket.tryConsume(despues) > 0);
+    }
+}